@@ -0,0 +1,55 @@
+package com.example.demo.actors;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.demo.engine.EntityStore;
+import com.example.demo.engine.GameRandom;
+
+/**
+ * Benchmarks one update of the boss, which moves it along its pattern and updates its shield state.
+ * The boss stays between its bounds, so it can be updated for as long as the benchmark runs,
+ * and its moves and shield come from a fixed seed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class BossBenchmark {
+
+    private static final long SEED = 42;
+
+    private Boss boss;
+
+    /**
+     * Builds the boss.
+     */
+    @Setup(Level.Trial)
+    public void buildBoss() {
+        boss = new Boss(new EntityStore(1), "LevelThree", new GameRandom(SEED));
+    }
+
+    /**
+     * Updates the boss once.
+     *
+     * @return The boss, so the work is not eliminated.
+     */
+    @Benchmark
+    public Boss updateActor() {
+        boss.updateActor();
+        return boss;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.demo.assets;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.demo.benchmark.FxToolkit;
+
+/**
+ * Benchmarks redrawing the heart display, as done when hearts are reset or bought.
+ * The display is built from nodes, so it runs on the headless Monocle platform.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g",
+        "-Dglass.platform=Monocle", "-Dmonocle.platform=Headless", "-Dprism.order=sw"})
+public class HeartDisplayBenchmark {
+
+    @Param({"1", "5", "10"})
+    private int hearts;
+
+    private HeartDisplay heartDisplay;
+
+    /**
+     * Builds the heart display on the FX thread.
+     */
+    @Setup(Level.Trial)
+    public void buildHeartDisplay() {
+        heartDisplay = FxToolkit.call(() -> new HeartDisplay(5, 25, hearts));
+    }
+
+    /**
+     * Redraws the display with the same number of hearts.
+     *
+     * @return The display, so the work is not eliminated.
+     */
+    @Benchmark
+    public HeartDisplay updateHeartCount() {
+        heartDisplay.updateHeartCount(hearts);
+        return heartDisplay;
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.demo.benchmark;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import javafx.application.Platform;
+
+/**
+ * Starts the JavaFX toolkit for benchmarks that build nodes, and runs setup code on the FX thread.
+ * Benchmarked nodes are never shown in a window, so the measured methods can run on the
+ * benchmark thread. Benchmarks using it fork with the headless Monocle platform, so no display is needed.
+ */
+public final class FxToolkit {
+
+    private static final long TIMEOUT_SECONDS = 30;
+    private static boolean started;
+
+    private FxToolkit() {
+
+    }
+
+    /**
+     * Starts the toolkit, unless an earlier benchmark in this JVM already did.
+     */
+    public static synchronized void start() {
+        if (started) {
+            return;
+        }
+        CompletableFuture<Void> ready = new CompletableFuture<>();
+        Platform.startup(() -> ready.complete(null));
+        await(ready);
+        started = true;
+    }
+
+    /**
+     * Runs code on the FX thread and waits for its result.
+     *
+     * @param task The code to run.
+     * @param <T>  The type of the result.
+     * @return The value returned by the task.
+     * @throws IllegalStateException if the task fails or does not finish in time.
+     */
+    public static <T> T call(Supplier<T> task) {
+        start();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            try {
+                result.complete(task.get());
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return await(result);
+    }
+
+    /**
+     * Runs code on the FX thread and waits for it to finish.
+     *
+     * @param task The code to run.
+     * @throws IllegalStateException if the task fails or does not finish in time.
+     */
+    public static void run(Runnable task) {
+        call(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Waits for a future filled on the FX thread.
+     *
+     * @param future The future to wait for.
+     * @param <T>    The type of the result.
+     * @return The result.
+     * @throws IllegalStateException if the future fails or does not finish in time.
+     */
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the FX thread", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("FX thread task failed", e);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.demo.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.demo.actors.EnemyPlane;
+import com.example.demo.destructible.ActiveActorDestructible;
+import com.example.demo.engine.GameRandom;
+import com.example.demo.projectiles.EnemyProjectile;
+import com.example.demo.projectiles.UserProjectile;
+
+/**
+ * Game used by the benchmarks.
+ * It is filled once with a fixed mix of enemies and projectiles placed from a seeded random source,
+ * which the enemies also fire from, so every benchmarked game starts from the same layout
+ * and makes the same choices.
+ * It never spawns enemies and never ends, so it can be stepped for as long as it is measured.
+ */
+class BenchmarkSimulation extends Simulation {
+
+    static final double SCREEN_HEIGHT = 750;
+    static final double SCREEN_WIDTH = 1300;
+    private static final int PLAYER_INITIAL_HEALTH = 5;
+    private static final long LAYOUT_SEED = 42;
+
+    //Every actor added by create, in the order added
+    private final List<ActiveActorDestructible> addedActors = new ArrayList<>();
+
+    /**
+     * Constructs a BenchmarkSimulation.
+     */
+    BenchmarkSimulation() {
+        super(SCREEN_HEIGHT, SCREEN_WIDTH, PLAYER_INITIAL_HEALTH, new GameRandom(LAYOUT_SEED));
+    }
+
+    /**
+     * Builds a game holding a number of actors besides the user plane.
+     * Half are enemy planes on the right of the screen, a quarter are user projectiles
+     * and a quarter are enemy projectiles anywhere on screen.
+     *
+     * @param actorCount The number of actors to add.
+     * @return The filled game.
+     */
+    static BenchmarkSimulation create(int actorCount) {
+        BenchmarkSimulation simulation = new BenchmarkSimulation();
+        GameRandom random = simulation.getRandom();
+        int enemies = actorCount / 2;
+        int userProjectiles = actorCount / 4;
+        int enemyProjectiles = actorCount - enemies - userProjectiles;
+        for (int i = 0; i < enemies; i++) {
+            double x = SCREEN_WIDTH / 3 + random.nextDouble() * SCREEN_WIDTH / 2;
+            EnemyPlane enemy = new EnemyPlane(simulation.getEntities(), x,
+                random.nextDouble() * simulation.getEnemyMaximumYPosition(), random);
+            simulation.addEnemyUnit(enemy);
+            simulation.addedActors.add(enemy);
+        }
+        for (int i = 0; i < userProjectiles; i++) {
+            UserProjectile projectile = UserProjectile.acquire(simulation.getProjectilePools(), simulation.getEntities(),
+                random.nextDouble() * SCREEN_WIDTH, random.nextDouble() * SCREEN_HEIGHT);
+            simulation.addUserProjectile(projectile);
+            simulation.addedActors.add(projectile);
+        }
+        for (int i = 0; i < enemyProjectiles; i++) {
+            EnemyProjectile projectile = EnemyProjectile.acquire(simulation.getProjectilePools(), simulation.getEntities(),
+                random.nextDouble() * SCREEN_WIDTH, random.nextDouble() * SCREEN_HEIGHT);
+            simulation.spawnEnemyProjectile(projectile);
+            simulation.addedActors.add(projectile);
+        }
+        return simulation;
+    }
+
+    /**
+     * Destroys every second actor added by {@link #create(int)}, so half of them are removed next.
+     */
+    void destroyEverySecondActor() {
+        for (int i = 0; i < addedActors.size(); i += 2) {
+            addedActors.get(i).destroy();
+        }
+    }
+
+    /**
+     * Spawns nothing, so the actor count stays as created.
+     */
+    @Override
+    protected void spawnEnemyUnits() {
+
+    }
+
+    /**
+     * Never ends the game.
+     */
+    @Override
+    protected void checkIfGameOver() {
+
+    }
+
+    /**
+     * Ignores a loss, so the game keeps running.
+     */
+    @Override
+    protected void loseGame() {
+
+    }
+
+    /**
+     * Ignores a win, so the game keeps running.
+     */
+    @Override
+    protected void winGame() {
+
+    }
+
+    /**
+     * Gets the points awarded for destroying an enemy.
+     *
+     * @return The points per destroyed enemy.
+     */
+    @Override
+    protected int getPointsPerKill() {
+        return 1;
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.demo.simulation;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks a whole {@link Simulation#step()}, each of its collision passes
+ * and the removal of destroyed actors, at 10, 100 and 1000 actors.
+ * The simulation is the tick logic every level runs, without any nodes, so no FX toolkit is needed.
+ *
+ * <p>Every pass changes the game it runs on, so each call needs a fresh game. Before each iteration
+ * {@link #BATCH_SIZE} games with the same seeded layout are built, and the iteration is timed as
+ * one batch of that many calls, each on its own game. Building the games is not measured.</p>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, batchSize = SimulationBenchmark.BATCH_SIZE)
+@Measurement(iterations = 20, batchSize = SimulationBenchmark.BATCH_SIZE)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class SimulationBenchmark {
+
+    static final int BATCH_SIZE = 100;
+
+    /**
+     * A batch of filled games with their collision grids built, rebuilt before every iteration.
+     */
+    @State(Scope.Thread)
+    public static class SimulationState {
+
+        @Param({"10", "100", "1000"})
+        int actorCount;
+
+        BenchmarkSimulation[] simulations;
+        private int next;
+
+        /**
+         * Builds the games for the next iteration.
+         */
+        @Setup(Level.Iteration)
+        public void buildGames() {
+            simulations = new BenchmarkSimulation[BATCH_SIZE];
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                simulations[i] = BenchmarkSimulation.create(actorCount);
+                simulations[i].buildCollisionGrids();
+            }
+            next = 0;
+        }
+
+        /**
+         * Disposes the games used by the last iteration, returning their projectiles to their pools.
+         */
+        @TearDown(Level.Iteration)
+        public void disposeGames() {
+            for (BenchmarkSimulation simulation : simulations) {
+                simulation.dispose();
+            }
+            simulations = null;
+        }
+
+        /**
+         * Get the next unused game of this iteration.
+         *
+         * @return A game no call has run on yet.
+         */
+        BenchmarkSimulation nextSimulation() {
+            return simulations[next++];
+        }
+    }
+
+    /**
+     * A batch of filled games where every second actor has been destroyed.
+     */
+    @State(Scope.Thread)
+    public static class DestroyedSimulationState extends SimulationState {
+
+        /**
+         * Destroys half the actors of every game after the batch is built.
+         */
+        @Setup(Level.Iteration)
+        public void destroyActors() {
+            for (BenchmarkSimulation simulation : simulations) {
+                simulation.destroyEverySecondActor();
+            }
+        }
+    }
+
+    /**
+     * Runs one full tick.
+     *
+     * @param state The games of this iteration, one of which is stepped.
+     * @return The game, so the work is not eliminated.
+     */
+    @Benchmark
+    public Simulation step(SimulationState state) {
+        BenchmarkSimulation simulation = state.nextSimulation();
+        simulation.step();
+        return simulation;
+    }
+
+    /**
+     * Runs the user projectile against enemy pass.
+     *
+     * @param state The games of this iteration, one of which is checked.
+     * @return The game, so the work is not eliminated.
+     */
+    @Benchmark
+    public Simulation userProjectileCollisions(SimulationState state) {
+        BenchmarkSimulation simulation = state.nextSimulation();
+        simulation.handleUserProjectileCollisions();
+        return simulation;
+    }
+
+    /**
+     * Runs the enemy projectile against friendly unit pass.
+     *
+     * @param state The games of this iteration, one of which is checked.
+     * @return The game, so the work is not eliminated.
+     */
+    @Benchmark
+    public Simulation enemyProjectileCollisions(SimulationState state) {
+        BenchmarkSimulation simulation = state.nextSimulation();
+        simulation.handleEnemyProjectileCollisions();
+        return simulation;
+    }
+
+    /**
+     * Runs the user plane against enemy plane pass.
+     *
+     * @param state The games of this iteration, one of which is checked.
+     * @return The game, so the work is not eliminated.
+     */
+    @Benchmark
+    public Simulation planeCollisions(SimulationState state) {
+        BenchmarkSimulation simulation = state.nextSimulation();
+        simulation.handlePlaneCollisions();
+        return simulation;
+    }
+
+    /**
+     * Removes the destroyed half of the actors from the lists.
+     *
+     * @param state The games of this iteration, one of which is cleaned up.
+     * @return The game, so the work is not eliminated.
+     */
+    @Benchmark
+    public Simulation removeAllDestroyedActors(DestroyedSimulationState state) {
+        BenchmarkSimulation simulation = state.nextSimulation();
+        simulation.removeAllDestroyedActors();
+        return simulation;
+    }
+}
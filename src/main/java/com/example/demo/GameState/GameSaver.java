@@ -0,0 +1,233 @@
+package com.example.demo.GameState;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Loads and saves the game state to a file.
+ * Added as a listener to the game state, it saves every change on a background thread,
+ * so changing the game state never waits for the disk.
+ * Saves requested while one is being written are merged into one. The values to save are read on the
+ * writer thread when it gets to them, so the last save written always holds the newest values.
+ *
+ * <p>Each save is written in full to a temporary file, flushed to the disk, then renamed over the old save.
+ * A process killed at any point leaves either the old save or the new one, never a mix of the two.</p>
+ */
+public class GameSaver implements GameStateListener, AutoCloseable {
+
+    private static final String DIRECTORY_NAME = "SkyBattle";
+    private static final String FILE_NAME = "save.dat";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final long CLOSE_TIMEOUT_SECONDS = 5;
+
+    private final Path file;
+    private final Path tempFile;
+    private final Supplier<SaveData> source;
+    private final ExecutorService writer;
+    //Set when a change has not been saved yet, and cleared by the writer just before it reads the values
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private volatile boolean closed;
+
+    /**
+     * Constructs a GameSaver that saves the game state.
+     * The writer thread is only created when the first save is requested.
+     *
+     * @param file The save file.
+     */
+    public GameSaver(Path file) {
+        this(file, () -> GameState.getInstance().toSaveData());
+    }
+
+    /**
+     * Constructs a GameSaver that saves whatever a source returns.
+     *
+     * @param file   The save file.
+     * @param source Returns the values to save. Called on the writer thread.
+     */
+    public GameSaver(Path file, Supplier<SaveData> source) {
+        this.file = file.toAbsolutePath();
+        this.source = source;
+        this.tempFile = this.file.resolveSibling(this.file.getFileName() + TEMP_SUFFIX);
+        this.writer = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "game-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Gets where the game is saved by default.
+     * The skybattle.save property names a file to use instead; otherwise the save goes in the
+     * user's config directory for the platform.
+     *
+     * @return The save file.
+     */
+    public static Path defaultPath() {
+        String override = System.getProperty("skybattle.save");
+        if (override != null) {
+            return Paths.get(override);
+        }
+        String os = System.getProperty("os.name", "").toLowerCase(Locale.ROOT);
+        String home = System.getProperty("user.home");
+        Path configDirectory;
+        if (os.contains("win")) {
+            String appData = System.getenv("APPDATA");
+            configDirectory = appData != null ? Paths.get(appData) : Paths.get(home, "AppData", "Roaming");
+        } else if (os.contains("mac")) {
+            configDirectory = Paths.get(home, "Library", "Application Support");
+        } else {
+            String xdgConfig = System.getenv("XDG_CONFIG_HOME");
+            configDirectory = xdgConfig != null && !xdgConfig.isEmpty() ? Paths.get(xdgConfig) : Paths.get(home, ".config");
+        }
+        return configDirectory.resolve(DIRECTORY_NAME).resolve(FILE_NAME);
+    }
+
+    /**
+     * Gets the save file.
+     *
+     * @return The absolute path of the save file.
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Reads the save file.
+     * A temporary file left by a save that was cut short is deleted, since the old save is still whole.
+     *
+     * @return The save, or null if the game was never saved.
+     * @throws IOException if the file cannot be read, is damaged or is not a save.
+     */
+    public SaveData load() throws IOException {
+        Files.deleteIfExists(tempFile);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            return SaveData.read(in);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Asks for the changed state to be saved in the background.
+     *
+     * @param state  The game state.
+     * @param change What changed.
+     */
+    @Override
+    public void stateChanged(GameState state, GameStateChange change) {
+        saveLater();
+    }
+
+    /**
+     * Asks for the current values to be saved on the writer thread. Returns straight away.
+     * If a save is already waiting, this one is merged into it, since both will write the newest values.
+     * Does nothing once closed.
+     */
+    public void saveLater() {
+        if (closed) {
+            return;
+        }
+        //Only the request that finds nothing waiting needs to wake the writer
+        if (!dirty.getAndSet(true)) {
+            try {
+                writer.execute(this::writePending);
+            } catch (RejectedExecutionException e) {
+                //Closed while asking; the save is dropped like any other after closing
+            }
+        }
+    }
+
+    /**
+     * Writes the current values if a save is waiting. Runs on the writer thread.
+     * The flag is cleared before the values are read, so a change made while they are read asks for another save.
+     * A failed save is reported and the game carries on; the next change tries again.
+     */
+    private void writePending() {
+        if (!dirty.getAndSet(false)) {
+            return;
+        }
+        try {
+            save(source.get());
+        } catch (IOException e) {
+            System.err.println("Could not save game to " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes a save now, on the calling thread.
+     * The save goes to a temporary file first and replaces the old save only once it is fully on the disk.
+     *
+     * @param data The save to write.
+     * @throws IOException if the save cannot be written. The old save is left as it was.
+     */
+    public synchronized void save(SaveData data) throws IOException {
+        Path directory = file.getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+             OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel))) {
+            data.write(out);
+            channel.force(true);
+        }
+        try {
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        syncDirectory(directory);
+    }
+
+    /**
+     * Flushes a directory to the disk, so a rename in it survives a crash.
+     * Not every platform can open a directory, so failures are ignored; the rename itself is still atomic.
+     *
+     * @param directory The directory, or null for none.
+     */
+    private static void syncDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            //Directories cannot be opened on some platforms
+        }
+    }
+
+    /**
+     * Stops accepting saves and waits a few seconds for the waiting save to be written.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                System.err.println("Timed out waiting for the game to save to " + file);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,153 +1,198 @@
 package com.example.demo.GameState;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * This class is to manage game state.
  * Track the player's health and other game variables.
+ *
+ * <p>The state is changed from the FX thread, the simulation thread and the save thread, so every value
+ * is atomic and may be read or changed from any thread. Each value changes atomically on its own;
+ * reading several values at once may mix values from before and after a change made meanwhile.
+ * Changes are reported to {@link GameStateListener}s instead of being printed.</p>
  */
 public class GameState {
 
-    private int level1Hearts; // Player health for Level 1
-    private int level2Hearts; 
-    private int shopItem1PurchaseCount; 
-    private boolean shopLocked; 
-    private static GameState instance = null; 
-    private Set<String> achievements; // Store achievements
+    public static final int DEFAULT_HEARTS = 5;
+    public static final int MAX_SHOP_ITEM1_PURCHASES = 2;
+
+    private final AtomicInteger level1Hearts = new AtomicInteger(DEFAULT_HEARTS); // Player health for Level 1
+    private final AtomicInteger level2Hearts = new AtomicInteger(DEFAULT_HEARTS);
+    private final AtomicInteger shopItem1PurchaseCount = new AtomicInteger();
+    private final AtomicBoolean shopLocked = new AtomicBoolean();
+    private final Set<String> achievements = ConcurrentHashMap.newKeySet(); // Store achievements
+    //Rarely changed and read on every change, so copying on write keeps notifying lock-free
+    private final List<GameStateListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Holds the single instance. The class is only loaded, and the instance only made,
+     * on the first call to {@link #getInstance()}, and class loading publishes it safely to every thread.
+     */
+    private static final class Holder {
+        private static final GameState INSTANCE = new GameState();
+    }
 
     /**
      * Private constructor ensure only one instance is created.
-     * Reset the game to default values.
+     * The fields start at their default values.
      */
     private GameState() {
-        resetAll();
     }
 
-     /**
+    /**
      * Gets the single instance of the GameState.
-     * 
+     *
      * @return The single instance of GameState.
      */
     public static GameState getInstance() {
-        if (instance == null) {
-            instance = new GameState();
-        }
-        return instance;
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Adds a listener told about every later change.
+     *
+     * @param listener The listener to add.
+     */
+    public void addListener(GameStateListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener.
+     *
+     * @param listener The listener to remove.
+     */
+    public void removeListener(GameStateListener listener) {
+        listeners.remove(listener);
     }
 
     /**
      * Gets the player's health in LevelTwo,
-     * 
+     *
      * @return The player's health for LevelTwo.
      */
     public int getLevel2Hearts() {
-        return level2Hearts;
+        return level2Hearts.get();
     }
 
     /**
      * Adds extra hearts to the player's health for LevelTwo.
-     * 
+     *
      * @param extraHearts Number of extra hearts add.
      */
     public void addLevel2Hearts(int extraHearts) {
-        this.level2Hearts += extraHearts;
-        System.out.println("Level 2 hearts updated to: " + level2Hearts);
+        if (extraHearts != 0) {
+            level2Hearts.addAndGet(extraHearts);
+            notifyListeners(GameStateChange.LEVEL2_HEARTS);
+        }
     }
 
-     /**
+    /**
      * Gets the player's health for LevelOne.
-     * 
+     *
      * @return The player's health in LevelOne.
      */
     public int getLevel1Hearts() {
-        return level1Hearts;
+        return level1Hearts.get();
     }
 
     /**
      * Sets the player's health for LevelOne.
-     * 
+     *
      * @param hearts New LevelOne health.
      */
     public void setLevel1Hearts(int hearts) {
-        this.level1Hearts = hearts;
-        System.out.println("Level 1 hearts updated to: " + hearts);
+        if (level1Hearts.getAndSet(hearts) != hearts) {
+            notifyListeners(GameStateChange.LEVEL1_HEARTS);
+        }
     }
-    
-     /**
+
+    /**
      * Resets the player's health in LevelOne to default value.
      */
     public void resetLevel1Hearts() {
-        this.level1Hearts = 5;
-        System.out.println("Level 1 hearts reset to default: " + level1Hearts);
+        setLevel1Hearts(DEFAULT_HEARTS);
     }
 
     /**
      * Resets the player's health in LevelTwo to default value.
      */
     public void resetLevel2Hearts() {
-        this.level2Hearts = 5;
-        System.out.println("Level 2 hearts reset to default: " + level2Hearts);
+        setLevel2Hearts(DEFAULT_HEARTS);
     }
 
     /**
      * Sets the player's health for LevelTwo.
-     * 
+     *
      * @param hearts New LevelTwo health.
      */
     public void setLevel2Hearts(int hearts) {
-        level2Hearts = hearts;
-        System.out.println("Level 2 hearts updated to: " + hearts);
+        if (level2Hearts.getAndSet(hearts) != hearts) {
+            notifyListeners(GameStateChange.LEVEL2_HEARTS);
+        }
     }
 
     /**
      * Gets the number of times an item has been purchased in the shop.
-     * 
+     *
      * @return The number of item purchases.
      */
     public int getShopItem1PurchaseCount() {
-        return shopItem1PurchaseCount;
+        return shopItem1PurchaseCount.get();
     }
 
     /**
      * Increments the number of times an item has been purchased in the shop.
-     * Ensure the number of purchases does not exceed the limit.
-     */
-    public void incrementShopItem1PurchaseCount() {
-        if (shopItem1PurchaseCount < 2) {
-            shopItem1PurchaseCount++;
-            System.out.println("Shop Item 1 purchased. Total purchases: " + shopItem1PurchaseCount);
-        } else {
-            System.out.println("Shop Item 1 purchase limit reached.");
-        }
+     * Ensure the number of purchases does not exceed the limit, even if two purchases race.
+     *
+     * @return True if the purchase was counted, false if the limit was already reached.
+     */
+    public boolean incrementShopItem1PurchaseCount() {
+        int count;
+        do {
+            count = shopItem1PurchaseCount.get();
+            if (count >= MAX_SHOP_ITEM1_PURCHASES) {
+                return false;
+            }
+        } while (!shopItem1PurchaseCount.compareAndSet(count, count + 1));
+        notifyListeners(GameStateChange.SHOP_PURCHASES);
+        return true;
     }
 
     /**
      * Checks if shop is locked.
-     * 
+     *
      * @return True if the shop is locked, otherwise false.
      */
     public boolean isShopLocked() {
-        return shopLocked;
+        return shopLocked.get();
     }
 
     /**
      * Resets the shop's purchase count and unlocks the shop.
      */
     public void resetShop() {
-        this.shopItem1PurchaseCount = 0; 
-        this.shopLocked = false; 
-        System.out.println("Shop reset to initial values.");
+        if (shopItem1PurchaseCount.getAndSet(0) != 0) {
+            notifyListeners(GameStateChange.SHOP_PURCHASES);
+        }
+        setShopLocked(false);
     }
 
-     /**
+    /**
      * Shop locked status set to lock.
-     * 
+     *
      * @param locked True to lock the shop, false to unlock it.
      */
     public void setShopLocked(boolean locked) {
-        this.shopLocked = locked;
-        System.out.println("Shop locked status set to: " + locked);
+        if (shopLocked.getAndSet(locked) != locked) {
+            notifyListeners(GameStateChange.SHOP_LOCKED);
+        }
     }
 
     /**
@@ -155,9 +200,12 @@ public class GameState {
      *
      * @param achievement The name of the achievement to add.
      */
-     public void addAchievement(String achievement) {
+    public void addAchievement(String achievement) {
         if (achievements.add(achievement)) {
-            System.out.println("Achievement unlocked: " + achievement);
+            notifyListeners(GameStateChange.ACHIEVEMENT);
+            for (GameStateListener listener : listeners) {
+                listener.achievementUnlocked(this, achievement);
+            }
         }
     }
 
@@ -170,17 +218,73 @@ public class GameState {
         return new HashSet<>(achievements);
     }
 
+    /**
+     * Checks if an achievement was earned, without copying the set.
+     *
+     * @param achievement The name of the achievement.
+     * @return True if the achievement was earned, otherwise false.
+     */
+    public boolean hasAchievement(String achievement) {
+        return achievements.contains(achievement);
+    }
+
+    /**
+     * Starts a new game: resets the player's health, shop status and purchase counts,
+     * and keeps every achievement earned.
+     * Only values that change are reported, so a save already holding the defaults is not written again.
+     */
+    public void resetProgress() {
+        resetLevel1Hearts();
+        resetLevel2Hearts();
+        resetShop();
+    }
 
     /**
      * Resets all game state to their default values.
      * Includes player's health, shop status, purchase counts, and  all achievements earned.
      */
     public void resetAll() {
-        this.level1Hearts = 5;  // Default hearts for Level 1
-        this.level2Hearts = 5;  // Default hearts for Level 2
-        this.shopItem1PurchaseCount = 0; // Reset shop purchases
-        this.shopLocked = false; // Unlock shop
-        this.achievements = new HashSet<>();
-        System.out.println("GameState reset to initial values.");
+        level1Hearts.set(DEFAULT_HEARTS);  // Default hearts for Level 1
+        level2Hearts.set(DEFAULT_HEARTS);  // Default hearts for Level 2
+        shopItem1PurchaseCount.set(0); // Reset shop purchases
+        shopLocked.set(false); // Unlock shop
+        achievements.clear();
+        notifyListeners(GameStateChange.RESET);
+    }
+
+    /**
+     * Captures the current values for saving.
+     *
+     * @return The saved values.
+     */
+    public SaveData toSaveData() {
+        return new SaveData(level1Hearts.get(), level2Hearts.get(), shopItem1PurchaseCount.get(), shopLocked.get(),
+                achievements);
+    }
+
+    /**
+     * Replaces every value with saved ones, such as those loaded at startup.
+     *
+     * @param data The saved values.
+     */
+    public void restore(SaveData data) {
+        level1Hearts.set(data.getLevel1Hearts());
+        level2Hearts.set(data.getLevel2Hearts());
+        shopItem1PurchaseCount.set(data.getShopItem1PurchaseCount());
+        shopLocked.set(data.isShopLocked());
+        achievements.clear();
+        achievements.addAll(data.getAchievements());
+        notifyListeners(GameStateChange.RESTORED);
+    }
+
+    /**
+     * Tells every listener about a change. With no listeners this only walks an empty list.
+     *
+     * @param change What changed.
+     */
+    private void notifyListeners(GameStateChange change) {
+        for (GameStateListener listener : listeners) {
+            listener.stateChanged(this, change);
+        }
     }
 }
@@ -0,0 +1,28 @@
+package com.example.demo.GameState;
+
+/**
+ * What changed in the {@link GameState}, passed to each {@link GameStateListener}.
+ */
+public enum GameStateChange {
+
+    /** The player's health for LevelOne changed. */
+    LEVEL1_HEARTS,
+
+    /** The player's health for LevelTwo changed. */
+    LEVEL2_HEARTS,
+
+    /** The number of shop item purchases changed. */
+    SHOP_PURCHASES,
+
+    /** The shop was locked or unlocked. */
+    SHOP_LOCKED,
+
+    /** A new achievement was earned. */
+    ACHIEVEMENT,
+
+    /** Every value went back to its default. */
+    RESET,
+
+    /** Every value was replaced by saved ones. */
+    RESTORED
+}
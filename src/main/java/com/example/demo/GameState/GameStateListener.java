@@ -0,0 +1,28 @@
+package com.example.demo.GameState;
+
+/**
+ * Told about every change to the {@link GameState}.
+ * Listeners are called on the thread that made the change, right after it, so they should return quickly
+ * and hand slow work, such as writing files or updating nodes, to another thread.
+ */
+@FunctionalInterface
+public interface GameStateListener {
+
+    /**
+     * Called after a value of the game state changes. The new values can be read from the state.
+     *
+     * @param state  The game state.
+     * @param change What changed.
+     */
+    void stateChanged(GameState state, GameStateChange change);
+
+    /**
+     * Called once for each new achievement, after {@link #stateChanged(GameState, GameStateChange)}.
+     * Does nothing unless overridden.
+     *
+     * @param state       The game state.
+     * @param achievement The achievement earned.
+     */
+    default void achievementUnlocked(GameState state, String achievement) {
+    }
+}
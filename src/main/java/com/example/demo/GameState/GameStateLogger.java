@@ -0,0 +1,51 @@
+package com.example.demo.GameState;
+
+/**
+ * Prints each change to the game state to the console, as the game state used to do itself.
+ * Only added when the skybattle.logstate property is set, so changes cost nothing otherwise.
+ */
+public class GameStateLogger implements GameStateListener {
+
+    /**
+     * Prints the new value of whatever changed.
+     *
+     * @param state  The game state.
+     * @param change What changed.
+     */
+    @Override
+    public void stateChanged(GameState state, GameStateChange change) {
+        switch (change) {
+            case LEVEL1_HEARTS:
+                System.out.println("Level 1 hearts updated to: " + state.getLevel1Hearts());
+                break;
+            case LEVEL2_HEARTS:
+                System.out.println("Level 2 hearts updated to: " + state.getLevel2Hearts());
+                break;
+            case SHOP_PURCHASES:
+                System.out.println("Shop Item 1 purchases: " + state.getShopItem1PurchaseCount());
+                break;
+            case SHOP_LOCKED:
+                System.out.println("Shop locked status set to: " + state.isShopLocked());
+                break;
+            case RESET:
+                System.out.println("GameState reset to initial values.");
+                break;
+            case RESTORED:
+                System.out.println("GameState restored from save.");
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Prints the achievement earned.
+     *
+     * @param state       The game state.
+     * @param achievement The achievement earned.
+     */
+    @Override
+    public void achievementUnlocked(GameState state, String achievement) {
+        System.out.println("Achievement unlocked: " + achievement);
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.demo.GameState;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * The saved values of a {@link GameState} at one moment.
+ * It never changes once made, so it can be written on a background thread while the game carries on.
+ *
+ * <p>The file starts with a header, then each value as a variable-length number and each achievement as a string.
+ * A checksum of everything before it ends the file, so a file cut short or damaged is rejected instead of loaded.</p>
+ */
+public final class SaveData {
+
+    private static final int MAGIC = 0x53425356; //"SBSV"
+    private static final int VERSION = 1;
+    //Far more achievements than the game has, so a damaged count cannot ask for a huge list
+    private static final int MAX_ACHIEVEMENTS = 1024;
+
+    private final int level1Hearts;
+    private final int level2Hearts;
+    private final int shopItem1PurchaseCount;
+    private final boolean shopLocked;
+    private final List<String> achievements;
+
+    /**
+     * Constructs a SaveData. The achievements are copied in a fixed order, so equal states save to equal files.
+     *
+     * @param level1Hearts           The player's health for LevelOne.
+     * @param level2Hearts           The player's health for LevelTwo.
+     * @param shopItem1PurchaseCount The number of shop item purchases.
+     * @param shopLocked             True if the shop is locked.
+     * @param achievements           The achievements earned.
+     */
+    public SaveData(int level1Hearts, int level2Hearts, int shopItem1PurchaseCount, boolean shopLocked,
+            Collection<String> achievements) {
+        this.level1Hearts = level1Hearts;
+        this.level2Hearts = level2Hearts;
+        this.shopItem1PurchaseCount = shopItem1PurchaseCount;
+        this.shopLocked = shopLocked;
+        List<String> sorted = new ArrayList<>(achievements);
+        Collections.sort(sorted);
+        this.achievements = Collections.unmodifiableList(sorted);
+    }
+
+    /**
+     * Gets the player's health for LevelOne.
+     *
+     * @return The LevelOne health.
+     */
+    public int getLevel1Hearts() {
+        return level1Hearts;
+    }
+
+    /**
+     * Gets the player's health for LevelTwo.
+     *
+     * @return The LevelTwo health.
+     */
+    public int getLevel2Hearts() {
+        return level2Hearts;
+    }
+
+    /**
+     * Gets the number of shop item purchases.
+     *
+     * @return The purchase count.
+     */
+    public int getShopItem1PurchaseCount() {
+        return shopItem1PurchaseCount;
+    }
+
+    /**
+     * Checks if the shop is locked.
+     *
+     * @return True if the shop is locked, otherwise false.
+     */
+    public boolean isShopLocked() {
+        return shopLocked;
+    }
+
+    /**
+     * Gets the achievements earned, in sorted order.
+     *
+     * @return An unmodifiable list of achievements.
+     */
+    public List<String> getAchievements() {
+        return achievements;
+    }
+
+    /**
+     * Writes the save to a stream. The stream is not closed.
+     *
+     * @param out The stream to write to.
+     * @throws IOException if the stream cannot be written.
+     */
+    public void write(OutputStream out) throws IOException {
+        CheckedOutputStream checked = new CheckedOutputStream(out, new CRC32());
+        DataOutputStream data = new DataOutputStream(checked);
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        writeVarInt(data, level1Hearts);
+        writeVarInt(data, level2Hearts);
+        writeVarInt(data, shopItem1PurchaseCount);
+        data.writeBoolean(shopLocked);
+        writeVarInt(data, achievements.size());
+        for (String achievement : achievements) {
+            data.writeUTF(achievement);
+        }
+        data.flush();
+        //The checksum itself is not part of what it covers
+        new DataOutputStream(out).writeInt((int) checked.getChecksum().getValue());
+        out.flush();
+    }
+
+    /**
+     * Reads a save from a stream. The stream is not closed.
+     *
+     * @param in The stream to read from.
+     * @return The save.
+     * @throws IOException if the stream cannot be read, is cut short, is damaged or is not a save.
+     */
+    public static SaveData read(InputStream in) throws IOException {
+        CheckedInputStream checked = new CheckedInputStream(in, new CRC32());
+        DataInputStream data = new DataInputStream(checked);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a save file");
+        }
+        int version = data.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported save version: " + version);
+        }
+        int level1Hearts = readVarInt(data);
+        int level2Hearts = readVarInt(data);
+        int shopItem1PurchaseCount = readVarInt(data);
+        boolean shopLocked = data.readBoolean();
+        int count = readVarInt(data);
+        if (count < 0 || count > MAX_ACHIEVEMENTS) {
+            throw new IOException("Too many achievements: " + count);
+        }
+        List<String> achievements = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            achievements.add(data.readUTF());
+        }
+        int expected = (int) checked.getChecksum().getValue();
+        if (new DataInputStream(in).readInt() != expected) {
+            throw new IOException("Save file is damaged");
+        }
+        return new SaveData(level1Hearts, level2Hearts, shopItem1PurchaseCount, shopLocked, achievements);
+    }
+
+    /**
+     * Writes an int in 7-bit groups, low bits first. Small values take a single byte.
+     *
+     * @param out   The stream to write to.
+     * @param value The number to write, read as unsigned.
+     * @throws IOException if the stream cannot be written.
+     */
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte(value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /**
+     * Reads a number written by {@link #writeVarInt(DataOutputStream, int)}.
+     *
+     * @param in The stream to read from.
+     * @return The number.
+     * @throws IOException if the stream ends early or the number is too long.
+     */
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("Save file is cut short");
+            }
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed number in save file");
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.demo.UI;
 
-import com.example.demo.controller.Controller;
+import com.example.demo.assets.FontCache;
+import com.example.demo.assets.ImageCache;
+import com.example.demo.assets.StyleSheets;
 
 import javafx.application.Platform;
 import javafx.geometry.Insets;
@@ -8,7 +10,6 @@ import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.layout.*;
 import javafx.scene.text.Font;
 import javafx.stage.Modality;
@@ -38,6 +39,17 @@ public class GameEndScreen {
      * @param score        The final score win by the player.
      */
     public static void showGameEndScreen(Stage displayStage, int score) {
+        showGameEndScreen(displayStage, score, () -> MainMenu.showWithNewController(displayStage));
+    }
+
+    /**
+     * Displays the game end screen, going back to the main menu through a given action.
+     *
+     * @param displayStage The primary stage on which the game is displayed.
+     * @param score        The final score win by the player.
+     * @param onMainMenu   The action that disposes the level and shows the main menu.
+     */
+    public static void showGameEndScreen(Stage displayStage, int score, Runnable onMainMenu) {
         if (isGameEndScreenVisible) {
             return;
         }
@@ -56,7 +68,7 @@ public class GameEndScreen {
                 // Set background image
                 try {
                     BackgroundImage backgroundImage = new BackgroundImage(
-                        new Image(GameEndScreen.class.getResource(BACKGROUND_IMAGE).toExternalForm()),
+                        ImageCache.get(BACKGROUND_IMAGE),
                         BackgroundRepeat.NO_REPEAT,
                         BackgroundRepeat.NO_REPEAT,
                         BackgroundPosition.CENTER,
@@ -73,44 +85,33 @@ public class GameEndScreen {
                 rootLayout.setPadding(Insets.EMPTY);
 
                // Load fonts
-               Font titleFont = loadCustomFont(PIXEL_FONT, 40);
-               Font buttonFont = loadCustomFont(PIXEL_FONT, 20);
+               Font titleFont = FontCache.get(PIXEL_FONT, 40);
+               Font buttonFont = FontCache.get(PIXEL_FONT, 20);
 
                 Label titleLabel = new Label("Game Over");
                 titleLabel.setFont(titleFont);
-                titleLabel.setStyle("-fx-text-fill: #000000;");
+                titleLabel.getStyleClass().add(StyleSheets.DARK_TEXT);
 
                 Label scoreLabel = new Label("Your Score: " + score);
                 scoreLabel.setFont(buttonFont);
-                scoreLabel.setStyle("-fx-text-fill: #000000;");
+                scoreLabel.getStyleClass().add(StyleSheets.DARK_TEXT);
 
                 // Achievement label
                 Label achievementLabel = new Label("No achievement earned");
                 achievementLabel.setFont(buttonFont);
-                achievementLabel.setStyle("-fx-text-fill: grey;"); 
+                achievementLabel.getStyleClass().add(StyleSheets.NO_ACHIEVEMENT_TEXT);
 
                 Button mainMenuButton = new Button("Return to Menu");
                 mainMenuButton.setFont(buttonFont);
                 mainMenuButton.setPrefWidth(200);
                 mainMenuButton.setPrefHeight(50);
-                mainMenuButton.setStyle(
-                    "-fx-background-image: url('" + GameEndScreen.class.getResource("/com/example/demo/images/grass_button.png").toExternalForm() + "');" +
-                    "-fx-background-size: 100% 100%;" +
-                    "-fx-background-repeat: no-repeat;" +
-                    "-fx-text-fill: #000000;" +
-                    "-fx-alignment: center;" +
-                    "-fx-background-color: transparent;" +
-                    "-fx-border-width: 0;"
-                );
+                mainMenuButton.getStyleClass().add(StyleSheets.GRASS_BUTTON);
                 //Ensure other keys does not trigger the screen 
                 mainMenuButton.setFocusTraversable(false);
                 mainMenuButton.setOnAction(event -> {
                     gameEndStage.close();
                     isGameEndScreenVisible = false;
-                    displayStage.setWidth(1300);  
-                    displayStage.setHeight(730);
-                    Controller controller = new Controller(displayStage); 
-                    new MainMenu(displayStage, controller).show();
+                    onMainMenu.run();
                 });
                 
 
@@ -120,6 +121,7 @@ public class GameEndScreen {
                 Scene gameEndScene = new Scene(rootLayout, 500, 500);
                 //Make the scene transparent
                 gameEndScene.setFill(null);
+                StyleSheets.apply(gameEndScene);
                 gameEndStage.setScene(gameEndScene);
 
                 gameEndStage.setOnHidden(event -> isGameEndScreenVisible = false);
@@ -130,24 +132,4 @@ public class GameEndScreen {
             }
         });
     }
-
-    /**
-     * Loads a custom font from the file path.
-     *
-     * @param fontPath The path to the custom font.
-     * @param size     The size of the font.
-     * @return The loaded Font object, or a default font if cannot load.
-     */
-     private static Font loadCustomFont(String fontPath, int size) {
-        try {
-            return Font.loadFont(GameWinScreen.class.getResource(fontPath).toExternalForm(), size);
-        } catch (Exception e) {
-            System.err.println("Error loading font: " + fontPath);
-            e.printStackTrace();
-            return Font.font("Arial", size); // Default font fallback
-        }
-    }
-
-
-    
 }
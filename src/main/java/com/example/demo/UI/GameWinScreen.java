@@ -1,5 +1,9 @@
 package com.example.demo.UI;
 
+import com.example.demo.assets.FontCache;
+import com.example.demo.assets.ImageCache;
+import com.example.demo.assets.StyleSheets;
+
 import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -7,7 +11,6 @@ import javafx.scene.ImageCursor;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.layout.*;
 import javafx.scene.text.Font;
 import javafx.stage.Modality;
@@ -15,7 +18,6 @@ import javafx.stage.Stage;
 import javafx.stage.StageStyle;
 
 import com.example.demo.GameState.GameState;
-import com.example.demo.controller.Controller;
 import com.example.demo.levels.LevelParent;
 import com.example.demo.levels.LevelTwo;
 
@@ -28,9 +30,17 @@ public class GameWinScreen {
     private static boolean isGameWinScreenVisible = false;
     private static Stage gameWinStage = null;
 
+    //Win screen for levels with a next level, built once per owner stage and reused
+    private static Stage nextLevelStage = null;
+    private static Stage nextLevelOwner = null;
+    private static Label nextLevelScoreLabel;
+    private static Label nextLevelAchievementLabel;
+    private static LevelParent winLevel;
+    private static Runnable nextLevelAction;
+    private static Shop shop;
+
     private static final String BACKGROUND_IMAGE = "/com/example/demo/images/pause.png";
     private static final String PIXEL_FONT = "/com/example/demo/fonts/pixelFont.ttf";
-    private static final String BUTTON_IMAGE = "/com/example/demo/images/grass_button.png";
 
     private GameWinScreen() {
         
@@ -38,6 +48,7 @@ public class GameWinScreen {
 
     /**
      * Displays the Game Win Screen for the level.
+     * The window is built once per owner stage and reused, with the score and achievement refreshed on each show.
      *
      * @param displayStage   The stage where the Game Win Screen will be displayed.
      * @param score          The player's score.
@@ -53,106 +64,140 @@ public class GameWinScreen {
 
         Platform.runLater(() -> {
             try {
-                gameWinStage = new Stage();
-                gameWinStage.initModality(Modality.APPLICATION_MODAL);
-                gameWinStage.initStyle(StageStyle.TRANSPARENT);
-                gameWinStage.initOwner(displayStage);
+                //The owner of a stage cannot change, so rebuild only for a new display stage
+                if (nextLevelStage == null || nextLevelOwner != displayStage) {
+                    nextLevelStage = buildGameWinStage(displayStage);
+                    nextLevelOwner = displayStage;
+                    shop = null;
+                }
+                winLevel = currentLevel;
+                nextLevelAction = onNextLevel;
+                nextLevelScoreLabel.setText("Your Score: " + score);
+                boolean hasAchievement = GameState.getInstance().hasAchievement("All Enemies Defeated in Level One");
+                nextLevelAchievementLabel.setVisible(hasAchievement);
+                nextLevelAchievementLabel.setManaged(hasAchievement);
 
-                BorderPane rootLayout = new BorderPane();
+                gameWinStage = nextLevelStage;
+                nextLevelStage.showAndWait();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        });
+    }
 
-                // Set background image
-                try {
-                    BackgroundImage backgroundImage = new BackgroundImage(
-                        new Image(GameWinScreen.class.getResource(BACKGROUND_IMAGE).toExternalForm()),
-                        BackgroundRepeat.NO_REPEAT,
-                        BackgroundRepeat.NO_REPEAT,
-                        BackgroundPosition.CENTER,
-                        new BackgroundSize(1.0, 1.0, true, true, false, false)
-                    );
-                    rootLayout.setBackground(new Background(backgroundImage));
-                } catch (Exception e) {
-                    System.out.println("Error loading background image: " + e.getMessage());
-                }
+    /**
+     * Builds the Game Win Screen for levels that have a next level.
+     * Buttons read the current level and next level action when clicked, so the stage can be reused.
+     *
+     * @param displayStage The stage that owns the window.
+     * @return The win stage, not yet shown.
+     */
+    private static Stage buildGameWinStage(Stage displayStage) {
+        Stage winStage = new Stage();
+        winStage.initModality(Modality.APPLICATION_MODAL);
+        winStage.initStyle(StageStyle.TRANSPARENT);
+        winStage.initOwner(displayStage);
 
-                VBox layout = new VBox(20);
-                layout.setAlignment(Pos.CENTER);
-                layout.setPadding(Insets.EMPTY);
-                rootLayout.setPadding(Insets.EMPTY);
+        BorderPane rootLayout = new BorderPane();
 
-                // Load fonts
-                Font titleFont = loadCustomFont(PIXEL_FONT, 40);
-                Font buttonFont = loadCustomFont(PIXEL_FONT, 20);
+        // Set background image
+        try {
+            BackgroundImage backgroundImage = new BackgroundImage(
+                ImageCache.get(BACKGROUND_IMAGE),
+                BackgroundRepeat.NO_REPEAT,
+                BackgroundRepeat.NO_REPEAT,
+                BackgroundPosition.CENTER,
+                new BackgroundSize(1.0, 1.0, true, true, false, false)
+            );
+            rootLayout.setBackground(new Background(backgroundImage));
+        } catch (Exception e) {
+            System.out.println("Error loading background image: " + e.getMessage());
+        }
 
-                Label titleLabel = new Label("You Win!");
-                titleLabel.setFont(titleFont);
-                titleLabel.setStyle("-fx-text-fill: #000000;");
+        VBox layout = new VBox(20);
+        layout.setAlignment(Pos.CENTER);
+        layout.setPadding(Insets.EMPTY);
+        rootLayout.setPadding(Insets.EMPTY);
 
-                Label scoreLabel = new Label("Your Score: " + score);
-                scoreLabel.setFont(buttonFont);
-                scoreLabel.setStyle("-fx-text-fill: #000000;");
+        // Load fonts
+        Font titleFont = FontCache.get(PIXEL_FONT, 40);
+        Font buttonFont = FontCache.get(PIXEL_FONT, 20);
 
-               // Achievement label
-                Label achievementLabel = null;
-                if (GameState.getInstance().getAchievements().contains("All Enemies Defeated in Level One")) {
-                    achievementLabel = new Label("Achievement: All Enemies Defeated");
-                    achievementLabel.setFont(buttonFont);
-                    achievementLabel.setStyle("-fx-text-fill: green;"); 
-                }
+        Label titleLabel = new Label("You Win!");
+        titleLabel.setFont(titleFont);
+        titleLabel.getStyleClass().add(StyleSheets.DARK_TEXT);
 
-                // Shop button
-                Button shopButton = createStyledButton("Shop", buttonFont);
-                //Ensure other keys does not trigger the screen 
-                shopButton.setFocusTraversable(false);
-                shopButton.setOnAction(event -> {
-                    if (currentLevel instanceof LevelTwo) {
-                        // Display a popup message when clicking the shop button in Level 2
-                        Shop.showShopPopup("Shop", "Sorry, you can't purchase extra hearts for this level");
-                    } else {
-                        Shop shop = new Shop(displayStage, currentLevel); 
-                        shop.show();
-                    }
-                });
-                // Go to next level button
-                Button nextLevelButton = createStyledButton("Go to Next Level", buttonFont);
-                //Ensure other keys does not trigger the screen 
-                nextLevelButton.setFocusTraversable(false);
-                nextLevelButton.setFont(buttonFont);
-                nextLevelButton.setOnAction(event -> {
-                    gameWinStage.close();
-                    isGameWinScreenVisible = false;
-                    //Go to next level
-                    onNextLevel.run();
-                });
-                // Return to main menu button
-                Button mainMenuButton = createStyledButton("Return to Menu", buttonFont);
-                 //Ensure other keys does not trigger the screen 
-                 mainMenuButton.setFocusTraversable(false);
-                mainMenuButton.setOnAction(event -> {
-                    GameState.getInstance().resetAll(); 
-                    gameWinStage.close();
-                    isGameWinScreenVisible = false;
-                    displayStage.setWidth(1300);  
-                    displayStage.setHeight(730);
-                    Controller controller = new Controller(displayStage); 
-                    new MainMenu(displayStage, controller).show();
-                });
+        nextLevelScoreLabel = new Label();
+        nextLevelScoreLabel.setFont(buttonFont);
+        nextLevelScoreLabel.getStyleClass().add(StyleSheets.DARK_TEXT);
 
-                layout.getChildren().addAll(titleLabel, scoreLabel,achievementLabel, nextLevelButton, shopButton, mainMenuButton);
-                rootLayout.setCenter(layout);
+        // Achievement label, shown only when earned
+        nextLevelAchievementLabel = new Label("Achievement: All Enemies Defeated");
+        nextLevelAchievementLabel.setFont(buttonFont);
+        nextLevelAchievementLabel.getStyleClass().add(StyleSheets.ACHIEVEMENT_TEXT);
 
-                Scene gameWinScene = new Scene(rootLayout, 500, 500);
-                //Make the scene transparent
-                gameWinScene.setFill(null); 
-                gameWinStage.setScene(gameWinScene);
+        // Shop button
+        Button shopButton = createStyledButton("Shop", buttonFont);
+        //Ensure other keys does not trigger the screen 
+        shopButton.setFocusTraversable(false);
+        shopButton.setOnAction(event -> {
+            if (winLevel instanceof LevelTwo) {
+                // Display a popup message when clicking the shop button in Level 2
+                Shop.showShopPopup("Shop", "Sorry, you can't purchase extra hearts for this level");
+            } else {
+                if (shop == null) {
+                    shop = new Shop(displayStage, winLevel);
+                } else {
+                    shop.setCurrentLevel(winLevel);
+                }
+                shop.show();
+            }
+        });
+        // Go to next level button
+        Button nextLevelButton = createStyledButton("Go to Next Level", buttonFont);
+        //Ensure other keys does not trigger the screen 
+        nextLevelButton.setFocusTraversable(false);
+        nextLevelButton.setOnAction(event -> {
+            Runnable onNextLevel = nextLevelAction;
+            winStage.close();
+            isGameWinScreenVisible = false;
+            //Go to next level
+            onNextLevel.run();
+        });
+        // Return to main menu button
+        Button mainMenuButton = createStyledButton("Return to Menu", buttonFont);
+         //Ensure other keys does not trigger the screen 
+         mainMenuButton.setFocusTraversable(false);
+        mainMenuButton.setOnAction(event -> {
+            LevelParent level = winLevel;
+            GameState.getInstance().resetProgress();
+            winStage.close();
+            isGameWinScreenVisible = false;
+            //The level disposes itself and shows the menu through its controller
+            level.returnToMenu();
+        });
 
-                gameWinStage.setOnHidden(event -> isGameWinScreenVisible = false);
+        layout.getChildren().addAll(titleLabel, nextLevelScoreLabel, nextLevelAchievementLabel, nextLevelButton, shopButton, mainMenuButton);
+        rootLayout.setCenter(layout);
 
-                gameWinStage.showAndWait();
-            } catch (Exception e) {
-                e.printStackTrace();
+        Scene gameWinScene = new Scene(rootLayout, 500, 500);
+        //Make the scene transparent
+        gameWinScene.setFill(null); 
+        StyleSheets.apply(gameWinScene);
+        winStage.setScene(gameWinScene);
+
+        //Do not keep the finished level alive through the cached screen
+        winStage.setOnHidden(event -> {
+            isGameWinScreenVisible = false;
+            winLevel = null;
+            nextLevelAction = null;
+            if (shop != null) {
+                shop.setCurrentLevel(null);
             }
         });
+        return winStage;
     }
+
     /**
      * Creates a styled button with a custom font and background image.
      *
@@ -165,42 +210,28 @@ public class GameWinScreen {
         button.setFont(font);
         button.setPrefWidth(200);
         button.setPrefHeight(50);
-        button.setStyle(
-            "-fx-background-image: url('" + GameWinScreen.class.getResource(BUTTON_IMAGE).toExternalForm() + "');" +
-            "-fx-background-size: 100% 100%;" +
-            "-fx-background-repeat: no-repeat;" +
-            "-fx-text-fill: #000000;" +
-            "-fx-alignment: center;" +
-            "-fx-background-color: transparent;" +
-            "-fx-border-width: 0;"
-        );
+        button.getStyleClass().add(StyleSheets.GRASS_BUTTON);
         return button;
     }
     
     /**
-     * Loads a custom font from the file path.
+     * Displays the Game Win Screen in Level 3.
      *
-     * @param fontPath The path to the font file.
-     * @param size     The font size.
-     * @return The loaded font, or the font if the specified font cannot be loaded.
+     * @param displayStage The stage where the Game Win Screen will be displayed.
+     * @param score        The player's score.
      */
-    private static Font loadCustomFont(String fontPath, int size) {
-        try {
-            return Font.loadFont(GameWinScreen.class.getResource(fontPath).toExternalForm(), size);
-        } catch (Exception e) {
-            System.err.println("Error loading font: " + fontPath);
-            e.printStackTrace();
-            return Font.font("Arial", size); // Default font fallback
-        }
+    public static void showlvl3WinScreen(Stage displayStage, int score) {
+        showlvl3WinScreen(displayStage, score, () -> MainMenu.showWithNewController(displayStage));
     }
 
     /**
-     * Displays the Game Win Screen in Level 3.
+     * Displays the Game Win Screen in Level 3, going back to the main menu through a given action.
      *
      * @param displayStage The stage where the Game Win Screen will be displayed.
      * @param score        The player's score.
+     * @param onMainMenu   The action that disposes the level and shows the main menu.
      */
-    public static void showlvl3WinScreen(Stage displayStage, int score) {
+    public static void showlvl3WinScreen(Stage displayStage, int score, Runnable onMainMenu) {
         if (isGameWinScreenVisible) {
             return;
         }
@@ -219,7 +250,7 @@ public class GameWinScreen {
                 //Set background image
                 try {
                     BackgroundImage backgroundImage = new BackgroundImage(
-                        new Image(GameWinScreen.class.getResource(BACKGROUND_IMAGE).toExternalForm()),
+                        ImageCache.get(BACKGROUND_IMAGE),
                         BackgroundRepeat.NO_REPEAT,
                         BackgroundRepeat.NO_REPEAT,
                         BackgroundPosition.CENTER,
@@ -235,64 +266,45 @@ public class GameWinScreen {
                 layout.setPadding(Insets.EMPTY);
                 rootLayout.setPadding(Insets.EMPTY);
     
-                Font titleFont;
-                Font buttonFont;
-                try {
-                    titleFont = Font.loadFont(GameWinScreen.class.getResource(PIXEL_FONT).toExternalForm(), 40);
-                    buttonFont = Font.loadFont(GameWinScreen.class.getResource(PIXEL_FONT).toExternalForm(), 20);
-                } catch (Exception e) {
-                    System.out.println("Error loading font: " + e.getMessage());
-                    titleFont = Font.font("Arial", 40);
-                    buttonFont = Font.font("Arial", 20);
-                }
+                Font titleFont = FontCache.get(PIXEL_FONT, 40);
+                Font buttonFont = FontCache.get(PIXEL_FONT, 20);
     
                 Label titleLabel = new Label("You Win!");
                 titleLabel.setFont(titleFont);
-                titleLabel.setStyle("-fx-text-fill: #000000;");
+                titleLabel.getStyleClass().add(StyleSheets.DARK_TEXT);
     
                 Label scoreLabel = new Label("Your Score: " + score);
                 scoreLabel.setFont(buttonFont);
-                scoreLabel.setStyle("-fx-text-fill: #000000;");
+                scoreLabel.getStyleClass().add(StyleSheets.DARK_TEXT);
 
                 // Achievement label
                 Label achievementLabel = null;
-                if (GameState.getInstance().getAchievements().contains("All Enemies Defeated in Level One"))
+                if (GameState.getInstance().hasAchievement("All Enemies Defeated in Level One"))
                 {
                     achievementLabel = new Label("Achievement: All Enemies Defeated");
                     achievementLabel.setFont(buttonFont);
-                    achievementLabel.setStyle("-fx-text-fill: green;"); 
+                    achievementLabel.getStyleClass().add(StyleSheets.ACHIEVEMENT_TEXT);
                 }
                 // Achievement label (Bomb Dodger)
                 Label bombDodgerLabel = null;
-                if (GameState.getInstance().getAchievements().contains("Achievement: Bomb Dodger in Level Three")) 
+                if (GameState.getInstance().hasAchievement("Achievement: Bomb Dodger in Level Three")) 
                 {
                     bombDodgerLabel = new Label("Achievement: Bomb Dodger");
                     bombDodgerLabel.setFont(buttonFont);
-                    bombDodgerLabel.setStyle("-fx-text-fill: green;"); 
+                    bombDodgerLabel.getStyleClass().add(StyleSheets.ACHIEVEMENT_TEXT);
                 }
     
                 Button mainMenuButton = new Button("Return to Menu");
                 mainMenuButton.setFont(buttonFont);
                 mainMenuButton.setPrefWidth(200);
                 mainMenuButton.setPrefHeight(50);
-                mainMenuButton.setStyle(
-                    "-fx-background-image: url('" + GameWinScreen.class.getResource("/com/example/demo/images/grass_button.png").toExternalForm() + "');" +
-                    "-fx-background-size: 100% 100%;" +
-                    "-fx-background-repeat: no-repeat;" +
-                    "-fx-text-fill: #000000;" +
-                    "-fx-alignment: center;" +
-                    "-fx-background-color: transparent;" +
-                    "-fx-border-width: 0;"
-                );
+                mainMenuButton.getStyleClass().add(StyleSheets.GRASS_BUTTON);
                 //Ensure other keys does not trigger the screen 
                 mainMenuButton.setFocusTraversable(false);
                 mainMenuButton.setOnAction(event -> {
                     gameWinStage.close();
                     isGameWinScreenVisible = false;
-                    displayStage.setWidth(1300);  
-                    displayStage.setHeight(730);
-                    Controller controller = new Controller(displayStage); 
-                    new MainMenu(displayStage, controller).show();
+                    onMainMenu.run();
                 });
     
                 // Add elements to layout
@@ -307,6 +319,7 @@ public class GameWinScreen {
                 Scene gameWinScene = new Scene(rootLayout, 500, 500);
                 //Make the scene transparent
                 gameWinScene.setFill(null); 
+                StyleSheets.apply(gameWinScene);
                 gameWinStage.setScene(gameWinScene);
     
                 gameWinStage.setOnHidden(event -> isGameWinScreenVisible = false);
@@ -1,11 +1,18 @@
 package com.example.demo.UI;
 
+import com.example.demo.assets.AssetPreloader;
+import com.example.demo.assets.FontCache;
+import com.example.demo.assets.ImageCache;
+import com.example.demo.assets.StyleSheets;
+
+import javafx.concurrent.Worker;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.ImageCursor;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.*;
@@ -27,6 +34,7 @@ public class MainMenu {
 
     private final Stage stage;
     private final Controller controller;
+    private final AssetPreloader preloader;
     private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/nature.jpg";
     private static final String PIXEL_FONT = "/com/example/demo/fonts/pixelFont.ttf";
     private static final String MOUSE_ICON = "/com/example/demo/images/mouse_icon.png";
@@ -43,18 +51,43 @@ public class MainMenu {
      * @param controller The game controller to manage game transitions.
      */
     public MainMenu(Stage stage, Controller controller) {
+        this(stage, controller, null);
+    }
+
+    /**
+     * Constructs the MainMenu and shows the progress of an asset preloader.
+     * 
+     * @param stage      The primary stage where the main menu is displayed.
+     * @param controller The game controller to manage game transitions.
+     * @param preloader  The running asset preloader, or null to show no progress.
+     */
+    public MainMenu(Stage stage, Controller controller, AssetPreloader preloader) {
         this.stage = stage;
         this.controller = controller;
+        this.preloader = preloader;
 
         // Load the custom cursor from the path
-        Image cursorMouse = new Image(this.getClass().getResource(MOUSE_ICON).toExternalForm());
+        Image cursorMouse = ImageCache.get(MOUSE_ICON);
         this.hoverCursor = new ImageCursor(cursorMouse);
 
         // Load the custom cursor from the path
-        Image cursorMouseT = new Image(this.getClass().getResource(TRIANGLE_MOUSE_ICON).toExternalForm());
+        Image cursorMouseT = ImageCache.get(TRIANGLE_MOUSE_ICON);
         this.mouseCursor = new ImageCursor(cursorMouseT);
     }
 
+    /**
+     * Resizes the stage and shows the main menu with a new controller.
+     * Used by end screens shown without a controller to return to.
+     *
+     * @param stage The primary stage where the main menu is displayed.
+     */
+    public static void showWithNewController(Stage stage) {
+        stage.setWidth(1300);
+        stage.setHeight(730);
+        Controller controller = new Controller(stage);
+        new MainMenu(stage, controller).show();
+    }
+
 
     /**
      * Displays the main menu screen.
@@ -68,7 +101,7 @@ public class MainMenu {
 
         // Set the background image
         BackgroundImage backgroundImage = new BackgroundImage(
-                new Image(this.getClass().getResource(BACKGROUND_IMAGE_NAME).toExternalForm()),
+                ImageCache.get(BACKGROUND_IMAGE_NAME),
                 BackgroundRepeat.NO_REPEAT,
                 BackgroundRepeat.NO_REPEAT,
                 BackgroundPosition.CENTER,
@@ -78,40 +111,41 @@ public class MainMenu {
         vBox.setBackground(new Background(backgroundImage));
 
         // Load the custom pixel font for title only
-        Font titleFont = loadCustomFont(PIXEL_FONT, 48);
-        if (titleFont == null) {
-            System.err.println("Error: Pixel font could not be loaded. Using default font.");
-        }
+        Font titleFont = FontCache.get(PIXEL_FONT, 48);
 
         // Title Label with custom font
         Label titleLabel = new Label("Sky Battle");
-        titleLabel.setFont(titleFont != null ? titleFont : Font.font(24)); // Fallback to default font
-        titleLabel.setStyle("-fx-text-fill: #000000;");
+        titleLabel.setFont(titleFont);
+        titleLabel.getStyleClass().add(StyleSheets.DARK_TEXT);
         titleLabel.setAlignment(Pos.CENTER);
 
         // Load the custom pixel font for the buttons
-        Font buttonFont = loadCustomFont(PIXEL_FONT, 20);
+        Font buttonFont = FontCache.get(PIXEL_FONT, 20);
 
         // Start Game Button
-        Button startGameButton = createStyledButton("", "/com/example/demo/images/play_button.png", 200, 50, buttonFont);
+        Button startGameButton = createStyledButton("", StyleSheets.PLAY_BUTTON, 200, 50, buttonFont);
         startGameButton.setOnAction(event -> startGame());
         startGameButton.setFocusTraversable(false);
 
         // Instructions Button
-        Button instructionsButton = createStyledButton("Instructions", "/com/example/demo/images/wood_button.png", 200, 50, buttonFont);
+        Button instructionsButton = createStyledButton("Instructions", StyleSheets.WOOD_BUTTON, 200, 50, buttonFont);
         instructionsButton.setOnAction(event -> showInstructions());
         instructionsButton.setFocusTraversable(false);
 
         // Quit Game Button
-        Button quitGameButton = createStyledButton("Quit Game", "/com/example/demo/images/wood_button.png", 200, 50, buttonFont);
+        Button quitGameButton = createStyledButton("Quit Game", StyleSheets.WOOD_BUTTON, 200, 50, buttonFont);
         quitGameButton.setOnAction(event -> stage.close());
         quitGameButton.setFocusTraversable(false);
 
         // Add components to the VBox
         vBox.getChildren().addAll(titleLabel, startGameButton, instructionsButton, quitGameButton);
+        if (preloader != null) {
+            vBox.getChildren().add(createLoadingDisplay());
+        }
 
         // Create Scene
         Scene scene = new Scene(vBox, 800, 600);
+        StyleSheets.apply(scene);
         // Set the triangle cursor to the screen when not hovering
         scene.setCursor(mouseCursor);
         stage.setScene(scene);
@@ -119,46 +153,43 @@ public class MainMenu {
     }
 
     /**
-     * Loads a custom font from the specified file path.
+     * Creates the progress bar and label for the asset preloader.
+     * They stay visible until loading succeeds, so a failure message remains on screen.
      * 
-     * @param fontPath The file path to the custom font.
-     * @param size     The size of the font.
-     * @return The loaded Font object, or null if the font could not be loaded.
+     * @return The loading display.
      */
-    private Font loadCustomFont(String fontPath, int size) {
-        try {
-            return Font.loadFont(this.getClass().getResource(fontPath).toExternalForm(), size);
-        } catch (Exception e) {
-            System.err.println("Error loading font: " + fontPath);
-            e.printStackTrace();
-            return null;
-        }
+    private VBox createLoadingDisplay() {
+        ProgressBar progressBar = new ProgressBar();
+        progressBar.setPrefWidth(200);
+        progressBar.progressProperty().bind(preloader.progressProperty());
+
+        Label progressLabel = new Label();
+        progressLabel.getStyleClass().add(StyleSheets.PROGRESS_TEXT);
+        progressLabel.textProperty().bind(preloader.messageProperty());
+
+        VBox loadingDisplay = new VBox(5, progressBar, progressLabel);
+        loadingDisplay.setAlignment(Pos.CENTER);
+        loadingDisplay.visibleProperty().bind(preloader.stateProperty().isNotEqualTo(Worker.State.SUCCEEDED));
+        loadingDisplay.managedProperty().bind(loadingDisplay.visibleProperty());
+        return loadingDisplay;
     }
 
      /**
      * Creates a styled button.
      * 
-     * @param text      The text displayed on the button.
-     * @param imagePath The background image for the button.
-     * @param width     The width of the button.
-     * @param height    The height of the button.
-     * @param font      The font for the button text.
+     * @param text       The text displayed on the button.
+     * @param styleClass The style class giving the button its background image.
+     * @param width      The width of the button.
+     * @param height     The height of the button.
+     * @param font       The font for the button text.
      * @return The styled Button object.
      */
-    private Button createStyledButton(String text, String imagePath, int width, int height, Font font) {
+    private Button createStyledButton(String text, String styleClass, int width, int height, Font font) {
         Button button = new Button(text);
         button.setFont(font);
         button.setPrefWidth(width);
         button.setPrefHeight(height);
-        button.setStyle(
-                "-fx-background-image: url('" + getClass().getResource(imagePath).toExternalForm() + "');" +
-                        "-fx-background-size: 100% 100%;" +
-                        "-fx-background-repeat: no-repeat;" +
-                        "-fx-text-fill: #8B4513;" +
-                        "-fx-alignment: center;" +
-                        "-fx-background-color: transparent;" +
-                        "-fx-border-width: 0;"
-        );
+        button.getStyleClass().add(styleClass);
         button.setOnMouseEntered(event -> button.setCursor(hoverCursor));
         button.setOnMouseExited(event -> button.setCursor(mouseCursor));
         return button;
@@ -186,7 +217,7 @@ public class MainMenu {
 
         BorderPane rootLayout = new BorderPane();
         BackgroundImage backgroundImage = new BackgroundImage(
-                new Image(this.getClass().getResource("/com/example/demo/images/pause.png").toExternalForm()),
+                ImageCache.get("/com/example/demo/images/pause.png"),
                 BackgroundRepeat.NO_REPEAT,
                 BackgroundRepeat.NO_REPEAT,
                 BackgroundPosition.CENTER,
@@ -199,9 +230,9 @@ public class MainMenu {
         topBar.setPadding(new Insets(10));
 
         Button closeButton = new Button();
-        closeButton.setStyle("-fx-background-color: transparent; -fx-border-width: 0; -fx-background-size: 50px 40px;");
+        closeButton.getStyleClass().add(StyleSheets.CLOSE_BUTTON);
         ImageView closeButtonImage = new ImageView(
-                new Image(this.getClass().getResource("/com/example/demo/images/x_button.png").toExternalForm())
+                ImageCache.get("/com/example/demo/images/x_button.png")
         );
         closeButtonImage.setFitWidth(30);
         closeButtonImage.setFitHeight(30);
@@ -217,7 +248,7 @@ public class MainMenu {
                 "• Use arrow keys to navigate your aircraft.\n" +
                 "• Press spacebar to fire your weapons.\n\n" +
                 "Survive and defeat the boss to win. Good luck!");
-        instructionLabel.setStyle("-fx-font-size: 14px; -fx-text-fill: #000000;");
+        instructionLabel.getStyleClass().add(StyleSheets.INSTRUCTION_TEXT);
         instructionLabel.setWrapText(true);
 
         content.getChildren().add(instructionLabel);
@@ -227,6 +258,7 @@ public class MainMenu {
 
         Scene instructionsScene = new Scene(rootLayout, 400, 250);
         instructionsScene.setFill(null);
+        StyleSheets.apply(instructionsScene);
         instructionsScene.setCursor(mouseCursor);
         instructionsStage.setScene(instructionsScene);
         instructionsStage.show();
@@ -1,5 +1,9 @@
 package com.example.demo.UI;
 
+import com.example.demo.assets.FontCache;
+import com.example.demo.assets.ImageCache;
+import com.example.demo.assets.StyleSheets;
+
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.ImageCursor;
@@ -34,6 +38,11 @@ public class PauseScreen {
     private static final String TRIANGLE_MOUSE_ICON = "/com/example/demo/images/triangle_mouse.png";
     private static final String MOUSE_ICON = "/com/example/demo/images/mouse_icon.png";
 
+    //Built on first show and reused afterwards
+    private Stage pauseStage;
+    private Stage settingsStage;
+    private Slider volumeSlider;
+
     /**
      * Create PauseScreen.
      *
@@ -52,8 +61,25 @@ public class PauseScreen {
 
     /**
      * Displays the pause screen with options to resume, access settings, or exit.
+     * The window is built the first time and reused on every later pause.
      */
     public void show() {
+        if (pauseStage == null) {
+            pauseStage = buildPauseStage();
+        }
+        if (pauseStage.isShowing()) {
+            return;
+        }
+        //Show the pause screen until it is closed
+        pauseStage.showAndWait();
+    }
+
+    /**
+     * Builds the pause window.
+     *
+     * @return The pause stage, not yet shown.
+     */
+    private Stage buildPauseStage() {
         Stage pauseStage = new Stage();
         //Make the default box transparent
         pauseStage.initStyle(StageStyle.TRANSPARENT);
@@ -61,7 +87,7 @@ public class PauseScreen {
         //Root layout with background image
         BorderPane rootLayout = new BorderPane();
         BackgroundImage backgroundImage = new BackgroundImage(
-            new Image(this.getClass().getResource(PAUSE_IMAGE).toExternalForm()),
+            ImageCache.get(PAUSE_IMAGE),
             BackgroundRepeat.NO_REPEAT,
             BackgroundRepeat.NO_REPEAT,
             BackgroundPosition.CENTER,
@@ -75,28 +101,20 @@ public class PauseScreen {
         layout.setAlignment(Pos.CENTER);
 
         //Load the custom pixel font
-        Font titleFont = null;
-        try {
-            titleFont = Font.loadFont(this.getClass().getResource(PIXEL_FONT).toExternalForm(), 40);
-            if (titleFont == null) {
-                System.err.println("Error loading the font");
-            }
-        } catch (Exception e) {
-            System.err.println("Error loading font: " + e.getMessage());
-        }
+        Font titleFont = FontCache.get(PIXEL_FONT, 40);
 
         //Title Label
         Label titleLabel = new Label("Game Paused");
         if (titleFont != null) {
             titleLabel.setFont(titleFont);
         }
-        titleLabel.setStyle("-fx-text-fill: #000000;");
+        titleLabel.getStyleClass().add(StyleSheets.DARK_TEXT);
 
         //Load the custom pixel font
-        Font buttonFont = Font.loadFont(this.getClass().getResource(PIXEL_FONT).toExternalForm(), 20);
+        Font buttonFont = FontCache.get(PIXEL_FONT, 20);
         // Load cursor images
-        Image triangleCursorImage = new Image(this.getClass().getResource(TRIANGLE_MOUSE_ICON).toExternalForm());
-        Image hoverCursorImage = new Image(this.getClass().getResource(MOUSE_ICON).toExternalForm());
+        Image triangleCursorImage = ImageCache.get(TRIANGLE_MOUSE_ICON);
+        Image hoverCursorImage = ImageCache.get(MOUSE_ICON);
         ImageCursor triangleCursor = new ImageCursor(triangleCursorImage);
         ImageCursor hoverCursor = new ImageCursor(hoverCursorImage);
 
@@ -150,16 +168,15 @@ public class PauseScreen {
         //Create scene with transparency
         Scene pauseScene = new Scene(rootLayout, 600, 400);
         // Set the custom cursor
-        Image cursorImage = new Image(this.getClass().getResource(TRIANGLE_MOUSE_ICON).toExternalForm());
+        Image cursorImage = ImageCache.get(TRIANGLE_MOUSE_ICON);
         pauseScene.setCursor(new ImageCursor(cursorImage));
 
         pauseScene.setFill(null);
+        StyleSheets.apply(pauseScene);
 
         //Set scene to the stage
         pauseStage.setScene(pauseScene);
-
-        //Show the pause screen until it is closed
-        pauseStage.showAndWait();
+        return pauseStage;
     }
 
      /**
@@ -176,15 +193,7 @@ public class PauseScreen {
         button.setFont(font);
         button.setPrefWidth(200);
         button.setPrefHeight(50);
-        button.setStyle(
-            "-fx-background-image: url('" + getClass().getResource("/com/example/demo/images/grass_button.png").toExternalForm() + "');" +
-            "-fx-background-size: 100% 100%;" +
-            "-fx-background-repeat: no-repeat;" +
-            "-fx-text-fill: #000000;" +
-            "-fx-alignment: center;" +
-            "-fx-background-color: transparent;" +
-            "-fx-border-width: 0;"
-        );
+        button.getStyleClass().add(StyleSheets.GRASS_BUTTON);
 
         // Set hover and default cursors
         button.setOnMouseEntered(event -> button.setCursor(hoverCursor));
@@ -195,8 +204,25 @@ public class PauseScreen {
 
     /**
      * Displays the settings screen where users can adjust the volume.
+     * The window is built the first time. The slider is refreshed from the current volume on each show.
      */
     public void showSettings() {
+        if (settingsStage == null) {
+            settingsStage = buildSettingsStage();
+        }
+        if (settingsStage.isShowing()) {
+            return;
+        }
+        volumeSlider.setValue(controller.getMediaPlayer().getVolume());
+        settingsStage.showAndWait();
+    }
+
+    /**
+     * Builds the settings window.
+     *
+     * @return The settings stage, not yet shown.
+     */
+    private Stage buildSettingsStage() {
         //Create new screen for settings
         Stage settingsStage = new Stage();
         settingsStage.initModality(Modality.APPLICATION_MODAL);
@@ -205,7 +231,7 @@ public class PauseScreen {
         //Root layout with background image
         BorderPane rootLayout = new BorderPane();
         BackgroundImage backgroundImage = new BackgroundImage(
-            new Image(this.getClass().getResource(SETTING_IMAGE).toExternalForm()),
+            ImageCache.get(SETTING_IMAGE),
             BackgroundRepeat.NO_REPEAT,
             BackgroundRepeat.NO_REPEAT,
             BackgroundPosition.CENTER,
@@ -219,13 +245,10 @@ public class PauseScreen {
         topBar.setPadding(new Insets(10));
         //Create a close button for instructions screen
         Button closeButton = new Button();
-        closeButton.setStyle(
-            "-fx-background-color: transparent; -fx-border-width: 0;"+
-            "-fx-background-size: 50px 40px;"
-        );
+        closeButton.getStyleClass().add(StyleSheets.CLOSE_BUTTON);
         //Set the custom image for button
         ImageView Closebutton = new ImageView(
-        new Image(this.getClass().getResource("/com/example/demo/images/x_button.png").toExternalForm())
+        ImageCache.get("/com/example/demo/images/x_button.png")
         );
         //Resize button X
         Closebutton.setFitWidth(30);
@@ -243,24 +266,16 @@ public class PauseScreen {
         layout.setAlignment(Pos.CENTER);
 
         //Load the custom pixel font
-        Font buttonFont = null;
-        try {
-            buttonFont = Font.loadFont(this.getClass().getResource(PIXEL_FONT).toExternalForm(), 20);
-            if (buttonFont == null) {
-                System.err.println("Error loading font for settings.");
-            }
-        } catch (Exception e) {
-            System.err.println("Error loading font: " + e.getMessage());
-        }
+        Font buttonFont = FontCache.get(PIXEL_FONT, 20);
     
         //Volume slider
         Label volumeLabel = new Label("Volume");
         if (buttonFont != null) {
             volumeLabel.setFont(buttonFont); 
         }
-        volumeLabel.setStyle("-fx-text-fill: #000000;");
+        volumeLabel.getStyleClass().add(StyleSheets.DARK_TEXT);
 
-        Slider volumeSlider = new Slider(0, 1, controller.getMediaPlayer().getVolume());
+        volumeSlider = new Slider(0, 1, controller.getMediaPlayer().getVolume());
         volumeSlider.setShowTickLabels(true);
         volumeSlider.setShowTickMarks(true);
         volumeSlider.setBlockIncrement(0.1);
@@ -277,8 +292,9 @@ public class PauseScreen {
         //Create scene for settings
         Scene settingsScene = new Scene(rootLayout, 400, 300);
         settingsScene.setFill(null);
+        StyleSheets.apply(settingsScene);
         settingsStage.setScene(settingsScene);
-        settingsStage.showAndWait();
+        return settingsStage;
     }
 
 }
@@ -1,5 +1,8 @@
 package com.example.demo.UI;
 
+import com.example.demo.assets.FontCache;
+import com.example.demo.assets.ImageCache;
+import com.example.demo.assets.StyleSheets;
 import com.example.demo.GameState.GameState;
 import com.example.demo.levels.LevelParent;
 
@@ -22,13 +25,17 @@ import javafx.stage.StageStyle;
 public class Shop {
 
     private final Stage stage; 
-    private final LevelParent currentLevel;
+    private LevelParent currentLevel;
+    //Built on first show and reused afterwards
+    private Stage shopStage;
+    private static Stage popupStage;
+    private static Label popupTitleLabel;
+    private static Label popupMessageLabel;
     
     private static final String SHOP_BACKGROUND_IMAGE = "/com/example/demo/images/pause.png";
     private static final String PIXEL_FONT = "/com/example/demo/fonts/pixelFont.ttf";
     private static final String CLOSE_BUTTON_IMAGE = "/com/example/demo/images/x_button.png";
     private static final String HEARTS_IMAGE = "/com/example/demo/images/hearts.png";
-    private static final String GRASS_BUTTON_IMAGE = "/com/example/demo/images/grass_button.png";
       /**
      * Constructor for the Shop class.
      *
@@ -39,8 +46,20 @@ public class Shop {
         this.stage = stage;
         this.currentLevel = currentLevel;
     }
+
+    /**
+     * Sets the level the shop updates when an item is bought.
+     * Lets the same shop window be reused across levels.
+     *
+     * @param currentLevel The current game level.
+     */
+    public void setCurrentLevel(LevelParent currentLevel) {
+        this.currentLevel = currentLevel;
+    }
+
      /**
      * Displays the shop, allow players to purchase item.
+     * The window is built the first time and reused afterwards.
      */
     public void show() {
 
@@ -49,7 +68,20 @@ public class Shop {
             return; // Prevent shop from opening
         }
 
+        if (shopStage == null) {
+            shopStage = buildShopStage();
+        }
+        if (!shopStage.isShowing()) {
+            shopStage.show();
+        }
+    }
 
+    /**
+     * Builds the shop window.
+     *
+     * @return The shop stage, not yet shown.
+     */
+    private Stage buildShopStage() {
         Stage shopStage = new Stage();
         shopStage.initStyle(StageStyle.TRANSPARENT);
         shopStage.initOwner(stage);
@@ -57,7 +89,7 @@ public class Shop {
         BorderPane rootLayout = new BorderPane();
         try {
             BackgroundImage backgroundImage = new BackgroundImage(
-                new Image(this.getClass().getResource(SHOP_BACKGROUND_IMAGE).toExternalForm()),
+                ImageCache.get(SHOP_BACKGROUND_IMAGE),
                 BackgroundRepeat.NO_REPEAT,
                 BackgroundRepeat.NO_REPEAT,
                 BackgroundPosition.CENTER,
@@ -82,7 +114,7 @@ public class Shop {
         layout.setAlignment(Pos.CENTER);
         layout.setPadding(new Insets(20));
 
-        Font buttonFont = loadFont(PIXEL_FONT, 20);
+        Font buttonFont = FontCache.get(PIXEL_FONT, 20);
 
         //Item1 
         HBox item1 = new HBox(10);
@@ -90,7 +122,7 @@ public class Shop {
         //Hearts image
         ImageView heartsImageView = new ImageView();
         try {
-            Image heartsImage = new Image(this.getClass().getResource(HEARTS_IMAGE).toExternalForm());
+            Image heartsImage = ImageCache.get(HEARTS_IMAGE);
             heartsImageView.setImage(heartsImage);
             heartsImageView.setFitWidth(50); 
             heartsImageView.setFitHeight(50); 
@@ -103,25 +135,17 @@ public class Shop {
         item1Button.setFont(buttonFont);
         item1Button.setPrefWidth(200);
         item1Button.setPrefHeight(50);
-        item1Button.setStyle(
-            "-fx-background-image: url('" + this.getClass().getResource(GRASS_BUTTON_IMAGE).toExternalForm() + "');" +
-            "-fx-background-size: 100% 100%;" +
-            "-fx-background-repeat: no-repeat;" +
-            "-fx-text-fill: #000000;" +
-            "-fx-alignment: center;" +
-            "-fx-background-color: transparent;" +
-            "-fx-border-width: 0;"
-        );
+        item1Button.getStyleClass().add(StyleSheets.GRASS_BUTTON);
         item1Button.setFocusTraversable(false);
         item1Button.setOnAction(event -> {
-            if (GameState.getInstance().getShopItem1PurchaseCount() < 2) {
-                GameState.getInstance().incrementShopItem1PurchaseCount();
+            //Counting the purchase checks the limit too, so a double click cannot buy a third heart
+            if (GameState.getInstance().incrementShopItem1PurchaseCount()) {
                 GameState.getInstance().addLevel2Hearts(1);
                 System.out.println("Purchased an extra heart! Total Level 2 hearts: " + GameState.getInstance().getLevel2Hearts());
 
                 currentLevel.getLevelView().updateHeartDisplay(GameState.getInstance().getLevel2Hearts());
 
-                if (GameState.getInstance().getShopItem1PurchaseCount() == 2) {
+                if (GameState.getInstance().getShopItem1PurchaseCount() == GameState.MAX_SHOP_ITEM1_PURCHASES) {
                     GameState.getInstance().setShopLocked(true); // Lock the shop
                 }
             } else {
@@ -137,8 +161,9 @@ public class Shop {
 
         Scene shopScene = new Scene(rootLayout, 600, 400);
         shopScene.setFill(null);
+        StyleSheets.apply(shopScene);
         shopStage.setScene(shopScene);
-        shopStage.show();
+        return shopStage;
     }
 
     /**
@@ -149,10 +174,10 @@ public class Shop {
      */
     private Button createCloseButton(Stage shopStage) {
         Button closeButton = new Button();
-        closeButton.setStyle("-fx-background-color: transparent; -fx-border-width: 0; -fx-background-size: 50px 40px;");
+        closeButton.getStyleClass().add(StyleSheets.CLOSE_BUTTON);
         try {
             ImageView closeButtonImage = new ImageView(
-                new Image(this.getClass().getResource(CLOSE_BUTTON_IMAGE).toExternalForm())
+                ImageCache.get(CLOSE_BUTTON_IMAGE)
             );
             closeButtonImage.setFitWidth(30);
             closeButtonImage.setFitHeight(30);
@@ -165,37 +190,38 @@ public class Shop {
         return closeButton;
     }
 
-    /**
-     * Loads a custom font.
-     *
-     * @param fontPath The path to the font file.
-     * @param size The size of the font.
-     * @return The loaded Font, or a default font if not found.
-     */
-    private Font loadFont(String fontPath, int size) {
-        try {
-            return Font.loadFont(this.getClass().getResource(fontPath).toExternalForm(), size);
-        } catch (NullPointerException e) {
-            System.err.println("Font not found: " + fontPath);
-            return Font.font("Arial", size); 
-        }
-    }
-
      /**
      * Displays a popup message for the shop.
+     * The popup window is shared and only its text changes between calls.
      *
      * @param title The title of the popup message.
      * @param message The message to display.
      */
 
     public static void showShopPopup(String title, String message) {
+        if (popupStage == null) {
+            popupStage = buildPopupStage();
+        }
+        popupTitleLabel.setText(title);
+        popupMessageLabel.setText(message);
+        if (!popupStage.isShowing()) {
+            popupStage.showAndWait();
+        }
+    }
+
+    /**
+     * Builds the popup window with empty labels.
+     *
+     * @return The popup stage, not yet shown.
+     */
+    private static Stage buildPopupStage() {
         Stage popupStage = new Stage();
         popupStage.initStyle(StageStyle.TRANSPARENT);
     
         // Root layout with background image
         BorderPane rootLayout = new BorderPane();
         BackgroundImage backgroundImage = new BackgroundImage(
-            new Image(Shop.class.getResource(SHOP_BACKGROUND_IMAGE).toExternalForm()),
+            ImageCache.get(SHOP_BACKGROUND_IMAGE),
             BackgroundRepeat.NO_REPEAT,
             BackgroundRepeat.NO_REPEAT,
             BackgroundPosition.CENTER,
@@ -210,13 +236,10 @@ public class Shop {
     
         // Create close button
         Button closeButton = new Button();
-        closeButton.setStyle(
-            "-fx-background-color: transparent; -fx-border-width: 0; " +
-            "-fx-background-size: 50px 40px;"
-        );
+        closeButton.getStyleClass().add(StyleSheets.CLOSE_BUTTON);
         try {
             ImageView closeButtonImage = new ImageView(
-                new Image(Shop.class.getResource(CLOSE_BUTTON_IMAGE).toExternalForm())
+                ImageCache.get(CLOSE_BUTTON_IMAGE)
             );
             closeButtonImage.setFitWidth(30);
             closeButtonImage.setFitHeight(30);
@@ -235,33 +258,21 @@ public class Shop {
         layout.setPadding(new Insets(20));
     
         // Load the custom pixel font
-        Font titleFont = null;
-        Font buttonFont = null;
-        try {
-            titleFont = Font.loadFont(Shop.class.getResource(PIXEL_FONT).toExternalForm(), 40);
-            buttonFont = Font.loadFont(Shop.class.getResource(PIXEL_FONT).toExternalForm(), 20);
-        } catch (Exception e) {
-            System.err.println("Error loading font: " + e.getMessage());
-            titleFont = Font.font("Arial", 40); 
-            buttonFont = Font.font("Arial", 20); 
-        }
+        Font titleFont = FontCache.get(PIXEL_FONT, 40);
+        Font buttonFont = FontCache.get(PIXEL_FONT, 20);
     
         // Title label
-        Label titleLabel = new Label(title);
-        if (titleFont != null) {
-            titleLabel.setFont(titleFont);
-        }
-        titleLabel.setStyle("-fx-text-fill: #000000;");
+        popupTitleLabel = new Label();
+        popupTitleLabel.setFont(titleFont);
+        popupTitleLabel.getStyleClass().add(StyleSheets.DARK_TEXT);
     
         // Message label
-        Label messageLabel = new Label(message);
-        if (buttonFont != null) {
-            messageLabel.setFont(buttonFont);
-        }
-        messageLabel.setStyle("-fx-text-fill: #555555;");
+        popupMessageLabel = new Label();
+        popupMessageLabel.setFont(buttonFont);
+        popupMessageLabel.getStyleClass().add(StyleSheets.POPUP_MESSAGE);
     
         // Add content to layout
-        layout.getChildren().addAll(titleLabel, messageLabel);
+        layout.getChildren().addAll(popupTitleLabel, popupMessageLabel);
     
         // Set layout to the center of the root
         rootLayout.setCenter(layout);
@@ -269,10 +280,11 @@ public class Shop {
         // Create scene with transparency
         Scene popupScene = new Scene(rootLayout, 600, 400);
         popupScene.setFill(null);
+        StyleSheets.apply(popupScene);
     
-        // Set scene to the stage and show
+        // Set scene to the stage
         popupStage.setScene(popupScene);
-        popupStage.showAndWait();
+        return popupStage;
     }
    
 
@@ -1,36 +1,77 @@
 package com.example.demo.actors;
 
-import javafx.scene.image.*;
+import com.example.demo.assets.Sprite;
+import com.example.demo.engine.EntityStore;
 
 /**
  * Represents the abstract class of an active actor.
- * Extends the ImageView class to allow the use of images.
+ * The actor is a handle to an entity in an {@link EntityStore}, which holds its position, size and velocity,
+ * so game logic runs without any nodes. Levels draw it with a view that copies its position once per frame.
  */
-public abstract class ActiveActor extends ImageView {
-	
-	private static final String IMAGE_LOCATION = "/com/example/demo/images/";
+public abstract class ActiveActor {
+
+	private final Sprite sprite;
+	private EntityStore entities;
+	private int id;
+	//Set once the entity is given back, since its slot may then be reused by another actor
+	private boolean released = true;
+
+	/**
+     * Constructs ActiveActor with its sprite and position.
+     *
+     * @param entities    The store holding the state of the actor.
+     * @param sprite      The sprite the actor is drawn with, which also gives its size.
+     * @param initialXPos The initial X position of the actor.
+     * @param initialYPos The initial Y position of the actor.
+     */
+	public ActiveActor(EntityStore entities, Sprite sprite, double initialXPos, double initialYPos) {
+		this(sprite);
+		spawn(entities, initialXPos, initialYPos);
+	}
+
+	/**
+     * Constructs an ActiveActor without an entity, for pools that spawn it when it is used.
+     *
+     * @param sprite The sprite the actor is drawn with, which also gives its size.
+     */
+	protected ActiveActor(Sprite sprite) {
+		this.sprite = sprite;
+	}
 
 	/**
-     * Constructs ActiveActor with image, position, and size.
+     * Creates a new entity for the actor, at rest.
      *
-     * @param imageName    The name of the image file.
-     * @param imageHeight  The height of the image.
-     * @param initialXPos  The initial X position of the actor.
-     * @param initialYPos  The initial Y position of the actor.
+     * @param entities The store to create the entity in.
+     * @param x        The X position of the actor.
+     * @param y        The Y position of the actor.
+     */
+	protected void spawn(EntityStore entities, double x, double y) {
+		this.entities = entities;
+		this.id = entities.create((byte) sprite.ordinal(), x, y, sprite.getWidth(), sprite.getHeight(), 0, 0, 0);
+		released = false;
+	}
+
+	/**
+     * Gives the actor's entity back to the store once it has left the game.
+	 * Its state can still be read until the store recycles the slot at the start of the next tick.
+	 * Releasing it again does nothing.
      */
-	public ActiveActor(String imageName, int imageHeight, double initialXPos, double initialYPos) {
-		//this.setImage(new Image(IMAGE_LOCATION + imageName));
-		this.setImage(new Image(getClass().getResource(IMAGE_LOCATION + imageName).toExternalForm()));
-		this.setLayoutX(initialXPos);
-		this.setLayoutY(initialYPos);
-		this.setFitHeight(imageHeight);
-		this.setPreserveRatio(true);
+	public void release() {
+		if (released) {
+			return;
+		}
+		released = true;
+		entities.release(id);
 	}
 
 	/**
-     * Abstract method to update the position of the actor.
+     * Checks if the actor's entity has been given back to the store.
+     *
+     * @return True if the actor is released, false otherwise.
      */
-	public abstract void updatePosition();
+	public boolean isReleased() {
+		return released;
+	}
 
 	/**
      * Moves the actor horizontally.
@@ -38,7 +79,7 @@ public abstract class ActiveActor extends ImageView {
      * @param horizontalMove The distance to move the actor along the X-axis.
      */
 	protected void moveHorizontally(double horizontalMove) {
-		this.setTranslateX(getTranslateX() + horizontalMove);
+		entities.setPosition(id, entities.getX(id) + horizontalMove, entities.getY(id));
 	}
 
 	/**
@@ -47,7 +88,117 @@ public abstract class ActiveActor extends ImageView {
      * @param verticalMove The distance to move the actor along the Y-axis.
      */
 	protected void moveVertically(double verticalMove) {
-		this.setTranslateY(getTranslateY() + verticalMove);
+		entities.setPosition(id, entities.getX(id), entities.getY(id) + verticalMove);
+	}
+
+	/**
+     * Moves the actor to a position.
+     *
+     * @param x The new X-coordinate of the left edge.
+     * @param y The new Y-coordinate of the top edge.
+     */
+	protected void setPosition(double x, double y) {
+		entities.setPosition(id, x, y);
+	}
+
+	/**
+     * Sets how far the store moves the actor each tick.
+     *
+     * @param velocityX The distance to move per tick along the X-axis.
+     * @param velocityY The distance to move per tick along the Y-axis.
+     */
+	protected void setVelocity(double velocityX, double velocityY) {
+		entities.setVelocity(id, velocityX, velocityY);
+	}
+
+	/**
+     * Gets how far the store moves the actor each tick along the X-axis.
+     *
+     * @return The horizontal velocity.
+     */
+	protected double getVelocityX() {
+		return entities.getVelocityX(id);
+	}
+
+	/**
+     * Gets the left edge of the actor.
+     *
+     * @return The minimum X-coordinate.
+     */
+	public double getMinX() {
+		return entities.getX(id);
+	}
+
+	/**
+     * Gets the top edge of the actor.
+     *
+     * @return The minimum Y-coordinate.
+     */
+	public double getMinY() {
+		return entities.getY(id);
+	}
+
+	/**
+     * Gets the right edge of the actor.
+     *
+     * @return The maximum X-coordinate.
+     */
+	public double getMaxX() {
+		return entities.getX(id) + sprite.getWidth();
+	}
+
+	/**
+     * Gets the bottom edge of the actor.
+     *
+     * @return The maximum Y-coordinate.
+     */
+	public double getMaxY() {
+		return entities.getY(id) + sprite.getHeight();
+	}
+
+	/**
+     * Gets the width of the actor, the width its sprite is drawn at.
+     *
+     * @return The width.
+     */
+	public double getWidth() {
+		return sprite.getWidth();
+	}
+
+	/**
+     * Gets the height of the actor, the height its sprite is drawn at.
+     *
+     * @return The height.
+     */
+	public double getHeight() {
+		return sprite.getHeight();
+	}
+
+	/**
+     * Gets the sprite the actor is drawn with.
+     *
+     * @return The sprite.
+     */
+	public Sprite getSprite() {
+		return sprite;
+	}
+
+	/**
+     * Gets the id of the actor's entity in the store.
+     *
+     * @return The entity id.
+     */
+	public int getId() {
+		return id;
+	}
+
+	/**
+     * Gets the store holding the state of the actor.
+     *
+     * @return The entity store.
+     */
+	protected EntityStore getEntities() {
+		return entities;
 	}
 
 }
@@ -0,0 +1,22 @@
+package com.example.demo.actors;
+
+import com.example.demo.assets.Sprite;
+import com.example.demo.engine.EntityStore;
+
+/**
+ * Represents a bomb.
+ * Bombs never move once placed, and hurt the user plane when it flies into one.
+ */
+public class Bomb extends ActiveActor {
+
+	/**
+     * Constructs a bomb at the specific position.
+     *
+     * @param entities  The store holding the state of the bomb.
+     * @param xPosition The x-coordinate of the bomb.
+     * @param yPosition The y-coordinate of the bomb.
+     */
+	public Bomb(EntityStore entities, double xPosition, double yPosition) {
+		super(entities, Sprite.BOMB, xPosition, yPosition);
+	}
+}
@@ -2,9 +2,12 @@ package com.example.demo.actors;
 
 import java.util.*;
 
-import com.example.demo.assets.ShieldImage;
+import com.example.demo.assets.Sprite;
 import com.example.demo.destructible.ActiveActorDestructible;
+import com.example.demo.engine.EntityStore;
+import com.example.demo.engine.GameRandom;
 import com.example.demo.projectiles.BossProjectile;
+import com.example.demo.projectiles.ProjectilePools;
 
 /**
  * Represents the boss.
@@ -13,13 +16,11 @@ import com.example.demo.projectiles.BossProjectile;
  */
 public class Boss extends FighterPlane {
 
-	private static final String IMAGE_NAME = "bossplane.png";
 	private static final double INITIAL_X_POSITION = 1000.0;
 	private static final double INITIAL_Y_POSITION = 400;
 	private static final double PROJECTILE_Y_POSITION_OFFSET = 75.0;
 	private static final double BOSS_FIRE_RATE = .04;
 	private static final double BOSS_SHIELD_PROBABILITY = .002;
-	private static final int IMAGE_HEIGHT = 300;
 	private static final int VERTICAL_VELOCITY = 8;
 	private static final int HEALTH = 10;   //100
 	private static final int MOVE_FREQUENCY_PER_CYCLE = 5;
@@ -33,17 +34,30 @@ public class Boss extends FighterPlane {
 	private int consecutiveMovesInSameDirection;
 	private int indexOfCurrentMove;
 	private int framesWithShieldActivated;
-	private final ShieldImage shieldImage;
 	private final String currentLevel;
+	private final GameRandom random;
 	/**
-     * Construct the Boss object with a shield image.
+     * Construct the Boss object with its own unseeded random source.
      *
-     * @param shieldImage Link the ShieldImage object with the boss.
+     * @param entities The store holding the state of the boss.
+     * @param currentLevel The name of the level the boss is in.
      */
-	public Boss(ShieldImage shieldImage, String currentLevel) {
-		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, HEALTH);
-		this.shieldImage = shieldImage;
+	public Boss(EntityStore entities, String currentLevel) {
+		this(entities, currentLevel, new GameRandom());
+	}
+
+	/**
+     * Construct the Boss object.
+	 * The level shows the shield image while {@link #isShielded()} is true.
+     *
+     * @param entities The store holding the state of the boss.
+     * @param currentLevel The name of the level the boss is in.
+     * @param random The level's random source, used for moves, firing and the shield.
+     */
+	public Boss(EntityStore entities, String currentLevel, GameRandom random) {
+		super(entities, Sprite.BOSS, INITIAL_X_POSITION, INITIAL_Y_POSITION, HEALTH);
 		this.currentLevel = currentLevel;
+		this.random = random;
 		movePattern = new ArrayList<>();
 		consecutiveMovesInSameDirection = 0;
 		indexOfCurrentMove = 0;
@@ -57,11 +71,9 @@ public class Boss extends FighterPlane {
      */
 	@Override
 	public void updatePosition() {
-		double initialTranslateY = getTranslateY();
-		moveVertically(getNextMove());
-		double currentPosition = getLayoutY() + getTranslateY();
-		if (currentPosition < Y_POSITION_UPPER_BOUND || currentPosition > Y_POSITION_LOWER_BOUND) {
-			setTranslateY(initialTranslateY);
+		double currentPosition = getMinY() + getNextMove();
+		if (currentPosition >= Y_POSITION_UPPER_BOUND && currentPosition <= Y_POSITION_LOWER_BOUND) {
+			setPosition(getMinX(), currentPosition);
 		}
 	}
 	
@@ -77,12 +89,13 @@ public class Boss extends FighterPlane {
 	/**
      * Fires a projectile.
      *
+     * @param pools The projectile pools of the game the boss is in.
      * @return A new BossProjectile object if the boss fires in the current frame, otherwise null.
      */
 	@Override
-	public ActiveActorDestructible fireProjectile() {
+	public ActiveActorDestructible fireProjectile(ProjectilePools pools) {
 		int velocity = speedProjectileVelocity();
-		return bossFiresInCurrentFrame() ? new BossProjectile(getProjectileInitialPosition(),velocity) : null;
+		return bossFiresInCurrentFrame() ? BossProjectile.acquire(pools, getEntities(), getProjectileInitialPosition(), velocity) : null;
 	}
 
 	/**
@@ -100,12 +113,12 @@ public class Boss extends FighterPlane {
 	}
 	
 	/**
-     * Deduct boss's health if shield is not visible.
+     * Deduct boss's health if shield is not up.
      */
 	@Override
 	public void takeDamage() {
-		// Only take damage if the shield is not visible
-		if (!shieldImage.isVisible()) {
+		// Only take damage if the shield is not up
+		if (!isShielded) {
 			super.takeDamage();
 		}
 	}
@@ -119,7 +132,7 @@ public class Boss extends FighterPlane {
 			movePattern.add(-VERTICAL_VELOCITY);
 			movePattern.add(ZERO);
 		}
-		Collections.shuffle(movePattern);
+		random.shuffle(movePattern);
 	}
 
 	/**
@@ -145,7 +158,7 @@ public class Boss extends FighterPlane {
 		int currentMove = movePattern.get(indexOfCurrentMove);
 		consecutiveMovesInSameDirection++;
 		if (consecutiveMovesInSameDirection == MAX_FRAMES_WITH_SAME_MOVE) {
-			Collections.shuffle(movePattern);
+			random.shuffle(movePattern);
 			consecutiveMovesInSameDirection = 0;
 			indexOfCurrentMove++;
 		}
@@ -161,7 +174,7 @@ public class Boss extends FighterPlane {
      * @return True if the boss fires, false otherwise.
      */
 	private boolean bossFiresInCurrentFrame() {
-		return Math.random() < BOSS_FIRE_RATE;
+		return random.chance(BOSS_FIRE_RATE);
 	}
 
 	/**
@@ -170,7 +183,7 @@ public class Boss extends FighterPlane {
      * @return The Y-coordinate of the projectile's initial position.
      */
 	private double getProjectileInitialPosition() {
-		return getLayoutY() + getTranslateY() + PROJECTILE_Y_POSITION_OFFSET;
+		return getMinY() + PROJECTILE_Y_POSITION_OFFSET;
 	}
 
 	/**
@@ -179,7 +192,7 @@ public class Boss extends FighterPlane {
      * @return True if the shield should be activated, false otherwise.
      */
 	private boolean shieldShouldBeActivated() {
-		return Math.random() < BOSS_SHIELD_PROBABILITY;
+		return random.chance(BOSS_SHIELD_PROBABILITY);
 	}
 
 	/**
@@ -192,21 +205,27 @@ public class Boss extends FighterPlane {
 	}
 
 	/**
-     * Activates the shield and show the shield image.
+     * Activates the shield.
      */
 	public void activateShield() {
 		isShielded = true;
-		//Show the shield image
-		shieldImage.showShield(); 
 	}
 
 	/**
-     * Deactivates the shield and hide the shield image.
+     * Deactivates the shield.
      */
 	public void deactivateShield() {
 		isShielded = false;
 		framesWithShieldActivated = 0;
-		shieldImage.hideShield(); // Hide the shield image
+	}
+
+	/**
+     * Checks if the shield is up.
+     *
+     * @return True if the boss is shielded, false otherwise.
+     */
+	public boolean isShielded() {
+		return isShielded;
 	}
 
 }
@@ -1,7 +1,11 @@
 package com.example.demo.actors;
 
+import com.example.demo.assets.Sprite;
 import com.example.demo.destructible.ActiveActorDestructible;
+import com.example.demo.engine.EntityStore;
+import com.example.demo.engine.GameRandom;
 import com.example.demo.projectiles.EnemyProjectile;
+import com.example.demo.projectiles.ProjectilePools;
 
 /**
  * Represents an enemy plane.
@@ -9,22 +13,35 @@ import com.example.demo.projectiles.EnemyProjectile;
  */
 public class EnemyPlane extends FighterPlane {
 
-	private static final String IMAGE_NAME = "enemyplane.png";
-	private static final int IMAGE_HEIGHT = 150;
 	private static final int HORIZONTAL_VELOCITY = -6;
 	private static final double PROJECTILE_X_POSITION_OFFSET = -100.0;
 	private static final double PROJECTILE_Y_POSITION_OFFSET = 50.0;
 	private static final int INITIAL_HEALTH = 1;
 	private static final double FIRE_RATE = .01;
+	private final GameRandom random;
+
+	/**
+     * Constructs enemy plane with the initial positions and its own unseeded random source.
+     * 
+     * @param entities    The store holding the state of the plane.
+     * @param initialXPos The initial X-coordinate of the enemy plane.
+     * @param initialYPos The initial Y-coordinate of the enemy plane.
+     */
+	public EnemyPlane(EntityStore entities, double initialXPos, double initialYPos) {
+		this(entities, initialXPos, initialYPos, new GameRandom());
+	}
 
 	/**
      * Constructs enemy plane with the initial positions.
      * 
+     * @param entities    The store holding the state of the plane.
      * @param initialXPos The initial X-coordinate of the enemy plane.
      * @param initialYPos The initial Y-coordinate of the enemy plane.
+     * @param random      The level's random source, used to decide when to fire.
      */
-	public EnemyPlane(double initialXPos, double initialYPos) {
-		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos, INITIAL_HEALTH);
+	public EnemyPlane(EntityStore entities, double initialXPos, double initialYPos, GameRandom random) {
+		super(entities, Sprite.ENEMY_PLANE, initialXPos, initialYPos, INITIAL_HEALTH);
+		this.random = random;
 	}
 
 	/**
@@ -40,14 +57,15 @@ public class EnemyPlane extends FighterPlane {
      * Fires a projectile from enemy plane.
      * The projectile is fired randomly.
      * 
+     * @param pools The projectile pools of the game the plane is in.
      * @return An {@link ActiveActorDestructible} represents the projectile, or null if there is no projectile.
      */
 	@Override
-	public ActiveActorDestructible fireProjectile() {
-		if (Math.random() < FIRE_RATE) {
+	public ActiveActorDestructible fireProjectile(ProjectilePools pools) {
+		if (random.chance(FIRE_RATE)) {
 			double projectileXPosition = getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET);
 			double projectileYPostion = getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
-			return new EnemyProjectile(projectileXPosition, projectileYPostion);
+			return EnemyProjectile.acquire(pools, getEntities(), projectileXPosition, projectileYPostion);
 		}
 		return null;
 	}
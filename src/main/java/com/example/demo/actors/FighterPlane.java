@@ -1,84 +1,89 @@
 package com.example.demo.actors;
 
+import com.example.demo.assets.Sprite;
 import com.example.demo.destructible.ActiveActorDestructible;
+import com.example.demo.engine.EntityStore;
+import com.example.demo.projectiles.ProjectilePools;
 
 /**
  * Represents a abstract class FighterPlane.
  * Handles health, firing projectiles, and projectile positions.
+ * Health is kept with the rest of the plane's state in the entity store.
  */
 public abstract class FighterPlane extends ActiveActorDestructible {
 
-	private int health;
 
-	
 	/**
-     * Constructs a FighterPlane with the specified image, dimensions, position, and health.
-     * 
-     * @param imageName    The name of the image.
-     * @param imageHeight  The height of the image.
+     * Constructs a FighterPlane with the specified sprite, position, and health.
+     *
+     * @param entities     The store holding the state of the plane.
+     * @param sprite       The sprite the plane is drawn with.
      * @param initialXPos  The initial X position of the fighter plane.
      * @param initialYPos  The initial Y position of the fighter plane.
      * @param health       The initial health of the fighter plane.
      */
-	public FighterPlane(String imageName, int imageHeight, double initialXPos, double initialYPos, int health) {
-		super(imageName, imageHeight, initialXPos, initialYPos);
-		this.health = health;
+	public FighterPlane(EntityStore entities, Sprite sprite, double initialXPos, double initialYPos, int health) {
+		super(entities, sprite, initialXPos, initialYPos);
+		entities.setHealth(getId(), health);
 	}
 
 	/**
      * Fires a projectile from fighter plane.
-     * 
+     *
+     * @param pools The projectile pools of the game the plane is in.
      * @return The projectile fired by the fighter plane.
      */
-	public abstract ActiveActorDestructible fireProjectile();
-	
+	public abstract ActiveActorDestructible fireProjectile(ProjectilePools pools);
+
+	/**
+     * Updates the position of the plane for one tick.
+     */
+	public abstract void updatePosition();
+
+	/**
+     * Updates the state of the plane for one tick.
+     */
+	public abstract void updateActor();
+
 	/**
      * Deducts the health of the fighter plane. If the health reaches zero, the plane is destroyed.
      */
 	@Override
 	public void takeDamage() {
-		health--;
-		if (healthAtZero()) {
+		int health = getHealth() - 1;
+		getEntities().setHealth(getId(), health);
+		if (health == 0) {
 			this.destroy();
 		}
 	}
 
 	/**
      * Calculates the X position of a projectile.
-     * 
+     *
      * @param xPositionOffset The X offset of the current position.
      * @return The calculated X position of the projectile.
      */
 	protected double getProjectileXPosition(double xPositionOffset) {
-		return getLayoutX() + getTranslateX() + xPositionOffset;
+		return getMinX() + xPositionOffset;
 	}
 
 	/**
      * Calculates the Y position of a projectile.
-     * 
+     *
      * @param yPositionOffset The Y offset of the current position.
      * @return The calculated Y position of the projectile.
      */
 	protected double getProjectileYPosition(double yPositionOffset) {
-		return getLayoutY() + getTranslateY() + yPositionOffset;
-	}
-
-	/**
-     * Checks if the health of the fighter plane is 0.
-     * 
-     * @return True if the health is 0, false otherwise.
-     */
-	private boolean healthAtZero() {
-		return health == 0;
+		return getMinY() + yPositionOffset;
 	}
 
 	/**
      * Gets the current health of the fighter plane.
-     * 
+     *
      * @return The current health of the fighter plane.
      */
 	public int getHealth() {
-		return health;
+		return getEntities().getHealth(getId());
 	}
-		
+
 }
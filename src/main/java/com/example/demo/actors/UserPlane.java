@@ -1,6 +1,9 @@
 package com.example.demo.actors;
 
+import com.example.demo.assets.Sprite;
 import com.example.demo.destructible.ActiveActorDestructible;
+import com.example.demo.engine.EntityStore;
+import com.example.demo.projectiles.ProjectilePools;
 import com.example.demo.projectiles.UserProjectile;
 
 /**
@@ -9,14 +12,12 @@ import com.example.demo.projectiles.UserProjectile;
  */
 public class UserPlane extends FighterPlane {
 
-    private static final String IMAGE_NAME = "userplane.png";
     private static final double Y_UPPER_BOUND = -40;
     private static final double Y_LOWER_BOUND = 600.0;
     private static final double X_LEFT_BOUND = 0.0;
     private static final double X_RIGHT_BOUND = 600.0;
     private static final double INITIAL_X_POSITION = 5.0;
     private static final double INITIAL_Y_POSITION = 300.0;
-    private static final int IMAGE_HEIGHT = 150;
     private static final int VERTICAL_VELOCITY = 8;
     private static final int HORIZONTAL_VELOCITY = 8;
 
@@ -29,10 +30,11 @@ public class UserPlane extends FighterPlane {
     /**
      * Constructs a UserPlane object with initial health.
      * 
+     * @param entities      The store holding the state of the plane.
      * @param initialHealth The initial health of the user's plane.
      */
-    public UserPlane(int initialHealth) {
-        super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, initialHealth);
+    public UserPlane(EntityStore entities, int initialHealth) {
+        super(entities, Sprite.USER_PLANE, INITIAL_X_POSITION, INITIAL_Y_POSITION, initialHealth);
         verticalVelocityMultiplier = 0;
         horizontalVelocityMultiplier = 0;
     }
@@ -45,32 +47,28 @@ public class UserPlane extends FighterPlane {
     public void updatePosition() {
         //Control vertical movement
         if (isMovingVertical()) {
-            double initialTranslateY = getTranslateY();
-            moveVertical(VERTICAL_VELOCITY * verticalVelocityMultiplier);
-            double newPositionY = getLayoutY() + getTranslateY();
-            if (newPositionY < Y_UPPER_BOUND || newPositionY > Y_LOWER_BOUND) {
-                setTranslateY(initialTranslateY);
+            double newPositionY = getMinY() + VERTICAL_VELOCITY * verticalVelocityMultiplier;
+            if (newPositionY >= Y_UPPER_BOUND && newPositionY <= Y_LOWER_BOUND) {
+                setPosition(getMinX(), newPositionY);
             }
         }
 
         //Control horizontal movement
         if (isMovingHorizontal()) {
-            double initialTranslateX = getTranslateX();
-            moveHorizontal(HORIZONTAL_VELOCITY * horizontalVelocityMultiplier);
-            double newPositionX = getLayoutX() + getTranslateX();
-            if (newPositionX < X_LEFT_BOUND || newPositionX > X_RIGHT_BOUND) {
-                setTranslateX(initialTranslateX);
+            double newPositionX = getMinX() + HORIZONTAL_VELOCITY * horizontalVelocityMultiplier;
+            if (newPositionX >= X_LEFT_BOUND && newPositionX <= X_RIGHT_BOUND) {
+                setPosition(newPositionX, getMinY());
             }
         }
 
         //Sync with the user projectile
-        if (activeProjectile != null) {
+        if (hasActiveProjectile()) {
             //Get the position of the user plane
             activeProjectile.syncWithPlane(
-                getBoundsInParent().getMinX(),
-                getBoundsInParent().getMinY(),
-                getBoundsInParent().getWidth(),
-                getBoundsInParent().getHeight()
+                getMinX(),
+                getMinY(),
+                getWidth(),
+                getHeight()
             );
         }
     }
@@ -95,12 +93,13 @@ public class UserPlane extends FighterPlane {
     /**
      * Fires a projectile from the user's plane.
      * 
+     * @param pools The projectile pools of the game the plane is in.
      * @return The fired projectile.
      */
     @Override
-    public ActiveActorDestructible fireProjectile() {
+    public ActiveActorDestructible fireProjectile(ProjectilePools pools) {
         //Check if there is active projectile
-        if (activeProjectile != null) {
+        if (hasActiveProjectile()) {
             //Make the projectile to fire so it moves on its own
             activeProjectile.fire(); 
             //Remove it from being tracked so new one can be fired
@@ -108,17 +107,29 @@ public class UserPlane extends FighterPlane {
         }
 
         
-        UserProjectile projectile = new UserProjectile(
+        UserProjectile projectile = UserProjectile.acquire(
+            pools,
+            getEntities(),
             //Start to shoot at the tip of user plane
-            getBoundsInParent().getMaxX(), 
+            getMaxX(), 
             //Set the position at center vertically
-            getBoundsInParent().getMinY() + getBoundsInParent().getHeight() / 2 - UserProjectile.IMAGE_HEIGHT / 2 
+            getMinY() + getHeight() / 2 - Sprite.USER_PROJECTILE.getHeight() / 2 
         );
         //Assign projectile to active
         assignProjectile(projectile); 
         return projectile;
     }
 
+    /**
+     * Checks if the plane holds a projectile that is still in play.
+     * A held projectile that was destroyed has gone back to its pool and must not be moved.
+     * 
+     * @return True if there is a live held projectile, otherwise false.
+     */
+    private boolean hasActiveProjectile() {
+        return activeProjectile != null && !activeProjectile.isDestroyed();
+    }
+
     /**
      * Checks if the user's plane is moving vertically.
      * 
@@ -199,24 +210,6 @@ public class UserPlane extends FighterPlane {
     public int getKillCount() {
         return numberOfKills;
     }
-
-    /**
-     * Moves the plane vertically by the specified amount.
-     * 
-     * @param Yaxis The distance to move along the Y-axis (positive values move down, negative values move up).
-     */
-    private void moveVertical(double Yaxis) {
-        setTranslateY(getTranslateY() + Yaxis);
-    }
-
-    /**
-     * Moves the plane horizontally by the specified amount.
-     * 
-     * @param Xaxis The distance to move along the X-axis (positive values move right, negative values move left).
-     */
-    private void moveHorizontal(double Xaxis) {
-        setTranslateX(getTranslateX() + Xaxis);
-    }
     
 
     
@@ -0,0 +1,45 @@
+package com.example.demo.assets;
+
+import java.util.List;
+
+/**
+ * Lists every asset the game loads, so they can be checked and decoded up front.
+ * Button backgrounds set in the game stylesheet are not listed, since they go through the CSS image cache.
+ */
+public final class AssetManifest {
+
+    private static final String IMAGES = "/com/example/demo/images/";
+
+    /** Images decoded into the {@link ImageCache} at their natural size. */
+    public static final List<String> IMAGE_PATHS = List.of(
+            IMAGES + "nature.jpg",
+            IMAGES + "background1.jpg",
+            IMAGES + "background2.jpg",
+            IMAGES + "pause.png",
+            IMAGES + "setting.png",
+            IMAGES + "x_button.png",
+            IMAGES + "mouse_icon.png",
+            IMAGES + "triangle_mouse.png",
+            IMAGES + "hearts.png",
+            IMAGES + "userplane.png",
+            IMAGES + "enemyplane.png",
+            IMAGES + "bossplane.png",
+            IMAGES + "userfire.png",
+            IMAGES + "enemyFire.png",
+            IMAGES + "fireball.png",
+            IMAGES + "shield.png",
+            IMAGES + "bomb.png"
+    );
+
+    /** Fonts registered with JavaFX before any screen asks for them. */
+    public static final List<String> FONT_PATHS = List.of(
+            "/com/example/demo/fonts/pixelFont.ttf"
+    );
+
+    /** Sound effects decoded before the first play. */
+    public static final List<SoundEffect> SOUND_EFFECTS = List.of(SoundEffect.values());
+
+    private AssetManifest() {
+
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.demo.assets;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.concurrent.Task;
+
+/**
+ * Background task that loads every asset in a manifest while the main menu is showing.
+ * Images are decoded into the {@link ImageCache}, fonts into the {@link FontCache}, and sound effects
+ * into audio clips, so levels and screens find everything ready when they are built.
+ *
+ * <p>Before loading anything, every resource is checked and the task fails with the full
+ * list of missing ones. Progress and the current asset are exposed through the usual
+ * {@link Task} properties.</p>
+ */
+public class AssetPreloader extends Task<Void> {
+
+    private static final int FONT_PRELOAD_SIZE = 20;
+
+    private final List<String> imagePaths;
+    private final List<String> fontPaths;
+    private final List<SoundEffect> soundEffects;
+    private final SoundMixer mixer;
+
+    /**
+     * Constructs an AssetPreloader for the game's manifest.
+     *
+     * @param mixer The mixer that will play the sound effects.
+     */
+    public AssetPreloader(SoundMixer mixer) {
+        this(AssetManifest.IMAGE_PATHS, AssetManifest.FONT_PATHS, AssetManifest.SOUND_EFFECTS, mixer);
+    }
+
+    /**
+     * Constructs an AssetPreloader for a custom set of assets.
+     *
+     * @param imagePaths   The images to decode.
+     * @param fontPaths    The fonts to register.
+     * @param soundEffects The sound effects to load.
+     * @param mixer        The mixer that will play the sound effects.
+     */
+    public AssetPreloader(List<String> imagePaths, List<String> fontPaths, List<SoundEffect> soundEffects, SoundMixer mixer) {
+        this.imagePaths = imagePaths;
+        this.fontPaths = fontPaths;
+        this.soundEffects = soundEffects;
+        this.mixer = mixer;
+        updateMessage("Loading...");
+    }
+
+    /**
+     * Checks every resource, then loads them one by one off the FX thread.
+     *
+     * @return Nothing.
+     * @throws IllegalStateException if any resource is missing.
+     */
+    @Override
+    protected Void call() {
+        checkResourcesExist();
+
+        int total = imagePaths.size() + fontPaths.size() + soundEffects.size();
+        int done = 0;
+        for (String path : imagePaths) {
+            if (isCancelled()) {
+                return null;
+            }
+            updateMessage("Loading " + path);
+            ImageCache.get(path);
+            updateProgress(++done, total);
+        }
+        for (String path : fontPaths) {
+            if (isCancelled()) {
+                return null;
+            }
+            updateMessage("Loading " + path);
+            FontCache.get(path, FONT_PRELOAD_SIZE);
+            updateProgress(++done, total);
+        }
+        for (SoundEffect effect : soundEffects) {
+            if (isCancelled()) {
+                return null;
+            }
+            updateMessage("Loading " + effect.getPath());
+            mixer.loadClip(effect);
+            updateProgress(++done, total);
+        }
+        updateMessage("Ready");
+        return null;
+    }
+
+    /**
+     * Checks that every resource in the manifest exists before loading any of them.
+     *
+     * @throws IllegalStateException listing every missing resource.
+     */
+    private void checkResourcesExist() {
+        List<String> missing = new ArrayList<>();
+        for (String path : imagePaths) {
+            addIfMissing(path, missing);
+        }
+        for (String path : fontPaths) {
+            addIfMissing(path, missing);
+        }
+        for (SoundEffect effect : soundEffects) {
+            addIfMissing(effect.getPath(), missing);
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Missing resources: " + missing);
+        }
+    }
+
+    /**
+     * Adds a resource path to a list if it cannot be found.
+     *
+     * @param path    The resource path.
+     * @param missing The list of missing paths.
+     */
+    private void addIfMissing(String path, List<String> missing) {
+        if (AssetPreloader.class.getResource(path) == null) {
+            missing.add(path);
+        }
+    }
+
+    /**
+     * Creates the sound effect voices on the FX thread once everything is loaded.
+     */
+    @Override
+    protected void succeeded() {
+        mixer.preload();
+    }
+
+    /**
+     * Reports why preloading failed. Assets not loaded here are loaded on first use instead.
+     */
+    @Override
+    protected void failed() {
+        mixer.preload();
+        System.err.println("Asset preloading failed: " + getException().getMessage());
+        updateMessage(getException().getMessage());
+    }
+}
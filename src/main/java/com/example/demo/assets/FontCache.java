@@ -0,0 +1,101 @@
+package com.example.demo.assets;
+
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.example.demo.events.AssetLoadEvent;
+
+import javafx.scene.text.Font;
+
+/**
+ * Shared registry of fonts, keyed by resource path and size.
+ * Each font file is read and registered with JavaFX once. Other sizes are derived from
+ * the registered font by name, so opening a screen again never touches the classpath.
+ */
+public final class FontCache {
+
+    private static final String FALLBACK_FAMILY = "Arial";
+    //Marks a font file that could not be loaded, so it is not retried
+    private static final String MISSING = "";
+
+    private static final Map<String, String> FONT_NAMES = new ConcurrentHashMap<>();
+    private static final Map<String, Font> FONTS = new ConcurrentHashMap<>();
+    private static final AtomicLong FILE_LOADS = new AtomicLong();
+
+    private FontCache() {
+
+    }
+
+    /**
+     * Gets a font at a size, loading its file the first time it is asked for.
+     * Falls back to Arial if the file is missing or cannot be read.
+     *
+     * @param resourcePath The absolute resource path, e.g. "/com/example/demo/fonts/pixelFont.ttf".
+     * @param size         The font size in points.
+     * @return The shared font.
+     */
+    public static Font get(String resourcePath, double size) {
+        return FONTS.computeIfAbsent(resourcePath + "@" + size, key -> {
+            String name = FONT_NAMES.computeIfAbsent(resourcePath, path -> loadFontName(path, size));
+            if (name.equals(MISSING)) {
+                return Font.font(FALLBACK_FAMILY, size);
+            }
+            return new Font(name, size);
+        });
+    }
+
+    /**
+     * Reads a font file and registers it with JavaFX.
+     *
+     * @param resourcePath The absolute resource path.
+     * @param size         The size to load the font at.
+     * @return The name of the registered font, or MISSING if it could not be loaded.
+     */
+    private static String loadFontName(String resourcePath, double size) {
+        FILE_LOADS.incrementAndGet();
+        URL url = FontCache.class.getResource(resourcePath);
+        if (url == null) {
+            System.err.println("Font not found: " + resourcePath);
+            return MISSING;
+        }
+        AssetLoadEvent event = new AssetLoadEvent();
+        event.begin();
+        Font font = Font.loadFont(url.toExternalForm(), size);
+        AssetLoadEvent.commitIfEnabled(event, resourcePath, "font", font != null);
+        if (font == null) {
+            System.err.println("Error loading font: " + resourcePath);
+            return MISSING;
+        }
+        return font.getName();
+    }
+
+    /**
+     * Gets the number of times a font file has been read.
+     *
+     * @return The file load count.
+     */
+    public static long getFileLoadCount() {
+        return FILE_LOADS.get();
+    }
+
+    /**
+     * Gets the number of cached font sizes.
+     *
+     * @return The number of entries.
+     */
+    public static int size() {
+        return FONTS.size();
+    }
+
+    /**
+     * Removes every font and resets the statistics.
+     * Fonts already registered with JavaFX stay registered.
+     */
+    public static void clear() {
+        FONTS.clear();
+        FONT_NAMES.clear();
+        FILE_LOADS.set(0);
+    }
+}
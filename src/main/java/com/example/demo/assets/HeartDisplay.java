@@ -1,6 +1,5 @@
 package com.example.demo.assets;
 
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 
@@ -59,7 +58,7 @@ public class HeartDisplay {
 		// Add hearts based on the count
 		for (int i = 0; i < hearts; i++) {
 			try {
-				ImageView heartImage = new ImageView(new Image(getClass().getResource(HEART_IMAGE_NAME).toExternalForm()));
+				ImageView heartImage = new ImageView(ImageCache.get(HEART_IMAGE_NAME));
 				heartImage.setFitHeight(HEART_HEIGHT);
 				heartImage.setPreserveRatio(true);
 				heartContainer.getChildren().add(heartImage);
@@ -82,7 +81,7 @@ public class HeartDisplay {
      * Adds a heart to the heart container.
      */
     public void addHeart() {
-        ImageView heart = new ImageView(new Image(getClass().getResource(HEART_IMAGE_NAME).toExternalForm()));
+        ImageView heart = new ImageView(ImageCache.get(HEART_IMAGE_NAME));
         heart.setFitHeight(HEART_HEIGHT);
         heart.setPreserveRatio(true);
         heartContainer.getChildren().add(heart);
@@ -0,0 +1,128 @@
+package com.example.demo.assets;
+
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.example.demo.events.AssetLoadEvent;
+
+import javafx.scene.image.Image;
+
+/**
+ * Shared cache of decoded images, keyed by resource path and requested size.
+ * Every sprite and screen asks here instead of decoding its own copy,
+ * so each PNG is read once however many actors or hearts show it.
+ */
+public final class ImageCache {
+
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private static final Map<String, Image> IMAGES = new ConcurrentHashMap<>();
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+    private static final AtomicLong BYTES_HELD = new AtomicLong();
+
+    private ImageCache() {
+
+    }
+
+    /**
+     * Gets an image at its natural size.
+     *
+     * @param resourcePath The absolute resource path, e.g. "/com/example/demo/images/hearts.png".
+     * @return The shared image.
+     * @throws NullPointerException if the resource does not exist.
+     */
+    public static Image get(String resourcePath) {
+        return get(resourcePath, 0, 0, false);
+    }
+
+    /**
+     * Gets an image decoded at a requested size.
+     * Decoding at the displayed size saves memory for large backgrounds.
+     *
+     * @param resourcePath    The absolute resource path.
+     * @param requestedWidth  The width to decode at, or 0 for the natural width.
+     * @param requestedHeight The height to decode at, or 0 for the natural height.
+     * @param preserveRatio   Whether to keep the aspect ratio when scaling.
+     * @return The shared image.
+     * @throws NullPointerException if the resource does not exist.
+     */
+    public static Image get(String resourcePath, double requestedWidth, double requestedHeight, boolean preserveRatio) {
+        String key = requestedWidth == 0 && requestedHeight == 0
+                ? resourcePath
+                : resourcePath + "@" + requestedWidth + "x" + requestedHeight + (preserveRatio ? "r" : "");
+        Image image = IMAGES.get(key);
+        if (image != null) {
+            HITS.incrementAndGet();
+            return image;
+        }
+        MISSES.incrementAndGet();
+        URL url = ImageCache.class.getResource(resourcePath);
+        if (url == null) {
+            throw new NullPointerException("Image not found: " + resourcePath);
+        }
+        AssetLoadEvent event = new AssetLoadEvent();
+        event.begin();
+        image = new Image(url.toExternalForm(), requestedWidth, requestedHeight, preserveRatio, true);
+        AssetLoadEvent.commitIfEnabled(event, key, "image", !image.isError());
+        if (image.isError()) {
+            //Do not keep failed loads, so a later call can retry
+            System.err.println("Failed to load image: " + resourcePath);
+            return image;
+        }
+        Image existing = IMAGES.putIfAbsent(key, image);
+        if (existing != null) {
+            return existing;
+        }
+        BYTES_HELD.addAndGet((long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL);
+        return image;
+    }
+
+    /**
+     * Gets the number of requests served from the cache.
+     *
+     * @return The hit count.
+     */
+    public static long getHitCount() {
+        return HITS.get();
+    }
+
+    /**
+     * Gets the number of requests that had to decode an image.
+     *
+     * @return The miss count.
+     */
+    public static long getMissCount() {
+        return MISSES.get();
+    }
+
+    /**
+     * Gets the approximate memory held by the cached pixels.
+     *
+     * @return The number of bytes, counting four bytes per pixel.
+     */
+    public static long getBytesHeld() {
+        return BYTES_HELD.get();
+    }
+
+    /**
+     * Gets the number of cached images.
+     *
+     * @return The number of entries.
+     */
+    public static int size() {
+        return IMAGES.size();
+    }
+
+    /**
+     * Removes every image and resets the statistics.
+     */
+    public static void clear() {
+        IMAGES.clear();
+        HITS.set(0);
+        MISSES.set(0);
+        BYTES_HELD.set(0);
+    }
+}
@@ -1,6 +1,6 @@
 package com.example.demo.assets;
 
-import javafx.scene.image.Image;
+import javafx.application.Platform;
 import javafx.scene.image.ImageView;
 
 /**
@@ -11,6 +11,8 @@ public class ShieldImage extends ImageView {
 	
 	private static final String IMAGE_NAME = "/images/shield.png";
 	public static final int SHIELD_SIZE = 200;
+	//Set by the boss, which may tick off the FX thread; the node follows in syncVisibility()
+	private volatile boolean shown;
 	
 	/**
      * Constructs a ShieldImage with the initial position.
@@ -21,7 +23,7 @@ public class ShieldImage extends ImageView {
 	public ShieldImage(double xPosition, double yPosition) {
 		this.setLayoutX(xPosition);
 		this.setLayoutY(yPosition);
-		this.setImage(new Image(getClass().getResource("/com/example/demo/images/shield.png").toExternalForm()));
+		this.setImage(ImageCache.get("/com/example/demo/images/shield.png"));
 		this.setVisible(false);
 		this.setFitHeight(SHIELD_SIZE);
 		this.setFitWidth(SHIELD_SIZE);
@@ -29,16 +31,48 @@ public class ShieldImage extends ImageView {
 
 	/**
      * Allows the shield visible on the screen.
+	 * Off the FX thread, the node is shown on the next {@link #syncVisibility()}.
      */
 	public void showShield() {
-		this.setVisible(true);
+		setShown(true);
 	}
 	
 	/**
      * Hides the shield from the screen.
+	 * Off the FX thread, the node is hidden on the next {@link #syncVisibility()}.
      */
 	public void hideShield() {
-		this.setVisible(false);
+		setShown(false);
+	}
+
+	/**
+     * Checks if the shield is up, whether or not the node has caught up yet.
+     *
+     * @return True if the shield is shown, false otherwise.
+     */
+	public boolean isShieldShown() {
+		return shown;
+	}
+
+	/**
+     * Shows or hides the node to match the shield. Must be called on the FX thread.
+     */
+	public void syncVisibility() {
+		if (isVisible() != shown) {
+			setVisible(shown);
+		}
+	}
+
+	/**
+     * Records whether the shield is up, and updates the node straight away on the FX thread.
+     *
+     * @param shown True to show the shield, false to hide it.
+     */
+	private void setShown(boolean shown) {
+		this.shown = shown;
+		if (Platform.isFxApplicationThread()) {
+			setVisible(shown);
+		}
 	}
 
 }
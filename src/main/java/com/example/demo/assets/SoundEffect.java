@@ -0,0 +1,56 @@
+package com.example.demo.assets;
+
+/**
+ * The sound effects played through the {@link SoundMixer}.
+ * Each effect has a limit on how many copies may play at once,
+ * and a priority used when the mixer has to steal a voice.
+ */
+public enum SoundEffect {
+
+    SHOOTING("/com/example/demo/audios/shooting.wav", 3, 0),
+    BOMB("/com/example/demo/audios/bomb.mp3", 2, 1);
+
+    private final String path;
+    private final int maxVoices;
+    private final int priority;
+
+    /**
+     * Constructs a SoundEffect.
+     *
+     * @param path      The resource path of the audio file.
+     * @param maxVoices The number of copies that may play at once.
+     * @param priority  Higher priority effects may steal voices from lower ones.
+     */
+    SoundEffect(String path, int maxVoices, int priority) {
+        this.path = path;
+        this.maxVoices = maxVoices;
+        this.priority = priority;
+    }
+
+    /**
+     * Gets the resource path of the audio file.
+     *
+     * @return The resource path.
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Gets the number of copies that may play at once.
+     *
+     * @return The per-effect voice limit.
+     */
+    public int getMaxVoices() {
+        return maxVoices;
+    }
+
+    /**
+     * Gets the priority used for voice stealing.
+     *
+     * @return The priority, higher wins.
+     */
+    public int getPriority() {
+        return priority;
+    }
+}
@@ -0,0 +1,402 @@
+package com.example.demo.assets;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import com.example.demo.events.AssetLoadEvent;
+
+import javafx.scene.media.AudioClip;
+import javafx.scene.media.MediaException;
+
+/**
+ * Plays sound effects from a bounded pool of voices.
+ * Each voice is an audio clip bound to one effect and reused for every play of that effect.
+ * Clips are decoded into memory once, so short effects start without the delay of seeking a media player.
+ * When an effect is already at its own limit, its oldest voice is restarted.
+ * When the whole pool is busy, a voice is stolen from the lowest priority effect that is
+ * not above the new one, or the new sound is dropped.
+ * Clips are only created in {@link #preload()} or when the pool grows, and are released
+ * when a voice is reassigned or in {@link #dispose()}.
+ */
+public class SoundMixer {
+
+    private static final int MAX_VOICES = 8;
+
+    private final int maxVoices;
+    private final Function<SoundEffect, Voice> voiceFactory;
+    private final List<Channel> channels = new ArrayList<>();
+    //Decoded on the preloader thread and handed to the first voice of each effect on the FX thread
+    private final Map<SoundEffect, AudioClip> preloadedClips = new ConcurrentHashMap<>();
+    private final Set<SoundEffect> unavailable = EnumSet.noneOf(SoundEffect.class);
+    private double volume = 1.0;
+    private long playCount;
+    private long stolenCount;
+
+    /**
+     * A single playback voice bound to one sound effect.
+     */
+    interface Voice {
+
+        /**
+         * Plays the sound from the start, restarting it if it is already playing.
+         *
+         * @param volume The playback volume, from 0 to 1.
+         */
+        void play(double volume);
+
+        /**
+         * Stops playback.
+         */
+        void stop();
+
+        /**
+         * Releases the native resources of the voice. It must not be used afterwards.
+         */
+        void dispose();
+
+        /**
+         * Checks if the voice is playing.
+         *
+         * @return True if the sound has not finished, false otherwise.
+         */
+        boolean isPlaying();
+    }
+
+    /**
+     * A slot in the pool: a voice, its effect, and when it last started.
+     */
+    private static final class Channel {
+        private final SoundEffect effect;
+        private final Voice voice;
+        private long startedAt;
+
+        private Channel(SoundEffect effect, Voice voice) {
+            this.effect = effect;
+            this.voice = voice;
+        }
+    }
+
+    /**
+     * Holds the single instance. The class is only loaded, and the mixer only made,
+     * on the first call to {@link #getInstance()}, and class loading publishes it safely to every thread.
+     */
+    private static final class Holder {
+        private static final SoundMixer INSTANCE = new SoundMixer(MAX_VOICES, null);
+    }
+
+    /**
+     * Gets the single instance of the SoundMixer.
+     *
+     * @return The shared mixer.
+     */
+    public static SoundMixer getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Constructs a SoundMixer.
+     *
+     * @param maxVoices    The number of voices that may exist at once.
+     * @param voiceFactory Creates a voice for an effect, or null to use audio clips.
+     * @throws IllegalArgumentException if the voice limit is not positive.
+     */
+    SoundMixer(int maxVoices, Function<SoundEffect, Voice> voiceFactory) {
+        if (maxVoices <= 0) {
+            throw new IllegalArgumentException("Voice limit must be positive: " + maxVoices);
+        }
+        this.maxVoices = maxVoices;
+        this.voiceFactory = voiceFactory != null ? voiceFactory : this::createClipVoice;
+    }
+
+    /**
+     * Loads every effect and creates one voice for each, so the first play does not stall.
+     */
+    public void preload() {
+        for (SoundEffect effect : SoundEffect.values()) {
+            if (channels.size() >= maxVoices) {
+                return;
+            }
+            if (!hasChannel(effect)) {
+                createChannel(effect);
+            }
+        }
+    }
+
+    /**
+     * Plays a sound effect.
+     *
+     * @param effect The effect to play.
+     * @return True if the effect is playing, false if it was dropped or could not be loaded.
+     */
+    public boolean play(SoundEffect effect) {
+        if (unavailable.contains(effect)) {
+            return false;
+        }
+        Channel channel = pickChannel(effect);
+        if (channel == null) {
+            return false;
+        }
+        channel.startedAt = ++playCount;
+        channel.voice.play(volume);
+        return true;
+    }
+
+    /**
+     * Chooses the voice for a new play of an effect.
+     *
+     * @param effect The effect to play.
+     * @return The channel to play on, or null if the sound should be dropped.
+     */
+    private Channel pickChannel(SoundEffect effect) {
+        int playing = 0;
+        Channel idleSame = null;
+        Channel oldestSame = null;
+        Channel idleOther = null;
+        Channel victim = null;
+        for (Channel channel : channels) {
+            boolean busy = channel.voice.isPlaying();
+            if (channel.effect == effect) {
+                if (!busy) {
+                    idleSame = idleSame == null ? channel : idleSame;
+                } else {
+                    playing++;
+                    if (oldestSame == null || channel.startedAt < oldestSame.startedAt) {
+                        oldestSame = channel;
+                    }
+                }
+            } else if (!busy) {
+                idleOther = idleOther == null ? channel : idleOther;
+            } else if (channel.effect.getPriority() <= effect.getPriority() && isBetterVictim(channel, victim)) {
+                victim = channel;
+            }
+        }
+
+        if (playing >= effect.getMaxVoices()) {
+            stolenCount++;
+            return oldestSame;
+        }
+        if (idleSame != null) {
+            return idleSame;
+        }
+        if (channels.size() < maxVoices) {
+            return createChannel(effect);
+        }
+        if (idleOther != null) {
+            return replaceChannel(idleOther, effect);
+        }
+        if (victim != null) {
+            stolenCount++;
+            return replaceChannel(victim, effect);
+        }
+        return null;
+    }
+
+    /**
+     * Checks if a channel should be stolen before the current choice.
+     * Lower priority goes first, then the one that started earliest.
+     *
+     * @param channel The channel to check.
+     * @param victim  The current choice, may be null.
+     * @return True if the channel is a better choice.
+     */
+    private boolean isBetterVictim(Channel channel, Channel victim) {
+        if (victim == null) {
+            return true;
+        }
+        int priority = channel.effect.getPriority();
+        int victimPriority = victim.effect.getPriority();
+        return priority < victimPriority || (priority == victimPriority && channel.startedAt < victim.startedAt);
+    }
+
+    /**
+     * Checks if any voice is bound to an effect.
+     *
+     * @param effect The effect to check.
+     * @return True if the effect has a voice, false otherwise.
+     */
+    private boolean hasChannel(SoundEffect effect) {
+        for (Channel channel : channels) {
+            if (channel.effect == effect) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Creates a voice for an effect and adds it to the pool.
+     *
+     * @param effect The effect the voice plays.
+     * @return The new channel, or null if the effect could not be loaded.
+     */
+    private Channel createChannel(SoundEffect effect) {
+        Voice voice = voiceFactory.apply(effect);
+        if (voice == null) {
+            unavailable.add(effect);
+            return null;
+        }
+        Channel channel = new Channel(effect, voice);
+        channels.add(channel);
+        return channel;
+    }
+
+    /**
+     * Disposes a voice and gives its place in the pool to another effect.
+     *
+     * @param channel The channel to replace.
+     * @param effect  The effect the new voice plays.
+     * @return The new channel, or null if the effect could not be loaded.
+     */
+    private Channel replaceChannel(Channel channel, SoundEffect effect) {
+        channel.voice.stop();
+        channel.voice.dispose();
+        channels.remove(channel);
+        return createChannel(effect);
+    }
+
+    /**
+     * Decodes an effect ahead of its first play, without creating a voice.
+     * The clip is kept for the first voice of the effect. Safe to call from a background thread.
+     *
+     * @param effect The effect to load.
+     * @return The clip, or null if the audio file could not be loaded.
+     */
+    public AudioClip loadClip(SoundEffect effect) {
+        return preloadedClips.computeIfAbsent(effect, SoundMixer::decodeClip);
+    }
+
+    /**
+     * Reads and decodes the audio file of an effect into a new clip.
+     *
+     * @param effect The effect to load.
+     * @return The clip, or null if the audio file could not be loaded.
+     */
+    private static AudioClip decodeClip(SoundEffect effect) {
+        AssetLoadEvent event = new AssetLoadEvent();
+        event.begin();
+        URL url = SoundMixer.class.getResource(effect.getPath());
+        if (url == null) {
+            System.err.println("Sound file not found: " + effect.getPath());
+            AssetLoadEvent.commitIfEnabled(event, effect.getPath(), "sound", false);
+            return null;
+        }
+        try {
+            AudioClip clip = new AudioClip(url.toExternalForm());
+            AssetLoadEvent.commitIfEnabled(event, effect.getPath(), "sound", true);
+            return clip;
+        } catch (MediaException | IllegalArgumentException e) {
+            System.err.println("Failed to load sound " + effect.getPath() + ": " + e.getMessage());
+            AssetLoadEvent.commitIfEnabled(event, effect.getPath(), "sound", false);
+            return null;
+        }
+    }
+
+    /**
+     * Creates a clip voice for an effect, taking the preloaded clip if there is one.
+     * Every voice has a clip of its own, so each can be told apart when checking what is playing.
+     *
+     * @param effect The effect to play.
+     * @return The voice, or null if the audio file could not be loaded.
+     */
+    private Voice createClipVoice(SoundEffect effect) {
+        AudioClip clip = preloadedClips.remove(effect);
+        if (clip == null) {
+            clip = decodeClip(effect);
+        }
+        return clip != null ? new ClipVoice(clip) : null;
+    }
+
+    /**
+     * Stops every sound and releases every clip.
+     * The mixer can still be used afterwards and will create new voices as needed.
+     */
+    public void dispose() {
+        for (Channel channel : channels) {
+            channel.voice.stop();
+            channel.voice.dispose();
+        }
+        channels.clear();
+    }
+
+    /**
+     * Sets the volume for sounds played from now on.
+     *
+     * @param volume The volume, from 0 to 1.
+     */
+    public void setVolume(double volume) {
+        this.volume = Math.max(0, Math.min(1, volume));
+    }
+
+    /**
+     * Gets the volume for sound effects.
+     *
+     * @return The volume, from 0 to 1.
+     */
+    public double getVolume() {
+        return volume;
+    }
+
+    /**
+     * Gets the number of voices in the pool.
+     *
+     * @return The voice count.
+     */
+    public int getVoiceCount() {
+        return channels.size();
+    }
+
+    /**
+     * Gets the number of times a playing voice was cut off for a new sound.
+     *
+     * @return The stolen voice count.
+     */
+    public long getStolenCount() {
+        return stolenCount;
+    }
+
+    /**
+     * A voice backed by an audio clip that is reused for every play.
+     */
+    private static final class ClipVoice implements Voice {
+
+        private final AudioClip clip;
+
+        /**
+         * Constructs a ClipVoice.
+         *
+         * @param clip The decoded clip to play.
+         */
+        private ClipVoice(AudioClip clip) {
+            this.clip = clip;
+        }
+
+        @Override
+        public void play(double volume) {
+            //A clip plays over itself, so the voice stops first to restart instead
+            clip.stop();
+            clip.play(volume);
+        }
+
+        @Override
+        public void stop() {
+            clip.stop();
+        }
+
+        @Override
+        public void dispose() {
+            //Clips hold no player to release; the decoded audio goes with the last reference
+            clip.stop();
+        }
+
+        @Override
+        public boolean isPlaying() {
+            return clip.isPlaying();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.demo.assets;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * The images actors are drawn with, and the size each is drawn at.
+ * Widths are worked out from the PNG header alone, without decoding the image or starting the FX toolkit,
+ * so game logic, headless runs and the views all use the bounds that are actually drawn.
+ */
+public enum Sprite {
+
+    USER_PLANE("userplane.png", 150),
+    ENEMY_PLANE("enemyplane.png", 150),
+    BOSS("bossplane.png", 300),
+    USER_PROJECTILE("userfire.png", 100),
+    ENEMY_PROJECTILE("enemyFire.png", 50),
+    BOSS_PROJECTILE("fireball.png", 75),
+    BOMB("bomb.png", 150, 150);
+
+    private static final String IMAGE_LOCATION = "/com/example/demo/images/";
+    //The signature, IHDR chunk length and chunk type come before the width and height
+    private static final int PNG_SIZE_OFFSET = 16;
+
+    private final String path;
+    private final double width;
+    private final double height;
+
+    /**
+     * Constructs a Sprite drawn at a fixed height, with the width that keeps the image's aspect ratio.
+     *
+     * @param imageName The name of the PNG file.
+     * @param height    The height to draw the image at.
+     */
+    Sprite(String imageName, double height) {
+        this.path = IMAGE_LOCATION + imageName;
+        this.height = height;
+        int[] size = readPngSize(path);
+        this.width = height * size[0] / size[1];
+    }
+
+    /**
+     * Constructs a Sprite stretched to a fixed size.
+     *
+     * @param imageName The name of the PNG file.
+     * @param width     The width to draw the image at.
+     * @param height    The height to draw the image at.
+     */
+    Sprite(String imageName, double width, double height) {
+        this.path = IMAGE_LOCATION + imageName;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Reads the width and height of a PNG from its header.
+     *
+     * @param path The resource path of the image.
+     * @return The width and height in pixels.
+     * @throws IllegalStateException if the image does not exist.
+     * @throws UncheckedIOException if the header cannot be read.
+     */
+    private static int[] readPngSize(String path) {
+        try (InputStream stream = Sprite.class.getResourceAsStream(path)) {
+            if (stream == null) {
+                throw new IllegalStateException("Image not found: " + path);
+            }
+            DataInputStream data = new DataInputStream(stream);
+            data.skipNBytes(PNG_SIZE_OFFSET);
+            return new int[] {data.readInt(), data.readInt()};
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the size of " + path, e);
+        }
+    }
+
+    /**
+     * Gets the resource path of the image.
+     *
+     * @return The resource path.
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Gets the width the image is drawn at, which is also the width of the actor.
+     *
+     * @return The width.
+     */
+    public double getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the height the image is drawn at, which is also the height of the actor.
+     *
+     * @return The height.
+     */
+    public double getHeight() {
+        return height;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.demo.assets;
+
+import java.net.URL;
+
+import javafx.scene.Scene;
+
+/**
+ * Shared stylesheet for every scene in the game.
+ * The stylesheet URL is resolved once, and JavaFX parses a stylesheet once per URL,
+ * so screens only attach it and set style classes instead of building inline style strings.
+ */
+public final class StyleSheets {
+
+    /** The packaged stylesheet with the button, label and popup style classes. */
+    public static final String GAME_STYLESHEET = "/com/example/demo/styles/game.css";
+
+    /** Grass button used on the pause, shop and win screens. */
+    public static final String GRASS_BUTTON = "grass-button";
+    /** Play button on the main menu. */
+    public static final String PLAY_BUTTON = "play-button";
+    /** Wood button on the main menu. */
+    public static final String WOOD_BUTTON = "wood-button";
+    /** Transparent button showing the X image. */
+    public static final String CLOSE_BUTTON = "close-button";
+    /** Black text for titles, scores and labels. */
+    public static final String DARK_TEXT = "dark-text";
+    /** Green text for earned achievements. */
+    public static final String ACHIEVEMENT_TEXT = "achievement-text";
+    /** Grey text when no achievement was earned. */
+    public static final String NO_ACHIEVEMENT_TEXT = "no-achievement-text";
+    /** Grey message text in popups. */
+    public static final String POPUP_MESSAGE = "popup-message";
+    /** Text on the instructions screen. */
+    public static final String INSTRUCTION_TEXT = "instruction-text";
+    /** Small text under the loading bar. */
+    public static final String PROGRESS_TEXT = "progress-text";
+
+    private static String stylesheetUrl;
+
+    private StyleSheets() {
+
+    }
+
+    /**
+     * Adds the game stylesheet to a scene, unless it is already there.
+     *
+     * @param scene The scene to style.
+     */
+    public static void apply(Scene scene) {
+        String url = getUrl();
+        if (url != null && !scene.getStylesheets().contains(url)) {
+            scene.getStylesheets().add(url);
+        }
+    }
+
+    /**
+     * Gets the external form of the stylesheet URL, resolving it the first time.
+     *
+     * @return The stylesheet URL, or null if the stylesheet is missing.
+     */
+    public static synchronized String getUrl() {
+        if (stylesheetUrl == null) {
+            URL url = StyleSheets.class.getResource(GAME_STYLESHEET);
+            if (url == null) {
+                System.err.println("Stylesheet not found: " + GAME_STYLESHEET);
+                return null;
+            }
+            stylesheetUrl = url.toExternalForm();
+        }
+        return stylesheetUrl;
+    }
+}
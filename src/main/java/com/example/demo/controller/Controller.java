@@ -1,13 +1,22 @@
 package com.example.demo.controller;
 
+import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Observable;
 import java.util.Observer;
 
+import com.example.demo.engine.GameRandom;
+import com.example.demo.engine.LoopMode;
+import com.example.demo.events.LevelTransitionEvent;
 import com.example.demo.levels.LevelParent;
 import com.example.demo.levels.LevelTwo;
+import com.example.demo.replay.Replay;
 import com.example.demo.GameState.GameState;
+import com.example.demo.UI.MainMenu;
 import com.example.demo.UI.PauseScreen;
 import com.example.demo.UI.Shop;
 
@@ -26,21 +35,39 @@ import javafx.stage.Stage;
 public class Controller implements Observer { 
 
 	private static final String LEVEL_ONE_CLASS_NAME = "com.example.demo.levels.LevelOne";
+	private static final int MENU_WIDTH = 1300;
+	private static final int MENU_HEIGHT = 730;
 	private final Stage stage;
 	private Scene mainScene;
 	private LevelParent currentLevel;
 	private boolean isGamePaused = false;
+	//Overlays are built once and reused
+	private PauseScreen pauseScreen;
+	private Shop shop;
 	private static MediaPlayer mediaPlayer; 
 	private double currentVolume = 0.5;
+	//Each level gets its own random source split from this one
+	private final GameRandom random;
+	//Levels record their inputs into this directory when the skybattle.record property is set
+	private final String recordDirectory = System.getProperty("skybattle.record");
+	//Levels tick on their own thread unless the skybattle.fxloop property is set
+	private final boolean tickOnFxThread = Boolean.getBoolean("skybattle.fxloop");
 
 	/**
      * Constructor for the Controller.
      * Set up the game stage and play background music.
+	 * Levels are seeded from the skybattle.seed property when it is set, so a game can be repeated.
+	 * The seed is printed when the skybattle.printseed property is set.
      * 
      * @param stage The primary stage of the application.
      */
 	public Controller(Stage stage) {
 		this.stage = stage;
+		Long seed = Long.getLong("skybattle.seed");
+		this.random = seed != null ? new GameRandom(seed) : new GameRandom();
+		if (Boolean.getBoolean("skybattle.printseed")) {
+			System.out.println("Game seed: " + random.getSeed());
+		}
 		PlayMusic();
 	}
 
@@ -96,7 +123,7 @@ public class Controller implements Observer {
 
 	/**
      * Launches the game.
-	 * Reset the game state and start LevelOne.
+	 * Reset the game progress and start LevelOne. Achievements are kept.
      * 
      * @throws ClassNotFoundException If the class for the level not found.
      * @throws NoSuchMethodException If there is no level constructor.
@@ -107,7 +134,7 @@ public class Controller implements Observer {
 	public void launchGame() throws ClassNotFoundException, NoSuchMethodException, SecurityException,
 			InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException  {
 
-			GameState.getInstance().resetAll();
+			GameState.getInstance().resetProgress();
 			goToLevel(LEVEL_ONE_CLASS_NAME);
 
 
@@ -125,18 +152,152 @@ public class Controller implements Observer {
      */
 	private void goToLevel(String className) throws ClassNotFoundException, NoSuchMethodException, SecurityException,
         InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+        goToLevel(className, random.split(), null, true);
+	}
+
+	 /**
+     * Go to another level, optionally driven by a replay.
+     * 
+     * @param className   The class name of the level.
+     * @param levelRandom The random source for the level.
+     * @param replay      The replay to play, or null to let the player control the level.
+     * @param startGame   True to start the game loop, false if the caller ticks the level itself on the FX thread.
+     * @throws ClassNotFoundException If the level class cannot be found.
+     * @throws NoSuchMethodException If there is no level constructor.
+     * @throws InvocationTargetException If the constructor invocation fails.
+     * @throws InstantiationException If the level instance cannot be created.
+     * @throws IllegalAccessException If there is an illegal access.
+     */
+	private void goToLevel(String className, GameRandom levelRandom, Replay replay, boolean startGame) throws ClassNotFoundException,
+        NoSuchMethodException, SecurityException, InstantiationException, IllegalAccessException,
+        IllegalArgumentException, InvocationTargetException {
+        LevelTransitionEvent event = new LevelTransitionEvent();
+        event.begin();
         Class<?> levelClass = Class.forName(className);
-        Constructor<?> constructor = levelClass.getConstructor(double.class, double.class, Stage.class);
-        currentLevel = (LevelParent) constructor.newInstance(stage.getHeight(), stage.getWidth(), stage);
+        Constructor<?> constructor = levelClass.getConstructor(double.class, double.class, Stage.class, GameRandom.class);
+        LevelParent previousLevel = currentLevel;
+        currentLevel = (LevelParent) constructor.newInstance(stage.getHeight(), stage.getWidth(), stage, levelRandom);
         currentLevel.addObserver(this);
+        currentLevel.setOnReturnToMenu(this::showMainMenu);
+        if (startGame && !tickOnFxThread) {
+            currentLevel.setLoopMode(LoopMode.SIMULATION_THREAD);
+        }
+        if (replay != null) {
+            currentLevel.playReplay(replay);
+        } else if (recordDirectory != null) {
+            currentLevel.startRecording();
+        }
         Scene scene = currentLevel.initializeScene();
 
         // Key handling event for pause screen
         scene.setOnKeyPressed(event -> handleKeyPress(event.getCode()));
         stage.setScene(scene);
-        currentLevel.startGame();
+        //The previous level is off screen now, so release it before the new level starts ticking
+        if (previousLevel != null) {
+            releaseLevel(previousLevel);
+        }
+        if (startGame) {
+            currentLevel.startGame();
+        }
+        if (event.shouldCommit()) {
+            event.fromLevel = previousLevel != null ? previousLevel.getClass().getName() : null;
+            event.toLevel = className;
+            event.commit();
+        }
 }
 
+	/**
+     * Disposes the current level and shows the main menu on the same stage.
+	 * The controller and its music player are reused rather than created again.
+     */
+	public void showMainMenu() {
+		disposeCurrentLevel();
+		returnToMenu();
+		stage.setWidth(MENU_WIDTH);
+		stage.setHeight(MENU_HEIGHT);
+		new MainMenu(stage, this).show();
+	}
+
+	/**
+     * Disposes the current level, if there is one, and forgets it.
+     */
+	private void disposeCurrentLevel() {
+		if (currentLevel != null) {
+			releaseLevel(currentLevel);
+			currentLevel = null;
+		}
+		if (shop != null) {
+			shop.setCurrentLevel(null);
+		}
+		isGamePaused = false;
+	}
+
+	/**
+     * Stops the level, saves its recorded inputs if it was recording, then disposes it.
+	 * The level is stopped first, so no tick on the simulation thread races the end of the recording.
+     *
+     * @param level The level that is no longer shown.
+     */
+	private void releaseLevel(LevelParent level) {
+		level.stopGame();
+		Replay replay = level.stopRecording();
+		if (replay != null) {
+			Path file = Paths.get(recordDirectory, level.getClass().getSimpleName() + "-" + replay.getSeed() + ".sbr");
+			try {
+				Files.createDirectories(file.getParent());
+				replay.save(file);
+				System.out.println("Saved replay to " + file);
+			} catch (IOException e) {
+				System.err.println("Could not save replay " + file + ": " + e.getMessage());
+			}
+		}
+		level.dispose();
+	}
+
+	/**
+     * Plays a recorded level from a replay file.
+	 * In real time the level runs on the game loop as it did when recorded.
+	 * Uncapped, every recorded tick runs at once and the tick rate and profile are printed.
+     *
+     * @param file     The replay file.
+     * @param uncapped True to run as fast as possible, false to run at the recorded tick rate.
+     * @throws IOException If the replay cannot be read.
+     * @throws ReflectiveOperationException If the recorded level cannot be created.
+     */
+	public void playReplay(Path file, boolean uncapped) throws IOException, ReflectiveOperationException {
+		Replay replay = Replay.load(file);
+		GameState.getInstance().resetAll();
+		//Level two starts with the hearts carried over, so restore what the recording started with
+		GameState.getInstance().setLevel2Hearts(replay.getPlayerInitialHealth());
+		//Uncapped replays are ticked here instead of by the game loop
+		goToLevel(replay.getLevelClassName(), new GameRandom(replay.getSeed()), replay, !uncapped);
+		if (uncapped) {
+			long start = System.nanoTime();
+			long ticks = currentLevel.runReplayUncapped();
+			double seconds = (System.nanoTime() - start) / 1e9;
+			System.out.printf("Replayed %d ticks in %.2f s (%.0f ticks/s)%n", ticks, seconds, ticks / seconds);
+			currentLevel.getTickProfiler().dump(file.getFileName().toString());
+		}
+	}
+
+	/**
+     * Releases the level being played, saving its recording if there is one, and stops the music.
+	 * Called when the application exits, so a level still being played is not lost from the recording.
+     */
+	public void shutdown() {
+		disposeCurrentLevel();
+		stopMusic();
+	}
+
+	/**
+     * Gets the level being played.
+     *
+     * @return The current level, or null when no level is running.
+     */
+	LevelParent getCurrentLevel() {
+		return currentLevel;
+	}
+
 	/**
      * Handles key press events for ESCAPE key to pause the game.
      * 
@@ -158,12 +319,18 @@ public class Controller implements Observer {
      * Displays the pause screen and pauses the game.
      */
 	void showPauseScreen() {
+		//Nothing to pause once the level has been disposed
+		if (currentLevel == null) {
+			return;
+		}
 		//Set pause game flag
 		isGamePaused = true;
-		//Pause timeline in current level
+		//Pause game loop in current level
 		currentLevel.pauseGame();
-		//Create pause screen and show the resume and settings options
-        PauseScreen pauseScreen = new PauseScreen(stage, this, this::resumeGame, this::openSettings);
+		//Create the pause screen once and show the resume and settings options
+		if (pauseScreen == null) {
+			pauseScreen = new PauseScreen(stage, this, this::resumeGame, this::openSettings);
+		}
         pauseScreen.show();  //Show the pause screen
     }
 
@@ -173,7 +340,10 @@ public class Controller implements Observer {
 	void resumeGame() {
 		//Clear the game flag
 		isGamePaused = false;
-		//Resume timeline in current level
+		if (currentLevel == null) {
+			return;
+		}
+		//Resume game loop in current level
 		currentLevel.resumeGame();
 		stage.setScene(currentLevel.getScene());
 		
@@ -211,7 +381,11 @@ public class Controller implements Observer {
 	 public void openShop() {
         // Ensure the shop is initialized with the current level
         if (currentLevel instanceof LevelTwo) {
-            Shop shop = new Shop(stage, (LevelTwo) currentLevel); // Pass the currentLevel
+            if (shop == null) {
+                shop = new Shop(stage, currentLevel);
+            } else {
+                shop.setCurrentLevel(currentLevel);
+            }
             shop.show();
         } else {
             System.out.println("Shop is not available for this level.");
@@ -221,15 +395,27 @@ public class Controller implements Observer {
     }
 	/**
      * Returns to the main menu.
-	 * Reset the game state and music.
+	 * Reset the game progress, keeping achievements, and restart the music from the beginning.
      */
 	 public void returnToMenu() {
-        stopMusic(); // Stop the current music
-        PlayMusic(); // Restart the music
-		GameState.getInstance().resetAll();
+		restartMusic();
+		GameState.getInstance().resetProgress();
         System.out.println("Returned to Menu");
     }
 
+	/**
+     * Restarts the background music from the beginning.
+	 * Reuses the existing player instead of creating a new one.
+     */
+	private void restartMusic() {
+		if (mediaPlayer == null) {
+			PlayMusic();
+			return;
+		}
+		mediaPlayer.stop();
+		mediaPlayer.play();
+	}
+
 	
 
 }
\ No newline at end of file
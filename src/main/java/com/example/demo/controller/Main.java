@@ -1,8 +1,16 @@
 package com.example.demo.controller;
 
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Paths;
 
+import com.example.demo.GameState.GameSaver;
+import com.example.demo.GameState.GameState;
+import com.example.demo.GameState.GameStateLogger;
+import com.example.demo.GameState.SaveData;
 import com.example.demo.UI.MainMenu;
+import com.example.demo.assets.AssetPreloader;
+import com.example.demo.assets.SoundMixer;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
@@ -17,10 +25,15 @@ public class Main extends Application {
 	private static final int SCREEN_HEIGHT = 750;
 	private static final String TITLE = "Sky Battle";
 	private Controller myController;
+	private GameSaver gameSaver;
 
 	/**
      * Starting point to run the JavaFX application.
-     * Sets up the main game and main menu.
+     * Sets up the main game and main menu, and preloads assets in the background while the menu shows.
+	 * When the skybattle.replay property names a replay file, that replay is played instead of the menu,
+	 * as fast as possible if skybattle.replay.uncapped is also set.
+	 * Otherwise the saved game state is loaded, and changes to it are saved from then on.
+	 * When skybattle.logstate is set, every change to the game state is printed.
      *
      * @param stage The primary stage for the application.
      * @throws ClassNotFoundException If the Controller class is not found.
@@ -38,12 +51,67 @@ public class Main extends Application {
 		stage.setResizable(false);
 		stage.setHeight(SCREEN_HEIGHT);
 		stage.setWidth(SCREEN_WIDTH);
+		AssetPreloader preloader = new AssetPreloader(SoundMixer.getInstance());
+		Thread preloadThread = new Thread(preloader, "asset-preloader");
+		preloadThread.setDaemon(true);
+		preloadThread.start();
+		if (Boolean.getBoolean("skybattle.logstate")) {
+			GameState.getInstance().addListener(new GameStateLogger());
+		}
 		myController = new Controller(stage);
+		String replayFile = System.getProperty("skybattle.replay");
+		//Replays set up their own state, and must not overwrite the player's save
+		if (replayFile == null) {
+			loadSavedGame();
+		}
+		if (replayFile != null) {
+			stage.show();
+			try {
+				myController.playReplay(Paths.get(replayFile), Boolean.getBoolean("skybattle.replay.uncapped"));
+				return;
+			} catch (IOException | ReflectiveOperationException e) {
+				System.err.println("Could not play replay " + replayFile + ": " + e.getMessage());
+			}
+		}
 		//myController.launchGame();
-		MainMenu mainMenu = new MainMenu(stage, myController);
+		MainMenu mainMenu = new MainMenu(stage, myController, preloader);
         mainMenu.show();
 	}
 
+	/**
+     * Loads the saved game state, then saves every later change in the background.
+	 * A missing save starts from the default state; a damaged one is reported and replaced by the next save.
+     */
+	private void loadSavedGame() {
+		gameSaver = new GameSaver(GameSaver.defaultPath());
+		try {
+			SaveData data = gameSaver.load();
+			if (data != null) {
+				GameState.getInstance().restore(data);
+			}
+		} catch (IOException e) {
+			System.err.println("Could not load save " + gameSaver.getFile() + ": " + e.getMessage());
+		}
+		GameState.getInstance().addListener(gameSaver);
+	}
+
+	/**
+     * Called when the application exits.
+	 * Saves the recording of the level being played, disposes the sound effect voices
+	 * and waits for the last save to be written.
+     */
+	@Override
+	public void stop() {
+		if (myController != null) {
+			myController.shutdown();
+		}
+		SoundMixer.getInstance().dispose();
+		if (gameSaver != null) {
+			GameState.getInstance().removeListener(gameSaver);
+			gameSaver.close();
+		}
+	}
+
 	/**
      * The main method to run the JavaFX application.
      *
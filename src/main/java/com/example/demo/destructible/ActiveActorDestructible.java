@@ -1,6 +1,8 @@
 package com.example.demo.destructible;
 
 import com.example.demo.actors.ActiveActor;
+import com.example.demo.assets.Sprite;
+import com.example.demo.engine.EntityStore;
 
 /**
  * Represents an actor can be destroyed.
@@ -9,32 +11,26 @@ import com.example.demo.actors.ActiveActor;
  */
 public abstract class ActiveActorDestructible extends ActiveActor implements Destructible {
 
-	/** Flag to indicate if actor is destroyed. */
-	private boolean isDestroyed;
-
 	/**
      * Constructs {@code ActiveActorDestructible}.
-     * 
-     * @param imageName The name of the image file.
-     * @param imageHeight The height of the image.
+     *
+     * @param entities The store holding the state of the actor.
+     * @param sprite The sprite the actor is drawn with.
      * @param initialXPos The initial X position of the actor.
      * @param initialYPos The initial Y position of the actor.
      */
-	public ActiveActorDestructible(String imageName, int imageHeight, double initialXPos, double initialYPos) {
-		super(imageName, imageHeight, initialXPos, initialYPos);
-		isDestroyed = false;
+	public ActiveActorDestructible(EntityStore entities, Sprite sprite, double initialXPos, double initialYPos) {
+		super(entities, sprite, initialXPos, initialYPos);
 	}
 
 	/**
-     * Updates the position of the actor.
-     */
-	@Override
-	public abstract void updatePosition();
-
-	/**
-     * Updates the state of the actor.
+     * Constructs {@code ActiveActorDestructible} without an entity, for pools that spawn it when it is used.
+     *
+     * @param sprite The sprite the actor is drawn with.
      */
-	public abstract void updateActor();
+	protected ActiveActorDestructible(Sprite sprite) {
+		super(sprite);
+	}
 
 	/**
      * Updates to allow actor to take damage.
@@ -44,29 +40,21 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 
 	/**
      * Destroy the actor.
-	 * Mark it to {@code true}.
+	 * Flags its entity as destroyed.
      */
 	@Override
 	public void destroy() {
-		setDestroyed(true);
-	}
-
-	/**
-     * Sets state of the destroyed actors.
-     *	
-     * @param isDestroyed {@code true} if actor is destroyed, {@code false} otherwise.
-     */
-	protected void setDestroyed(boolean isDestroyed) {
-		this.isDestroyed = isDestroyed;
+		getEntities().setFlag(getId(), EntityStore.FLAG_DESTROYED);
 	}
 
 	 /**
      * Checks if the actor is destroyed.
+	 * An actor whose entity was given back counts as destroyed.
      *
      * @return {@code true} if the actor is destroyed, {@code false} otherwise.
      */
 	public boolean isDestroyed() {
-		return isDestroyed;
+		return isReleased() || getEntities().hasFlag(getId(), EntityStore.FLAG_DESTROYED);
 	}
-	
+
 }
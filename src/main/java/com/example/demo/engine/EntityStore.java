@@ -0,0 +1,381 @@
+package com.example.demo.engine;
+
+import java.util.Arrays;
+
+/**
+ * Structure-of-arrays store for the state of every entity in a game.
+ * Each entity is an index into parallel primitive arrays for position, size, velocity,
+ * health, type and flags, so per-tick loops walk contiguous memory instead of objects.
+ *
+ * <p>Removed entities are released, then recycled at a safe point chosen by the owner,
+ * so handles that are still read later in the same tick see consistent data.</p>
+ */
+public class EntityStore {
+
+    /** The slot holds a live entity. */
+    public static final byte FLAG_ACTIVE = 1;
+    /** The entity has been destroyed. */
+    public static final byte FLAG_DESTROYED = 1 << 1;
+    /** The entity is destroyed once it leaves the playfield. */
+    public static final byte FLAG_CULL_OFFSCREEN = 1 << 2;
+
+    private double[] x;
+    private double[] y;
+    //Position at the start of the current tick, for drawing between ticks
+    private double[] previousX;
+    private double[] previousY;
+    private double[] velocityX;
+    private double[] velocityY;
+    private double[] width;
+    private double[] height;
+    private int[] health;
+    private byte[] type;
+    private byte[] flags;
+
+    private int highWater;
+    private int size;
+    private int[] freeIds;
+    private int freeCount;
+    private int[] releasedIds;
+    private int releasedCount;
+
+    /**
+     * Constructs an EntityStore.
+     *
+     * @param initialCapacity The number of entities to allocate room for up front.
+     * @throws IllegalArgumentException if the capacity is not positive.
+     */
+    public EntityStore(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + initialCapacity);
+        }
+        x = new double[initialCapacity];
+        y = new double[initialCapacity];
+        previousX = new double[initialCapacity];
+        previousY = new double[initialCapacity];
+        velocityX = new double[initialCapacity];
+        velocityY = new double[initialCapacity];
+        width = new double[initialCapacity];
+        height = new double[initialCapacity];
+        health = new int[initialCapacity];
+        type = new byte[initialCapacity];
+        flags = new byte[initialCapacity];
+        freeIds = new int[initialCapacity];
+        releasedIds = new int[initialCapacity];
+    }
+
+    /**
+     * Creates an entity, reusing a recycled slot if there is one.
+     *
+     * @param entityType The type code of the entity.
+     * @param x          The X-coordinate of the top left corner.
+     * @param y          The Y-coordinate of the top left corner.
+     * @param width      The width of the entity.
+     * @param height     The height of the entity.
+     * @param velocityX  The horizontal distance moved per tick.
+     * @param velocityY  The vertical distance moved per tick.
+     * @param health     The initial health.
+     * @return The id of the new entity.
+     */
+    public int create(byte entityType, double x, double y, double width, double height,
+                      double velocityX, double velocityY, int health) {
+        int id;
+        if (freeCount > 0) {
+            id = freeIds[--freeCount];
+        } else {
+            if (highWater == this.x.length) {
+                grow();
+            }
+            id = highWater++;
+        }
+        this.x[id] = x;
+        this.y[id] = y;
+        this.previousX[id] = x;
+        this.previousY[id] = y;
+        this.width[id] = width;
+        this.height[id] = height;
+        this.velocityX[id] = velocityX;
+        this.velocityY[id] = velocityY;
+        this.health[id] = health;
+        this.type[id] = entityType;
+        this.flags[id] = FLAG_ACTIVE;
+        size++;
+        return id;
+    }
+
+    /**
+     * Releases an entity. Its slot is reused only after the next {@link #recycle()}.
+     * Releasing an entity that is not live does nothing.
+     *
+     * @param id The entity to release.
+     */
+    public void release(int id) {
+        if ((flags[id] & FLAG_ACTIVE) == 0) {
+            return;
+        }
+        flags[id] &= ~FLAG_ACTIVE;
+        size--;
+        if (releasedCount == releasedIds.length) {
+            releasedIds = Arrays.copyOf(releasedIds, releasedCount * 2);
+        }
+        releasedIds[releasedCount++] = id;
+    }
+
+    /**
+     * Makes every released slot available to {@link #create}.
+     */
+    public void recycle() {
+        if (freeCount + releasedCount > freeIds.length) {
+            freeIds = Arrays.copyOf(freeIds, Math.max(freeIds.length * 2, freeCount + releasedCount));
+        }
+        System.arraycopy(releasedIds, 0, freeIds, freeCount, releasedCount);
+        freeCount += releasedCount;
+        releasedCount = 0;
+    }
+
+    /**
+     * Remembers the position of every live entity as the start point for drawing between ticks.
+     * Called at the beginning of every tick.
+     */
+    public void savePositions() {
+        System.arraycopy(x, 0, previousX, 0, highWater);
+        System.arraycopy(y, 0, previousY, 0, highWater);
+    }
+
+    /**
+     * Moves every live entity by its velocity.
+     */
+    public void integrate() {
+        for (int i = 0; i < highWater; i++) {
+            if ((flags[i] & FLAG_ACTIVE) != 0) {
+                x[i] += velocityX[i];
+                y[i] += velocityY[i];
+            }
+        }
+    }
+
+    /**
+     * Destroys every live entity flagged for culling that lies fully outside an area.
+     *
+     * @param minX The left edge of the area.
+     * @param minY The top edge of the area.
+     * @param maxX The right edge of the area.
+     * @param maxY The bottom edge of the area.
+     * @return The number of entities destroyed.
+     */
+    public int destroyOutside(double minX, double minY, double maxX, double maxY) {
+        int destroyed = 0;
+        for (int i = 0; i < highWater; i++) {
+            byte f = flags[i];
+            if ((f & FLAG_ACTIVE) == 0 || (f & FLAG_CULL_OFFSCREEN) == 0 || (f & FLAG_DESTROYED) != 0) {
+                continue;
+            }
+            if (x[i] + width[i] < minX || x[i] > maxX || y[i] + height[i] < minY || y[i] > maxY) {
+                flags[i] |= FLAG_DESTROYED;
+                destroyed++;
+            }
+        }
+        return destroyed;
+    }
+
+    /**
+     * Grows every array to twice its size.
+     */
+    private void grow() {
+        int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        previousX = Arrays.copyOf(previousX, capacity);
+        previousY = Arrays.copyOf(previousY, capacity);
+        velocityX = Arrays.copyOf(velocityX, capacity);
+        velocityY = Arrays.copyOf(velocityY, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        health = Arrays.copyOf(health, capacity);
+        type = Arrays.copyOf(type, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+    }
+
+    /**
+     * Gets the X-coordinate of an entity.
+     *
+     * @param id The entity.
+     * @return The X-coordinate of the top left corner.
+     */
+    public double getX(int id) {
+        return x[id];
+    }
+
+    /**
+     * Gets the Y-coordinate of an entity.
+     *
+     * @param id The entity.
+     * @return The Y-coordinate of the top left corner.
+     */
+    public double getY(int id) {
+        return y[id];
+    }
+
+    /**
+     * Moves an entity.
+     *
+     * @param id The entity.
+     * @param x  The new X-coordinate.
+     * @param y  The new Y-coordinate.
+     */
+    public void setPosition(int id, double x, double y) {
+        this.x[id] = x;
+        this.y[id] = y;
+    }
+
+    /**
+     * Gets the X-coordinate of an entity at the start of the current tick.
+     *
+     * @param id The entity.
+     * @return The X-coordinate saved by the last {@link #savePositions()}, or where the entity was created.
+     */
+    public double getPreviousX(int id) {
+        return previousX[id];
+    }
+
+    /**
+     * Gets the Y-coordinate of an entity at the start of the current tick.
+     *
+     * @param id The entity.
+     * @return The Y-coordinate saved by the last {@link #savePositions()}, or where the entity was created.
+     */
+    public double getPreviousY(int id) {
+        return previousY[id];
+    }
+
+    /**
+     * Gets the width of an entity.
+     *
+     * @param id The entity.
+     * @return The width.
+     */
+    public double getWidth(int id) {
+        return width[id];
+    }
+
+    /**
+     * Gets the height of an entity.
+     *
+     * @param id The entity.
+     * @return The height.
+     */
+    public double getHeight(int id) {
+        return height[id];
+    }
+
+    /**
+     * Gets the horizontal velocity of an entity.
+     *
+     * @param id The entity.
+     * @return The distance moved per tick along the X-axis.
+     */
+    public double getVelocityX(int id) {
+        return velocityX[id];
+    }
+
+    /**
+     * Gets the vertical velocity of an entity.
+     *
+     * @param id The entity.
+     * @return The distance moved per tick along the Y-axis.
+     */
+    public double getVelocityY(int id) {
+        return velocityY[id];
+    }
+
+    /**
+     * Sets the velocity of an entity.
+     *
+     * @param id        The entity.
+     * @param velocityX The distance to move per tick along the X-axis.
+     * @param velocityY The distance to move per tick along the Y-axis.
+     */
+    public void setVelocity(int id, double velocityX, double velocityY) {
+        this.velocityX[id] = velocityX;
+        this.velocityY[id] = velocityY;
+    }
+
+    /**
+     * Gets the health of an entity.
+     *
+     * @param id The entity.
+     * @return The current health.
+     */
+    public int getHealth(int id) {
+        return health[id];
+    }
+
+    /**
+     * Sets the health of an entity.
+     *
+     * @param id     The entity.
+     * @param health The new health.
+     */
+    public void setHealth(int id, int health) {
+        this.health[id] = health;
+    }
+
+    /**
+     * Gets the type code of an entity.
+     *
+     * @param id The entity.
+     * @return The type code given when it was created.
+     */
+    public byte getType(int id) {
+        return type[id];
+    }
+
+    /**
+     * Checks if an entity has a flag set.
+     *
+     * @param id   The entity.
+     * @param flag The flag to check.
+     * @return True if the flag is set, false otherwise.
+     */
+    public boolean hasFlag(int id, byte flag) {
+        return (flags[id] & flag) != 0;
+    }
+
+    /**
+     * Sets a flag on an entity.
+     *
+     * @param id   The entity.
+     * @param flag The flag to set.
+     */
+    public void setFlag(int id, byte flag) {
+        flags[id] |= flag;
+    }
+
+    /**
+     * Clears a flag on an entity.
+     *
+     * @param id   The entity.
+     * @param flag The flag to clear.
+     */
+    public void clearFlag(int id, byte flag) {
+        flags[id] &= ~flag;
+    }
+
+    /**
+     * Gets the number of live entities.
+     *
+     * @return The live entity count.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of slots the arrays can hold before growing.
+     *
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return x.length;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.demo.engine;
+
+/**
+ * Fixed-step accumulator for the game loop.
+ * Converts elapsed wall-clock time into a whole number of simulation ticks
+ * and the leftover fraction used to interpolate rendering between ticks.
+ */
+public class FixedTimestep {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final long stepNanos;
+    private final int maxStepsPerFrame;
+    private long accumulator;
+    private long droppedSteps;
+
+    /**
+     * Constructs a FixedTimestep.
+     *
+     * @param ticksPerSecond   Number of simulation ticks per second.
+     * @param maxStepsPerFrame Maximum number of catch-up ticks run in a single frame.
+     * @throws IllegalArgumentException if either value is not positive.
+     */
+    public FixedTimestep(int ticksPerSecond, int maxStepsPerFrame) {
+        if (ticksPerSecond <= 0) {
+            throw new IllegalArgumentException("Tick rate must be positive: " + ticksPerSecond);
+        }
+        if (maxStepsPerFrame <= 0) {
+            throw new IllegalArgumentException("Max steps per frame must be positive: " + maxStepsPerFrame);
+        }
+        this.stepNanos = NANOS_PER_SECOND / ticksPerSecond;
+        this.maxStepsPerFrame = maxStepsPerFrame;
+    }
+
+    /**
+     * Adds elapsed time and returns how many ticks should run now.
+     * If more than the catch-up cap is owed, the extra time is dropped so a long hitch
+     * does not turn into a burst of ticks.
+     *
+     * @param elapsedNanos Time since the previous frame in nanoseconds.
+     * @return The number of ticks to run this frame.
+     */
+    public int advance(long elapsedNanos) {
+        if (elapsedNanos > 0) {
+            accumulator += elapsedNanos;
+        }
+        int steps = (int) Math.min(accumulator / stepNanos, maxStepsPerFrame);
+        accumulator -= steps * stepNanos;
+        if (accumulator >= stepNanos) {
+            droppedSteps += accumulator / stepNanos;
+            accumulator %= stepNanos;
+        }
+        return steps;
+    }
+
+    /**
+     * Gets how far the current frame is between the last tick and the next one.
+     *
+     * @return A value in [0, 1) used to interpolate actor positions.
+     */
+    public double getAlpha() {
+        return (double) accumulator / stepNanos;
+    }
+
+    /**
+     * Gets how long until the next tick is owed.
+     *
+     * @return The time left in the current tick in nanoseconds.
+     */
+    public long getNanosUntilNextStep() {
+        return stepNanos - accumulator;
+    }
+
+    /**
+     * Clears any time owed, used when the loop is started or resumed.
+     */
+    public void reset() {
+        accumulator = 0;
+    }
+
+    /**
+     * Gets the length of one tick.
+     *
+     * @return The tick length in nanoseconds.
+     */
+    public long getStepNanos() {
+        return stepNanos;
+    }
+
+    /**
+     * Gets the number of ticks skipped because the catch-up cap was hit.
+     *
+     * @return The total dropped tick count.
+     */
+    public long getDroppedSteps() {
+        return droppedSteps;
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.demo.engine;
+
+import java.util.function.DoubleConsumer;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * Game loop driven by {@link AnimationTimer}.
+ * Runs the simulation at a fixed tick rate and renders once per frame,
+ * passing the interpolation factor between the last two ticks.
+ */
+public class GameLoop extends AnimationTimer implements TickLoop {
+
+    private static final int MAX_STEPS_PER_FRAME = 5;
+
+    private final FixedTimestep timestep;
+    private final Runnable tick;
+    private final DoubleConsumer render;
+    private long lastFrameTime = -1;
+    private long lastTickNanos;
+    private boolean running;
+
+    /**
+     * Constructs a GameLoop.
+     *
+     * @param ticksPerSecond Number of simulation ticks per second.
+     * @param tick           Action run once per simulation tick.
+     * @param render         Action run once per frame with the interpolation factor.
+     */
+    public GameLoop(int ticksPerSecond, Runnable tick, DoubleConsumer render) {
+        this.timestep = new FixedTimestep(ticksPerSecond, MAX_STEPS_PER_FRAME);
+        this.tick = tick;
+        this.render = render;
+    }
+
+    /**
+     * Runs owed ticks and renders the frame.
+     *
+     * @param now The timestamp of the current frame in nanoseconds.
+     */
+    @Override
+    public void handle(long now) {
+        if (lastFrameTime < 0) {
+            lastFrameTime = now;
+            return;
+        }
+        int steps = timestep.advance(now - lastFrameTime);
+        lastFrameTime = now;
+
+        //A tick may stop the loop (win or lose), so check before each one
+        for (int i = 0; i < steps && running; i++) {
+            long start = System.nanoTime();
+            tick.run();
+            lastTickNanos = System.nanoTime() - start;
+        }
+        render.accept(timestep.getAlpha());
+    }
+
+    /**
+     * Starts the loop and discards time spent while stopped.
+     */
+    @Override
+    public void start() {
+        lastFrameTime = -1;
+        timestep.reset();
+        running = true;
+        super.start();
+    }
+
+    /**
+     * Stops the loop.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        super.stop();
+    }
+
+    /**
+     * Checks if the loop is running.
+     *
+     * @return True if the loop is running, false otherwise.
+     */
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Gets how long the most recent tick took, independent of frame rate.
+     *
+     * @return The last tick duration in nanoseconds.
+     */
+    @Override
+    public long getLastTickNanos() {
+        return lastTickNanos;
+    }
+
+    /**
+     * Gets the number of ticks dropped because the loop fell too far behind.
+     *
+     * @return The dropped tick count.
+     */
+    @Override
+    public long getDroppedTicks() {
+        return timestep.getDroppedSteps();
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.demo.engine;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Seedable source of random numbers for one level or simulation.
+ * Every random choice in a game is drawn from the level's own GameRandom, so a game
+ * started from the same seed makes the same choices. It is not synchronized:
+ * each game thread uses its own instance, and {@link #split()} hands out
+ * independent instances for parallel games without sharing any state.
+ */
+public class GameRandom {
+
+    private final long seed;
+    private final SplittableRandom random;
+
+    /**
+     * Constructs a GameRandom with a seed that differs on every run.
+     */
+    public GameRandom() {
+        this(new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Constructs a GameRandom that always produces the same sequence for a seed.
+     *
+     * @param seed The seed.
+     */
+    public GameRandom(long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Gets the seed this GameRandom was created with.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets a random value between 0 inclusive and 1 exclusive.
+     *
+     * @return The value.
+     */
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    /**
+     * Gets a random value between 0 inclusive and a bound exclusive.
+     *
+     * @param bound The upper bound, which must be positive.
+     * @return The value.
+     */
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    /**
+     * Checks if an event with a probability happens this time.
+     *
+     * @param probability The chance of the event, from 0 to 1.
+     * @return True if the event happens, false otherwise.
+     */
+    public boolean chance(double probability) {
+        return random.nextDouble() < probability;
+    }
+
+    /**
+     * Shuffles a list in place, as {@link java.util.Collections#shuffle(List, java.util.Random)} does.
+     *
+     * @param list The list to shuffle.
+     * @param <T>  The type of the elements.
+     */
+    public <T> void shuffle(List<T> list) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            list.set(i, list.set(j, list.get(i)));
+        }
+    }
+
+    /**
+     * Creates a new GameRandom seeded from this one.
+     * The same sequence of splits from the same seed gives the same children.
+     *
+     * @return The new, independent GameRandom.
+     */
+    public GameRandom split() {
+        return new GameRandom(random.nextLong());
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.demo.engine;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size histogram of non-negative long values, such as tick timings in nanoseconds.
+ * Values below 16 get a bucket each. Larger values share 8 buckets per power of two,
+ * so percentiles are accurate to within 12.5% for any value.
+ *
+ * <p>Recording never allocates, so it is safe to call every tick.</p>
+ */
+public class Histogram {
+
+    private static final int EXACT_BUCKETS = 16;
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    //The smallest value that does not get its own bucket is 2^4
+    private static final int FIRST_SHARED_EXPONENT = 4;
+    private static final int BUCKET_COUNT = EXACT_BUCKETS + (63 - FIRST_SHARED_EXPONENT) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private long sum;
+    private long max;
+
+    /**
+     * Records one value. Negative values are recorded as zero.
+     *
+     * @param value The value to record.
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        counts[bucketIndex(value)]++;
+        totalCount++;
+        sum += value;
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    /**
+     * Gets the value below which a percentage of the recorded values fall.
+     * Returns the upper edge of the bucket holding that value, never more than the maximum.
+     *
+     * @param percentile The percentile, from 0 to 100.
+     * @return The value at the percentile, or 0 if nothing was recorded.
+     */
+    public long getPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(bucketUpperBound(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Gets the number of recorded values.
+     *
+     * @return The count.
+     */
+    public long getCount() {
+        return totalCount;
+    }
+
+    /**
+     * Gets the largest recorded value.
+     *
+     * @return The maximum, or 0 if nothing was recorded.
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Gets the mean of the recorded values.
+     *
+     * @return The mean, or 0 if nothing was recorded.
+     */
+    public double getMean() {
+        return totalCount == 0 ? 0 : (double) sum / totalCount;
+    }
+
+    /**
+     * Forgets every recorded value.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        sum = 0;
+        max = 0;
+    }
+
+    /**
+     * Finds the bucket for a value.
+     *
+     * @param value The non-negative value.
+     * @return The bucket index.
+     */
+    static int bucketIndex(long value) {
+        if (value < EXACT_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return EXACT_BUCKETS + (exponent - FIRST_SHARED_EXPONENT) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Gets the largest value that falls in a bucket.
+     *
+     * @param index The bucket index.
+     * @return The upper edge of the bucket.
+     */
+    static long bucketUpperBound(int index) {
+        if (index < EXACT_BUCKETS) {
+            return index;
+        }
+        int exponent = FIRST_SHARED_EXPONENT + (index - EXACT_BUCKETS) / SUB_BUCKETS;
+        int subBucket = (index - EXACT_BUCKETS) % SUB_BUCKETS;
+        int shift = exponent - SUB_BUCKET_BITS;
+        long upper = ((long) (SUB_BUCKETS + subBucket + 1) << shift) - 1;
+        //The last bucket would overflow past Long.MAX_VALUE
+        return upper < 0 ? Long.MAX_VALUE : upper;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.demo.engine;
+
+/**
+ * Which thread runs a level's ticks.
+ */
+public enum LoopMode {
+
+    /** Ticks run on the FX thread, between frames, and draw straight to the nodes. */
+    FX_THREAD,
+
+    /** Ticks run on their own thread and the FX thread only draws the snapshots they publish. */
+    SIMULATION_THREAD
+}
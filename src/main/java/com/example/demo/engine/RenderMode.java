@@ -0,0 +1,13 @@
+package com.example.demo.engine;
+
+/**
+ * How a level puts its sprites on screen.
+ */
+public enum RenderMode {
+
+    /** Every sprite is its own ImageView node in the scene graph. */
+    NODES,
+
+    /** Every sprite is drawn into one shared Canvas each frame. */
+    CANVAS
+}
@@ -0,0 +1,72 @@
+package com.example.demo.engine;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Scene graph changes made by a simulation thread, waiting to run on the FX thread.
+ * Each change is stamped with the tick that made it, so the FX thread can run exactly the changes
+ * that belong to the snapshot it is about to show, in the order they were made.
+ * Unlike snapshots, changes are never skipped.
+ */
+public class SceneCommandQueue {
+
+    /**
+     * A change and the tick that made it.
+     */
+    private static final class Command {
+        private final long tick;
+        private final Runnable action;
+
+        private Command(long tick, Runnable action) {
+            this.tick = tick;
+            this.action = action;
+        }
+    }
+
+    private final ConcurrentLinkedQueue<Command> commands = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Adds a change made during a tick. Called from the simulation thread.
+     *
+     * @param tick   The tick that made the change.
+     * @param action The change to run on the FX thread.
+     */
+    public void post(long tick, Runnable action) {
+        commands.add(new Command(tick, action));
+    }
+
+    /**
+     * Runs every change made up to and including a tick, oldest first. Called from the FX thread.
+     * Changes from later ticks stay queued.
+     *
+     * @param tick The last tick whose changes should run.
+     * @return The number of changes run.
+     */
+    public int runUntil(long tick) {
+        int run = 0;
+        Command command = commands.peek();
+        while (command != null && command.tick <= tick) {
+            commands.poll();
+            command.action.run();
+            run++;
+            command = commands.peek();
+        }
+        return run;
+    }
+
+    /**
+     * Checks if no changes are waiting.
+     *
+     * @return True if the queue is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return commands.isEmpty();
+    }
+
+    /**
+     * Drops every waiting change without running it.
+     */
+    public void clear() {
+        commands.clear();
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.demo.engine;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs a level's ticks at a fixed rate on a dedicated thread instead of the FX thread.
+ * Layout, CSS, rendering and modal windows on the FX thread no longer delay ticks,
+ * and a slow tick no longer delays a frame. Between ticks the thread sleeps until the next one is owed.
+ * If it falls behind, it runs a few catch-up ticks and drops the rest, like {@link GameLoop}.
+ *
+ * <p>The tick must not touch live scene graph nodes; it hands its results to the FX thread instead.</p>
+ */
+public class SimulationThread implements TickLoop {
+
+    private static final int MAX_STEPS_PER_WAKE = 5;
+
+    private final String name;
+    private final FixedTimestep timestep;
+    private final Runnable tick;
+    private volatile boolean running;
+    private volatile long lastTickNanos;
+    private volatile Thread thread;
+
+    /**
+     * Constructs a SimulationThread. No thread is created until it is started.
+     *
+     * @param name           The name of the thread, shown in profilers and stack dumps.
+     * @param ticksPerSecond Number of ticks per second.
+     * @param tick           Action run once per tick on the simulation thread.
+     */
+    public SimulationThread(String name, int ticksPerSecond, Runnable tick) {
+        this.name = name;
+        this.timestep = new FixedTimestep(ticksPerSecond, MAX_STEPS_PER_WAKE);
+        this.tick = tick;
+    }
+
+    /**
+     * Starts a new thread running ticks. Does nothing if already running.
+     * If a tick stopped the loop, its thread is allowed to finish first, so two threads never tick at once.
+     */
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        awaitThread();
+        timestep.reset();
+        running = true;
+        Thread newThread = new Thread(this::run, name);
+        newThread.setDaemon(true);
+        thread = newThread;
+        newThread.start();
+    }
+
+    /**
+     * Stops running ticks.
+     * Called from another thread, it waits for the tick in progress to finish, so the caller
+     * may read the game state once it returns. Called from a tick, the thread ends after that tick.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        awaitThread();
+    }
+
+    /**
+     * Wakes the simulation thread and waits for it to end, unless called from it.
+     */
+    private void awaitThread() {
+        Thread current = thread;
+        if (current == null || current == Thread.currentThread()) {
+            return;
+        }
+        LockSupport.unpark(current);
+        try {
+            current.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs owed ticks and sleeps until the next one, until stopped.
+     * A tick that throws stops the loop instead of killing the thread silently.
+     */
+    private void run() {
+        long lastWake = System.nanoTime();
+        while (running) {
+            long now = System.nanoTime();
+            int steps = timestep.advance(now - lastWake);
+            lastWake = now;
+            for (int i = 0; i < steps && running; i++) {
+                long start = System.nanoTime();
+                try {
+                    tick.run();
+                } catch (RuntimeException e) {
+                    System.err.println("Simulation tick failed on " + name + ": " + e);
+                    e.printStackTrace();
+                    running = false;
+                }
+                lastTickNanos = System.nanoTime() - start;
+            }
+            if (running) {
+                LockSupport.parkNanos(this, timestep.getNanosUntilNextStep());
+            }
+        }
+    }
+
+    /**
+     * Checks if the loop is running.
+     *
+     * @return True if the loop is running, false otherwise.
+     */
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Checks if the loop has stopped and its thread has finished, including a loop a tick stopped.
+     * Everything the last tick did is visible to the caller once this returns true.
+     *
+     * @return True if no tick is running or will run until the next start, false otherwise.
+     */
+    public boolean hasEnded() {
+        Thread current = thread;
+        return !running && (current == null || !current.isAlive());
+    }
+
+    /**
+     * Checks if the caller is the simulation thread.
+     *
+     * @return True if called from a tick, false otherwise.
+     */
+    public boolean isCurrentThread() {
+        return Thread.currentThread() == thread;
+    }
+
+    /**
+     * Gets how long the most recent tick took.
+     *
+     * @return The last tick duration in nanoseconds.
+     */
+    @Override
+    public long getLastTickNanos() {
+        return lastTickNanos;
+    }
+
+    /**
+     * Gets the number of ticks dropped because the loop fell too far behind.
+     * The count is only exact once the loop has stopped.
+     *
+     * @return The dropped tick count.
+     */
+    @Override
+    public long getDroppedTicks() {
+        return timestep.getDroppedSteps();
+    }
+
+    /**
+     * Gets the length of one tick.
+     *
+     * @return The tick length in nanoseconds.
+     */
+    public long getStepNanos() {
+        return timestep.getStepNanos();
+    }
+}
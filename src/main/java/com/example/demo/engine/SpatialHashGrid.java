@@ -0,0 +1,292 @@
+package com.example.demo.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Uniform-grid spatial hash used as a collision broadphase.
+ * Items are inserted with their bounds once per tick, then queried with a box.
+ * A query only visits the cells the box covers, so collision cost follows the number
+ * of nearby items rather than the size of every list.
+ * Storage is reused between rebuilds, so a tick does not allocate once the arrays are warm.
+ *
+ * @param <T> The type of item stored in the grid.
+ */
+public class SpatialHashGrid<T> {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int NO_ENTRY = -1;
+
+    private final double cellSize;
+
+    //Items and their bounds, indexed by insertion order
+    private final List<T> items = new ArrayList<>();
+    private double[] minXs = new double[INITIAL_CAPACITY];
+    private double[] minYs = new double[INITIAL_CAPACITY];
+    private double[] maxXs = new double[INITIAL_CAPACITY];
+    private double[] maxYs = new double[INITIAL_CAPACITY];
+    private int[] itemQueryStamps = new int[INITIAL_CAPACITY];
+    private int queryStamp;
+    //Bounds tests done by the most recent query
+    private int lastCandidateCount;
+
+    //Open-addressing table from cell key to the first entry in that cell
+    private long[] cellKeys = new long[INITIAL_CAPACITY];
+    private int[] cellHeads = new int[INITIAL_CAPACITY];
+    private int[] cellStamps = new int[INITIAL_CAPACITY];
+    private int buildStamp = 1;
+    private int cellCount;
+
+    //Linked entries, one per item per covered cell
+    private int[] entryItems = new int[INITIAL_CAPACITY];
+    private int[] entryNext = new int[INITIAL_CAPACITY];
+    private int entryCount;
+
+    /**
+     * Constructs a SpatialHashGrid.
+     *
+     * @param cellSize The width and height of one cell.
+     * @throws IllegalArgumentException if the cell size is not positive.
+     */
+    public SpatialHashGrid(double cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive: " + cellSize);
+        }
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Removes every item, keeping the storage for the next rebuild.
+     */
+    public void clear() {
+        items.clear();
+        entryCount = 0;
+        cellCount = 0;
+        if (++buildStamp == Integer.MAX_VALUE) {
+            Arrays.fill(cellStamps, 0);
+            buildStamp = 1;
+        }
+    }
+
+    /**
+     * Inserts an item into every cell its bounds cover.
+     *
+     * @param item The item to insert.
+     * @param minX The left edge of the item.
+     * @param minY The top edge of the item.
+     * @param maxX The right edge of the item.
+     * @param maxY The bottom edge of the item.
+     */
+    public void insert(T item, double minX, double minY, double maxX, double maxY) {
+        int index = items.size();
+        items.add(item);
+        ensureItemCapacity(index + 1);
+        minXs[index] = minX;
+        minYs[index] = minY;
+        maxXs[index] = maxX;
+        maxYs[index] = maxY;
+        itemQueryStamps[index] = 0;
+
+        int firstColumn = cell(minX);
+        int lastColumn = cell(maxX);
+        int firstRow = cell(minY);
+        int lastRow = cell(maxY);
+        for (int column = firstColumn; column <= lastColumn; column++) {
+            for (int row = firstRow; row <= lastRow; row++) {
+                addEntry(findOrCreateCell(column, row), index);
+            }
+        }
+    }
+
+    /**
+     * Finds every item whose bounds overlap a box.
+     * Touching edges count as overlapping, the same as JavaFX bounds.
+     * Each item is reported once even if it spans several cells.
+     *
+     * @param minX The left edge of the box.
+     * @param minY The top edge of the box.
+     * @param maxX The right edge of the box.
+     * @param maxY The bottom edge of the box.
+     * @param result List to fill with the overlapping items. It is cleared first.
+     * @return The result list.
+     */
+    public List<T> query(double minX, double minY, double maxX, double maxY, List<T> result) {
+        result.clear();
+        lastCandidateCount = 0;
+        if (items.isEmpty()) {
+            return result;
+        }
+        if (++queryStamp == Integer.MAX_VALUE) {
+            Arrays.fill(itemQueryStamps, 0);
+            queryStamp = 1;
+        }
+        int firstColumn = cell(minX);
+        int lastColumn = cell(maxX);
+        int firstRow = cell(minY);
+        int lastRow = cell(maxY);
+        for (int column = firstColumn; column <= lastColumn; column++) {
+            for (int row = firstRow; row <= lastRow; row++) {
+                int slot = findCell(column, row);
+                if (slot < 0) {
+                    continue;
+                }
+                for (int entry = cellHeads[slot]; entry != NO_ENTRY; entry = entryNext[entry]) {
+                    int index = entryItems[entry];
+                    if (itemQueryStamps[index] == queryStamp) {
+                        continue;
+                    }
+                    itemQueryStamps[index] = queryStamp;
+                    lastCandidateCount++;
+                    if (maxXs[index] >= minX && maxYs[index] >= minY
+                            && minXs[index] <= maxX && minYs[index] <= maxY) {
+                        result.add(items.get(index));
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets how many items the most recent query tested against its box.
+     * This is the narrow-phase work the grid did, before filtering to overlapping items.
+     *
+     * @return The candidate count of the last query.
+     */
+    public int getLastCandidateCount() {
+        return lastCandidateCount;
+    }
+
+    /**
+     * Gets the number of items in the grid.
+     *
+     * @return The item count.
+     */
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * Converts a coordinate to a cell index.
+     *
+     * @param value The coordinate.
+     * @return The index of the cell containing it.
+     */
+    private int cell(double value) {
+        return (int) Math.floor(value / cellSize);
+    }
+
+    /**
+     * Combines a column and row into one key.
+     */
+    private static long key(int column, int row) {
+        return ((long) column << 32) | (row & 0xffffffffL);
+    }
+
+    /**
+     * Spreads the key bits so neighbouring cells land in different slots.
+     */
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Finds the slot of a cell in the current build.
+     *
+     * @return The slot index, or -1 if the cell is empty.
+     */
+    private int findCell(int column, int row) {
+        long key = key(column, row);
+        int mask = cellKeys.length - 1;
+        int slot = hash(key) & mask;
+        while (cellStamps[slot] == buildStamp) {
+            if (cellKeys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the slot of a cell, creating it if needed.
+     *
+     * @return The slot index.
+     */
+    private int findOrCreateCell(int column, int row) {
+        if ((cellCount + 1) * 2 > cellKeys.length) {
+            growTable();
+        }
+        long key = key(column, row);
+        int mask = cellKeys.length - 1;
+        int slot = hash(key) & mask;
+        while (cellStamps[slot] == buildStamp) {
+            if (cellKeys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        cellStamps[slot] = buildStamp;
+        cellKeys[slot] = key;
+        cellHeads[slot] = NO_ENTRY;
+        cellCount++;
+        return slot;
+    }
+
+    /**
+     * Adds an item to the front of a cell's entry list.
+     */
+    private void addEntry(int slot, int index) {
+        if (entryCount == entryItems.length) {
+            entryItems = Arrays.copyOf(entryItems, entryCount * 2);
+            entryNext = Arrays.copyOf(entryNext, entryCount * 2);
+        }
+        entryItems[entryCount] = index;
+        entryNext[entryCount] = cellHeads[slot];
+        cellHeads[slot] = entryCount;
+        entryCount++;
+    }
+
+    /**
+     * Doubles the cell table and moves the cells of the current build into it.
+     */
+    private void growTable() {
+        long[] oldKeys = cellKeys;
+        int[] oldHeads = cellHeads;
+        int[] oldStamps = cellStamps;
+        int capacity = oldKeys.length * 2;
+        cellKeys = new long[capacity];
+        cellHeads = new int[capacity];
+        cellStamps = new int[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldStamps[i] != buildStamp) {
+                continue;
+            }
+            int slot = hash(oldKeys[i]) & mask;
+            while (cellStamps[slot] == buildStamp) {
+                slot = (slot + 1) & mask;
+            }
+            cellStamps[slot] = buildStamp;
+            cellKeys[slot] = oldKeys[i];
+            cellHeads[slot] = oldHeads[i];
+        }
+    }
+
+    /**
+     * Grows the per-item arrays to hold at least the given number of items.
+     */
+    private void ensureItemCapacity(int capacity) {
+        if (capacity <= minXs.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, minXs.length * 2);
+        minXs = Arrays.copyOf(minXs, newCapacity);
+        minYs = Arrays.copyOf(minYs, newCapacity);
+        maxXs = Arrays.copyOf(maxXs, newCapacity);
+        maxYs = Arrays.copyOf(maxYs, newCapacity);
+        itemQueryStamps = Arrays.copyOf(itemQueryStamps, newCapacity);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.demo.engine;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.geometry.Bounds;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+/**
+ * Draws sprites into a single Canvas instead of adding one node per sprite to the scene graph.
+ * Sprites are still ImageViews, so levels move them the same way in both render modes,
+ * but they are never attached to a scene. Each frame they are drawn in the order they were added.
+ */
+public class SpriteBatchRenderer {
+
+    private final Canvas canvas;
+    private final GraphicsContext graphics;
+    private final List<ImageView> sprites = new ArrayList<>();
+
+    /**
+     * Constructs a SpriteBatchRenderer.
+     *
+     * @param width  The width of the canvas.
+     * @param height The height of the canvas.
+     */
+    public SpriteBatchRenderer(double width, double height) {
+        this.canvas = new Canvas(width, height);
+        this.graphics = canvas.getGraphicsContext2D();
+        canvas.setMouseTransparent(true);
+        canvas.setFocusTraversable(false);
+    }
+
+    /**
+     * Gets the canvas the sprites are drawn into.
+     * It must be added to the scene once.
+     *
+     * @return The canvas.
+     */
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    /**
+     * Adds a sprite on top of the ones already added.
+     *
+     * @param sprite The sprite to draw.
+     */
+    public void add(ImageView sprite) {
+        sprites.add(sprite);
+    }
+
+    /**
+     * Stops drawing a sprite.
+     *
+     * @param sprite The sprite to remove.
+     */
+    public void remove(ImageView sprite) {
+        sprites.remove(sprite);
+    }
+
+    /**
+     * Stops drawing several sprites in one pass.
+     * Use a set for large batches, since each sprite is looked up in the collection.
+     *
+     * @param removed The sprites to remove.
+     */
+    public void removeAll(Collection<? extends ImageView> removed) {
+        sprites.removeAll(removed);
+    }
+
+    /**
+     * Stops drawing every sprite and clears the canvas.
+     */
+    public void clear() {
+        sprites.clear();
+        graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+    }
+
+    /**
+     * Checks if a sprite is being drawn.
+     *
+     * @param sprite The sprite to check.
+     * @return True if the sprite was added and not removed, false otherwise.
+     */
+    public boolean contains(ImageView sprite) {
+        return sprites.contains(sprite);
+    }
+
+    /**
+     * Gets the number of sprites being drawn.
+     *
+     * @return The sprite count.
+     */
+    public int getSpriteCount() {
+        return sprites.size();
+    }
+
+    /**
+     * Clears the canvas and draws every visible sprite at its current position.
+     * Reads the same layout and translate values the scene graph would use.
+     */
+    public void render() {
+        graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        for (int i = 0; i < sprites.size(); i++) {
+            ImageView sprite = sprites.get(i);
+            Image image = sprite.getImage();
+            if (image == null || !sprite.isVisible()) {
+                continue;
+            }
+            Bounds bounds = sprite.getLayoutBounds();
+            graphics.drawImage(image,
+                    sprite.getLayoutX() + sprite.getTranslateX() + bounds.getMinX(),
+                    sprite.getLayoutY() + sprite.getTranslateY() + bounds.getMinY(),
+                    bounds.getWidth(),
+                    bounds.getHeight());
+        }
+    }
+}
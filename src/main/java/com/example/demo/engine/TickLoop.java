@@ -0,0 +1,38 @@
+package com.example.demo.engine;
+
+/**
+ * Something that runs a level's ticks at a fixed rate until stopped.
+ */
+public interface TickLoop {
+
+    /**
+     * Starts running ticks, discarding time spent while stopped.
+     */
+    void start();
+
+    /**
+     * Stops running ticks.
+     */
+    void stop();
+
+    /**
+     * Checks if the loop is running.
+     *
+     * @return True if the loop is running, false otherwise.
+     */
+    boolean isRunning();
+
+    /**
+     * Gets how long the most recent tick took.
+     *
+     * @return The last tick duration in nanoseconds.
+     */
+    long getLastTickNanos();
+
+    /**
+     * Gets the number of ticks dropped because the loop fell too far behind.
+     *
+     * @return The dropped tick count.
+     */
+    long getDroppedTicks();
+}
@@ -0,0 +1,55 @@
+package com.example.demo.engine;
+
+/**
+ * The phases of one level tick, in the order they run.
+ * Each phase is timed separately by the {@link TickProfiler}.
+ */
+public enum TickPhase {
+
+    /** Saving positions for render interpolation. */
+    SAVE_POSITIONS("save positions"),
+    /** Spawning new enemies. */
+    SPAWN_ENEMIES("spawn enemies"),
+    /** Moving every actor. */
+    UPDATE_ACTORS("update actors"),
+    /** Destroying actors far off screen. */
+    CULL_OFFSCREEN("cull offscreen"),
+    /** Enemies firing projectiles. */
+    ENEMY_FIRE("enemy fire"),
+    /** Counting enemies and checking for ones that got past the player. */
+    ENEMY_PENETRATION("enemy penetration"),
+    /** Rebuilding the collision grids. */
+    COLLISION_GRIDS("collision grids"),
+    /** User projectiles against enemies. */
+    USER_PROJECTILE_COLLISIONS("user projectile hits"),
+    /** Enemy projectiles against friendly units. */
+    ENEMY_PROJECTILE_COLLISIONS("enemy projectile hits"),
+    /** The user plane against enemy planes. */
+    PLANE_COLLISIONS("plane collisions"),
+    /** Removing destroyed actors from the lists and scene. */
+    REMOVE_DESTROYED("remove destroyed"),
+    /** Updating the kill count, hearts and score. */
+    UPDATE_LEVEL_VIEW("update level view"),
+    /** Checking for a win or loss. */
+    CHECK_GAME_OVER("check game over");
+
+    private final String label;
+
+    /**
+     * Constructs a TickPhase.
+     *
+     * @param label The name shown in profile reports.
+     */
+    TickPhase(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Gets the name shown in profile reports.
+     *
+     * @return The label.
+     */
+    public String getLabel() {
+        return label;
+    }
+}
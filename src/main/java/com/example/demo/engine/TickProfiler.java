@@ -0,0 +1,255 @@
+package com.example.demo.engine;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Records how long each phase of a tick takes, and how many entities were alive, into histograms.
+ * A tick is timed with {@link #beginTick()}, one {@link #mark(TickPhase)} after each phase,
+ * and {@link #endTick()}. Each mark records the time since the previous one,
+ * so phases that are skipped in a tick are simply not recorded.
+ *
+ * <p>Recording does not allocate. Reports are built only when asked for.</p>
+ */
+public class TickProfiler {
+
+    /**
+     * The groups of entities counted each tick.
+     */
+    public enum EntityGroup {
+        /** The user plane and other friendly units. */
+        FRIENDLY_UNITS("friendly units"),
+        /** Enemy planes and bosses. */
+        ENEMY_UNITS("enemy units"),
+        /** Projectiles fired by the user. */
+        USER_PROJECTILES("user projectiles"),
+        /** Projectiles fired by enemies. */
+        ENEMY_PROJECTILES("enemy projectiles");
+
+        private final String label;
+
+        /**
+         * Constructs an EntityGroup.
+         *
+         * @param label The name shown in profile reports.
+         */
+        EntityGroup(String label) {
+            this.label = label;
+        }
+
+        /**
+         * Gets the name shown in profile reports.
+         *
+         * @return The label.
+         */
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private static final TickPhase[] PHASES = TickPhase.values();
+    private static final EntityGroup[] GROUPS = EntityGroup.values();
+    private static final double NANOS_PER_MICRO = 1000.0;
+
+    private final LongSupplier clock;
+    private final Histogram[] phaseTimes = new Histogram[PHASES.length];
+    private final Histogram tickTimes = new Histogram();
+    private final Histogram[] entityCounts = new Histogram[GROUPS.length];
+    private boolean enabled = true;
+    private boolean inTick;
+    private long tickStart;
+    private long lastMark;
+
+    /**
+     * Constructs a TickProfiler that reads {@link System#nanoTime()}.
+     */
+    public TickProfiler() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * Constructs a TickProfiler with a custom clock.
+     *
+     * @param clock Returns the current time in nanoseconds.
+     */
+    public TickProfiler(LongSupplier clock) {
+        this.clock = clock;
+        for (int i = 0; i < phaseTimes.length; i++) {
+            phaseTimes[i] = new Histogram();
+        }
+        for (int i = 0; i < entityCounts.length; i++) {
+            entityCounts[i] = new Histogram();
+        }
+    }
+
+    /**
+     * Starts timing a tick.
+     */
+    public void beginTick() {
+        if (!enabled) {
+            return;
+        }
+        inTick = true;
+        tickStart = clock.getAsLong();
+        lastMark = tickStart;
+    }
+
+    /**
+     * Records the time since the last mark against a phase.
+     * Does nothing outside a tick.
+     *
+     * @param phase The phase that just finished.
+     */
+    public void mark(TickPhase phase) {
+        if (!inTick) {
+            return;
+        }
+        long now = clock.getAsLong();
+        phaseTimes[phase.ordinal()].record(now - lastMark);
+        lastMark = now;
+    }
+
+    /**
+     * Records how many entities of a group are alive this tick.
+     * Does nothing outside a tick.
+     *
+     * @param group The group counted.
+     * @param count The number alive.
+     */
+    public void recordEntityCount(EntityGroup group, int count) {
+        if (inTick) {
+            entityCounts[group.ordinal()].record(count);
+        }
+    }
+
+    /**
+     * Finishes timing a tick and records its total duration.
+     */
+    public void endTick() {
+        if (!inTick) {
+            return;
+        }
+        tickTimes.record(clock.getAsLong() - tickStart);
+        inTick = false;
+    }
+
+    /**
+     * Turns recording on or off. Recorded data is kept.
+     *
+     * @param enabled True to record ticks, false to ignore them.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {
+            inTick = false;
+        }
+    }
+
+    /**
+     * Checks if ticks are being recorded.
+     *
+     * @return True if recording, false otherwise.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Gets the timings of a phase.
+     *
+     * @param phase The phase.
+     * @return The histogram of phase durations in nanoseconds.
+     */
+    public Histogram getPhaseTimes(TickPhase phase) {
+        return phaseTimes[phase.ordinal()];
+    }
+
+    /**
+     * Gets the timings of whole ticks.
+     *
+     * @return The histogram of tick durations in nanoseconds.
+     */
+    public Histogram getTickTimes() {
+        return tickTimes;
+    }
+
+    /**
+     * Gets the entity counts of a group.
+     *
+     * @param group The group.
+     * @return The histogram of per-tick counts.
+     */
+    public Histogram getEntityCounts(EntityGroup group) {
+        return entityCounts[group.ordinal()];
+    }
+
+    /**
+     * Gets the number of ticks recorded.
+     *
+     * @return The tick count.
+     */
+    public long getTickCount() {
+        return tickTimes.getCount();
+    }
+
+    /**
+     * Forgets everything recorded so far.
+     */
+    public void reset() {
+        for (Histogram histogram : phaseTimes) {
+            histogram.reset();
+        }
+        for (Histogram histogram : entityCounts) {
+            histogram.reset();
+        }
+        tickTimes.reset();
+        inTick = false;
+    }
+
+    /**
+     * Builds a table of p50, p99 and max for every phase, the whole tick, and every entity group.
+     * Times are in microseconds.
+     *
+     * @param title The heading of the report, e.g. the level name.
+     * @return The report.
+     */
+    public String report(String title) {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Tick profile: %s (%d ticks)%n", title, getTickCount()));
+        report.append(String.format("%-24s %10s %10s %10s %10s%n", "phase", "p50 us", "p99 us", "max us", "mean us"));
+        for (TickPhase phase : PHASES) {
+            appendTimes(report, phase.getLabel(), phaseTimes[phase.ordinal()]);
+        }
+        appendTimes(report, "whole tick", tickTimes);
+        report.append(String.format("%-24s %10s %10s %10s %10s%n", "entities", "p50", "p99", "max", "mean"));
+        for (EntityGroup group : GROUPS) {
+            Histogram counts = entityCounts[group.ordinal()];
+            report.append(String.format("%-24s %10d %10d %10d %10.1f%n", group.getLabel(),
+                    counts.getPercentile(50), counts.getPercentile(99), counts.getMax(), counts.getMean()));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Appends one row of timings in microseconds.
+     *
+     * @param report The report being built.
+     * @param label  The row name.
+     * @param times  The timings in nanoseconds.
+     */
+    private void appendTimes(StringBuilder report, String label, Histogram times) {
+        report.append(String.format("%-24s %10.1f %10.1f %10.1f %10.1f%n", label,
+                times.getPercentile(50) / NANOS_PER_MICRO,
+                times.getPercentile(99) / NANOS_PER_MICRO,
+                times.getMax() / NANOS_PER_MICRO,
+                times.getMean() / NANOS_PER_MICRO));
+    }
+
+    /**
+     * Prints the report to standard output.
+     *
+     * @param title The heading of the report.
+     */
+    public void dump(String title) {
+        System.out.print(report(title));
+    }
+}
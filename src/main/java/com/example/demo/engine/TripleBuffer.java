@@ -0,0 +1,75 @@
+package com.example.demo.engine;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free triple buffer that hands the newest state from one producer thread to one consumer thread.
+ * The producer fills {@link #getWriteBuffer()} and calls {@link #publish()}; the consumer calls
+ * {@link #acquireLatest()} and reads the returned buffer until its next acquire.
+ * Neither side ever waits for the other, and a buffer is never written while the consumer holds it,
+ * so a published buffer can be treated as immutable. States the consumer was too slow to see are skipped.
+ *
+ * <p>The three buffers are created up front and reused, so handing over a state does not allocate.</p>
+ *
+ * @param <T> The type of state handed over.
+ */
+public class TripleBuffer<T> {
+
+    //The index of the shared buffer, plus this bit when it holds a state the consumer has not taken
+    private static final int FRESH = 4;
+    private static final int INDEX_MASK = 3;
+
+    private final Object[] buffers = new Object[3];
+    private final AtomicInteger shared = new AtomicInteger(1);
+    //Only touched by the producer
+    private int back = 0;
+    //Only touched by the consumer
+    private int front = 2;
+    private boolean hasFront;
+
+    /**
+     * Constructs a TripleBuffer.
+     *
+     * @param factory Creates each of the three buffers.
+     */
+    public TripleBuffer(Supplier<T> factory) {
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = factory.get();
+        }
+    }
+
+    /**
+     * Gets the buffer the producer fills next. Only the producer thread may call this.
+     * The buffer may still hold an older state, which the producer overwrites.
+     *
+     * @return The buffer to write.
+     */
+    @SuppressWarnings("unchecked")
+    public T getWriteBuffer() {
+        return (T) buffers[back];
+    }
+
+    /**
+     * Makes the write buffer the newest state and hands the producer another buffer.
+     * Only the producer thread may call this.
+     */
+    public void publish() {
+        back = shared.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Takes the newest published state. Only the consumer thread may call this.
+     * If nothing was published since the last call, the buffer returned last time is returned again.
+     *
+     * @return The newest state, or null if nothing has been published yet.
+     */
+    @SuppressWarnings("unchecked")
+    public T acquireLatest() {
+        if ((shared.get() & FRESH) != 0) {
+            front = shared.getAndSet(front) & INDEX_MASK;
+            hasFront = true;
+        }
+        return hasFront ? (T) buffers[front] : null;
+    }
+}
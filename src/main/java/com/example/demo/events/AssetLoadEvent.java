@@ -0,0 +1,44 @@
+package com.example.demo.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for reading an image, font or sound from the classpath.
+ * Cache hits are not recorded.
+ */
+@Name("com.example.demo.AssetLoad")
+@Label("Asset Load")
+@Category({"Sky Battle", "Assets"})
+@Description("An asset read and decoded from the classpath")
+public class AssetLoadEvent extends Event {
+
+    @Label("Path")
+    public String path;
+
+    @Label("Kind")
+    public String kind;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+
+    /**
+     * Ends and commits an event begun before a load, if the event is enabled.
+     *
+     * @param event     The event begun before the load.
+     * @param path      The resource loaded.
+     * @param kind      The kind of asset, e.g. "image".
+     * @param succeeded Whether the load worked.
+     */
+    public static void commitIfEnabled(AssetLoadEvent event, String path, String kind, boolean succeeded) {
+        if (event.shouldCommit()) {
+            event.path = path;
+            event.kind = kind;
+            event.succeeded = succeeded;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.demo.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one collision pass, such as user projectiles against enemies.
+ * Records how many candidate pairs the broadphase returned and how many of them hit.
+ */
+@Name("com.example.demo.CollisionPass")
+@Label("Collision Pass")
+@Category({"Sky Battle", "Gameplay"})
+@Description("One collision pass over a pair of actor groups")
+@StackTrace(false)
+public class CollisionPassEvent extends Event {
+
+    @Label("Pass")
+    public String pass;
+
+    @Label("Pairs Tested")
+    public int pairsTested;
+
+    @Label("Hits")
+    public int hits;
+}
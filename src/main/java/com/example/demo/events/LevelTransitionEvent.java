@@ -0,0 +1,24 @@
+package com.example.demo.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for switching levels.
+ * Its duration covers building the new level, showing its scene and disposing the old one.
+ */
+@Name("com.example.demo.LevelTransition")
+@Label("Level Transition")
+@Category({"Sky Battle", "Gameplay"})
+@Description("Building and showing a new level")
+public class LevelTransitionEvent extends Event {
+
+    @Label("From Level")
+    public String fromLevel;
+
+    @Label("To Level")
+    public String toLevel;
+}
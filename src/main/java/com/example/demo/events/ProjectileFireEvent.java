@@ -0,0 +1,31 @@
+package com.example.demo.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for a projectile fired by the user or an enemy.
+ */
+@Name("com.example.demo.ProjectileFire")
+@Label("Projectile Fire")
+@Category({"Sky Battle", "Gameplay"})
+@Description("A projectile added to a level")
+@StackTrace(false)
+public class ProjectileFireEvent extends Event {
+
+    @Label("Projectile Type")
+    public String projectileType;
+
+    @Label("Fired By User")
+    public boolean firedByUser;
+
+    @Label("X")
+    public double x;
+
+    @Label("Y")
+    public double y;
+}
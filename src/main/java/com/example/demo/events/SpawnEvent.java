@@ -0,0 +1,28 @@
+package com.example.demo.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for an enemy joining a level.
+ */
+@Name("com.example.demo.Spawn")
+@Label("Enemy Spawn")
+@Category({"Sky Battle", "Gameplay"})
+@Description("An enemy unit added to a level")
+@StackTrace(false)
+public class SpawnEvent extends Event {
+
+    @Label("Actor Type")
+    public String actorType;
+
+    @Label("X")
+    public double x;
+
+    @Label("Y")
+    public double y;
+}
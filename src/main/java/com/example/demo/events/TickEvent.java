@@ -0,0 +1,35 @@
+package com.example.demo.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one fixed-step simulation tick of a level.
+ * Its duration is the whole tick. Actor counts are taken at the end of the tick.
+ */
+@Name("com.example.demo.Tick")
+@Label("Tick")
+@Category({"Sky Battle", "Gameplay"})
+@Description("One simulation tick of a level")
+@StackTrace(false)
+public class TickEvent extends Event {
+
+    @Label("Level")
+    public String level;
+
+    @Label("Friendly Units")
+    public int friendlyUnits;
+
+    @Label("Enemy Units")
+    public int enemyUnits;
+
+    @Label("User Projectiles")
+    public int userProjectiles;
+
+    @Label("Enemy Projectiles")
+    public int enemyProjectiles;
+}
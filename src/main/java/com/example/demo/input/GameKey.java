@@ -0,0 +1,55 @@
+package com.example.demo.input;
+
+import javafx.scene.input.KeyCode;
+
+/**
+ * The keys that control the user plane.
+ */
+public enum GameKey {
+
+    /** Move up. */
+    UP,
+    /** Move down. */
+    DOWN,
+    /** Move left. */
+    LEFT,
+    /** Move right. */
+    RIGHT,
+    /** Fire a projectile. */
+    FIRE;
+
+    private static final GameKey[] VALUES = values();
+
+    /**
+     * Gets the game key bound to a keyboard key.
+     *
+     * @param code The keyboard key.
+     * @return The game key, or null if the key does not control the plane.
+     */
+    public static GameKey fromKeyCode(KeyCode code) {
+        switch (code) {
+            case UP:
+                return UP;
+            case DOWN:
+                return DOWN;
+            case LEFT:
+                return LEFT;
+            case RIGHT:
+                return RIGHT;
+            case SPACE:
+                return FIRE;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Gets the game key with an ordinal.
+     *
+     * @param ordinal The ordinal.
+     * @return The game key.
+     */
+    static GameKey fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
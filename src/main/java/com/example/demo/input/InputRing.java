@@ -0,0 +1,106 @@
+package com.example.demo.input;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+
+/**
+ * Lock-free ring buffer of ints for exactly one producer thread and one consumer thread.
+ * The FX thread offers key transitions as they happen and the thread running the ticks drains them
+ * at the start of each tick. Neither side blocks, takes a lock or allocates.
+ * When the ring is full, new values are dropped and counted rather than overwriting unread ones.
+ */
+public class InputRing {
+
+    private final int[] slots;
+    private final int mask;
+    //Next slot to read, only advanced by the consumer
+    private final AtomicLong head = new AtomicLong();
+    //Next slot to write, only advanced by the producer
+    private final AtomicLong tail = new AtomicLong();
+    //The producer's last look at head, so it only reads the shared counter when the ring seems full
+    private long cachedHead;
+    private volatile long droppedCount;
+
+    /**
+     * Constructs an InputRing.
+     *
+     * @param capacity The number of values it can hold, which must be a positive power of two.
+     * @throws IllegalArgumentException if the capacity is not a positive power of two.
+     */
+    public InputRing(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two: " + capacity);
+        }
+        this.slots = new int[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Adds a value. Only the producer thread may call this.
+     *
+     * @param value The value to add.
+     * @return True if the value was added, false if the ring was full and it was dropped.
+     */
+    public boolean offer(int value) {
+        long writeIndex = tail.get();
+        if (writeIndex - cachedHead >= slots.length) {
+            cachedHead = head.get();
+            if (writeIndex - cachedHead >= slots.length) {
+                droppedCount++;
+                return false;
+            }
+        }
+        slots[(int) writeIndex & mask] = value;
+        //Publishes the slot written above to the consumer
+        tail.lazySet(writeIndex + 1);
+        return true;
+    }
+
+    /**
+     * Passes every value added so far to a consumer, oldest first, and removes them.
+     * Only the consumer thread may call this.
+     *
+     * @param consumer Receives each value.
+     * @return The number of values drained.
+     */
+    public int drain(IntConsumer consumer) {
+        long readIndex = head.get();
+        long writeIndex = tail.get();
+        if (readIndex == writeIndex) {
+            return 0;
+        }
+        for (long i = readIndex; i < writeIndex; i++) {
+            consumer.accept(slots[(int) i & mask]);
+        }
+        //Hands the read slots back to the producer
+        head.lazySet(writeIndex);
+        return (int) (writeIndex - readIndex);
+    }
+
+    /**
+     * Gets the number of values waiting to be drained.
+     *
+     * @return The number of values.
+     */
+    public int size() {
+        return (int) (tail.get() - head.get());
+    }
+
+    /**
+     * Gets the capacity of the ring.
+     *
+     * @return The number of values it can hold.
+     */
+    public int getCapacity() {
+        return slots.length;
+    }
+
+    /**
+     * Gets the number of values dropped because the ring was full.
+     *
+     * @return The dropped count.
+     */
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+}
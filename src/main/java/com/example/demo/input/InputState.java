@@ -0,0 +1,134 @@
+package com.example.demo.input;
+
+/**
+ * Which game keys are held, polled once per tick.
+ * Key transitions from an {@link InputRing} are applied in order, and the tick then reads the held keys
+ * instead of reacting to each event. Opposite keys held together resolve to the one pressed last,
+ * and releasing one of them falls back to the other instead of stopping the plane.
+ * Presses are also remembered until {@link #clearPresses()}, so a tap shorter than a tick still counts.
+ */
+public class InputState {
+
+    private int held;
+    private int pressed;
+    //The most recently pressed key of each axis, used while both of its keys are held
+    private GameKey lastVertical;
+    private GameKey lastHorizontal;
+
+    /**
+     * Encodes a key being pressed, for an {@link InputRing}.
+     *
+     * @param key The key.
+     * @return The encoded transition.
+     */
+    public static int press(GameKey key) {
+        return key.ordinal() << 1 | 1;
+    }
+
+    /**
+     * Encodes a key being released, for an {@link InputRing}.
+     *
+     * @param key The key.
+     * @return The encoded transition.
+     */
+    public static int release(GameKey key) {
+        return key.ordinal() << 1;
+    }
+
+    /**
+     * Applies an encoded key transition.
+     *
+     * @param transition A value from {@link #press(GameKey)} or {@link #release(GameKey)}.
+     */
+    public void apply(int transition) {
+        GameKey key = GameKey.fromOrdinal(transition >>> 1);
+        int bit = 1 << key.ordinal();
+        if ((transition & 1) != 0) {
+            held |= bit;
+            pressed |= bit;
+            if (key == GameKey.UP || key == GameKey.DOWN) {
+                lastVertical = key;
+            } else if (key == GameKey.LEFT || key == GameKey.RIGHT) {
+                lastHorizontal = key;
+            }
+        } else {
+            held &= ~bit;
+        }
+    }
+
+    /**
+     * Checks if a key is held down.
+     *
+     * @param key The key.
+     * @return True if the key is held, false otherwise.
+     */
+    public boolean isHeld(GameKey key) {
+        return (held & 1 << key.ordinal()) != 0;
+    }
+
+    /**
+     * Checks if a key was pressed since the presses were last cleared, even if it has been released since.
+     * Fire's auto-repeat presses while it is held count as presses, so holding fire keeps shooting.
+     *
+     * @param key The key.
+     * @return True if the key was pressed, false otherwise.
+     */
+    public boolean wasPressed(GameKey key) {
+        return (pressed & 1 << key.ordinal()) != 0;
+    }
+
+    /**
+     * Forgets the presses, keeping which keys are held. Called at the end of each tick's input handling.
+     */
+    public void clearPresses() {
+        pressed = 0;
+    }
+
+    /**
+     * Forgets every held key and press, as if all keys were released.
+     */
+    public void reset() {
+        held = 0;
+        pressed = 0;
+        lastVertical = null;
+        lastHorizontal = null;
+    }
+
+    /**
+     * Gets the vertical direction the held keys ask for.
+     *
+     * @return -1 for up, 1 for down, or 0 for neither.
+     */
+    public int getVertical() {
+        return direction(GameKey.UP, GameKey.DOWN, lastVertical);
+    }
+
+    /**
+     * Gets the horizontal direction the held keys ask for.
+     *
+     * @return -1 for left, 1 for right, or 0 for neither.
+     */
+    public int getHorizontal() {
+        return direction(GameKey.LEFT, GameKey.RIGHT, lastHorizontal);
+    }
+
+    /**
+     * Resolves two opposite keys into a direction.
+     *
+     * @param negative The key for -1.
+     * @param positive The key for 1.
+     * @param last     The one of the two pressed most recently.
+     * @return The direction.
+     */
+    private int direction(GameKey negative, GameKey positive, GameKey last) {
+        boolean negativeHeld = isHeld(negative);
+        boolean positiveHeld = isHeld(positive);
+        if (negativeHeld && positiveHeld) {
+            return last == positive ? 1 : -1;
+        }
+        if (negativeHeld) {
+            return -1;
+        }
+        return positiveHeld ? 1 : 0;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.demo.input;
+
+/**
+ * The FX thread's end of an {@link InputRing}: turns key events into transitions for the tick to poll.
+ * Keyboard auto-repeat sends a press many times a second while a key is held. Only the first press
+ * of a held movement key is sent, since the tick reads movement from the held keys, but fire repeats
+ * are sent too, so holding fire keeps shooting. Room is always kept for the release of every key sent as held,
+ * so however long the tick goes without polling, a release is never dropped and no key is left held.
+ */
+public class KeyPublisher {
+
+    private static final int KEY_COUNT = GameKey.values().length;
+    //Keys whose auto-repeat presses are sent while they are held
+    private static final int REPEATING_KEYS = 1 << GameKey.FIRE.ordinal();
+
+    private final InputRing ring;
+    //The keys sent as pressed and not yet released
+    private int held;
+
+    /**
+     * Constructs a KeyPublisher.
+     *
+     * @param ring The ring to offer transitions to. Its capacity must be more than the number of game keys.
+     * @throws IllegalArgumentException if the ring has no room beyond the reserved releases.
+     */
+    public KeyPublisher(InputRing ring) {
+        if (ring.getCapacity() <= KEY_COUNT) {
+            throw new IllegalArgumentException("Ring must hold more than " + KEY_COUNT + " transitions: "
+                    + ring.getCapacity());
+        }
+        this.ring = ring;
+    }
+
+    /**
+     * Sends a key press, unless the ring only has room left for releases.
+     * A repeat press of a held key is only sent for fire.
+     *
+     * @param key The key pressed.
+     * @return True if the press was sent, false if it was a repeat of a movement key or dropped.
+     */
+    public boolean press(GameKey key) {
+        int bit = 1 << key.ordinal();
+        if ((held & bit) != 0 && (REPEATING_KEYS & bit) == 0) {
+            return false;
+        }
+        //The size is never under the real one on this thread, so the reserve is never eaten into
+        if (ring.getCapacity() - ring.size() <= KEY_COUNT || !ring.offer(InputState.press(key))) {
+            return false;
+        }
+        held |= bit;
+        return true;
+    }
+
+    /**
+     * Sends a key release, if its press was sent.
+     *
+     * @param key The key released.
+     * @return True if the release was sent, false if the key was not held.
+     */
+    public boolean release(GameKey key) {
+        int bit = 1 << key.ordinal();
+        if ((held & bit) == 0) {
+            return false;
+        }
+        held &= ~bit;
+        return ring.offer(InputState.release(key));
+    }
+
+    /**
+     * Checks if a key was sent as pressed and not yet released.
+     *
+     * @param key The key.
+     * @return True if the key is held, false otherwise.
+     */
+    public boolean isHeld(GameKey key) {
+        return (held & 1 << key.ordinal()) != 0;
+    }
+
+    /**
+     * Forgets every held key without sending releases, for when the poller forgets them too.
+     * The next press of a key still held down, such as an auto-repeat, is sent again.
+     */
+    public void reset() {
+        held = 0;
+    }
+}
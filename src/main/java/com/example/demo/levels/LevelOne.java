@@ -1,25 +1,22 @@
 package com.example.demo.levels;
 
 import com.example.demo.GameState.GameState;
-import com.example.demo.actors.EnemyPlane;
-import com.example.demo.destructible.ActiveActorDestructible;
+import com.example.demo.engine.GameRandom;
+import com.example.demo.simulation.SimulationLevelOne;
 import com.example.demo.view.LevelView;
 
 import javafx.stage.Stage;
 
 /**
  * Represents Level One.
- * Hnadles initialization, gameplay, and allows player go to next level.
+ * Hnadles initialization and allows player go to next level.
+ * Its rules are in {@link SimulationLevelOne}.
  */
 public class LevelOne extends LevelParent {
 
-    private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/river.jpg";
+    private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background1.jpg";
     private static final String NEXT_LEVEL = "com.example.demo.levels.LevelTwo";
-    private static final int TOTAL_ENEMIES = 5;
-    private static final int KILLS_TO_ADVANCE = 10;
-    private static final double ENEMY_SPAWN_PROBABILITY = .20;
     private static final int PLAYER_INITIAL_HEALTH = 5;
-    private static final int SCORE_TO_ADVANCE = 5;
 
     private final LevelView levelView;
 
@@ -31,28 +28,21 @@ public class LevelOne extends LevelParent {
      * @param gameStage    the primary stage for the game.
      */
     public LevelOne(double screenHeight, double screenWidth, Stage gameStage) {
-        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, gameStage);
-        this.levelView = new LevelView(getRoot(), PLAYER_INITIAL_HEALTH);
+        this(screenHeight, screenWidth, gameStage, new GameRandom());
     }
 
     /**
-     * Checks whether the game is over if the user died or meets the kill target.
-     * If user  meets the kill target, user will unlock "All Enemies Defeated in Level One" achievement.
-     * Then proceed to next level.
+     * Constructs a LevelOne object whose random choices come from a given source.
+     *
+     * @param screenHeight the height of the game screen.
+     * @param screenWidth  the width of the game screen.
+     * @param gameStage    the primary stage for the game.
+     * @param random       the random source for spawns and enemy fire.
      */
-    @Override
-    protected void checkIfGameOver() {
-        if (isGameOver) {
-            return;
-        }
-        if (userIsDestroyed()) {
-            loseGame(); 
-        } else if (userHasReachedKillTarget() && !isTransitioning) {
-            
-        GameState.getInstance().addAchievement("All Enemies Defeated in Level One");
-        
-        winGame(NEXT_LEVEL);
-        }
+    public LevelOne(double screenHeight, double screenWidth, Stage gameStage, GameRandom random) {
+        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, gameStage,
+                new SimulationLevelOne(screenHeight, screenWidth, random), NEXT_LEVEL);
+        this.levelView = new LevelView(getRoot(), PLAYER_INITIAL_HEALTH);
     }
 
     /**
@@ -60,23 +50,7 @@ public class LevelOne extends LevelParent {
      */
     @Override
     protected void initializeFriendlyUnits() {
-        getRoot().getChildren().add(getUser());
-    }
-
-    /**
-     * Spawns enemy units.
-     * Limits the total number of enemies to TOTAL_ENEMIES.
-     */
-    @Override
-    protected void spawnEnemyUnits() {
-        int currentNumberOfEnemies = getCurrentNumberOfEnemies();
-        for (int i = 0; i < TOTAL_ENEMIES - currentNumberOfEnemies; i++) {
-            if (Math.random() < ENEMY_SPAWN_PROBABILITY) {
-                double newEnemyInitialYPosition = Math.random() * getEnemyMaximumYPosition();
-                ActiveActorDestructible newEnemy = new EnemyPlane(getScreenWidth(), newEnemyInitialYPosition);
-                addEnemyUnit(newEnemy);
-            }
-        }
+        showActor(getUser());
     }
 
     /**
@@ -100,22 +74,10 @@ public class LevelOne extends LevelParent {
     }
 
     /**
-     * Checks if the user has met the kill target before going to the next level.
-     * 
-     * @return True if the user meets the kill target and score , false otherwise.
-     */
-    private boolean userHasReachedKillTarget() {
-        return getUser().getNumberOfKills() >= KILLS_TO_ADVANCE 
-            && getPlayerScore() >= SCORE_TO_ADVANCE 
-            && !isGameOver;
-    }
-
-    /**
-     * Start the game by resetting user hearts and updating the game state.
+     * Resets user hearts and updates the game state before the game starts.
      */
     @Override
-public void startGame() {
-    super.startGame();
+protected void resetLevel() {
     if (levelView != null) {
         levelView.resetHearts(PLAYER_INITIAL_HEALTH); // Reset hearts to initial value
     }
@@ -1,60 +1,162 @@
 package com.example.demo.levels;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.IntConsumer;
 
-import com.example.demo.actors.FighterPlane;
+import com.example.demo.actors.ActiveActor;
 import com.example.demo.actors.UserPlane;
-import com.example.demo.destructible.ActiveActorDestructible;
+import com.example.demo.assets.ImageCache;
+import com.example.demo.assets.SoundEffect;
+import com.example.demo.assets.SoundMixer;
+import com.example.demo.assets.Sprite;
+import com.example.demo.assets.StyleSheets;
+import com.example.demo.engine.EntityStore;
+import com.example.demo.engine.GameLoop;
+import com.example.demo.engine.GameRandom;
+import com.example.demo.engine.LoopMode;
+import com.example.demo.engine.RenderMode;
+import com.example.demo.engine.SceneCommandQueue;
+import com.example.demo.engine.SimulationThread;
+import com.example.demo.engine.SpriteBatchRenderer;
+import com.example.demo.engine.TickLoop;
+import com.example.demo.engine.TickPhase;
+import com.example.demo.engine.TickProfiler;
+import com.example.demo.engine.TripleBuffer;
+import com.example.demo.events.TickEvent;
+import com.example.demo.input.GameKey;
+import com.example.demo.input.InputRing;
+import com.example.demo.input.InputState;
+import com.example.demo.input.KeyPublisher;
+import com.example.demo.replay.InputAction;
+import com.example.demo.replay.Replay;
+import com.example.demo.replay.ReplayPlayer;
+import com.example.demo.replay.ReplayRecorder;
+import com.example.demo.simulation.Simulation;
+import com.example.demo.simulation.SimulationListener;
 import com.example.demo.view.LevelView;
+import com.example.demo.view.SpriteView;
 import com.example.demo.GameState.GameState;
 import com.example.demo.UI.GameEndScreen;
 import com.example.demo.UI.GameWinScreen;
 
-import javafx.animation.*;
+import javafx.animation.AnimationTimer;
 import javafx.scene.Group;
 import javafx.scene.Scene;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.KeyCode;
 import javafx.stage.Stage;
-import javafx.util.Duration;
 
 /**
  * Abstract class representing the parent for all levels in the game.
- * Include user actions, spawning enemy, collisions, score, and transition to different levels.
+ * The rules of a level run in a {@link Simulation}, the same one the headless runner plays.
+ * The level ticks it, feeds it the player's keys, draws its actors, plays its sounds,
+ * saves its achievements and shows the win or game over screen it ends with.
  */
 public abstract class LevelParent extends Observable {
 
-    private static final double SCREEN_HEIGHT_ADJUSTMENT = 150;
     private static final int MILLISECOND_DELAY = 50;
+    //Fixed, since every speed, fire chance and timer in the levels is tuned per tick at this rate
+    public static final int TICK_RATE = 1000 / MILLISECOND_DELAY;
+    //Far more key transitions than a player can make in one tick
+    private static final int INPUT_RING_CAPACITY = 256;
+    //Room for a busy level before the view array grows
+    private static final int INITIAL_VIEW_CAPACITY = 256;
 
     private final double screenHeight;
     private final double screenWidth;
-    private final double enemyMaximumYPosition;
 
     private boolean isUpdated = false;
     private boolean isChangedState = false;
-    protected boolean isGameOver = false;
+    //Set by the tick and read by the key handlers, which may be on different threads
+    protected volatile boolean isGameOver = false;
     private static final int PLAYER_INITIAL_HEALTH = 5;
 
     private final Group root;
-    private final Timeline timeline;
-    private final UserPlane user;
+    private TickLoop gameLoop;
+    private LoopMode loopMode = LoopMode.FX_THREAD;
+    //Only set in simulation thread mode, with the state handed from it to the FX thread
+    private SimulationThread simulationThread;
+    private TripleBuffer<LevelSnapshot> snapshots;
+    private final SceneCommandQueue sceneCommands = new SceneCommandQueue();
+    //Key transitions from the FX thread, polled into the held keys at the start of each tick
+    private final InputRing keyTransitions = new InputRing(INPUT_RING_CAPACITY);
+    private final KeyPublisher keyPublisher = new KeyPublisher(keyTransitions);
+    private final InputState inputState = new InputState();
+    private final IntConsumer applyKeyTransition = inputState::apply;
+    //The directions last sent to the user plane
+    private int appliedVertical;
+    private int appliedHorizontal;
+    //HUD values last drawn from a snapshot
+    private int shownHealth = -1;
+    private int shownScore = -1;
+    //Draws snapshots in simulation thread mode, until the loop ends on its own or is stopped
+    private final AnimationTimer snapshotRenderer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            boolean ended = simulationThread.hasEnded();
+            showLatestSnapshot(System.nanoTime());
+            if (ended) {
+                stop();
+            }
+        }
+    };
+    private RenderMode renderMode = RenderMode.NODES;
+    //Only set in canvas mode
+    private SpriteBatchRenderer spriteRenderer;
+    private boolean isSceneInitialized = false;
+    //Per-phase tick timings, printed at level end when the skybattle.profile property is set
+    private final TickProfiler profiler;
+    private final boolean dumpProfileOnEnd = Boolean.getBoolean("skybattle.profile");
+    //Set by F3 while the simulation thread runs, and printed by its next tick, the only thread writing the profile
+    private volatile boolean profileDumpRequested;
+    //The rules of the level, with every actor in it
+    private final Simulation simulation;
+    //The level the win screen leads to, or null after the last level
+    private final String nextLevel;
     private final Scene scene;
     private final ImageView background;
     private boolean isPaused = false;
-    private int playerScore;
-    
+    private boolean isStopped = false;
+    private boolean isDisposed = false;
+    //Run when a screen asks to go back to the main menu
+    private Runnable onReturnToMenu;
+
+    //The view of each shown actor, indexed by entity id
+    private SpriteView[] views = new SpriteView[INITIAL_VIEW_CAPACITY];
+    //Views of actors hidden this tick, taken out of the scene in one batch at the end of it
+    private final List<SpriteView> hiddenViews = new ArrayList<>();
+    //Views out of the scene, reused for the next actor with the same sprite
+    private final Map<Sprite, ArrayDeque<SpriteView>> freeViews = new EnumMap<>(Sprite.class);
+    //Shows what happens in the simulation, on the FX thread when the tick is drawn
+    private final SimulationListener simulationListener = new SimulationListener() {
+        @Override
+        public void actorAdded(ActiveActor actor) {
+            showActor(actor);
+        }
+
+        @Override
+        public void actorRemoved(ActiveActor actor) {
+            hideActor(actor);
+        }
+
+        @Override
+        public void effectPlayed(SoundEffect effect) {
+            playSound(effect);
+        }
 
-    private final List<ActiveActorDestructible> friendlyUnits;
-    private final List<ActiveActorDestructible> enemyUnits;
-    private final List<ActiveActorDestructible> userProjectiles;
-    private final List<ActiveActorDestructible> enemyProjectiles;
+        @Override
+        public void achievementUnlocked(String achievement) {
+            unlockAchievement(achievement);
+        }
+    };
 
-    private int currentNumberOfEnemies;
     private LevelView levelView;
     private final Stage gameStage;
+    //Ticks run so far, used to stamp recorded inputs
+    private long tickCount;
+    //Set while inputs are recorded or played back
+    private ReplayRecorder replayRecorder;
+    private ReplayPlayer replayPlayer;
 
     /**
      * Construct LevelParent with specific parameters.
@@ -62,34 +164,31 @@ public abstract class LevelParent extends Observable {
      * @param backgroundImageName Name of the background image.
      * @param screenHeight        Height of the game screen.
      * @param screenWidth         Width of the game screen.
-     * @param playerInitialHealth Initial health of the user plane.
      * @param gameStage           The main game stage.
+     * @param simulation          The rules of this level, which it ticks and draws.
+     * @param nextLevel           The name of the level the win screen leads to, or null for the last level.
      */
-    public LevelParent(String backgroundImageName, double screenHeight, double screenWidth, int playerInitialHealth, Stage gameStage) {
+    public LevelParent(String backgroundImageName, double screenHeight, double screenWidth, Stage gameStage,
+                       Simulation simulation, String nextLevel) {
+        this.simulation = simulation;
+        this.nextLevel = nextLevel;
+        this.profiler = simulation.getTickProfiler();
         this.root = new Group();
         this.scene = new Scene(root, screenWidth, screenHeight);
-        this.timeline = new Timeline();
-        this.user = new UserPlane(playerInitialHealth);
-        this.friendlyUnits = new ArrayList<>();
-        this.enemyUnits = new ArrayList<>();
-        this.userProjectiles = new ArrayList<>();
-        this.enemyProjectiles = new ArrayList<>();
+        StyleSheets.apply(scene);
         this.isUpdated = false;
         this.isChangedState = false;
         this.gameStage = gameStage;
-        this.playerScore = 0;
         
-        this.background = new ImageView(new Image(getClass().getResource(backgroundImageName).toExternalForm()));
+        this.background = new ImageView(ImageCache.get(backgroundImageName));
         this.screenHeight = screenHeight;
         this.screenWidth = screenWidth;
-        this.enemyMaximumYPosition = screenHeight - SCREEN_HEIGHT_ADJUSTMENT;
         this.levelView = instantiateLevelView();
         if (this.levelView == null) {
             throw new IllegalStateException("instantiateLevelView() must not return null!");
         }
-        this.currentNumberOfEnemies = 0;
-        initializeTimeline();
-        friendlyUnits.add(user);
+        initializeGameLoop();
+        simulation.setListener(simulationListener);
     }
 
     /**
@@ -97,11 +196,6 @@ public abstract class LevelParent extends Observable {
      */
     protected abstract void initializeFriendlyUnits();
 
-    /**
-     * Abstract method to spawns enemy units.
-     */
-    protected abstract void spawnEnemyUnits();
-
     /**
      * Returns the level view for current level.
      *
@@ -125,6 +219,7 @@ public abstract class LevelParent extends Observable {
      * @return The initialized scene.
      */
     public Scene initializeScene() {
+        isSceneInitialized = true;
         initializeBackground();
         initializeFriendlyUnits();
          if (levelView != null) { 
@@ -138,33 +233,208 @@ public abstract class LevelParent extends Observable {
     }
 
     /**
-     * Starts the game by playing the timeline.
+     * Starts the game by resetting the level, then starting the game loop.
+     *
+     * @throws IllegalStateException if the level has been disposed.
      */
     public void startGame() {
+        if (isDisposed) {
+            throw new IllegalStateException("A disposed level cannot be started");
+        }
+        resetLevel();
         background.requestFocus();
-        timeline.play();
+        startLoop();
     }
 
     /**
-     * Pauses the game by stopping the timeline.
+     * Resets the state of a specific level when the game starts.
+     * Runs before the loop starts, so no tick on the simulation thread sees it half reset.
+     * Does nothing by default.
+     */
+    protected void resetLevel() {
+
+    }
+
+    /**
+     * Pauses the game by stopping the game loop.
      */
     public void pauseGame() {
         if (!isPaused) {
-            timeline.pause();
+            stopLoop();
             isPaused = true;
+            releaseAllKeys();
         }
     }
 
     /**
-     * Resumes the game by playing the timeline.
+     * Resumes the game by starting the game loop.
+     * A stopped level stays stopped.
      */
     public void resumeGame() {
         if (isPaused) {
-            timeline.play();
             isPaused = false;
+            if (!isStopped) {
+                startLoop();
+            }
+        }
+    }
+
+    /**
+     * Stops the game for good. Unlike pausing, the game loop is not started again on resume.
+     */
+    public void stopGame() {
+        isStopped = true;
+        stopLoop();
+    }
+
+    /**
+     * Starts the game loop, and in simulation thread mode the renderer that draws its snapshots.
+     */
+    private void startLoop() {
+        if (simulationThread != null) {
+            snapshotRenderer.start();
+        }
+        gameLoop.start();
+    }
+
+    /**
+     * Stops the game loop. In simulation thread mode, waits for the tick in progress,
+     * draws the last tick it published and stops the renderer.
+     */
+    private void stopLoop() {
+        gameLoop.stop();
+        if (simulationThread != null) {
+            snapshotRenderer.stop();
+            showLatestSnapshot(System.nanoTime());
         }
     }
 
+    /**
+     * Releases everything the level holds so it can be garbage collected.
+     * Stops the game loop, removes observers and input handlers, returns live projectiles to their pools,
+     * and empties the actor lists and scene graph. Calling it again does nothing.
+     */
+    public void dispose() {
+        if (isDisposed) {
+            return;
+        }
+        //Marked first, so stopping does not draw changes queued for a level that is going away
+        isDisposed = true;
+        stopGame();
+        sceneCommands.clear();
+        deleteObservers();
+        onReturnToMenu = null;
+        background.setOnKeyPressed(null);
+        background.setOnKeyReleased(null);
+        scene.setOnKeyPressed(null);
+        releaseAllKeys();
+
+        disposeLevel();
+
+        simulation.dispose();
+        Arrays.fill(views, null);
+        hiddenViews.clear();
+        freeViews.clear();
+
+        if (spriteRenderer != null) {
+            spriteRenderer.clear();
+        }
+        root.getChildren().clear();
+    }
+
+    /**
+     * Releases resources held by a specific level, before the shared ones are released.
+     * Does nothing by default.
+     */
+    protected void disposeLevel() {
+
+    }
+
+    /**
+     * Checks if the level has been disposed.
+     *
+     * @return True if the level has been disposed, false otherwise.
+     */
+    public boolean isDisposed() {
+        return isDisposed;
+    }
+
+    /**
+     * Sets what happens when a screen asks to go back to the main menu.
+     *
+     * @param onReturnToMenu The action to run, usually provided by the controller.
+     */
+    public void setOnReturnToMenu(Runnable onReturnToMenu) {
+        this.onReturnToMenu = onReturnToMenu;
+    }
+
+    /**
+     * Goes back to the main menu, if something is listening.
+     */
+    public void returnToMenu() {
+        if (onReturnToMenu != null) {
+            onReturnToMenu.run();
+        } else {
+            System.out.println("No main menu to return to");
+        }
+    }
+
+    /**
+     * Chooses which thread runs the ticks.
+     * On the simulation thread, ticks only change game state and the FX thread draws the snapshots they publish,
+     * so a slow frame or a modal window no longer holds up the game clock, and a slow tick no longer drops a frame.
+     * Must be called before the game starts.
+     *
+     * @param loopMode The loop mode to use.
+     * @throws IllegalStateException if the game loop is already running.
+     */
+    public void setLoopMode(LoopMode loopMode) {
+        if (gameLoop.isRunning()) {
+            throw new IllegalStateException("Loop mode cannot change while the game is running");
+        }
+        this.loopMode = loopMode;
+        this.snapshots = loopMode == LoopMode.SIMULATION_THREAD
+                ? new TripleBuffer<>(LevelSnapshot::new)
+                : null;
+        initializeGameLoop();
+    }
+
+    /**
+     * Gets which thread runs the ticks.
+     *
+     * @return The loop mode, FX_THREAD by default.
+     */
+    public LoopMode getLoopMode() {
+        return loopMode;
+    }
+
+    /**
+     * Chooses how sprites are drawn for this level.
+     * Canvas mode draws every sprite into one Canvas per frame, for levels with many actors.
+     * Must be called before the scene is initialized.
+     *
+     * @param renderMode The render mode to use.
+     * @throws IllegalStateException if the scene is already initialized.
+     */
+    public void setRenderMode(RenderMode renderMode) {
+        if (isSceneInitialized) {
+            throw new IllegalStateException("Render mode cannot change after the scene is initialized");
+        }
+        this.renderMode = renderMode;
+        this.spriteRenderer = renderMode == RenderMode.CANVAS
+                ? new SpriteBatchRenderer(screenWidth, screenHeight)
+                : null;
+    }
+
+    /**
+     * Gets how sprites are drawn for this level.
+     *
+     * @return The render mode, NODES by default.
+     */
+    public RenderMode getRenderMode() {
+        return renderMode;
+    }
+
      /**
      * Get the current scene.
      *
@@ -187,7 +457,7 @@ public abstract class LevelParent extends Observable {
             isChangedState = true;
             resetScore();
             //GameState holds heart count
-             GameState.getInstance().setLevel2Hearts(user.getHealth()); 
+             GameState.getInstance().setLevel2Hearts(getUser().getHealth()); 
             resetScore();
         }
     }
@@ -205,39 +475,172 @@ public abstract class LevelParent extends Observable {
      * Resets the player's score to zero.
      */
     private void resetScore() {
-        playerScore = 0;
+        simulation.resetScore();
         // Update the score display 
-        levelView.updateScore(playerScore); 
+        levelView.updateScore(0); 
         System.out.println("Score reset for the next level.");
     }
 
     /**
-     * Updates the scene by processing game events.
+     * Updates the scene by stepping the simulation, then shows the hearts, score and outcome.
      */
     protected void updateScene() {
         if (!isPaused && !isTransitioning) {
-            spawnEnemyUnits();
-            updateActors();
-            generateEnemyFire();
-            updateNumberOfEnemies();
-            handleEnemyPenetration();
-            handleUserProjectileCollisions();
-            handleEnemyProjectileCollisions();
-            handlePlaneCollisions();
-            removeAllDestroyedActors();
-            updateKillCount();
+            simulation.step();
             updateLevelView();
+            profiler.mark(TickPhase.UPDATE_LEVEL_VIEW);
             checkIfGameOver();
         }
     }
 
     /**
-     * Initializes the timeline for the game loop.
+     * Initializes the fixed-step game loop.
      */
-    private void initializeTimeline() {
-        timeline.setCycleCount(Timeline.INDEFINITE);
-        KeyFrame gameLoop = new KeyFrame(Duration.millis(MILLISECOND_DELAY), e -> updateScene());
-        timeline.getKeyFrames().add(gameLoop);
+    private void initializeGameLoop() {
+        if (loopMode == LoopMode.SIMULATION_THREAD) {
+            simulationThread = new SimulationThread("Simulation-" + getClass().getSimpleName(), TICK_RATE, this::tick);
+            gameLoop = simulationThread;
+        } else {
+            simulationThread = null;
+            gameLoop = new GameLoop(TICK_RATE, this::tick, this::renderActors);
+        }
+    }
+
+    /**
+     * Runs one simulation tick.
+     * Polls the keys, then steps the simulation, which saves the current positions so rendering can
+     * interpolate from them. The whole tick, including any work a level adds to updateScene, is profiled.
+     * On the simulation thread, the result is published as a snapshot for the FX thread to draw.
+     */
+    private void tick() {
+        TickEvent event = new TickEvent();
+        event.begin();
+        pollInput();
+        if (replayPlayer != null) {
+            replayPlayer.applyInputs(tickCount, this::performInput);
+        }
+        profiler.beginTick();
+        updateScene();
+        removeHiddenViews();
+        profiler.endTick();
+        if (profileDumpRequested) {
+            profileDumpRequested = false;
+            profiler.dump(getClass().getSimpleName());
+        }
+        if (snapshots != null) {
+            publishSnapshot();
+        }
+        tickCount++;
+        if (event.shouldCommit()) {
+            event.level = getClass().getSimpleName();
+            event.friendlyUnits = simulation.getFriendlyUnitCount();
+            event.enemyUnits = simulation.getCurrentNumberOfEnemies();
+            event.userProjectiles = simulation.getUserProjectileCount();
+            event.enemyProjectiles = simulation.getEnemyProjectileCount();
+            event.commit();
+        }
+    }
+
+    /**
+     * Gets the profiler that times each phase of the tick.
+     * Call {@link TickProfiler#dump(String)} on it to print the timings so far.
+     *
+     * @return The tick profiler.
+     */
+    public TickProfiler getTickProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Prints the tick profile on demand.
+     * While the simulation thread is ticking, the next tick prints it, so it is never read while being written.
+     */
+    private void requestProfileDump() {
+        if (simulationThread != null && gameLoop.isRunning()) {
+            profileDumpRequested = true;
+        } else {
+            profiler.dump(getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Prints the tick profile if the skybattle.profile system property is set.
+     */
+    private void dumpProfileIfEnabled() {
+        if (dumpProfileOnEnd) {
+            profiler.dump(getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Draws every shown actor between its previous and current tick positions.
+     *
+     * @param alpha How far the frame is between the last tick and the next one.
+     */
+    private void renderActors(double alpha) {
+        EntityStore entities = getEntities();
+        for (int id = 0; id < views.length; id++) {
+            SpriteView view = views[id];
+            if (view != null) {
+                double previousX = entities.getPreviousX(id);
+                double previousY = entities.getPreviousY(id);
+                view.show(previousX + (entities.getX(id) - previousX) * alpha,
+                        previousY + (entities.getY(id) - previousY) * alpha);
+            }
+        }
+        renderLevel();
+        if (spriteRenderer != null) {
+            spriteRenderer.render();
+        }
+    }
+
+    /**
+     * Draws state specific to a level, once per frame on the FX thread after the actors have moved.
+     * Does nothing by default.
+     */
+    protected void renderLevel() {
+
+    }
+
+    /**
+     * Copies the actor positions and HUD values of the tick that just ran into the next snapshot,
+     * and hands it to the FX thread.
+     */
+    private void publishSnapshot() {
+        LevelSnapshot snapshot = snapshots.getWriteBuffer();
+        snapshot.begin(tickCount, getUser().getHealth(), getPlayerScore());
+        snapshot.addAll(views, getEntities());
+        snapshot.end(System.nanoTime());
+        snapshots.publish();
+    }
+
+    /**
+     * Draws the newest snapshot on the FX thread.
+     * Runs the scene changes made up to its tick first, then moves the actors,
+     * interpolating by how long ago the tick was published.
+     *
+     * @param now The current time from {@link System#nanoTime()}.
+     */
+    private void showLatestSnapshot(long now) {
+        LevelSnapshot snapshot = isDisposed ? null : snapshots.acquireLatest();
+        if (snapshot == null) {
+            return;
+        }
+        sceneCommands.runUntil(snapshot.getTick());
+        double alpha = Math.min(1.0, (double) (now - snapshot.getPublishedNanos()) / simulationThread.getStepNanos());
+        snapshot.show(alpha);
+        if (snapshot.getHealth() != shownHealth) {
+            shownHealth = snapshot.getHealth();
+            levelView.removeHearts(shownHealth);
+        }
+        if (snapshot.getScore() != shownScore) {
+            shownScore = snapshot.getScore();
+            levelView.updateScore(shownScore);
+        }
+        renderLevel();
+        if (spriteRenderer != null) {
+            spriteRenderer.render();
+        }
     }
 
      /**
@@ -248,264 +651,371 @@ public abstract class LevelParent extends Observable {
         background.setFitHeight(screenHeight);
         background.setFitWidth(screenWidth);
     
+        //Keys only record transitions here; the next tick polls them, on whichever thread it runs
         background.setOnKeyPressed(event -> {
             if (isGameOver && event.getCode() != KeyCode.TAB) {
                 return;
             }
-            if (!isGameOver) {
-                KeyCode kc = event.getCode();
-                if (kc == KeyCode.UP) user.moveUp();
-                if (kc == KeyCode.DOWN) user.moveDown();
-                if (kc == KeyCode.LEFT) user.moveLeft();
-                if (kc == KeyCode.RIGHT) user.moveRight();
-                if (kc == KeyCode.SPACE) fireProjectile();
+            //Print the tick profile on demand
+            if (event.getCode() == KeyCode.F3) {
+                requestProfileDump();
+                return;
+            }
+            //Keys are ignored while a replay drives the user, and presses while no tick will poll them
+            GameKey key = GameKey.fromKeyCode(event.getCode());
+            if (key != null && replayPlayer == null && !isPaused && !isTransitioning) {
+                keyPublisher.press(key);
             }
         });
 
+        //Releases always go through, so no key is left held
         background.setOnKeyReleased(event -> {
-            if (isGameOver || isTransitioning) {
-                return;
-            }
-            if (!isPaused) {
-                KeyCode kc = event.getCode();
-                if (kc == KeyCode.UP || kc == KeyCode.DOWN) {
-                    user.stopVerticalMove();
-                }
-                if (kc == KeyCode.LEFT || kc == KeyCode.RIGHT) {
-                    user.stopHorizontalMove();
-                }
+            GameKey key = GameKey.fromKeyCode(event.getCode());
+            if (key != null && replayPlayer == null) {
+                keyPublisher.release(key);
             }
         });
         
     
         root.getChildren().add(background);
+        //Sprites are drawn above the background and below the HUD
+        if (spriteRenderer != null) {
+            root.getChildren().add(spriteRenderer.getCanvas());
+        }
     }
-    
+
     /**
-     * Fires the projectile from the user's plane.
-     * Add projectile to game root, and track in userProjectiles
+     * Forgets every key, as if all were released, and drops transitions not yet polled.
+     * Keys still held down count again from their next auto-repeat press.
+     * Only called while the loop is stopped, so no tick is polling the ring meanwhile.
      */
-    private void fireProjectile() {
-        ActiveActorDestructible projectile = user.fireProjectile();
-        root.getChildren().add(projectile);
-        userProjectiles.add(projectile);
+    private void releaseAllKeys() {
+        keyTransitions.drain(transition -> { });
+        inputState.reset();
+        keyPublisher.reset();
     }
 
     /**
-     * Generate enemy projectile.
-     * Add enemy projectile to game root, and track in enemyProjectiles.
+     * Applies the key transitions made since the last tick, then turns the held keys into inputs for the user plane.
+     * Only a change of direction or a press of fire becomes an input, so each is recorded once.
      */
-    private void generateEnemyFire() {
-        enemyUnits.forEach(enemy -> spawnEnemyProjectile(((FighterPlane) enemy).fireProjectile()));
+    private void pollInput() {
+        keyTransitions.drain(applyKeyTransition);
+        int vertical = inputState.getVertical();
+        if (vertical != appliedVertical) {
+            appliedVertical = vertical;
+            applyInput(vertical < 0 ? InputAction.MOVE_UP : vertical > 0 ? InputAction.MOVE_DOWN : InputAction.STOP_VERTICAL);
+        }
+        int horizontal = inputState.getHorizontal();
+        if (horizontal != appliedHorizontal) {
+            appliedHorizontal = horizontal;
+            applyInput(horizontal < 0 ? InputAction.MOVE_LEFT : horizontal > 0 ? InputAction.MOVE_RIGHT : InputAction.STOP_HORIZONTAL);
+        }
+        if (inputState.wasPressed(GameKey.FIRE)) {
+            applyInput(InputAction.FIRE);
+        }
+        inputState.clearPresses();
     }
 
     /**
-     * Spawns enemy projectile.
-     * 
-     * @param projectile The projectile to be added to the game.
+     * Applies a player input straight away, recording it first if a recording is running.
+     * Must be called on the thread running the ticks; keys reach it through {@link #pollInput()}.
+     *
+     * @param action The input.
      */
-    private void spawnEnemyProjectile(ActiveActorDestructible projectile) {
-        if (projectile != null) {
-            root.getChildren().add(projectile);
-            enemyProjectiles.add(projectile);
+    public void applyInput(InputAction action) {
+        if (replayRecorder != null) {
+            replayRecorder.record(tickCount, action);
         }
+        performInput(action);
     }
 
     /**
-     * Updates all active actors in the game.
+     * Applies a player input to the user plane.
+     *
+     * @param action The input.
      */
-    private void updateActors() {
-        friendlyUnits.forEach(plane -> plane.updateActor());
-        enemyUnits.forEach(enemy -> enemy.updateActor());
-        userProjectiles.forEach(projectile -> projectile.updateActor());
-        enemyProjectiles.forEach(projectile -> projectile.updateActor());
+    private void performInput(InputAction action) {
+        UserPlane user = getUser();
+        switch (action) {
+            case MOVE_UP:
+                user.moveUp();
+                break;
+            case MOVE_DOWN:
+                user.moveDown();
+                break;
+            case MOVE_LEFT:
+                user.moveLeft();
+                break;
+            case MOVE_RIGHT:
+                user.moveRight();
+                break;
+            case STOP_VERTICAL:
+                user.stopVerticalMove();
+                break;
+            case STOP_HORIZONTAL:
+                user.stopHorizontalMove();
+                break;
+            case FIRE:
+                simulation.fireProjectile();
+                break;
+            default:
+                break;
+        }
     }
 
     /**
-     * Removes all destroyed actors from the game.
+     * Starts recording the player's inputs, with the seed and settings needed to replay them.
+     * Call before the first tick so the whole level is recorded.
      */
-    void removeAllDestroyedActors() {
-        removeDestroyedActors(friendlyUnits);
-        removeDestroyedActors(enemyUnits);
-        removeDestroyedActors(userProjectiles);
-        removeDestroyedActors(enemyProjectiles);
+    public void startRecording() {
+        replayRecorder = new ReplayRecorder(getClass().getName(), getRandom().getSeed(),
+                simulation.getPlayerInitialHealth(), TICK_RATE);
     }
 
     /**
-     * Removes destroyed actors from the list and game root.
-     * 
-     * @param actors The list of actors to check if they are destroyed.
+     * Checks if the player's inputs are being recorded.
+     *
+     * @return True if recording, false otherwise.
      */
-    private void removeDestroyedActors(List<ActiveActorDestructible> actors) {
-        List<ActiveActorDestructible> destroyedActors = actors.stream()
-                .filter(ActiveActorDestructible::isDestroyed)
-                .collect(Collectors.toList());
-        root.getChildren().removeAll(destroyedActors);
-        actors.removeAll(destroyedActors);
+    public boolean isRecording() {
+        return replayRecorder != null;
     }
 
     /**
-     * Handles collisions between the user's plane and enemy plane.
-     * Deducts health from the user's plane and removes collided enemies.
+     * Stops recording and returns everything recorded.
+     *
+     * @return The replay, or null if nothing was being recorded.
      */
-    private void handlePlaneCollisions() {
-        List<ActiveActorDestructible> collidedEnemies = new ArrayList<>();
-    
-        for (ActiveActorDestructible enemy : new ArrayList<>(enemyUnits)) {
-            if (getUser().getBoundsInParent().intersects(enemy.getBoundsInParent())) {
-                collidedEnemies.add(enemy); // Add enemy to the list of collided enemies
-                getUser().takeDamage();    // Deduct one heart for each collision
-            }
+    public Replay stopRecording() {
+        if (replayRecorder == null) {
+            return null;
         }
-    
-        // Remove all collided enemies after processing
-        for (ActiveActorDestructible enemy : collidedEnemies) {
-            root.getChildren().remove(enemy);
-            enemyUnits.remove(enemy);
+        Replay replay = replayRecorder.toReplay(tickCount);
+        replayRecorder = null;
+        return replay;
+    }
+
+    /**
+     * Drives the user from a replay instead of the keyboard.
+     * The level must have been built from the replay's seed and not have ticked yet.
+     *
+     * @param replay The replay to play.
+     * @throws IllegalArgumentException if the replay is of another level or seed, or ran at another tick rate.
+     * @throws IllegalStateException if the level has already ticked.
+     */
+    public void playReplay(Replay replay) {
+        GameRandom random = getRandom();
+        if (!getClass().getName().equals(replay.getLevelClassName()) || random.getSeed() != replay.getSeed()) {
+            throw new IllegalArgumentException("Replay of " + replay.getLevelClassName() + " with seed "
+                    + replay.getSeed() + " cannot drive " + getClass().getName() + " with seed " + random.getSeed());
         }
-    
-        // Check if the user is destroyed
-        if (userIsDestroyed()) {
-            loseGame(); 
+        if (replay.getTickRate() != TICK_RATE) {
+            throw new IllegalArgumentException("Replay ran at " + replay.getTickRate() + " ticks per second, levels run at "
+                    + TICK_RATE);
+        }
+        if (tickCount != 0) {
+            throw new IllegalStateException("A replay must start before the first tick");
         }
+        replayPlayer = new ReplayPlayer(replay);
     }
-    
-    
+
     /**
-     * Handles collisions between the user's projectiles and enemy planes.
-     * Updates score and remove the destroyed enemies.
+     * Runs the rest of a replay as fast as possible instead of at the tick rate.
+     * Stops when the recorded ticks have run or the game ends, then draws the final positions.
+     * Must be called on the FX thread once the scene is initialized, with ticks on the FX thread.
+     *
+     * @return The number of ticks run.
+     * @throws IllegalStateException if no replay is playing, or the level ticks on a simulation thread.
      */
-    void handleUserProjectileCollisions() {
-        List<ActiveActorDestructible> destroyedProjectiles = new ArrayList<>();
-        List<ActiveActorDestructible> destroyedEnemies = new ArrayList<>();
-    
-        for (ActiveActorDestructible projectile : userProjectiles) {
-            boolean projectileHit = false;
-    
-            for (ActiveActorDestructible enemy : enemyUnits) {
-                
-                if (projectile.getBoundsInParent().intersects(enemy.getBoundsInParent()) && !projectileHit) {
-                    projectile.takeDamage();
-                    enemy.takeDamage();
-    
-                    // Add score only if the enemy is destroyed
-                    if (enemy.isDestroyed()) {
-                        destroyedEnemies.add(enemy); 
-                        if (this instanceof LevelOne) {
-                            addScore(5);
-                        }
-                        if (this instanceof LevelTwo) {
-                            addScore(60);
-                        }
-                        if (this instanceof LevelThree) {
-                            addScore(100); 
-                        }
-                        
-                    }
-    
-                    destroyedProjectiles.add(projectile); 
-                    projectileHit = true; 
-                }
-            }
+    public long runReplayUncapped() {
+        if (replayPlayer == null) {
+            throw new IllegalStateException("No replay is playing");
         }
-    
-        // Cleanup: Remove destroyed projectiles and enemies
-        root.getChildren().removeAll(destroyedProjectiles);
-        userProjectiles.removeAll(destroyedProjectiles);
-        root.getChildren().removeAll(destroyedEnemies);
-        enemyUnits.removeAll(destroyedEnemies);
+        if (simulationThread != null) {
+            throw new IllegalStateException("Uncapped replays run on the FX thread");
+        }
+        long startTick = tickCount;
+        while (!isGameOver && !replayPlayer.isFinished(tickCount)) {
+            tick();
+        }
+        renderActors(1.0);
+        return tickCount - startTick;
     }
-    
+
     /**
-     * Handles collisions between enemy projectiles and friendly units.
+     * Gets the number of ticks this level has run.
+     *
+     * @return The tick count.
      */
-    void handleEnemyProjectileCollisions() {
-        handleCollisions(enemyProjectiles, friendlyUnits);
+    public long getTickCount() {
+        return tickCount;
     }
 
     /**
-     * Generic method to handle collisions between two lists of actors.
-     * 
-     * @param actors1 First list of actors.
-     * @param actors2 Second list of actors.
-     */
-    private void handleCollisions(List<ActiveActorDestructible> actors1, List<ActiveActorDestructible> actors2) {
-        for (ActiveActorDestructible actor : actors2) {
-            for (ActiveActorDestructible otherActor : actors1) {
-                if (actor.getBoundsInParent().intersects(otherActor.getBoundsInParent())) {
-                    actor.takeDamage();
-                    otherActor.takeDamage();
-                }
+     * Shows a sprite on top of the ones already shown.
+     * Adds it to the root in node mode, or to the canvas batch in canvas mode.
+     *
+     * @param sprite The sprite to show.
+     */
+    protected void addSprite(ImageView sprite) {
+        runOnScene(() -> {
+            if (spriteRenderer != null) {
+                spriteRenderer.add(sprite);
+            } else {
+                root.getChildren().add(sprite);
             }
-        }
+        });
     }
 
     /**
-     * Handles cases where enemies move out of screen.
-     * Deducts all hearts from the user and triggers game over.
+     * Stops showing a sprite.
+     *
+     * @param sprite The sprite to hide.
      */
-    void handleEnemyPenetration() {
-        for (ActiveActorDestructible enemy : new ArrayList<>(enemyUnits)) {
-            if (enemyHasPenetratedDefenses(enemy)) {
-                System.out.println("Enemy exited the screen! Deducting all hearts.");
-    
-                // Deduct all hearts from the user
-                while (user.getHealth() > 0) {
-                    user.takeDamage();
-                }
-    
-                // Remove the enemy and trigger game over
-                enemy.destroy();
-                root.getChildren().remove(enemy);
-                enemyUnits.remove(enemy);
-    
-                // If user destroyed trigger game over
-                if (userIsDestroyed()) {
-                    loseGame();
-                }
+    protected void removeSprite(ImageView sprite) {
+        runOnScene(() -> {
+            if (spriteRenderer != null) {
+                spriteRenderer.remove(sprite);
+            } else {
+                root.getChildren().remove(sprite);
             }
+        });
+    }
+
+    /**
+     * Shows an actor, with a view reused from an actor of the same sprite that has gone if there is one.
+     *
+     * @param actor The actor to show.
+     */
+    protected void showActor(ActiveActor actor) {
+        ArrayDeque<SpriteView> free = freeViews.get(actor.getSprite());
+        SpriteView view = free != null && !free.isEmpty() ? free.pop() : new SpriteView(actor.getSprite());
+        int id = actor.getId();
+        if (id >= views.length) {
+            views = Arrays.copyOf(views, Math.max(views.length * 2, id + 1));
         }
+        views[id] = view;
+        double x = actor.getMinX();
+        double y = actor.getMinY();
+        runOnScene(() -> view.show(x, y));
+        addSprite(view);
+        viewShown(actor, view);
     }
-    
+
     /**
-     * Updates the level view to show the user's current health and score.
+     * Called after an actor is given a view, so a level can attach its own nodes to it.
+     * Does nothing by default.
+     *
+     * @param actor The actor shown.
+     * @param view  The view drawing it.
      */
-    private void updateLevelView() {
-        levelView.removeHearts(user.getHealth());
-        levelView.updateScore(playerScore);
+    protected void viewShown(ActiveActor actor, SpriteView view) {
+
     }
 
     /**
-     * Updates the kill count.
-     * By comparing the current and previous number of enemies.
+     * Stops showing an actor. Its view leaves the scene at the end of the tick.
+     * Must be called before the actor is released, while its entity id is still its own.
+     *
+     * @param actor The actor to hide.
      */
-    private void updateKillCount() {
-        for (int i = 0; i < currentNumberOfEnemies - enemyUnits.size(); i++) {
-            user.incrementKillCount();
+    protected void hideActor(ActiveActor actor) {
+        int id = actor.getId();
+        if (id < views.length && views[id] != null) {
+            hiddenViews.add(views[id]);
+            views[id] = null;
         }
     }
 
     /**
-     * Checks if an enemy move out of screen boundaries.
-     * 
-     * @param enemy The enemy actor to check.
-     * @return True if the enemy is out of the screen, false otherwise.
+     * Takes the views hidden this tick out of the scene in one batch, and keeps them for reuse.
      */
-    private boolean enemyHasPenetratedDefenses(ActiveActorDestructible enemy) {
-        return enemy.getBoundsInParent().getMaxX() < 0 || 
-               enemy.getBoundsInParent().getMinX() > screenWidth || 
-               enemy.getBoundsInParent().getMaxY() < 0 || 
-               enemy.getBoundsInParent().getMinY() > screenHeight;
+    private void removeHiddenViews() {
+        if (hiddenViews.isEmpty()) {
+            return;
+        }
+        if (isOnSimulationThread()) {
+            //The list is reused next tick, so the FX thread gets its own copy
+            List<SpriteView> removed = new ArrayList<>(hiddenViews);
+            runOnScene(() -> removeSprites(removed));
+        } else {
+            removeSprites(hiddenViews);
+        }
+        for (int i = 0; i < hiddenViews.size(); i++) {
+            SpriteView view = hiddenViews.get(i);
+            freeViews.computeIfAbsent(view.getSprite(), sprite -> new ArrayDeque<>()).push(view);
+        }
+        hiddenViews.clear();
+    }
+
+    /**
+     * Makes a change to the scene graph.
+     * During a tick on the simulation thread, the change runs on the FX thread when that tick is drawn,
+     * in the order it was made. Anywhere else, it runs straight away.
+     *
+     * @param change The change to make.
+     */
+    protected void runOnScene(Runnable change) {
+        if (isOnSimulationThread()) {
+            sceneCommands.post(tickCount, change);
+        } else {
+            change.run();
+        }
+    }
+
+    /**
+     * Checks if the caller is a tick running on the simulation thread.
+     *
+     * @return True on the simulation thread, false otherwise.
+     */
+    private boolean isOnSimulationThread() {
+        return simulationThread != null && simulationThread.isCurrentThread();
+    }
+
+    /**
+     * Plays a sound effect, on the FX thread once the tick is drawn if called from the simulation thread.
+     *
+     * @param effect The effect to play.
+     */
+    protected void playSound(SoundEffect effect) {
+        runOnScene(() -> SoundMixer.getInstance().play(effect));
     }
     
     /**
-     * Adds points to the player's score.
-     * 
-     * @param points The number of points to add.
+     * Removes sprites from the root or the canvas batch in one batch.
+     *
+     * @param sprites The sprites to remove.
      */
-    private void addScore(int points) {
-        playerScore += points;
-        System.out.println("Score: " + playerScore);
+    private void removeSprites(Collection<SpriteView> sprites) {
+        if (spriteRenderer != null) {
+            spriteRenderer.removeAll(sprites);
+        } else {
+            root.getChildren().removeAll(sprites);
+        }
+    }
+
+    /**
+     * Updates the level view to show the user's current health and score.
+     * On the simulation thread the values go out with the tick's snapshot instead.
+     */
+    private void updateLevelView() {
+        if (isOnSimulationThread()) {
+            return;
+        }
+        levelView.removeHearts(getUser().getHealth());
+        levelView.updateScore(getPlayerScore());
+    }
+
+    /**
+     * Unlocks an achievement.
+     * From a tick on the simulation thread, it is unlocked on the FX thread when that tick is drawn,
+     * so it is saved and shown before any screen the same tick opens.
+     *
+     * @param achievement The name of the achievement.
+     */
+    protected void unlockAchievement(String achievement) {
+        runOnScene(() -> GameState.getInstance().addAchievement(achievement));
     }
 
     /**
@@ -515,14 +1025,16 @@ public abstract class LevelParent extends Observable {
      */
     protected void winGame(String nextLevel) {
         if (isGameOver) return;
-        timeline.stop();
+        gameLoop.stop();
         isGameOver = true;
+        dumpProfileIfEnabled();
     
+        int finalScore = getPlayerScore();
         if (nextLevel == null) {
             //Show final win screen in level 3
-            GameWinScreen.showlvl3WinScreen(gameStage, playerScore);
+            runOnScene(() -> GameWinScreen.showlvl3WinScreen(gameStage, finalScore, this::returnToMenu));
         } else {
-            GameWinScreen.showGameWinScreen(gameStage, playerScore, this, () -> goToNextLevel(nextLevel));
+            runOnScene(() -> GameWinScreen.showGameWinScreen(gameStage, finalScore, this, () -> goToNextLevel(nextLevel)));
         }
     }
     protected boolean isTransitioning = false;
@@ -532,107 +1044,81 @@ public abstract class LevelParent extends Observable {
      */
     protected void loseGame() {
         if (isGameOver) return;
-        timeline.stop();
+        gameLoop.stop();
         isGameOver = true;
-        GameEndScreen.showGameEndScreen(gameStage, playerScore);
+        dumpProfileIfEnabled();
+        int finalScore = getPlayerScore();
+        runOnScene(() -> GameEndScreen.showGameEndScreen(gameStage, finalScore, this::returnToMenu));
     }
     
     /**
-     * Checks if the game is over or if all enemies are defeated.
+     * Shows the win or game over screen once the simulation has been won or lost.
      */
     protected void checkIfGameOver() {
         if (isGameOver || isTransitioning) {
             return;
         }
-    
-        if (userIsDestroyed()) {
-            loseGame(); 
-        } else if (allEnemiesDefeated()) { 
-            //Go to next level
-            winGame("com.example.demo.levels.LevelTwo"); 
+        if (simulation.getOutcome() == Simulation.Outcome.LOST) {
+            loseGame();
+        } else if (simulation.getOutcome() == Simulation.Outcome.WON) {
+            winGame(nextLevel);
         }
     }
     
-    /**
-     * Checks if all enemies have been defeated.
-     * 
-     * @return True if all enemies are defeated, false otherwise.
-     */
-    private boolean allEnemiesDefeated() {
-        return enemyUnits.isEmpty();
-    }
-    
     /**
      * Get the user's plane object.
      * 
      * @return The user's plane.
      */
     protected UserPlane getUser() {
-        return user;
+        return simulation.getUser();
     }
 
     /**
-     * Get the root group.
-     * 
-     * @return The root group.
-     */
-    protected Group getRoot() {
-        return root;
-    }
-
-    /**
-     * Get the current number of enemy units.
+     * Get the random source of this level.
+     * Actors created by the level should draw from it too.
      * 
-     * @return The current number of enemy units.
+     * @return The level's random source.
      */
-    protected int getCurrentNumberOfEnemies() {
-        return enemyUnits.size();
+    protected GameRandom getRandom() {
+        return simulation.getRandom();
     }
 
     /**
-     * Adds an enemy unit to game.
-     * Enemy is added to the list of enemies and displayed in the root.
+     * Get the store holding the state of every actor in this level.
+     * Actors created by the level must be placed in it.
      * 
-     * @param enemy The enemy unit to add.
+     * @return The entity store.
      */
-    protected void addEnemyUnit(ActiveActorDestructible enemy) {
-        enemyUnits.add(enemy);
-        root.getChildren().add(enemy);
+    protected EntityStore getEntities() {
+        return simulation.getEntities();
     }
 
     /**
-     * Get the maximum Y position of enemy.
+     * Get the root group.
      * 
-     * @return The maximum Y position for enemies.
+     * @return The root group.
      */
-    protected double getEnemyMaximumYPosition() {
-        return enemyMaximumYPosition;
+    protected Group getRoot() {
+        return root;
     }
 
     /**
-     * Get the width of the game screen.
-     * 
-     * @return The width of the game screen.
+     * Get the current number of enemy units.
+     *
+     * @return The current number of enemy units.
      */
-    protected double getScreenWidth() {
-        return screenWidth;
+    protected int getCurrentNumberOfEnemies() {
+        return simulation.getCurrentNumberOfEnemies();
     }
 
     /**
      * Checks if the user's plane is destroyed.
-     * 
+     *
      * @return True if the user's plane is destroyed, false otherwise.
      */
     protected boolean userIsDestroyed() {
-        return getUser().getHealth() <= 0;
-    }
-
-    /**
-     * Updates the number of enemies.
-     * Call when the number of enemies change.
-     */
-    private void updateNumberOfEnemies() {
-        currentNumberOfEnemies = enemyUnits.size();
+        return simulation.userIsDestroyed();
     }
 
     /**
@@ -641,7 +1127,7 @@ public abstract class LevelParent extends Observable {
      * @return The player's score.
      */
     public int getPlayerScore() {
-        return playerScore;
+        return simulation.getPlayerScore();
     }
 
     
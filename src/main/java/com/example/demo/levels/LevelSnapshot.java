@@ -0,0 +1,153 @@
+package com.example.demo.levels;
+
+import java.util.Arrays;
+
+import com.example.demo.engine.EntityStore;
+import com.example.demo.view.SpriteView;
+
+/**
+ * The positions of every actor and the HUD values at the end of one tick.
+ * Filled on the simulation thread and handed to the FX thread through a
+ * {@link com.example.demo.engine.TripleBuffer}, which never writes it while it is shown,
+ * so the FX thread can draw it without reading any state the simulation is changing.
+ * The arrays grow as needed and are reused, so capturing a tick does not allocate.
+ */
+final class LevelSnapshot {
+
+    private static final int INITIAL_CAPACITY = 64;
+    //previous x, previous y, x, y
+    private static final int VALUES_PER_ACTOR = 4;
+
+    private long tick = -1;
+    private long publishedNanos;
+    private int health;
+    private int score;
+    private int count;
+    private SpriteView[] views = new SpriteView[INITIAL_CAPACITY];
+    private double[] positions = new double[INITIAL_CAPACITY * VALUES_PER_ACTOR];
+
+    /**
+     * Starts capturing a tick, forgetting the actors of the tick this snapshot held before.
+     *
+     * @param tick   The tick captured.
+     * @param health The user's health after the tick.
+     * @param score  The player's score after the tick.
+     */
+    void begin(long tick, int health, int score) {
+        this.tick = tick;
+        this.health = health;
+        this.score = score;
+        this.count = 0;
+    }
+
+    /**
+     * Copies the position of each shown actor.
+     *
+     * @param shown    The view of each shown actor, indexed by entity id, with null for the rest.
+     * @param entities The store holding the actor positions.
+     */
+    void addAll(SpriteView[] shown, EntityStore entities) {
+        for (int id = 0; id < shown.length; id++) {
+            SpriteView view = shown[id];
+            if (view == null) {
+                continue;
+            }
+            ensureCapacity(count + 1);
+            int offset = count * VALUES_PER_ACTOR;
+            views[count] = view;
+            positions[offset] = entities.getPreviousX(id);
+            positions[offset + 1] = entities.getPreviousY(id);
+            positions[offset + 2] = entities.getX(id);
+            positions[offset + 3] = entities.getY(id);
+            count++;
+        }
+    }
+
+    /**
+     * Finishes capturing a tick.
+     * Clears references left over from a larger earlier tick, so removed views can be collected.
+     *
+     * @param publishedNanos The time the tick was captured, from {@link System#nanoTime()}.
+     */
+    void end(long publishedNanos) {
+        this.publishedNanos = publishedNanos;
+        for (int i = count; i < views.length && views[i] != null; i++) {
+            views[i] = null;
+        }
+    }
+
+    /**
+     * Moves every captured view between its previous and current position.
+     * Must be called on the FX thread.
+     *
+     * @param alpha How far the frame is between the previous tick and this one, from 0 to 1.
+     */
+    void show(double alpha) {
+        for (int i = 0; i < count; i++) {
+            int offset = i * VALUES_PER_ACTOR;
+            double previousX = positions[offset];
+            double previousY = positions[offset + 1];
+            views[i].show(previousX + (positions[offset + 2] - previousX) * alpha,
+                    previousY + (positions[offset + 3] - previousY) * alpha);
+        }
+    }
+
+    /**
+     * Grows the arrays to hold at least a number of actors.
+     *
+     * @param capacity The number of actors needed.
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity <= views.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, views.length * 2);
+        views = Arrays.copyOf(views, newCapacity);
+        positions = Arrays.copyOf(positions, newCapacity * VALUES_PER_ACTOR);
+    }
+
+    /**
+     * Gets the tick captured.
+     *
+     * @return The tick, or -1 if nothing was captured yet.
+     */
+    long getTick() {
+        return tick;
+    }
+
+    /**
+     * Gets when the tick was captured.
+     *
+     * @return The capture time in nanoseconds.
+     */
+    long getPublishedNanos() {
+        return publishedNanos;
+    }
+
+    /**
+     * Gets the user's health after the tick.
+     *
+     * @return The health.
+     */
+    int getHealth() {
+        return health;
+    }
+
+    /**
+     * Gets the player's score after the tick.
+     *
+     * @return The score.
+     */
+    int getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the number of actors captured.
+     *
+     * @return The actor count.
+     */
+    int getActorCount() {
+        return count;
+    }
+}
@@ -1,9 +1,13 @@
 package com.example.demo.levels;
 
 import com.example.demo.GameState.GameState;
+import com.example.demo.actors.ActiveActor;
 import com.example.demo.actors.Boss;
 import com.example.demo.assets.ShieldImage;
+import com.example.demo.engine.GameRandom;
+import com.example.demo.simulation.SimulationLevelTwo;
 import com.example.demo.view.LevelView;
+import com.example.demo.view.SpriteView;
 import com.example.demo.view.LevelViewLevelTwo;
 
 import javafx.stage.Stage;
@@ -11,10 +15,11 @@ import javafx.stage.Stage;
 /**
  * Represents Level Two.
  * Includes a boss with a shield and allows the player to go to next level.
+ * Its rules are in {@link SimulationLevelTwo}.
  */
 public class LevelTwo extends LevelParent {
 
-    private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/river.jpg";
+    private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background2.jpg";
     private static final String NEXT_LEVEL = "com.example.demo.levels.LevelThree";
     private static final int PLAYER_INITIAL_HEALTH = 5;
     private final Boss boss;
@@ -22,6 +27,9 @@ public class LevelTwo extends LevelParent {
     private LevelViewLevelTwo levelView;
     private ShieldImage shieldImage;
     public static final int SHIELD_SIZE = 200;
+    //Where the shield sits over the boss
+    private static final double SHIELD_X_OFFSET = 100;
+    private static final double SHIELD_Y_OFFSET = 100;
 
     /**
      * Constructs a LevelTwo object.
@@ -31,67 +39,86 @@ public class LevelTwo extends LevelParent {
      * @param gameStage    the primary stage for the game.
      */
     public LevelTwo(double screenHeight, double screenWidth, Stage gameStage) {
-        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth,  GameState.getInstance().getLevel2Hearts(), gameStage);
+        this(screenHeight, screenWidth, gameStage, new GameRandom());
+    }
+
+    /**
+     * Constructs a LevelTwo object whose random choices come from a given source.
+     *
+     * @param screenHeight the height of the game screen.
+     * @param screenWidth  the width of the game screen.
+     * @param gameStage    the primary stage for the game.
+     * @param random       the random source for the boss.
+     */
+    public LevelTwo(double screenHeight, double screenWidth, Stage gameStage, GameRandom random) {
+        this(screenHeight, screenWidth, gameStage,
+                new SimulationLevelTwo(screenHeight, screenWidth, GameState.getInstance().getLevel2Hearts(), random));
+    }
+
+    /**
+     * Constructs a LevelTwo object that draws a given simulation.
+     *
+     * @param screenHeight the height of the game screen.
+     * @param screenWidth  the width of the game screen.
+     * @param gameStage    the primary stage for the game.
+     * @param simulation   the rules of the level.
+     */
+    private LevelTwo(double screenHeight, double screenWidth, Stage gameStage, SimulationLevelTwo simulation) {
+        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, gameStage, simulation, NEXT_LEVEL);
 
-        //Initialize the image at (0,0)
+        //Initialize the image at (0,0), it follows the boss once the boss is shown
         shieldImage = new ShieldImage(0, 0);
-        boss = new Boss(shieldImage ,"LevelTwo");
-        //Adjust the position of the image
-        double xOffset = 100;  
-        double yOffset = 100; 
-
-        //Match the shield's X position with the boss plane's X position
-        shieldImage.layoutXProperty().bind(
-            boss.layoutXProperty()
-            .add(boss.translateXProperty())
-            .subtract(ShieldImage.SHIELD_SIZE / 2)
-            .add(xOffset)
-        );
-
-        ///Match the shield's Y position with the boss plane's Y position
-        shieldImage.layoutYProperty().bind(
-            boss.layoutYProperty()
-            .add(boss.translateYProperty())
-            .subtract(ShieldImage.SHIELD_SIZE / 2)
-            .add(yOffset)
-        );
-            
+        boss = simulation.getBoss();
     }
 
     /**
-     * Initializes the user's friendly units in the game.
+     * Binds the shield to the view of the boss, so it moves with the boss when drawn.
+     *
+     * @param actor The actor shown.
+     * @param view  The view drawing it.
      */
     @Override
-    protected void initializeFriendlyUnits() {
-        getRoot().getChildren().add(getUser());
-        getRoot().getChildren().add(shieldImage);
+    protected void viewShown(ActiveActor actor, SpriteView view) {
+        if (actor != boss) {
+            return;
+        }
+        runOnScene(() -> {
+            //Match the shield's X position with the boss plane's X position
+            shieldImage.layoutXProperty().bind(
+                view.layoutXProperty()
+                .subtract(ShieldImage.SHIELD_SIZE / 2)
+                .add(SHIELD_X_OFFSET)
+            );
+
+            ///Match the shield's Y position with the boss plane's Y position
+            shieldImage.layoutYProperty().bind(
+                view.layoutYProperty()
+                .subtract(ShieldImage.SHIELD_SIZE / 2)
+                .add(SHIELD_Y_OFFSET)
+            );
+        });
     }
 
     /**
-     * Checks whether the game is over if the user died or the boss is destroyed.
-     * Unlocks "Boss Defeated in Level Two" achievement if the boss is defeated.
-     * Then proceed to next level.
+     * Updates the game scene, then shows the shield while the boss has it up.
      */
     @Override
-    protected void checkIfGameOver() {
-        if (userIsDestroyed()) {
-            loseGame();
-        } else if (boss.isDestroyed()) {
-
-        GameState.getInstance().addAchievement(" Boss Defeated in Level Two");
-            winGame(NEXT_LEVEL); 
+    protected void updateScene() {
+        super.updateScene();
+        if (boss.isShielded()) {
+            shieldImage.showShield();
+        } else {
+            shieldImage.hideShield();
         }
     }
 
     /**
-     * Spawns enemy units.
-     * Ensures the boss is added if there is no other enemies.
+     * Initializes the user's friendly units in the game.
      */
     @Override
-    protected void spawnEnemyUnits() {
-        if (getCurrentNumberOfEnemies() == 0) {
-            addEnemyUnit(boss);
-        }
+    protected void initializeFriendlyUnits() {
+        showActor(getUser());
+        addSprite(shieldImage);
     }
 
     /**
@@ -107,11 +134,10 @@ public class LevelTwo extends LevelParent {
     }
 
     /**
-     * Start the game by resetting user hearts and updating the game state.
+     * Resets user hearts and updates the game state before the game starts.
      */
     @Override
-    public void startGame() {
-        super.startGame();
+    protected void resetLevel() {
         if (levelView != null) {
             levelView.resetHearts(PLAYER_INITIAL_HEALTH); // Reset hearts to initial value
         }
@@ -119,17 +145,26 @@ public class LevelTwo extends LevelParent {
         System.out.println("Game started with hearts: " + PLAYER_INITIAL_HEALTH);
     }
         /**
-         * Activates the shield, to show the image.
+         * Shows or hides the shield node to match the boss, once per frame.
+         */
+        @Override
+        protected void renderLevel() {
+            shieldImage.syncVisibility();
+        }
+
+        /**
+         * Activates the boss's shield, to show the image.
          */
         public void activateShield() {
+            boss.activateShield();
             shieldImage.showShield();
-            
         }
 
         /**
-         * Deactivates the shield, to hide the image.
+         * Deactivates the boss's shield, to hide the image.
          */
         public void deactivateShield() {
+            boss.deactivateShield();
             shieldImage.hideShield();
         }
 
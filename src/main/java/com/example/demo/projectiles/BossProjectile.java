@@ -1,42 +1,60 @@
 package com.example.demo.projectiles;
 
+import com.example.demo.assets.Sprite;
+import com.example.demo.engine.EntityStore;
+
 /**
  * Represents a projectile fired by the boss.
  * The projectile moves horizontally across the screen and interacts with the game environment.
  */
 public class BossProjectile extends Projectile {
 	
-	private static final String IMAGE_NAME = "fireball.png";
-	private static final int IMAGE_HEIGHT = 75;
-	private int horizontalVelocity;
 	private static final int INITIAL_X_POSITION = 950;
+	//The pool it was taken from, or null if it was built directly
+	private ProjectilePool<BossProjectile> pool;
 
 	 /**
      * Constructs a BossProjectile with the initial y-coordinate.
      *
+     * @param entities    The store holding the state of the projectile.
      * @param initialYPos The initial y-coordinate position of the projectile.
+     * @param velocity    The horizontal velocity of the projectile.
      */
-	public BossProjectile(double initialYPos, int velocity) {
-		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, initialYPos);
-		this.horizontalVelocity = velocity;
+	public BossProjectile(EntityStore entities, double initialYPos, int velocity) {
+		super(entities, Sprite.BOSS_PROJECTILE, INITIAL_X_POSITION, initialYPos, velocity);
 	}
 
 	/**
-     * Updates the position of the projectile to move horizontally.
-     * Determined by the horizontal velocity.
+     * Constructs a BossProjectile for the pool, placed when it is acquired.
      */
-	@Override
-	public void updatePosition() {
-		moveHorizontally(horizontalVelocity);
+	BossProjectile() {
+		super(Sprite.BOSS_PROJECTILE);
 	}
-	
+
+	/**
+     * Takes a BossProjectile from a game's pool and places it at the initial y-coordinate.
+     *
+     * @param pools       The projectile pools of the game.
+     * @param entities    The store to place the projectile in.
+     * @param initialYPos The initial y-coordinate position of the projectile.
+     * @param velocity    The horizontal velocity of the projectile.
+     * @return The ready projectile.
+     */
+	public static BossProjectile acquire(ProjectilePools pools, EntityStore entities, double initialYPos, int velocity) {
+		BossProjectile projectile = pools.getBossProjectiles().acquire();
+		projectile.pool = pools.getBossProjectiles();
+		projectile.reset(entities, INITIAL_X_POSITION, initialYPos, velocity);
+		return projectile;
+	}
+
 	/**
-     * Updates the state of the projectile.
-     * And also update the position.
+     * Returns the projectile to the boss projectile pool it was taken from, if any.
      */
 	@Override
-	public void updateActor() {
-		updatePosition();
+	protected void returnToPool() {
+		if (pool != null) {
+			pool.release(this);
+		}
 	}
 
 	/**
@@ -45,7 +63,7 @@ public class BossProjectile extends Projectile {
      * @return The horizontal velocity.
      */
     public int getHorizontalVelocity() {
-        return horizontalVelocity; 
+        return (int) getVelocityX(); 
     }
 	
 }
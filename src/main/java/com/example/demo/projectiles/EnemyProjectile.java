@@ -1,42 +1,60 @@
 package com.example.demo.projectiles;
 
+import com.example.demo.assets.Sprite;
+import com.example.demo.engine.EntityStore;
+
 /**
  * Represents a projectile fired by an enemy.
  * This projectile moves horizontally towards the player's position.
  */
 public class EnemyProjectile extends Projectile {
 	
-	private static final String IMAGE_NAME = "enemyFire.png";
-	private static final int IMAGE_HEIGHT = 50;
 	static final int HORIZONTAL_VELOCITY = -10;
+	//The pool it was taken from, or null if it was built directly
+	private ProjectilePool<EnemyProjectile> pool;
 
 	/**
      * Constructs an EnemyProjectile with the initial position.
      *
+     * @param entities    The store holding the state of the projectile.
      * @param initialXPos The initial x-coordinate of the projectile.
      * @param initialYPos The initial y-coordinate of the projectile.
      */
-	public EnemyProjectile(double initialXPos, double initialYPos) {
-		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
+	public EnemyProjectile(EntityStore entities, double initialXPos, double initialYPos) {
+		super(entities, Sprite.ENEMY_PROJECTILE, initialXPos, initialYPos, HORIZONTAL_VELOCITY);
 	}
 
 	/**
-     * Updates the position of the projectile to move horizontally.
-     * Determined by the horizontal velocity.
+     * Constructs an EnemyProjectile for the pool, placed when it is acquired.
      */
-	@Override
-	public void updatePosition() {
-		moveHorizontally(HORIZONTAL_VELOCITY);
+	EnemyProjectile() {
+		super(Sprite.ENEMY_PROJECTILE);
+	}
+
+	/**
+     * Takes an EnemyProjectile from a game's pool and places it at the initial position.
+     *
+     * @param pools       The projectile pools of the game.
+     * @param entities    The store to place the projectile in.
+     * @param initialXPos The initial x-coordinate of the projectile.
+     * @param initialYPos The initial y-coordinate of the projectile.
+     * @return The ready projectile.
+     */
+	public static EnemyProjectile acquire(ProjectilePools pools, EntityStore entities, double initialXPos, double initialYPos) {
+		EnemyProjectile projectile = pools.getEnemyProjectiles().acquire();
+		projectile.pool = pools.getEnemyProjectiles();
+		projectile.reset(entities, initialXPos, initialYPos, HORIZONTAL_VELOCITY);
+		return projectile;
 	}
 
 	/**
-     * Updates the state of the projectile.
-     * And also update the position.
+     * Returns the projectile to the enemy projectile pool it was taken from, if any.
      */
 	@Override
-	public void updateActor() {
-		updatePosition();
+	protected void returnToPool() {
+		if (pool != null) {
+			pool.release(this);
+		}
 	}
 
-
 }
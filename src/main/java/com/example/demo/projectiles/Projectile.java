@@ -1,23 +1,40 @@
 package com.example.demo.projectiles;
 
+import com.example.demo.assets.Sprite;
 import com.example.demo.destructible.ActiveActorDestructible;
+import com.example.demo.engine.EntityStore;
 
 /**
  * Represents the projectile. 
  * This class is about the movement and handling damage of projectile.
+ * Projectiles move by their velocity in the entity store and are destroyed once they leave the screen.
  */
 public abstract class Projectile extends ActiveActorDestructible {
 
+	/** Flag to indicate the projectile is waiting in its pool. */
+	private boolean isPooled;
+
 	/**
      * Constructs a new projectile with attributes.
      *
-     * @param imageName   The name of the image file used to represent the appearance of the projectile.
-     * @param imageHeight The height of the projectile image.
+     * @param entities    The store holding the state of the projectile.
+     * @param sprite      The sprite the projectile is drawn with.
      * @param initialXPos The initial X-coordinate of the projectile.
      * @param initialYPos The initial Y-coordinate of the projectile.
+     * @param velocityX   The horizontal distance the projectile moves per tick.
      */
-	public Projectile(String imageName, int imageHeight, double initialXPos, double initialYPos) {
-		super(imageName, imageHeight, initialXPos, initialYPos);
+	public Projectile(EntityStore entities, Sprite sprite, double initialXPos, double initialYPos, double velocityX) {
+		super(sprite);
+		reset(entities, initialXPos, initialYPos, velocityX);
+	}
+
+	/**
+     * Constructs a projectile without an entity, for its pool. It is placed when acquired.
+     *
+     * @param sprite The sprite the projectile is drawn with.
+     */
+	protected Projectile(Sprite sprite) {
+		super(sprite);
 	}
 
 	/**
@@ -30,9 +47,53 @@ public abstract class Projectile extends ActiveActorDestructible {
 	}
 
 	/**
-     * Updates the position of the projectile. 
+     * Gives the projectile's entity back and returns the projectile to the pool for its type.
+	 * Must only be called once the projectile has left the game.
      */
 	@Override
-	public abstract void updatePosition();
+	public void release() {
+		if (isReleased()) {
+			return;
+		}
+		super.release();
+		returnToPool();
+	}
+
+	/**
+     * Returns the projectile to the pool for its type.
+     */
+	protected abstract void returnToPool();
+
+	/**
+     * Resets the projectile so it can be fired again, with a new entity in a store.
+     *
+     * @param entities    The store to place the projectile in.
+     * @param initialXPos The new X-coordinate of the projectile.
+     * @param initialYPos The new Y-coordinate of the projectile.
+     * @param velocityX   The horizontal distance the projectile moves per tick.
+     */
+	protected void reset(EntityStore entities, double initialXPos, double initialYPos, double velocityX) {
+		spawn(entities, initialXPos, initialYPos);
+		setVelocity(velocityX, 0);
+		entities.setFlag(getId(), EntityStore.FLAG_CULL_OFFSCREEN);
+	}
+
+	/**
+     * Checks if the projectile is waiting in its pool.
+     *
+     * @return True if the projectile is pooled, false otherwise.
+     */
+	public boolean isPooled() {
+		return isPooled;
+	}
+
+	/**
+     * Sets whether the projectile is waiting in its pool.
+     *
+     * @param isPooled True if the projectile is pooled, false otherwise.
+     */
+	void setPooled(boolean isPooled) {
+		this.isPooled = isPooled;
+	}
 
 }
@@ -0,0 +1,77 @@
+package com.example.demo.projectiles;
+
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+
+/**
+ * Pool of reusable projectiles of one type.
+ * Destroyed projectiles are released back here instead of being left for the garbage collector,
+ * and the next shot reuses one instead of building a new node and image.
+ * A pool is not thread-safe, so each game owns its own through {@link ProjectilePools}.
+ *
+ * @param <T> The type of projectile in the pool.
+ */
+public class ProjectilePool<T extends Projectile> {
+
+	private final Supplier<T> factory;
+	private final ArrayDeque<T> available = new ArrayDeque<>();
+	private int createdCount;
+
+	/**
+     * Constructs a ProjectilePool.
+     *
+     * @param factory Creates a new projectile when the pool is empty.
+     */
+	public ProjectilePool(Supplier<T> factory) {
+		this.factory = factory;
+	}
+
+	/**
+     * Takes a projectile from the pool, creating one if none are free.
+	 * The caller is responsible for resetting its state.
+     *
+     * @return A projectile that is not in the pool.
+     */
+	public T acquire() {
+		T projectile = available.pollFirst();
+		if (projectile == null) {
+			projectile = factory.get();
+			createdCount++;
+		}
+		projectile.setPooled(false);
+		return projectile;
+	}
+
+	/**
+     * Returns a projectile to the pool.
+	 * Releasing a projectile that is already in the pool does nothing.
+     *
+     * @param projectile The projectile to return.
+     */
+	public void release(T projectile) {
+		if (projectile.isPooled()) {
+			return;
+		}
+		projectile.setPooled(true);
+		available.addFirst(projectile);
+	}
+
+	/**
+     * Gets the number of projectiles waiting in the pool.
+     *
+     * @return The number of free projectiles.
+     */
+	public int getAvailableCount() {
+		return available.size();
+	}
+
+	/**
+     * Gets the number of projectiles this pool has ever created.
+     *
+     * @return The number of projectiles created.
+     */
+	public int getCreatedCount() {
+		return createdCount;
+	}
+
+}
@@ -0,0 +1,41 @@
+package com.example.demo.projectiles;
+
+/**
+ * The projectile pools of one game, one pool per projectile type.
+ * Each simulation owns its own, since the pools are not thread-safe and games may run on different threads.
+ * A projectile taken from these pools goes back to them when it is released.
+ */
+public class ProjectilePools {
+
+	private final ProjectilePool<UserProjectile> userProjectiles = new ProjectilePool<>(UserProjectile::new);
+	private final ProjectilePool<EnemyProjectile> enemyProjectiles = new ProjectilePool<>(EnemyProjectile::new);
+	private final ProjectilePool<BossProjectile> bossProjectiles = new ProjectilePool<>(BossProjectile::new);
+
+	/**
+     * Gets the pool of user projectiles.
+     *
+     * @return The user projectile pool.
+     */
+	public ProjectilePool<UserProjectile> getUserProjectiles() {
+		return userProjectiles;
+	}
+
+	/**
+     * Gets the pool of enemy projectiles.
+     *
+     * @return The enemy projectile pool.
+     */
+	public ProjectilePool<EnemyProjectile> getEnemyProjectiles() {
+		return enemyProjectiles;
+	}
+
+	/**
+     * Gets the pool of boss projectiles.
+     *
+     * @return The boss projectile pool.
+     */
+	public ProjectilePool<BossProjectile> getBossProjectiles() {
+		return bossProjectiles;
+	}
+
+}
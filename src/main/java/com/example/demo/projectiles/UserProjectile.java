@@ -1,67 +1,64 @@
 package com.example.demo.projectiles;
 
-import java.net.URL;
-import javafx.scene.media.AudioClip;
+import com.example.demo.assets.Sprite;
+import com.example.demo.engine.EntityStore;
 
 /**
  * Represents a projectile fired by the user.
- * This class handles the appearance, sound effects, and movement of the user's projectile.
+ * This class handles the appearance and movement of the user's projectile.
+ * The level that adds it to the game plays the shooting sound.
  */
 public class UserProjectile extends Projectile {
 
-    private static final String IMAGE_NAME = "userfire.png";
-    public static final int IMAGE_HEIGHT = 100; 
     private static final int HORIZONTAL_VELOCITY = 15;
-    private static final String SHOOTING_SOUND = "/com/example/demo/audios/shooting.wav";
-    private static AudioClip shootingSound;
 
     boolean isFired = false; 
-
-    static {
-        try {
-            URL soundURL = UserProjectile.class.getResource(SHOOTING_SOUND);
-            if (soundURL == null) {
-                System.err.println("Failed to load sound");
-            } else {
-                shootingSound = new AudioClip(soundURL.toExternalForm());
-                System.out.println("Sound loaded successfully");
-            }
-        } catch (Exception e) {
-            System.err.println("Failed to load sound: " + e.getMessage());
-            shootingSound = null;
-        }
-    }
+    //The pool it was taken from, or null if it was built directly
+    private ProjectilePool<UserProjectile> pool;
 
     /**
-     * Constructs a UserProjectile at the initial position.
-     * Plays the shooting sound after projectile fired.
+     * Constructs a UserProjectile at the initial position, held by the plane until fired.
      * 
+     * @param entities The store holding the state of the projectile.
      * @param initialX The initial X-coordinate of the projectile.
      * @param initialY The initial Y-coordinate of the projectile.
      */
-    public UserProjectile(double initialX, double initialY) {
-        super(IMAGE_NAME, IMAGE_HEIGHT, initialX, initialY);
-        playSound();
+    public UserProjectile(EntityStore entities, double initialX, double initialY) {
+        super(entities, Sprite.USER_PROJECTILE, initialX, initialY, 0);
     }
 
     /**
-     * Updates the position of the projectile.
-     * Moves the projectile horizontally if it is fired.
+     * Constructs a UserProjectile for the pool, placed when it is acquired.
      */
-    @Override
-    public void updatePosition() {
-        if (isFired) {
-            moveHorizontally(HORIZONTAL_VELOCITY); // Move independently after firing
-        }
+    UserProjectile() {
+        super(Sprite.USER_PROJECTILE);
     }
 
-     /**
-     * Updates the state of the projectile.
-     * Updates its position.
+    /**
+     * Takes a UserProjectile from a game's pool and places it at the initial position.
+     * 
+     * @param pools    The projectile pools of the game.
+     * @param entities The store to place the projectile in.
+     * @param initialX The initial X-coordinate of the projectile.
+     * @param initialY The initial Y-coordinate of the projectile.
+     * @return The ready projectile, not yet fired.
+     */
+    public static UserProjectile acquire(ProjectilePools pools, EntityStore entities, double initialX, double initialY) {
+        UserProjectile projectile = pools.getUserProjectiles().acquire();
+        projectile.pool = pools.getUserProjectiles();
+        projectile.reset(entities, initialX, initialY, 0);
+        projectile.isFired = false;
+        return projectile;
+    }
+
+    /**
+     * Returns the projectile to the user projectile pool it was taken from, if any.
      */
     @Override
-    public void updateActor() {
-        updatePosition();
+    protected void returnToPool() {
+        if (pool != null) {
+            pool.release(this);
+        }
     }
 
      /**
@@ -76,26 +73,16 @@ public class UserProjectile extends Projectile {
     public void syncWithPlane(double planeX, double planeY, double planeWidth, double planeHeight) {
 		//If the projectile has bot fired then update its position
         if (!isFired) {
-			//Align x-coordinate with right edge of plane
-            setLayoutX(planeX + planeWidth); 
-			//Center the y-coordinate to match the middle of the plane
-            setLayoutY(planeY + planeHeight / 2 - IMAGE_HEIGHT / 2); 
+			//Align x-coordinate with right edge of plane, and center the y-coordinate to match the middle of the plane
+            setPosition(planeX + planeWidth, planeY + planeHeight / 2 - getHeight() / 2);
         }
     }
 
     /**
-     * Fires the projectile, allows it to move independently.
+     * Fires the projectile, so the store moves it on its own from the next tick.
      */
     public void fire() {
         isFired = true;
-    }
-
-    /**
-     * Plays the shooting sound effect if its not null.
-     */
-    private void playSound() {
-        if (shootingSound != null) {
-            shootingSound.play();
-        }
+        setVelocity(HORIZONTAL_VELOCITY, 0);
     }
 }
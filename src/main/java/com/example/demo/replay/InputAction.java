@@ -0,0 +1,39 @@
+package com.example.demo.replay;
+
+/**
+ * The player inputs a level reacts to.
+ * Keys are turned into these before they reach the user plane, so they can be recorded and replayed.
+ */
+public enum InputAction {
+
+    /** Start moving up. */
+    MOVE_UP,
+    /** Start moving down. */
+    MOVE_DOWN,
+    /** Start moving left. */
+    MOVE_LEFT,
+    /** Start moving right. */
+    MOVE_RIGHT,
+    /** Stop moving up or down. */
+    STOP_VERTICAL,
+    /** Stop moving left or right. */
+    STOP_HORIZONTAL,
+    /** Fire a projectile. */
+    FIRE;
+
+    private static final InputAction[] VALUES = values();
+
+    /**
+     * Gets the action stored under a code in a replay file.
+     *
+     * @param code The code, which is the action's ordinal.
+     * @return The action.
+     * @throws IllegalArgumentException if no action has the code.
+     */
+    static InputAction fromCode(int code) {
+        if (code < 0 || code >= VALUES.length) {
+            throw new IllegalArgumentException("Unknown input code: " + code);
+        }
+        return VALUES[code];
+    }
+}
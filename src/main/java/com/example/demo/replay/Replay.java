@@ -0,0 +1,271 @@
+package com.example.demo.replay;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * A recorded play session of one level: the level, its seed, and every input with the tick it arrived on.
+ * Playing the inputs back on the same ticks of a level built from the same seed repeats the session.
+ *
+ * <p>The file starts with a header, then each input is a single variable-length number holding
+ * the ticks since the previous input and the action, so a held key costs one or two bytes.</p>
+ */
+public class Replay {
+
+    private static final int MAGIC = 0x53425250; //"SBRP"
+    private static final int VERSION = 1;
+    private static final int ACTION_BITS = 3;
+    private static final int ACTION_MASK = (1 << ACTION_BITS) - 1;
+    //Room made for inputs before any is read, since the count in the file is not trusted
+    private static final int INITIAL_INPUT_CAPACITY = 1024;
+
+    private final String levelClassName;
+    private final long seed;
+    private final int playerInitialHealth;
+    private final int tickRate;
+    private final long endTick;
+    private final long[] ticks;
+    private final InputAction[] actions;
+
+    /**
+     * Constructs a Replay. The arrays are kept, not copied.
+     *
+     * @param levelClassName      The class name of the recorded level.
+     * @param seed                The seed of the level's random source.
+     * @param playerInitialHealth The health the user plane started with.
+     * @param tickRate            The ticks per second the level ran at.
+     * @param endTick             The number of ticks run when the recording stopped.
+     * @param ticks               The tick of each input, in order.
+     * @param actions             The inputs.
+     * @throws IllegalArgumentException if the arrays differ in length.
+     */
+    Replay(String levelClassName, long seed, int playerInitialHealth, int tickRate, long endTick,
+            long[] ticks, InputAction[] actions) {
+        if (ticks.length != actions.length) {
+            throw new IllegalArgumentException("Every input needs a tick");
+        }
+        this.levelClassName = levelClassName;
+        this.seed = seed;
+        this.playerInitialHealth = playerInitialHealth;
+        this.tickRate = tickRate;
+        this.endTick = endTick;
+        this.ticks = ticks;
+        this.actions = actions;
+    }
+
+    /**
+     * Gets the class name of the recorded level.
+     *
+     * @return The level class name.
+     */
+    public String getLevelClassName() {
+        return levelClassName;
+    }
+
+    /**
+     * Gets the seed of the recorded level's random source.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the health the user plane started with.
+     *
+     * @return The initial health.
+     */
+    public int getPlayerInitialHealth() {
+        return playerInitialHealth;
+    }
+
+    /**
+     * Gets the ticks per second the level ran at.
+     *
+     * @return The tick rate.
+     */
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    /**
+     * Gets the number of ticks run when the recording stopped.
+     *
+     * @return The last tick.
+     */
+    public long getEndTick() {
+        return endTick;
+    }
+
+    /**
+     * Gets the number of recorded inputs.
+     *
+     * @return The input count.
+     */
+    public int getInputCount() {
+        return ticks.length;
+    }
+
+    /**
+     * Gets the tick an input arrived on.
+     *
+     * @param index The index of the input.
+     * @return The number of ticks run before the input.
+     */
+    public long getTick(int index) {
+        return ticks[index];
+    }
+
+    /**
+     * Gets a recorded input.
+     *
+     * @param index The index of the input.
+     * @return The action.
+     */
+    public InputAction getAction(int index) {
+        return actions[index];
+    }
+
+    /**
+     * Writes the replay to a file.
+     *
+     * @param file The file to write.
+     * @throws IOException if the file cannot be written.
+     */
+    public void save(Path file) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            write(out);
+        }
+    }
+
+    /**
+     * Reads a replay from a file.
+     *
+     * @param file The file to read.
+     * @return The replay.
+     * @throws IOException if the file cannot be read or is not a replay.
+     */
+    public static Replay load(Path file) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Writes the replay to a stream. The stream is not closed.
+     *
+     * @param out The stream to write to.
+     * @throws IOException if the stream cannot be written.
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeUTF(levelClassName);
+        data.writeLong(seed);
+        writeVarLong(data, playerInitialHealth);
+        writeVarLong(data, tickRate);
+        writeVarLong(data, endTick);
+        writeVarLong(data, ticks.length);
+        long previousTick = 0;
+        for (int i = 0; i < ticks.length; i++) {
+            writeVarLong(data, (ticks[i] - previousTick) << ACTION_BITS | actions[i].ordinal());
+            previousTick = ticks[i];
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads a replay from a stream. The stream is not closed.
+     *
+     * @param in The stream to read from.
+     * @return The replay.
+     * @throws IOException if the stream cannot be read, is cut short or is not a replay.
+     */
+    public static Replay read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a replay file");
+        }
+        int version = data.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported replay version: " + version);
+        }
+        String levelClassName = data.readUTF();
+        long seed = data.readLong();
+        int playerInitialHealth = (int) readVarLong(data);
+        int tickRate = (int) readVarLong(data);
+        long endTick = readVarLong(data);
+        long count = readVarLong(data);
+        if (count < 0 || count > Integer.MAX_VALUE) {
+            throw new IOException("Bad input count: " + count);
+        }
+        //Grown as inputs are read, so a corrupt count fails at the end of the file instead of on memory
+        long[] ticks = new long[(int) Math.min(count, INITIAL_INPUT_CAPACITY)];
+        InputAction[] actions = new InputAction[ticks.length];
+        long tick = 0;
+        for (int i = 0; i < count; i++) {
+            if (i == ticks.length) {
+                int length = (int) Math.min(count, 2L * ticks.length);
+                ticks = Arrays.copyOf(ticks, length);
+                actions = Arrays.copyOf(actions, length);
+            }
+            long packed = readVarLong(data);
+            tick += packed >>> ACTION_BITS;
+            ticks[i] = tick;
+            try {
+                actions[i] = InputAction.fromCode((int) (packed & ACTION_MASK));
+            } catch (IllegalArgumentException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        }
+        return new Replay(levelClassName, seed, playerInitialHealth, tickRate, endTick, ticks, actions);
+    }
+
+    /**
+     * Writes a non-negative number in 7-bit groups, low bits first.
+     *
+     * @param out   The stream to write to.
+     * @param value The number to write.
+     * @throws IOException if the stream cannot be written.
+     */
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Reads a number written by {@link #writeVarLong(DataOutputStream, long)}.
+     *
+     * @param in The stream to read from.
+     * @return The number.
+     * @throws IOException if the stream ends early or the number is too long.
+     */
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("Replay file is cut short");
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed number in replay file");
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.demo.replay;
+
+import java.util.function.Consumer;
+
+/**
+ * Feeds the inputs of a replay back into a level, tick by tick.
+ * The level asks for the inputs of each tick before running it, whether the ticks come
+ * from the game loop in real time or from a loop running as fast as possible.
+ */
+public class ReplayPlayer {
+
+    private final Replay replay;
+    private int nextInput;
+
+    /**
+     * Constructs a ReplayPlayer positioned at the first input.
+     *
+     * @param replay The replay to play.
+     */
+    public ReplayPlayer(Replay replay) {
+        this.replay = replay;
+    }
+
+    /**
+     * Applies every input that arrived before a tick.
+     *
+     * @param tick   The number of ticks run so far.
+     * @param target Receives each input, in recorded order.
+     */
+    public void applyInputs(long tick, Consumer<InputAction> target) {
+        while (nextInput < replay.getInputCount() && replay.getTick(nextInput) <= tick) {
+            target.accept(replay.getAction(nextInput));
+            nextInput++;
+        }
+    }
+
+    /**
+     * Checks if the level has run as many ticks as the recording did.
+     *
+     * @param tick The number of ticks run so far.
+     * @return True if the replay is over, false otherwise.
+     */
+    public boolean isFinished(long tick) {
+        return tick >= replay.getEndTick();
+    }
+
+    /**
+     * Gets the replay being played.
+     *
+     * @return The replay.
+     */
+    public Replay getReplay() {
+        return replay;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.demo.replay;
+
+import java.util.Arrays;
+
+/**
+ * Collects the inputs of a level as they arrive, stamped with the tick they arrived on.
+ * Inputs go into growable primitive arrays, so recording does not allocate per input.
+ */
+public class ReplayRecorder {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final String levelClassName;
+    private final long seed;
+    private final int playerInitialHealth;
+    private final int tickRate;
+    private long[] ticks = new long[INITIAL_CAPACITY];
+    private InputAction[] actions = new InputAction[INITIAL_CAPACITY];
+    private int count;
+
+    /**
+     * Constructs a ReplayRecorder.
+     *
+     * @param levelClassName      The class name of the level being recorded.
+     * @param seed                The seed of the level's random source.
+     * @param playerInitialHealth The health the user plane starts with.
+     * @param tickRate            The ticks per second the level runs at.
+     */
+    public ReplayRecorder(String levelClassName, long seed, int playerInitialHealth, int tickRate) {
+        this.levelClassName = levelClassName;
+        this.seed = seed;
+        this.playerInitialHealth = playerInitialHealth;
+        this.tickRate = tickRate;
+    }
+
+    /**
+     * Records an input.
+     *
+     * @param tick   The number of ticks run before the input arrived.
+     * @param action The input.
+     * @throws IllegalArgumentException if the tick is before the previous input's tick.
+     */
+    public void record(long tick, InputAction action) {
+        if (count > 0 && tick < ticks[count - 1]) {
+            throw new IllegalArgumentException("Inputs must be recorded in tick order");
+        }
+        if (count == ticks.length) {
+            ticks = Arrays.copyOf(ticks, count * 2);
+            actions = Arrays.copyOf(actions, count * 2);
+        }
+        ticks[count] = tick;
+        actions[count] = action;
+        count++;
+    }
+
+    /**
+     * Gets the number of inputs recorded so far.
+     *
+     * @return The input count.
+     */
+    public int getInputCount() {
+        return count;
+    }
+
+    /**
+     * Builds a replay of everything recorded so far. Recording can continue afterwards.
+     *
+     * @param endTick The number of ticks the level has run.
+     * @return The replay.
+     */
+    public Replay toReplay(long endTick) {
+        return new Replay(levelClassName, seed, playerInitialHealth, tickRate, endTick,
+                Arrays.copyOf(ticks, count), Arrays.copyOf(actions, count));
+    }
+}
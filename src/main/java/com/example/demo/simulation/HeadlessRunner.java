@@ -0,0 +1,147 @@
+package com.example.demo.simulation;
+
+import com.example.demo.actors.FighterPlane;
+import com.example.demo.actors.UserPlane;
+import com.example.demo.engine.GameRandom;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Runs many simulated games without a display and prints summary statistics.
+ * Used for balancing and soak testing on build machines.
+ * The games are the same {@link Simulation}s the FX levels draw, so the statistics hold for real play.
+ *
+ * <p>Usage: {@code HeadlessRunner [level 1-3] [games] [maxTicks] [seed]}</p>
+ * Each game gets its own random source split from the seed, so a seed repeats the whole run.
+ */
+public class HeadlessRunner {
+
+    private static final double SCREEN_HEIGHT = 750;
+    private static final double SCREEN_WIDTH = 1300;
+    private static final int DEFAULT_GAMES = 1000;
+    private static final long DEFAULT_MAX_TICKS = 20_000;
+    private static final int TICKS_BETWEEN_SHOTS = 4;
+    private static final double AIM_TOLERANCE = 10;
+
+    private HeadlessRunner() {
+
+    }
+
+    /**
+     * Runs the simulated games.
+     *
+     * @param args Optional level number, number of games, tick limit per game and seed.
+     */
+    public static void main(String[] args) {
+        int level = args.length > 0 ? Integer.parseInt(args[0]) : 1;
+        int games = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_GAMES;
+        long maxTicks = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_MAX_TICKS;
+        GameRandom seeds = args.length > 3 ? new GameRandom(Long.parseLong(args[3])) : new GameRandom();
+
+        Function<GameRandom, Simulation> factory = levelFactory(level);
+        int wins = 0;
+        int losses = 0;
+        long totalTicks = 0;
+        long totalScore = 0;
+        //How many games unlocked each achievement
+        Map<String, Integer> achievements = new TreeMap<>();
+        SimulationListener achievementCounter = new SimulationListener() {
+            @Override
+            public void achievementUnlocked(String achievement) {
+                achievements.merge(achievement, 1, Integer::sum);
+            }
+        };
+        long start = System.nanoTime();
+
+        for (int i = 0; i < games; i++) {
+            Simulation simulation = factory.apply(seeds.split());
+            simulation.setListener(achievementCounter);
+            Simulation.Outcome outcome = play(simulation, maxTicks);
+            if (outcome == Simulation.Outcome.WON) {
+                wins++;
+            } else if (outcome == Simulation.Outcome.LOST) {
+                losses++;
+            }
+            totalTicks += simulation.getTick();
+            totalScore += simulation.getPlayerScore();
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("Level %d: %d games, %d won, %d lost, %d timed out (seed %d)%n",
+            level, games, wins, losses, games - wins - losses, seeds.getSeed());
+        System.out.printf("Average ticks: %.1f, average score: %.1f%n",
+            (double) totalTicks / games, (double) totalScore / games);
+        System.out.printf("Simulated %d ticks in %.2f s (%.0f ticks/s)%n",
+            totalTicks, seconds, totalTicks / seconds);
+        achievements.forEach((achievement, count) ->
+            System.out.printf("Achievement \"%s\": %d games%n", achievement.trim(), count));
+    }
+
+    /**
+     * Plays one game with a simple bot that lines up with the nearest enemy and fires.
+     *
+     * @param simulation The game to play.
+     * @param maxTicks   The tick limit for the game.
+     * @return The outcome of the game.
+     */
+    public static Simulation.Outcome play(Simulation simulation, long maxTicks) {
+        while (!simulation.isFinished() && simulation.getTick() < maxTicks) {
+            steer(simulation);
+            if (simulation.getTick() % TICKS_BETWEEN_SHOTS == 0) {
+                simulation.fireProjectile();
+            }
+            simulation.step();
+        }
+        return simulation.getOutcome();
+    }
+
+    /**
+     * Moves the user plane towards the centre of the closest enemy.
+     *
+     * @param simulation The game being played.
+     */
+    private static void steer(Simulation simulation) {
+        UserPlane user = simulation.getUser();
+        FighterPlane target = null;
+        for (FighterPlane enemy : simulation.getEnemyUnits()) {
+            if (target == null || enemy.getMinX() < target.getMinX()) {
+                target = enemy;
+            }
+        }
+        if (target == null) {
+            user.stopVerticalMove();
+            return;
+        }
+        double userCentre = user.getMinY() + user.getHeight() / 2;
+        double targetCentre = target.getMinY() + target.getHeight() / 2;
+        if (targetCentre < userCentre - AIM_TOLERANCE) {
+            user.moveUp();
+        } else if (targetCentre > userCentre + AIM_TOLERANCE) {
+            user.moveDown();
+        } else {
+            user.stopVerticalMove();
+        }
+    }
+
+    /**
+     * Gets the constructor for a level number.
+     *
+     * @param level The level number, from 1 to 3.
+     * @return A function creating a simulation of the default screen size from a random source.
+     * @throws IllegalArgumentException if the level number is unknown.
+     */
+    private static Function<GameRandom, Simulation> levelFactory(int level) {
+        switch (level) {
+            case 1:
+                return random -> new SimulationLevelOne(SCREEN_HEIGHT, SCREEN_WIDTH, random);
+            case 2:
+                return random -> new SimulationLevelTwo(SCREEN_HEIGHT, SCREEN_WIDTH, random);
+            case 3:
+                return random -> new SimulationLevelThree(SCREEN_HEIGHT, SCREEN_WIDTH, random);
+            default:
+                throw new IllegalArgumentException("Unknown level: " + level);
+        }
+    }
+}
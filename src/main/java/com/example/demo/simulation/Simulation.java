@@ -0,0 +1,800 @@
+package com.example.demo.simulation;
+
+import com.example.demo.actors.ActiveActor;
+import com.example.demo.actors.FighterPlane;
+import com.example.demo.actors.UserPlane;
+import com.example.demo.assets.SoundEffect;
+import com.example.demo.destructible.ActiveActorDestructible;
+import com.example.demo.engine.EntityStore;
+import com.example.demo.engine.GameRandom;
+import com.example.demo.engine.SpatialHashGrid;
+import com.example.demo.engine.TickPhase;
+import com.example.demo.engine.TickProfiler;
+import com.example.demo.engine.TickProfiler.EntityGroup;
+import com.example.demo.events.CollisionPassEvent;
+import com.example.demo.events.ProjectileFireEvent;
+import com.example.demo.events.SpawnEvent;
+import com.example.demo.projectiles.ProjectilePools;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The rules of a level, without any nodes.
+ * Spawning, movement, collisions, scoring and the win or loss all happen here, on actors that keep their
+ * state in an {@link EntityStore}, so the same game runs in the FX levels, which draw it and feed it the
+ * player's keys, and in the headless runner, which steps it as fast as the CPU allows.
+ * What the game shows or keeps outside of itself is reported to a {@link SimulationListener}.
+ */
+public abstract class Simulation {
+
+    private static final double SCREEN_HEIGHT_ADJUSTMENT = 150;
+    //Roughly the size of a plane sprite
+    private static final double COLLISION_CELL_SIZE = 200;
+    //How far past the screen edge an actor may go before it is culled
+    private static final double OFFSCREEN_CULL_MARGIN = 200;
+    //Room for a busy level before the store grows
+    private static final int INITIAL_ENTITY_CAPACITY = 256;
+    private static final SimulationListener NO_LISTENER = new SimulationListener() { };
+
+    /**
+     * The state of a simulated game.
+     */
+    public enum Outcome {
+        RUNNING,
+        WON,
+        LOST
+    }
+
+    private final double screenHeight;
+    private final double screenWidth;
+    private final double enemyMaximumYPosition;
+    private final int playerInitialHealth;
+    //Position, size, velocity and health of every actor in the game
+    private final EntityStore entities = new EntityStore(INITIAL_ENTITY_CAPACITY);
+    //Projectiles reused by this game only, so games on other threads never share a pool
+    private final ProjectilePools projectilePools = new ProjectilePools();
+    private final UserPlane user;
+    //Every random choice in this game, so a seed replays the same game
+    private final GameRandom random;
+    //Per-phase tick timings, only recorded while the caller times a tick
+    private final TickProfiler profiler = new TickProfiler();
+    private SimulationListener listener = NO_LISTENER;
+
+    private final List<FighterPlane> friendlyUnits;
+    private final List<FighterPlane> enemyUnits;
+    private final List<ActiveActorDestructible> userProjectiles;
+    private final List<ActiveActorDestructible> enemyProjectiles;
+
+    //Collision broadphase, rebuilt once per tick
+    private final SpatialHashGrid<ActiveActorDestructible> friendlyGrid = new SpatialHashGrid<>(COLLISION_CELL_SIZE);
+    private final SpatialHashGrid<ActiveActorDestructible> enemyGrid = new SpatialHashGrid<>(COLLISION_CELL_SIZE);
+    private final SpatialHashGrid<ActiveActorDestructible> enemyProjectileGrid = new SpatialHashGrid<>(COLLISION_CELL_SIZE);
+    private final List<ActiveActorDestructible> collisionCandidates = new ArrayList<>();
+    //Candidate pairs tested by the grid queries of the current collision pass
+    private int collisionPairsTested;
+
+    //Actors leaving the game this tick, reused between ticks
+    private final Set<ActiveActorDestructible> pendingRemovals = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<ActiveActorDestructible> removedActors = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private int currentNumberOfEnemies;
+    private int playerScore;
+    private long tick;
+    private Outcome outcome;
+
+    /**
+     * Constructs a Simulation.
+     *
+     * @param screenHeight        Height of the playfield.
+     * @param screenWidth         Width of the playfield.
+     * @param playerInitialHealth Initial health of the user plane.
+     * @param random              The random source for every choice in this game.
+     */
+    protected Simulation(double screenHeight, double screenWidth, int playerInitialHealth, GameRandom random) {
+        this.random = random;
+        this.screenHeight = screenHeight;
+        this.screenWidth = screenWidth;
+        this.playerInitialHealth = playerInitialHealth;
+        this.enemyMaximumYPosition = screenHeight - SCREEN_HEIGHT_ADJUSTMENT;
+        this.user = new UserPlane(entities, playerInitialHealth);
+        this.friendlyUnits = new ArrayList<>();
+        this.enemyUnits = new ArrayList<>();
+        this.userProjectiles = new ArrayList<>();
+        this.enemyProjectiles = new ArrayList<>();
+        this.outcome = Outcome.RUNNING;
+        friendlyUnits.add(user);
+    }
+
+    /**
+     * Spawns enemy units for this level.
+     */
+    protected abstract void spawnEnemyUnits();
+
+    /**
+     * Checks whether the level has been won or lost.
+     * Only called while the game is running.
+     */
+    protected abstract void checkIfGameOver();
+
+    /**
+     * Gets the points awarded for destroying an enemy in this level.
+     *
+     * @return The points per destroyed enemy.
+     */
+    protected abstract int getPointsPerKill();
+
+    /**
+     * Runs the parts of a tick specific to a level, after destroyed actors are removed
+     * and before the game over check.
+     * Does nothing by default.
+     */
+    protected void updateLevel() {
+
+    }
+
+    /**
+     * Checks if an actor removed from the game without being destroyed will be added again,
+     * so it must keep its entity. Every other removed actor gives its entity back.
+     * No actor is added again by default.
+     *
+     * @param actor The actor removed.
+     * @return True if the level adds the actor again, false otherwise.
+     */
+    protected boolean isReAdded(ActiveActorDestructible actor) {
+        return false;
+    }
+
+    /**
+     * Sets who is told about actors, sounds and achievements.
+     *
+     * @param listener The listener, or null for none.
+     */
+    public void setListener(SimulationListener listener) {
+        this.listener = listener != null ? listener : NO_LISTENER;
+    }
+
+    /**
+     * Advances the game by one tick.
+     * Does nothing once the game is over. Each phase is marked on the tick profiler,
+     * which records it only while the caller is timing a tick.
+     */
+    public void step() {
+        if (isFinished()) {
+            return;
+        }
+        tick++;
+        //Entities released last tick are no longer drawn or read, so their slots can be reused
+        entities.recycle();
+        entities.savePositions();
+        profiler.mark(TickPhase.SAVE_POSITIONS);
+        spawnEnemyUnits();
+        profiler.mark(TickPhase.SPAWN_ENEMIES);
+        updateActors();
+        profiler.mark(TickPhase.UPDATE_ACTORS);
+        cullOffscreenActors();
+        profiler.mark(TickPhase.CULL_OFFSCREEN);
+        generateEnemyFire();
+        profiler.mark(TickPhase.ENEMY_FIRE);
+        currentNumberOfEnemies = enemyUnits.size();
+        handleEnemyPenetration();
+        profiler.mark(TickPhase.ENEMY_PENETRATION);
+        buildCollisionGrids();
+        profiler.mark(TickPhase.COLLISION_GRIDS);
+        handleUserProjectileCollisions();
+        profiler.mark(TickPhase.USER_PROJECTILE_COLLISIONS);
+        handleEnemyProjectileCollisions();
+        profiler.mark(TickPhase.ENEMY_PROJECTILE_COLLISIONS);
+        handlePlaneCollisions();
+        profiler.mark(TickPhase.PLANE_COLLISIONS);
+        removeAllDestroyedActors();
+        profiler.mark(TickPhase.REMOVE_DESTROYED);
+        updateKillCount();
+        updateLevel();
+        if (!isFinished()) {
+            checkIfGameOver();
+        }
+        profiler.mark(TickPhase.CHECK_GAME_OVER);
+        profiler.recordEntityCount(EntityGroup.FRIENDLY_UNITS, friendlyUnits.size());
+        profiler.recordEntityCount(EntityGroup.ENEMY_UNITS, enemyUnits.size());
+        profiler.recordEntityCount(EntityGroup.USER_PROJECTILES, userProjectiles.size());
+        profiler.recordEntityCount(EntityGroup.ENEMY_PROJECTILES, enemyProjectiles.size());
+    }
+
+    /**
+     * Steps the game until it is over or the tick limit is reached.
+     *
+     * @param maxTicks The maximum number of ticks to run.
+     * @return The outcome of the game.
+     */
+    public Outcome run(long maxTicks) {
+        while (!isFinished() && tick < maxTicks) {
+            step();
+        }
+        return outcome;
+    }
+
+    /**
+     * Fires a projectile from the user's plane.
+     */
+    public void fireProjectile() {
+        addUserProjectile(user.fireProjectile(projectilePools));
+    }
+
+    /**
+     * Adds a projectile fired by the user to the game.
+     *
+     * @param projectile The projectile to add.
+     */
+    protected void addUserProjectile(ActiveActorDestructible projectile) {
+        userProjectiles.add(projectile);
+        listener.actorAdded(projectile);
+        listener.effectPlayed(SoundEffect.SHOOTING);
+        recordProjectileFire(projectile, true);
+    }
+
+    /**
+     * Adds a projectile fired by an enemy to the game.
+     *
+     * @param projectile The projectile to add, or null if the enemy did not fire.
+     */
+    protected void spawnEnemyProjectile(ActiveActorDestructible projectile) {
+        if (projectile != null) {
+            enemyProjectiles.add(projectile);
+            listener.actorAdded(projectile);
+            recordProjectileFire(projectile, false);
+        }
+    }
+
+    /**
+     * Emits a Flight Recorder event for a fired projectile, if the event is enabled.
+     *
+     * @param projectile  The projectile fired.
+     * @param firedByUser True if the user fired it, false for an enemy.
+     */
+    private void recordProjectileFire(ActiveActorDestructible projectile, boolean firedByUser) {
+        ProjectileFireEvent event = new ProjectileFireEvent();
+        if (event.shouldCommit()) {
+            event.projectileType = projectile.getClass().getSimpleName();
+            event.firedByUser = firedByUser;
+            event.x = projectile.getMinX();
+            event.y = projectile.getMinY();
+            event.commit();
+        }
+    }
+
+    /**
+     * Updates all actors.
+     * Every entity moves by its velocity in one pass, then planes run their own behaviour.
+     * Projectiles have no behaviour beyond moving.
+     */
+    private void updateActors() {
+        entities.integrate();
+        friendlyUnits.forEach(FighterPlane::updateActor);
+        enemyUnits.forEach(FighterPlane::updateActor);
+    }
+
+    /**
+     * Destroys actors that opt in to culling once they are well outside the playfield plus the margin.
+     * They are removed and released with the other destroyed actors later in the tick.
+     */
+    private void cullOffscreenActors() {
+        entities.destroyOutside(-OFFSCREEN_CULL_MARGIN, -OFFSCREEN_CULL_MARGIN,
+            screenWidth + OFFSCREEN_CULL_MARGIN, screenHeight + OFFSCREEN_CULL_MARGIN);
+    }
+
+    /**
+     * Lets every enemy fire if it chooses to.
+     */
+    private void generateEnemyFire() {
+        for (int i = 0; i < enemyUnits.size(); i++) {
+            spawnEnemyProjectile(enemyUnits.get(i).fireProjectile(projectilePools));
+        }
+    }
+
+    /**
+     * Ends the game if an enemy leaves the screen.
+     * Deducts all hearts from the user and destroys the enemy.
+     */
+    void handleEnemyPenetration() {
+        for (int i = 0; i < enemyUnits.size(); i++) {
+            FighterPlane enemy = enemyUnits.get(i);
+            if (!enemy.isDestroyed() && enemyHasPenetratedDefenses(enemy)) {
+                while (user.getHealth() > 0) {
+                    user.takeDamage();
+                }
+                enemy.destroy();
+                if (userIsDestroyed()) {
+                    loseGame();
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if an enemy is outside the screen.
+     *
+     * @param enemy The enemy to check.
+     * @return True if the enemy is out of the screen, false otherwise.
+     */
+    private boolean enemyHasPenetratedDefenses(ActiveActor enemy) {
+        return enemy.getMaxX() < 0
+            || enemy.getMinX() > screenWidth
+            || enemy.getMaxY() < 0
+            || enemy.getMinY() > screenHeight;
+    }
+
+    /**
+     * Rebuilds the collision grids from the current actor positions.
+     */
+    void buildCollisionGrids() {
+        fillGrid(friendlyGrid, friendlyUnits);
+        fillGrid(enemyGrid, enemyUnits);
+        fillGrid(enemyProjectileGrid, enemyProjectiles);
+    }
+
+    /**
+     * Clears a grid and inserts each actor with its bounds.
+     *
+     * @param grid   The grid to fill.
+     * @param actors The actors to insert.
+     */
+    private static void fillGrid(SpatialHashGrid<ActiveActorDestructible> grid,
+                                 List<? extends ActiveActorDestructible> actors) {
+        grid.clear();
+        for (int i = 0; i < actors.size(); i++) {
+            ActiveActorDestructible actor = actors.get(i);
+            if (!actor.isDestroyed()) {
+                grid.insert(actor, actor.getMinX(), actor.getMinY(), actor.getMaxX(), actor.getMaxY());
+            }
+        }
+    }
+
+    /**
+     * Finds the actors in a grid that overlap another actor.
+     * The returned list is reused by the next query.
+     *
+     * @param grid The grid to search.
+     * @param area The actor whose bounds are checked.
+     * @return The overlapping actors.
+     */
+    private List<ActiveActorDestructible> findCollisions(SpatialHashGrid<ActiveActorDestructible> grid, ActiveActor area) {
+        grid.query(area.getMinX(), area.getMinY(), area.getMaxX(), area.getMaxY(), collisionCandidates);
+        collisionPairsTested += grid.getLastCandidateCount();
+        return collisionCandidates;
+    }
+
+    /**
+     * Finds the friendly units that overlap an actor this tick.
+     * The returned list is reused by the next query.
+     *
+     * @param area The actor whose bounds are checked.
+     * @return The overlapping friendly units.
+     */
+    protected List<ActiveActorDestructible> findFriendlyUnitsIn(ActiveActor area) {
+        return friendlyGrid.query(area.getMinX(), area.getMinY(), area.getMaxX(), area.getMaxY(), collisionCandidates);
+    }
+
+    /**
+     * Damages enemies hit by user projectiles and adds score for each destroyed enemy.
+     * Destroyed actors are removed later in the tick.
+     */
+    void handleUserProjectileCollisions() {
+        CollisionPassEvent event = new CollisionPassEvent();
+        event.begin();
+        collisionPairsTested = 0;
+        int hits = 0;
+        for (ActiveActorDestructible projectile : userProjectiles) {
+            for (ActiveActorDestructible enemy : findCollisions(enemyGrid, projectile)) {
+                //Skip enemies an earlier projectile destroyed this tick
+                if (enemy.isDestroyed()) {
+                    continue;
+                }
+                hits++;
+                projectile.takeDamage();
+                enemy.takeDamage();
+                if (enemy.isDestroyed()) {
+                    playerScore += getPointsPerKill();
+                }
+                break;
+            }
+        }
+        commitCollisionPass(event, "user projectiles", hits);
+    }
+
+    /**
+     * Damages friendly units hit by enemy projectiles.
+     */
+    void handleEnemyProjectileCollisions() {
+        CollisionPassEvent event = new CollisionPassEvent();
+        event.begin();
+        collisionPairsTested = 0;
+        int hits = 0;
+        for (FighterPlane friendly : friendlyUnits) {
+            for (ActiveActorDestructible projectile : findCollisions(enemyProjectileGrid, friendly)) {
+                friendly.takeDamage();
+                projectile.takeDamage();
+                hits++;
+            }
+        }
+        commitCollisionPass(event, "enemy projectiles", hits);
+    }
+
+    /**
+     * Damages the user for each enemy it touches and removes those enemies.
+     */
+    void handlePlaneCollisions() {
+        CollisionPassEvent event = new CollisionPassEvent();
+        event.begin();
+        collisionPairsTested = 0;
+        int hits = 0;
+        for (ActiveActorDestructible enemy : findCollisions(enemyGrid, user)) {
+            //Enemies shot down this tick are already gone
+            if (!enemy.isDestroyed()) {
+                hits++;
+                user.takeDamage();
+                pendingRemovals.add(enemy);
+            }
+        }
+        commitCollisionPass(event, "planes", hits);
+        if (userIsDestroyed()) {
+            loseGame();
+        }
+    }
+
+    /**
+     * Emits a Flight Recorder event for a collision pass, if the event is enabled.
+     *
+     * @param event The event begun at the start of the pass.
+     * @param pass  The name of the pass.
+     * @param hits  The number of pairs that collided.
+     */
+    private void commitCollisionPass(CollisionPassEvent event, String pass, int hits) {
+        if (event.shouldCommit()) {
+            event.pass = pass;
+            event.pairsTested = collisionPairsTested;
+            event.hits = hits;
+            event.commit();
+        }
+    }
+
+    /**
+     * Removes destroyed actors, and enemies marked for removal, from every list.
+     * The lists are compacted in place. Removed actors give their entity back to the store,
+     * and projectiles go back to their pool, unless the level will add the actor again.
+     */
+    void removeAllDestroyedActors() {
+        removeDestroyedActors(friendlyUnits);
+        removeDestroyedActors(enemyUnits);
+        removeDestroyedActors(userProjectiles);
+        removeDestroyedActors(enemyProjectiles);
+        pendingRemovals.clear();
+        for (ActiveActorDestructible actor : removedActors) {
+            listener.actorRemoved(actor);
+            if (actor.isDestroyed() || !isReAdded(actor)) {
+                actor.release();
+            }
+        }
+        removedActors.clear();
+    }
+
+    /**
+     * Compacts a list in a single pass, keeping the order of the remaining actors.
+     *
+     * @param actors The list to compact.
+     * @param <T>    The type of actor in the list.
+     */
+    private <T extends ActiveActorDestructible> void removeDestroyedActors(List<T> actors) {
+        int kept = 0;
+        for (int i = 0; i < actors.size(); i++) {
+            T actor = actors.get(i);
+            if (actor.isDestroyed() || pendingRemovals.contains(actor)) {
+                removedActors.add(actor);
+            } else {
+                if (kept != i) {
+                    actors.set(kept, actor);
+                }
+                kept++;
+            }
+        }
+        if (kept < actors.size()) {
+            actors.subList(kept, actors.size()).clear();
+        }
+    }
+
+    /**
+     * Counts one kill for each enemy removed this tick.
+     */
+    private void updateKillCount() {
+        for (int i = 0; i < currentNumberOfEnemies - enemyUnits.size(); i++) {
+            user.incrementKillCount();
+        }
+    }
+
+    /**
+     * Marks the game as won.
+     */
+    protected void winGame() {
+        if (outcome == Outcome.RUNNING) {
+            outcome = Outcome.WON;
+        }
+    }
+
+    /**
+     * Marks the game as lost.
+     */
+    protected void loseGame() {
+        if (outcome == Outcome.RUNNING) {
+            outcome = Outcome.LOST;
+        }
+    }
+
+    /**
+     * Adds an enemy unit to the game.
+     *
+     * @param enemy The enemy to add.
+     */
+    protected void addEnemyUnit(FighterPlane enemy) {
+        enemyUnits.add(enemy);
+        listener.actorAdded(enemy);
+        SpawnEvent event = new SpawnEvent();
+        if (event.shouldCommit()) {
+            event.actorType = enemy.getClass().getSimpleName();
+            event.x = enemy.getMinX();
+            event.y = enemy.getMinY();
+            event.commit();
+        }
+    }
+
+    /**
+     * Adds an actor that only a level keeps track of, such as a bomb, so it is shown.
+     *
+     * @param actor The actor added.
+     */
+    protected void addActor(ActiveActor actor) {
+        listener.actorAdded(actor);
+    }
+
+    /**
+     * Takes an actor that only a level keeps track of out of the game and gives its entity back.
+     *
+     * @param actor The actor removed.
+     */
+    protected void removeActor(ActiveActor actor) {
+        listener.actorRemoved(actor);
+        actor.release();
+    }
+
+    /**
+     * Plays a sound effect.
+     *
+     * @param effect The effect to play.
+     */
+    protected void playSound(SoundEffect effect) {
+        listener.effectPlayed(effect);
+    }
+
+    /**
+     * Unlocks an achievement.
+     *
+     * @param achievement The name of the achievement.
+     */
+    protected void unlockAchievement(String achievement) {
+        listener.achievementUnlocked(achievement);
+    }
+
+    /**
+     * Checks if the user plane is destroyed.
+     *
+     * @return True if the user has no health left, false otherwise.
+     */
+    public boolean userIsDestroyed() {
+        return user.getHealth() <= 0;
+    }
+
+    /**
+     * Gets the current number of enemy units.
+     *
+     * @return The number of enemy units.
+     */
+    public int getCurrentNumberOfEnemies() {
+        return enemyUnits.size();
+    }
+
+    /**
+     * Gets the maximum Y position of enemies.
+     *
+     * @return The maximum Y position.
+     */
+    protected double getEnemyMaximumYPosition() {
+        return enemyMaximumYPosition;
+    }
+
+    /**
+     * Gets the width of the playfield.
+     *
+     * @return The playfield width.
+     */
+    protected double getScreenWidth() {
+        return screenWidth;
+    }
+
+    /**
+     * Gets the initial health of the user plane.
+     *
+     * @return The initial health.
+     */
+    public int getPlayerInitialHealth() {
+        return playerInitialHealth;
+    }
+
+    /**
+     * Gets the random source of this game.
+     * Actors created for the game should draw from it too.
+     *
+     * @return The random source.
+     */
+    public GameRandom getRandom() {
+        return random;
+    }
+
+    /**
+     * Gets the projectile pools of this game.
+     * Projectiles created for the game should be taken from them.
+     *
+     * @return The projectile pools.
+     */
+    public ProjectilePools getProjectilePools() {
+        return projectilePools;
+    }
+
+    /**
+     * Gets the store holding the state of every actor in this game.
+     * Actors created for the game must be placed in it.
+     *
+     * @return The entity store.
+     */
+    public EntityStore getEntities() {
+        return entities;
+    }
+
+    /**
+     * Gets the profiler that times each phase of a tick.
+     * Phases are only recorded between {@link TickProfiler#beginTick()} and {@link TickProfiler#endTick()}.
+     *
+     * @return The tick profiler.
+     */
+    public TickProfiler getTickProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Gets the user plane.
+     *
+     * @return The user plane.
+     */
+    public UserPlane getUser() {
+        return user;
+    }
+
+    /**
+     * Gets the live enemy units.
+     *
+     * @return The list of enemy units.
+     */
+    public List<FighterPlane> getEnemyUnits() {
+        return enemyUnits;
+    }
+
+    /**
+     * Gets the number of live friendly units, the user plane included.
+     *
+     * @return The friendly unit count.
+     */
+    public int getFriendlyUnitCount() {
+        return friendlyUnits.size();
+    }
+
+    /**
+     * Gets the number of live user projectiles.
+     *
+     * @return The user projectile count.
+     */
+    public int getUserProjectileCount() {
+        return userProjectiles.size();
+    }
+
+    /**
+     * Gets the number of live enemy projectiles.
+     *
+     * @return The enemy projectile count.
+     */
+    public int getEnemyProjectileCount() {
+        return enemyProjectiles.size();
+    }
+
+    /**
+     * Gets the player score.
+     *
+     * @return The score.
+     */
+    public int getPlayerScore() {
+        return playerScore;
+    }
+
+    /**
+     * Resets the player score to zero.
+     */
+    public void resetScore() {
+        playerScore = 0;
+    }
+
+    /**
+     * Gets the number of ticks run so far.
+     *
+     * @return The tick count.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Gets the state of the game.
+     *
+     * @return The outcome.
+     */
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Checks if the game is over.
+     *
+     * @return True if the game was won or lost, false otherwise.
+     */
+    public boolean isFinished() {
+        return outcome != Outcome.RUNNING;
+    }
+
+    /**
+     * Gets the number of live actors of every kind.
+     *
+     * @return The total actor count.
+     */
+    public int getActorCount() {
+        return friendlyUnits.size() + enemyUnits.size() + userProjectiles.size() + enemyProjectiles.size();
+    }
+
+    /**
+     * Gives back the entity of every actor in the game, returning projectiles to their pools,
+     * and forgets them. The listener is not told, since the game is going away.
+     */
+    public void dispose() {
+        releaseActors(friendlyUnits);
+        releaseActors(enemyUnits);
+        releaseActors(userProjectiles);
+        releaseActors(enemyProjectiles);
+        pendingRemovals.clear();
+        removedActors.clear();
+        friendlyGrid.clear();
+        enemyGrid.clear();
+        enemyProjectileGrid.clear();
+        collisionCandidates.clear();
+        listener = NO_LISTENER;
+    }
+
+    /**
+     * Empties an actor list, giving every entity back.
+     *
+     * @param actors The actors to release.
+     */
+    private static void releaseActors(List<? extends ActiveActor> actors) {
+        for (int i = 0; i < actors.size(); i++) {
+            actors.get(i).release();
+        }
+        actors.clear();
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.demo.simulation;
+
+import com.example.demo.actors.EnemyPlane;
+import com.example.demo.engine.GameRandom;
+
+/**
+ * The rules of {@link com.example.demo.levels.LevelOne}.
+ * Enemy planes spawn at random until the user reaches the kill and score targets.
+ */
+public class SimulationLevelOne extends Simulation {
+
+    private static final int TOTAL_ENEMIES = 5;
+    private static final int KILLS_TO_ADVANCE = 10;
+    private static final double ENEMY_SPAWN_PROBABILITY = .20;
+    private static final int PLAYER_INITIAL_HEALTH = 5;
+    private static final int SCORE_TO_ADVANCE = 5;
+    private static final int POINTS_PER_KILL = 5;
+    private static final String ACHIEVEMENT = "All Enemies Defeated in Level One";
+
+    /**
+     * Constructs a SimulationLevelOne with an unseeded random source.
+     *
+     * @param screenHeight Height of the playfield.
+     * @param screenWidth  Width of the playfield.
+     */
+    public SimulationLevelOne(double screenHeight, double screenWidth) {
+        this(screenHeight, screenWidth, new GameRandom());
+    }
+
+    /**
+     * Constructs a SimulationLevelOne.
+     *
+     * @param screenHeight Height of the playfield.
+     * @param screenWidth  Width of the playfield.
+     * @param random       The random source for spawns and enemy fire.
+     */
+    public SimulationLevelOne(double screenHeight, double screenWidth, GameRandom random) {
+        super(screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, random);
+    }
+
+    /**
+     * Spawns enemy planes at random up to the enemy limit.
+     */
+    @Override
+    protected void spawnEnemyUnits() {
+        int currentNumberOfEnemies = getCurrentNumberOfEnemies();
+        for (int i = 0; i < TOTAL_ENEMIES - currentNumberOfEnemies; i++) {
+            if (getRandom().chance(ENEMY_SPAWN_PROBABILITY)) {
+                double newEnemyInitialYPosition = getRandom().nextDouble() * getEnemyMaximumYPosition();
+                addEnemyUnit(new EnemyPlane(getEntities(), getScreenWidth(), newEnemyInitialYPosition, getRandom()));
+            }
+        }
+    }
+
+    /**
+     * Loses if the user is destroyed, wins once the kill and score targets are met.
+     * Meeting the targets unlocks the "All Enemies Defeated in Level One" achievement.
+     */
+    @Override
+    protected void checkIfGameOver() {
+        if (userIsDestroyed()) {
+            loseGame();
+        } else if (getUser().getNumberOfKills() >= KILLS_TO_ADVANCE && getPlayerScore() >= SCORE_TO_ADVANCE) {
+            unlockAchievement(ACHIEVEMENT);
+            winGame();
+        }
+    }
+
+    /**
+     * Gets the points awarded for destroying an enemy in this level.
+     *
+     * @return The points per destroyed enemy.
+     */
+    @Override
+    protected int getPointsPerKill() {
+        return POINTS_PER_KILL;
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.demo.simulation;
+
+import com.example.demo.actors.Bomb;
+import com.example.demo.actors.Boss;
+import com.example.demo.assets.SoundEffect;
+import com.example.demo.assets.Sprite;
+import com.example.demo.destructible.ActiveActorDestructible;
+import com.example.demo.engine.GameRandom;
+
+/**
+ * The rules of {@link com.example.demo.levels.LevelThree}.
+ * A faster-firing boss plus bombs that appear at random positions.
+ */
+public class SimulationLevelThree extends Simulation {
+
+    private static final int PLAYER_INITIAL_HEALTH = 5;
+    private static final int POINTS_PER_KILL = 100;
+    private static final double BOMB_PROBABILITY = 0.02;
+    private static final String BOSS_ACHIEVEMENT = "Achievement: Boss Defeated in Level Three";
+    private static final String BOMB_ACHIEVEMENT = "Achievement: Bomb Dodger in Level Three";
+
+    private final Boss boss;
+    private Bomb bomb;
+    private boolean hasCollidedWithBomb;
+
+    /**
+     * Constructs a SimulationLevelThree with an unseeded random source.
+     *
+     * @param screenHeight Height of the playfield.
+     * @param screenWidth  Width of the playfield.
+     */
+    public SimulationLevelThree(double screenHeight, double screenWidth) {
+        this(screenHeight, screenWidth, new GameRandom());
+    }
+
+    /**
+     * Constructs a SimulationLevelThree.
+     *
+     * @param screenHeight Height of the playfield.
+     * @param screenWidth  Width of the playfield.
+     * @param random       The random source for the boss and bombs.
+     */
+    public SimulationLevelThree(double screenHeight, double screenWidth, GameRandom random) {
+        super(screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, random);
+        this.boss = new Boss(getEntities(), "LevelThree", random);
+    }
+
+    /**
+     * Spawns a bomb at random and checks the current one against the user.
+     */
+    @Override
+    protected void updateLevel() {
+        if (getRandom().chance(BOMB_PROBABILITY)) {
+            spawnBomb();
+        }
+        bombCollision();
+    }
+
+    /**
+     * Replaces the current bomb with a new one at a random position.
+     */
+    private void spawnBomb() {
+        if (bomb != null) {
+            removeActor(bomb);
+        }
+        double x = getRandom().nextDouble() * (getScreenWidth() - Sprite.BOMB.getWidth());
+        double y = getRandom().nextDouble() * (getEnemyMaximumYPosition() - Sprite.BOMB.getHeight());
+        bomb = new Bomb(getEntities(), x, y);
+        addActor(bomb);
+    }
+
+    /**
+     * Damages the user if it touches the bomb and removes the bomb, with the bomb sound.
+     */
+    private void bombCollision() {
+        if (bomb != null && findFriendlyUnitsIn(bomb).contains(getUser())) {
+            hasCollidedWithBomb = true;
+            getUser().takeDamage();
+            playSound(SoundEffect.BOMB);
+            removeActor(bomb);
+            bomb = null;
+        }
+    }
+
+    /**
+     * Adds the boss whenever there are no enemies.
+     */
+    @Override
+    protected void spawnEnemyUnits() {
+        if (getCurrentNumberOfEnemies() == 0) {
+            addEnemyUnit(boss);
+        }
+    }
+
+    /**
+     * Keeps the entity of the boss when it rams the user, since it is added again while there are no enemies.
+     *
+     * @param actor The actor removed.
+     * @return True if the actor is the boss, false otherwise.
+     */
+    @Override
+    protected boolean isReAdded(ActiveActorDestructible actor) {
+        return actor == boss;
+    }
+
+    /**
+     * Loses if the user is destroyed, wins once the boss is destroyed.
+     * Destroying the boss unlocks the "Boss Defeated in Level Three" achievement,
+     * and the "Bomb Dodger in Level Three" one too if no bomb hit the user.
+     */
+    @Override
+    protected void checkIfGameOver() {
+        if (userIsDestroyed()) {
+            loseGame();
+        } else if (boss.isDestroyed()) {
+            unlockAchievement(BOSS_ACHIEVEMENT);
+            if (!hasCollidedWithBomb) {
+                unlockAchievement(BOMB_ACHIEVEMENT);
+            }
+            winGame();
+        }
+    }
+
+    /**
+     * Gets the points awarded for destroying an enemy in this level.
+     *
+     * @return The points per destroyed enemy.
+     */
+    @Override
+    protected int getPointsPerKill() {
+        return POINTS_PER_KILL;
+    }
+
+    /**
+     * Gets the boss of this level.
+     *
+     * @return The boss.
+     */
+    public Boss getBoss() {
+        return boss;
+    }
+
+    /**
+     * Checks if the user has hit a bomb in this game.
+     *
+     * @return True if the user hit a bomb, false otherwise.
+     */
+    public boolean hasCollidedWithBomb() {
+        return hasCollidedWithBomb;
+    }
+
+    /**
+     * Forgets any bomb hit, so the bomb dodger achievement can be earned again.
+     */
+    public void resetBombCollision() {
+        hasCollidedWithBomb = false;
+    }
+
+    /**
+     * Takes the current bomb out of the game, along with every other actor.
+     */
+    @Override
+    public void dispose() {
+        if (bomb != null) {
+            bomb.release();
+            bomb = null;
+        }
+        super.dispose();
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.demo.simulation;
+
+import com.example.demo.actors.Boss;
+import com.example.demo.destructible.ActiveActorDestructible;
+import com.example.demo.engine.GameRandom;
+
+/**
+ * The rules of {@link com.example.demo.levels.LevelTwo}.
+ * A single shielded boss must be destroyed.
+ */
+public class SimulationLevelTwo extends Simulation {
+
+    private static final int PLAYER_INITIAL_HEALTH = 5;
+    private static final int POINTS_PER_KILL = 60;
+    private static final String ACHIEVEMENT = " Boss Defeated in Level Two";
+
+    private final Boss boss;
+
+    /**
+     * Constructs a SimulationLevelTwo with the default player health.
+     *
+     * @param screenHeight Height of the playfield.
+     * @param screenWidth  Width of the playfield.
+     */
+    public SimulationLevelTwo(double screenHeight, double screenWidth) {
+        this(screenHeight, screenWidth, PLAYER_INITIAL_HEALTH);
+    }
+
+    /**
+     * Constructs a SimulationLevelTwo with the default player health.
+     *
+     * @param screenHeight Height of the playfield.
+     * @param screenWidth  Width of the playfield.
+     * @param random       The random source for the boss.
+     */
+    public SimulationLevelTwo(double screenHeight, double screenWidth, GameRandom random) {
+        this(screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, random);
+    }
+
+    /**
+     * Constructs a SimulationLevelTwo with hearts carried over from the previous level.
+     *
+     * @param screenHeight        Height of the playfield.
+     * @param screenWidth         Width of the playfield.
+     * @param playerInitialHealth Initial health of the user plane.
+     */
+    public SimulationLevelTwo(double screenHeight, double screenWidth, int playerInitialHealth) {
+        this(screenHeight, screenWidth, playerInitialHealth, new GameRandom());
+    }
+
+    /**
+     * Constructs a SimulationLevelTwo with hearts carried over from the previous level.
+     *
+     * @param screenHeight        Height of the playfield.
+     * @param screenWidth         Width of the playfield.
+     * @param playerInitialHealth Initial health of the user plane.
+     * @param random              The random source for the boss.
+     */
+    public SimulationLevelTwo(double screenHeight, double screenWidth, int playerInitialHealth, GameRandom random) {
+        super(screenHeight, screenWidth, playerInitialHealth, random);
+        this.boss = new Boss(getEntities(), "LevelTwo", random);
+    }
+
+    /**
+     * Adds the boss whenever there are no enemies.
+     */
+    @Override
+    protected void spawnEnemyUnits() {
+        if (getCurrentNumberOfEnemies() == 0) {
+            addEnemyUnit(boss);
+        }
+    }
+
+    /**
+     * Keeps the entity of the boss when it rams the user, since it is added again while there are no enemies.
+     *
+     * @param actor The actor removed.
+     * @return True if the actor is the boss, false otherwise.
+     */
+    @Override
+    protected boolean isReAdded(ActiveActorDestructible actor) {
+        return actor == boss;
+    }
+
+    /**
+     * Loses if the user is destroyed, wins once the boss is destroyed.
+     * Destroying the boss unlocks the "Boss Defeated in Level Two" achievement.
+     */
+    @Override
+    protected void checkIfGameOver() {
+        if (userIsDestroyed()) {
+            loseGame();
+        } else if (boss.isDestroyed()) {
+            unlockAchievement(ACHIEVEMENT);
+            winGame();
+        }
+    }
+
+    /**
+     * Gets the points awarded for destroying an enemy in this level.
+     *
+     * @return The points per destroyed enemy.
+     */
+    @Override
+    protected int getPointsPerKill() {
+        return POINTS_PER_KILL;
+    }
+
+    /**
+     * Gets the boss of this level.
+     *
+     * @return The boss.
+     */
+    public Boss getBoss() {
+        return boss;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.demo.simulation;
+
+import com.example.demo.actors.ActiveActor;
+import com.example.demo.assets.SoundEffect;
+
+/**
+ * Receives what happens in a {@link Simulation} that the game shows or keeps outside of it.
+ * The FX levels draw actors, play sounds and save achievements from these calls,
+ * while the headless runner only counts the achievements.
+ * Every method is called on the thread stepping the simulation and does nothing by default.
+ */
+public interface SimulationListener {
+
+    /**
+     * Called when an actor enters the game.
+     *
+     * @param actor The actor added.
+     */
+    default void actorAdded(ActiveActor actor) {
+
+    }
+
+    /**
+     * Called when an actor leaves the game, before its entity is given back,
+     * so its entity id is still its own.
+     *
+     * @param actor The actor removed.
+     */
+    default void actorRemoved(ActiveActor actor) {
+
+    }
+
+    /**
+     * Called when something in the game makes a sound.
+     *
+     * @param effect The effect to play.
+     */
+    default void effectPlayed(SoundEffect effect) {
+
+    }
+
+    /**
+     * Called when the player unlocks an achievement.
+     *
+     * @param achievement The name of the achievement.
+     */
+    default void achievementUnlocked(String achievement) {
+
+    }
+}
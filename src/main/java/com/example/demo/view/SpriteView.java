@@ -0,0 +1,48 @@
+package com.example.demo.view;
+
+import com.example.demo.assets.ImageCache;
+import com.example.demo.assets.Sprite;
+
+import javafx.scene.image.ImageView;
+
+/**
+ * The node that draws an actor.
+ * Actors keep their state in an entity store, so the level moves the view to the actor's position once per frame.
+ * Views are reused for new actors with the same sprite.
+ */
+public class SpriteView extends ImageView {
+
+    private final Sprite sprite;
+
+    /**
+     * Constructs a SpriteView at the size the sprite is drawn at.
+     *
+     * @param sprite The sprite to draw.
+     */
+    public SpriteView(Sprite sprite) {
+        super(ImageCache.get(sprite.getPath()));
+        this.sprite = sprite;
+        setFitWidth(sprite.getWidth());
+        setFitHeight(sprite.getHeight());
+    }
+
+    /**
+     * Moves the view. Must be called on the FX thread once the view is in the scene.
+     *
+     * @param x The X-coordinate of the left edge.
+     * @param y The Y-coordinate of the top edge.
+     */
+    public void show(double x, double y) {
+        setLayoutX(x);
+        setLayoutY(y);
+    }
+
+    /**
+     * Gets the sprite this view draws.
+     *
+     * @return The sprite.
+     */
+    public Sprite getSprite() {
+        return sprite;
+    }
+}
@@ -3,6 +3,7 @@ module com.example.demo {
     requires javafx.fxml;
     requires javafx.media;
     requires javafx.graphics;
+    requires jdk.jfr;
 
     // Open specific subpackages for reflection by JavaFX
     opens com.example.demo.controller to javafx.fxml;
@@ -12,6 +13,11 @@ module com.example.demo {
     opens com.example.demo.assets to javafx.fxml;
     opens com.example.demo.destructible to javafx.fxml;
     opens com.example.demo.UI to javafx.fxml;
+    opens com.example.demo.engine to javafx.fxml;
+    opens com.example.demo.simulation to javafx.fxml;
+    opens com.example.demo.events to javafx.fxml;
+    opens com.example.demo.replay to javafx.fxml;
+    opens com.example.demo.input to javafx.fxml;
 
     // Export all relevant packages for use across the application
     exports com.example.demo.controller;
@@ -21,4 +27,9 @@ module com.example.demo {
     exports com.example.demo.assets;
     exports com.example.demo.destructible;
     exports com.example.demo.UI;
+    exports com.example.demo.engine;
+    exports com.example.demo.simulation;
+    exports com.example.demo.events;
+    exports com.example.demo.replay;
+    exports com.example.demo.input;
 }
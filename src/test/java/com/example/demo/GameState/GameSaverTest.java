@@ -0,0 +1,133 @@
+package com.example.demo.GameState;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+
+public class GameSaverTest {
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Tests loading when nothing was saved.
+     * Ensures no save is returned.
+     */
+    @Test
+    void testLoadWithoutSave() throws IOException {
+        GameSaver saver = new GameSaver(directory.resolve("save.dat"));
+
+        assertNull(saver.load());
+    }
+
+    /**
+     * Tests saving into a directory that does not exist yet, then loading.
+     * Ensures the directory is created, the save is read back and no temporary file is left.
+     */
+    @Test
+    void testSaveAndLoad() throws IOException {
+        Path file = directory.resolve("config").resolve("save.dat");
+        GameSaver saver = new GameSaver(file);
+
+        saver.save(new SaveData(4, 6, 1, false, List.of("Bomb Dodger")));
+
+        SaveData loaded = saver.load();
+        assertEquals(4, loaded.getLevel1Hearts());
+        assertEquals(6, loaded.getLevel2Hearts());
+        assertEquals(List.of("Bomb Dodger"), loaded.getAchievements());
+        assertFalse(Files.exists(directory.resolve("config").resolve("save.dat.tmp")));
+    }
+
+    /**
+     * Tests loading after a save was cut short while writing its temporary file.
+     * Ensures the old save is loaded and the leftover file is removed.
+     */
+    @Test
+    void testInterruptedSaveKeepsOldSave() throws IOException {
+        Path file = directory.resolve("save.dat");
+        Path temp = directory.resolve("save.dat.tmp");
+        GameSaver saver = new GameSaver(file);
+        saver.save(new SaveData(5, 5, 0, false, List.of()));
+        Files.write(temp, new byte[] {0x53, 0x42});
+
+        SaveData loaded = saver.load();
+        assertEquals(5, loaded.getLevel2Hearts());
+        assertFalse(Files.exists(temp));
+    }
+
+    /**
+     * Tests loading a damaged save.
+     * Ensures an IOException is thrown instead of loading bad values.
+     */
+    @Test
+    void testLoadDamagedSave() throws IOException {
+        Path file = directory.resolve("save.dat");
+        Files.write(file, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+
+        assertThrows(IOException.class, () -> new GameSaver(file).load());
+    }
+
+    /**
+     * Tests saving in the background many times while the values change, then closing.
+     * Ensures the newest values are the ones on disk once close returns.
+     */
+    @Test
+    void testBackgroundSavesKeepNewest() throws IOException {
+        AtomicInteger hearts = new AtomicInteger();
+        GameSaver saver = new GameSaver(directory.resolve("save.dat"),
+                () -> new SaveData(5, hearts.get(), 0, false, List.of()));
+        for (int i = 0; i < 100; i++) {
+            hearts.set(i);
+            saver.saveLater();
+        }
+
+        saver.close();
+
+        assertEquals(99, saver.load().getLevel2Hearts());
+    }
+
+    /**
+     * Tests asking for a save after closing.
+     * Ensures it is ignored.
+     */
+    @Test
+    void testSaveLaterAfterClose() throws IOException {
+        GameSaver saver = new GameSaver(directory.resolve("save.dat"));
+        saver.close();
+
+        saver.saveLater();
+
+        assertNull(saver.load());
+    }
+
+    /**
+     * Tests the saver listening to a changing game state.
+     * Ensures the latest state is saved once the saver is closed.
+     */
+    @Test
+    void testSavesGameStateChanges() throws IOException {
+        GameSaver saver = new GameSaver(directory.resolve("save.dat"));
+        GameState gameState = GameState.getInstance();
+        gameState.resetAll();
+        gameState.addListener(saver);
+
+        gameState.setLevel1Hearts(2);
+        gameState.addAchievement("Saved On Change");
+        gameState.removeListener(saver);
+        saver.close();
+
+        SaveData loaded = saver.load();
+        assertEquals(2, loaded.getLevel1Hearts());
+        assertEquals(List.of("Saved On Change"), loaded.getAchievements());
+        gameState.resetAll();
+    }
+}
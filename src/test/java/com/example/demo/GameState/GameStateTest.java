@@ -3,6 +3,10 @@ package com.example.demo.GameState;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
 
@@ -74,4 +78,155 @@ public class GameStateTest {
         gameState.resetLevel2Hearts();
         assertEquals(5, gameState.getLevel2Hearts());
     }
+
+    /**
+     * Tests saving the game state and restoring it.
+     * Ensures the restored values match the saved ones.
+     */
+    @Test
+    void testSaveDataAndRestore() {
+        GameState gameState = GameState.getInstance();
+        gameState.setLevel1Hearts(2);
+        gameState.setShopLocked(true);
+        gameState.addAchievement("Saved Achievement");
+        SaveData saved = gameState.toSaveData();
+
+        gameState.resetAll();
+        gameState.restore(saved);
+
+        assertEquals(2, gameState.getLevel1Hearts());
+        assertTrue(gameState.isShopLocked());
+        assertTrue(gameState.getAchievements().contains("Saved Achievement"));
+        gameState.resetAll();
+    }
+
+    /**
+     * Tests starting a new game.
+     * Ensures hearts and the shop go back to their defaults, achievements are kept,
+     * and nothing is reported when nothing changed.
+     */
+    @Test
+    void testResetProgressKeepsAchievements() {
+        GameState gameState = GameState.getInstance();
+        gameState.resetAll();
+        gameState.addAchievement("Kept Achievement");
+        gameState.setLevel2Hearts(7);
+        gameState.incrementShopItem1PurchaseCount();
+
+        gameState.resetProgress();
+
+        assertEquals(GameState.DEFAULT_HEARTS, gameState.getLevel2Hearts());
+        assertEquals(0, gameState.getShopItem1PurchaseCount());
+        assertTrue(gameState.hasAchievement("Kept Achievement"));
+
+        List<GameStateChange> changes = new ArrayList<>();
+        GameStateListener listener = (state, change) -> changes.add(change);
+        gameState.addListener(listener);
+        gameState.resetProgress();
+        gameState.removeListener(listener);
+        assertTrue(changes.isEmpty());
+        gameState.resetAll();
+    }
+
+    /**
+     * Tests listening to the game state.
+     * Ensures real changes are reported once, unchanged values are not, and removed listeners hear nothing.
+     */
+    @Test
+    void testListenersAreNotified() {
+        GameState gameState = GameState.getInstance();
+        gameState.resetAll();
+        List<GameStateChange> changes = new ArrayList<>();
+        List<String> unlocked = new ArrayList<>();
+        GameStateListener listener = new GameStateListener() {
+            @Override
+            public void stateChanged(GameState state, GameStateChange change) {
+                changes.add(change);
+            }
+
+            @Override
+            public void achievementUnlocked(GameState state, String achievement) {
+                unlocked.add(achievement);
+            }
+        };
+        gameState.addListener(listener);
+
+        gameState.setLevel1Hearts(3);
+        gameState.setLevel1Hearts(3);
+        gameState.addAchievement("Listened");
+        gameState.addAchievement("Listened");
+        gameState.removeListener(listener);
+        gameState.setShopLocked(true);
+
+        assertEquals(List.of(GameStateChange.LEVEL1_HEARTS, GameStateChange.ACHIEVEMENT), changes);
+        assertEquals(List.of("Listened"), unlocked);
+        gameState.resetAll();
+    }
+
+    /**
+     * Tests many threads buying from the shop at once.
+     * Ensures the purchase limit is never exceeded.
+     */
+    @Test
+    void testConcurrentPurchasesStayWithinLimit() throws InterruptedException {
+        GameState gameState = GameState.getInstance();
+        gameState.resetShop();
+        AtomicInteger counted = new AtomicInteger();
+        runConcurrently(8, () -> {
+            for (int i = 0; i < 100; i++) {
+                if (gameState.incrementShopItem1PurchaseCount()) {
+                    counted.incrementAndGet();
+                }
+            }
+        });
+
+        assertEquals(GameState.MAX_SHOP_ITEM1_PURCHASES, counted.get());
+        assertEquals(GameState.MAX_SHOP_ITEM1_PURCHASES, gameState.getShopItem1PurchaseCount());
+        gameState.resetShop();
+    }
+
+    /**
+     * Tests many threads adding hearts at once.
+     * Ensures no addition is lost.
+     */
+    @Test
+    void testConcurrentHeartsAreNotLost() throws InterruptedException {
+        GameState gameState = GameState.getInstance();
+        gameState.setLevel2Hearts(0);
+        runConcurrently(8, () -> {
+            for (int i = 0; i < 1000; i++) {
+                gameState.addLevel2Hearts(1);
+            }
+        });
+
+        assertEquals(8000, gameState.getLevel2Hearts());
+        gameState.resetLevel2Hearts();
+    }
+
+    /**
+     * Runs a task on several threads, all starting together, and waits for them to finish.
+     *
+     * @param threads The number of threads.
+     * @param task    The task each thread runs.
+     */
+    private void runConcurrently(int threads, Runnable task) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> started = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                task.run();
+            });
+            thread.start();
+            started.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : started) {
+            thread.join();
+        }
+    }
 }
@@ -0,0 +1,101 @@
+package com.example.demo.GameState;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+
+public class SaveDataTest {
+
+    /**
+     * Builds a save with every value changed from the defaults.
+     *
+     * @return The save.
+     */
+    private SaveData sampleSave() {
+        return new SaveData(3, 7, 2, true, Set.of("Boss Defeated in Level Two", "All Enemies Defeated in Level One"));
+    }
+
+    /**
+     * Writes the save to bytes.
+     *
+     * @param data The save to write.
+     * @return The encoded save.
+     */
+    private byte[] encode(SaveData data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        data.write(out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Tests writing a save and reading it back.
+     * Ensures every value and achievement survives.
+     */
+    @Test
+    void testRoundTrip() throws IOException {
+        SaveData read = SaveData.read(new ByteArrayInputStream(encode(sampleSave())));
+
+        assertEquals(3, read.getLevel1Hearts());
+        assertEquals(7, read.getLevel2Hearts());
+        assertEquals(2, read.getShopItem1PurchaseCount());
+        assertTrue(read.isShopLocked());
+        assertEquals(List.of("All Enemies Defeated in Level One", "Boss Defeated in Level Two"), read.getAchievements());
+    }
+
+    /**
+     * Tests saving equal states.
+     * Ensures the files are identical whatever order the achievements were earned in.
+     */
+    @Test
+    void testEqualStatesSaveEqualFiles() throws IOException {
+        SaveData first = new SaveData(5, 5, 0, false, List.of("a", "b"));
+        SaveData second = new SaveData(5, 5, 0, false, List.of("b", "a"));
+
+        assertTrue(Arrays.equals(encode(first), encode(second)));
+    }
+
+    /**
+     * Tests reading something that is not a save.
+     * Ensures an IOException is thrown.
+     */
+    @Test
+    void testRejectsOtherFiles() {
+        byte[] notSave = "hello world, this is not a save".getBytes();
+
+        assertThrows(IOException.class, () -> SaveData.read(new ByteArrayInputStream(notSave)));
+    }
+
+    /**
+     * Tests reading a save that was cut short.
+     * Ensures an IOException is thrown.
+     */
+    @Test
+    void testRejectsTruncatedFiles() throws IOException {
+        byte[] bytes = encode(sampleSave());
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 2);
+
+        assertThrows(IOException.class, () -> SaveData.read(new ByteArrayInputStream(truncated)));
+    }
+
+    /**
+     * Tests reading a save with a changed byte.
+     * Ensures the checksum catches it.
+     */
+    @Test
+    void testRejectsDamagedFiles() throws IOException {
+        byte[] bytes = encode(sampleSave());
+        //The LevelOne hearts, just after the header
+        bytes[5] ^= 0x01;
+
+        IOException e = assertThrows(IOException.class, () -> SaveData.read(new ByteArrayInputStream(bytes)));
+        assertEquals("Save file is damaged", e.getMessage());
+    }
+}
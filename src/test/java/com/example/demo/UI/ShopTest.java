@@ -74,6 +74,31 @@ public class ShopTest {
         latch.await(1, TimeUnit.SECONDS); 
     }
 
+    /**
+     * Tests opening the same shop again for another level.
+     * Ensures the prebuilt window can be shown again without errors.
+     */
+    @Test
+    void testShopReused() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        Platform.runLater(() -> {
+            try {
+                GameState.getInstance().setShopLocked(false);
+                Stage stage = new Stage();
+                Shop shop = new Shop(stage, mock(LevelParent.class));
+
+                assertDoesNotThrow(() -> shop.show());
+                shop.setCurrentLevel(mock(LevelParent.class));
+                assertDoesNotThrow(() -> shop.show());
+            } finally {
+                latch.countDown(); 
+            }
+        });
+
+        latch.await(1, TimeUnit.SECONDS); 
+    }
+
     /**
      * Test the displayed of pop up message.
      */
@@ -2,47 +2,27 @@ package com.example.demo.actors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
-import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.TimeUnit;
-import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import com.example.demo.assets.Sprite;
+import com.example.demo.engine.EntityStore;
+import com.example.demo.projectiles.ProjectilePools;
 import com.example.demo.projectiles.UserProjectile;
-import javafx.application.Platform;
 
 
 public class UserPlaneTest {
 
-    /**
-     * Sets up the JavaFX environment needed for testing.
-     * Runs before all tests to start the JavaFX application thread.
-     */
-    @BeforeAll
-    static void setupJavaFX() throws InterruptedException {
-        CountDownLatch latch = new CountDownLatch(1);
-        Platform.startup(latch::countDown);
-        latch.await(1, TimeUnit.SECONDS); 
-    }
-
     /**
      * Tests that a projectile fired by the user's plane is positioned at the tip of the plane.
      * Ensures the position of the projectile  aligns with the tip of plane.
      */
     @Test
-    void testUserPlaneFireProjectile() throws InterruptedException {
-        CountDownLatch latch = new CountDownLatch(1);
-
-        Platform.runLater(() -> {
-            try {
-                UserPlane userPlane = new UserPlane(5);
-                UserProjectile projectile = (UserProjectile) userPlane.fireProjectile();
+    void testUserPlaneFireProjectile() {
+        EntityStore entities = new EntityStore(8);
+        UserPlane userPlane = new UserPlane(entities, 5);
+        UserProjectile projectile = (UserProjectile) userPlane.fireProjectile(new ProjectilePools());
 
-                assertNotNull(projectile);
-                assertEquals(userPlane.getBoundsInParent().getMaxX(), projectile.getBoundsInParent().getMinX());
-            } finally {
-                latch.countDown();
-            }
-        });
-        latch.await(1, TimeUnit.SECONDS);
+        assertNotNull(projectile);
+        assertEquals(userPlane.getMaxX(), projectile.getMinX(), 0.001);
     }
 
     /**
@@ -50,22 +30,14 @@ public class UserPlaneTest {
      * Ensures that the projectile is aligned with the plane when not fired.
      */
     @Test
-    void testSyncProjectileUserPlane() throws InterruptedException {
-        CountDownLatch latch = new CountDownLatch(1);
-
-        Platform.runLater(() -> {
-            try {
-                UserPlane userPlane = new UserPlane(5);
-                UserProjectile projectile = new UserProjectile(0, 0);
+    void testSyncProjectileUserPlane() {
+        EntityStore entities = new EntityStore(8);
+        UserPlane userPlane = new UserPlane(entities, 5);
+        UserProjectile projectile = new UserProjectile(entities, 0, 0);
 
-                userPlane.assignProjectile(projectile);
-                userPlane.updatePosition();
-                assertEquals(userPlane.getBoundsInParent().getMinY() + userPlane.getBoundsInParent().getHeight() / 2 - UserProjectile.IMAGE_HEIGHT / 2,projectile.getBoundsInParent().getMinY());
-            } finally {
-                latch.countDown();
-            }
-        });
-        latch.await(1, TimeUnit.SECONDS);
+        userPlane.assignProjectile(projectile);
+        userPlane.updatePosition();
+        assertEquals(userPlane.getMinY() + userPlane.getHeight() / 2 - Sprite.USER_PROJECTILE.getHeight() / 2, projectile.getMinY(), 0.001);
     }
 
     /**
@@ -73,20 +45,28 @@ public class UserPlaneTest {
      * Ensures the plane's health and kill count are initialized correctly.
      */
     @Test
-    void testUserPlaneInitialization() throws InterruptedException {
-        CountDownLatch latch = new CountDownLatch(1);
+    void testUserPlaneInitialization() {
+        int initialHealth = 5;
+        UserPlane userPlane = new UserPlane(new EntityStore(8), initialHealth);
 
-        Platform.runLater(() -> {
-            try {
-                int initialHealth = 5;
-                UserPlane userPlane = new UserPlane(initialHealth);
+        assertEquals(initialHealth, userPlane.getHealth());
+        assertEquals(0, userPlane.getNumberOfKills());
+    }
+
+    /**
+     * Tests the bounds of the user's plane.
+     * Ensures they are the size of the drawn sprite and follow the plane when it moves.
+     */
+    @Test
+    void testBoundsFollowMovement() {
+        UserPlane userPlane = new UserPlane(new EntityStore(8), 5);
+        assertEquals(Sprite.USER_PLANE.getWidth(), userPlane.getMaxX() - userPlane.getMinX(), 0.001);
+        assertEquals(Sprite.USER_PLANE.getHeight(), userPlane.getMaxY() - userPlane.getMinY(), 0.001);
 
-                assertEquals(initialHealth, userPlane.getHealth());
-                assertEquals(0, userPlane.getNumberOfKills());
-            } finally {
-                latch.countDown();
-            }
-        });
-        latch.await(1, TimeUnit.SECONDS);
+        double initialY = userPlane.getMinY();
+        userPlane.moveDown();
+        userPlane.updatePosition();
+        assertEquals(initialY + 8, userPlane.getMinY(), 0.001);
+        assertEquals(initialY + 8 + Sprite.USER_PLANE.getHeight(), userPlane.getMaxY(), 0.001);
     }
 }
@@ -0,0 +1,31 @@
+package com.example.demo.assets;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+
+public class AssetManifestTest {
+
+    /**
+     * Tests that every image, font and sound effect in the manifest is packaged.
+     * Ensures the preloader's up-front check passes on a normal launch.
+     */
+    @Test
+    void testEveryPathResolves() {
+        List<String> paths = new ArrayList<>(AssetManifest.IMAGE_PATHS);
+        paths.addAll(AssetManifest.FONT_PATHS);
+        for (SoundEffect effect : AssetManifest.SOUND_EFFECTS) {
+            paths.add(effect.getPath());
+        }
+
+        List<String> missing = new ArrayList<>();
+        for (String path : paths) {
+            if (AssetManifest.class.getResource(path) == null) {
+                missing.add(path);
+            }
+        }
+        assertTrue(missing.isEmpty(), "Missing resources: " + missing);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.demo.assets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import javafx.application.Platform;
+
+
+public class AssetPreloaderTest {
+
+    private static final String HEART_IMAGE = "/com/example/demo/images/hearts.png";
+    private static final String BOMB_IMAGE = "/com/example/demo/images/bomb.png";
+    private static final String PIXEL_FONT = "/com/example/demo/fonts/pixelFont.ttf";
+
+    /**
+     * Sets up the JavaFX environment needed for testing.
+     * Runs before all tests to start the JavaFX application thread.
+     */
+    @BeforeAll
+    static void setupJavaFX() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Platform.startup(latch::countDown);
+        latch.await(1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Creates a mixer that does not open any audio.
+     *
+     * @return The mixer.
+     */
+    private SoundMixer createSilentMixer() {
+        return new SoundMixer(1, effect -> null);
+    }
+
+    /**
+     * Tests preloading images and fonts off the FX thread.
+     * Ensures the images end up in the cache.
+     */
+    @Test
+    void testPreloadsImagesIntoCache() throws Exception {
+        ImageCache.clear();
+        AssetPreloader preloader = new AssetPreloader(
+                List.of(HEART_IMAGE, BOMB_IMAGE), List.of(PIXEL_FONT), List.of(), createSilentMixer());
+
+        Thread thread = new Thread(preloader);
+        thread.start();
+        preloader.get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, ImageCache.size());
+        ImageCache.get(HEART_IMAGE);
+        assertEquals(1, ImageCache.getHitCount());
+    }
+
+    /**
+     * Tests a manifest with a missing resource.
+     * Ensures the preloader fails before loading anything.
+     */
+    @Test
+    void testFailsFastOnMissingResource() {
+        ImageCache.clear();
+        AssetPreloader preloader = new AssetPreloader(
+                List.of(HEART_IMAGE, "/com/example/demo/images/missing.png"), List.of(), List.of(), createSilentMixer());
+
+        Thread thread = new Thread(preloader);
+        thread.start();
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> preloader.get(5, TimeUnit.SECONDS));
+
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+        assertTrue(exception.getCause().getMessage().contains("missing.png"));
+        assertEquals(0, ImageCache.size());
+    }
+}
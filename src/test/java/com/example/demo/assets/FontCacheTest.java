@@ -0,0 +1,59 @@
+package com.example.demo.assets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import javafx.application.Platform;
+import javafx.scene.text.Font;
+
+
+public class FontCacheTest {
+
+    private static final String PIXEL_FONT = "/com/example/demo/fonts/pixelFont.ttf";
+
+    /**
+     * Sets up the JavaFX environment needed for testing.
+     * Runs before all tests to start the JavaFX application thread.
+     */
+    @BeforeAll
+    static void setupJavaFX() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Platform.startup(latch::countDown);
+        latch.await(1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Tests asking for a font at several sizes.
+     * Ensures the file is read once and each size is shared.
+     */
+    @Test
+    void testFontFileLoadedOnce() {
+        FontCache.clear();
+        Font title = FontCache.get(PIXEL_FONT, 40);
+        Font button = FontCache.get(PIXEL_FONT, 20);
+
+        assertSame(title, FontCache.get(PIXEL_FONT, 40));
+        assertEquals(20, button.getSize(), 0.001);
+        assertEquals(title.getFamily(), button.getFamily());
+        assertEquals(1, FontCache.getFileLoadCount());
+        assertEquals(2, FontCache.size());
+    }
+
+    /**
+     * Tests a missing font.
+     * Ensures a fallback font is returned and the file is not looked up again.
+     */
+    @Test
+    void testMissingFontFallsBack() {
+        FontCache.clear();
+        Font first = FontCache.get("/com/example/demo/fonts/missing.ttf", 20);
+        FontCache.get("/com/example/demo/fonts/missing.ttf", 40);
+
+        assertNotNull(first);
+        assertEquals(1, FontCache.getFileLoadCount());
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.demo.assets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+
+
+public class ImageCacheTest {
+
+    private static final String HEART_IMAGE = "/com/example/demo/images/hearts.png";
+
+    /**
+     * Sets up the JavaFX environment needed for testing.
+     * Runs before all tests to start the JavaFX application thread.
+     */
+    @BeforeAll
+    static void setupJavaFX() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Platform.startup(latch::countDown);
+        latch.await(1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Tests loading the same image twice.
+     * Ensures the second request returns the cached image and counts as a hit.
+     */
+    @Test
+    void testSameImageIsShared() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        Platform.runLater(() -> {
+            try {
+                ImageCache.clear();
+                Image first = ImageCache.get(HEART_IMAGE);
+                Image second = ImageCache.get(HEART_IMAGE);
+
+                assertSame(first, second);
+                assertEquals(1, ImageCache.getMissCount());
+                assertEquals(1, ImageCache.getHitCount());
+                assertTrue(ImageCache.getBytesHeld() > 0);
+            } finally {
+                latch.countDown();
+            }
+        });
+        latch.await(1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Tests loading an image at a requested size.
+     * Ensures it is cached separately from the natural size.
+     */
+    @Test
+    void testRequestedSizeIsSeparateEntry() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        Platform.runLater(() -> {
+            try {
+                ImageCache.clear();
+                Image natural = ImageCache.get(HEART_IMAGE);
+                Image scaled = ImageCache.get(HEART_IMAGE, 0, 50, true);
+
+                assertNotSame(natural, scaled);
+                assertEquals(2, ImageCache.size());
+            } finally {
+                latch.countDown();
+            }
+        });
+        latch.await(1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Tests a missing image.
+     * Ensures the same exception as a missing resource is thrown.
+     */
+    @Test
+    void testMissingImage() {
+        assertThrows(NullPointerException.class, () -> ImageCache.get("/com/example/demo/images/missing.png"));
+    }
+}
@@ -64,4 +64,29 @@ public class ShieldImageTest {
         });
         latch.await(1, TimeUnit.SECONDS);
     }
+
+    /**
+     * Tests showing the shield from a simulation thread.
+     * Ensures the shield is up straight away and the node follows once synced on the FX thread.
+     *
+     * @throws InterruptedException if the JavaFX setup is interrupted.
+     */
+    @Test
+    void testShowShieldOffFxThread() throws InterruptedException {
+        ShieldImage shieldImage = new ShieldImage(0, 0);
+        shieldImage.showShield();
+        assertTrue(shieldImage.isShieldShown());
+        assertFalse(shieldImage.isVisible());
+
+        CountDownLatch latch = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            try {
+                shieldImage.syncVisibility();
+                assertTrue(shieldImage.isVisible());
+            } finally {
+                latch.countDown();
+            }
+        });
+        latch.await(1, TimeUnit.SECONDS);
+    }
 }
@@ -0,0 +1,170 @@
+package com.example.demo.assets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+
+public class SoundMixerTest {
+
+    /**
+     * Voice that records calls instead of playing audio.
+     */
+    private static class FakeVoice implements SoundMixer.Voice {
+        private final SoundEffect effect;
+        private boolean playing;
+        private boolean disposed;
+        private int plays;
+
+        FakeVoice(SoundEffect effect) {
+            this.effect = effect;
+        }
+
+        @Override
+        public void play(double volume) {
+            playing = true;
+            plays++;
+        }
+
+        @Override
+        public void stop() {
+            playing = false;
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+        }
+
+        @Override
+        public boolean isPlaying() {
+            return playing;
+        }
+    }
+
+    private final List<FakeVoice> created = new ArrayList<>();
+
+    /**
+     * Creates a mixer that hands out fake voices.
+     *
+     * @param maxVoices The voice limit.
+     * @return The mixer.
+     */
+    private SoundMixer createMixer(int maxVoices) {
+        return new SoundMixer(maxVoices, effect -> {
+            FakeVoice voice = new FakeVoice(effect);
+            created.add(voice);
+            return voice;
+        });
+    }
+
+    /**
+     * Tests playing an effect past its own limit.
+     * Ensures the oldest voice is restarted instead of creating a new one.
+     */
+    @Test
+    void testPerEffectLimitRestartsOldestVoice() {
+        SoundMixer mixer = createMixer(8);
+        for (int i = 0; i < SoundEffect.SHOOTING.getMaxVoices() + 1; i++) {
+            assertTrue(mixer.play(SoundEffect.SHOOTING));
+        }
+
+        assertEquals(SoundEffect.SHOOTING.getMaxVoices(), mixer.getVoiceCount());
+        assertEquals(2, created.get(0).plays);
+        assertEquals(1, mixer.getStolenCount());
+    }
+
+    /**
+     * Tests reusing a voice that has finished.
+     * Ensures no new voice is created.
+     */
+    @Test
+    void testFinishedVoiceIsReused() {
+        SoundMixer mixer = createMixer(8);
+        mixer.play(SoundEffect.BOMB);
+        created.get(0).stop();
+        mixer.play(SoundEffect.BOMB);
+
+        assertEquals(1, created.size());
+        assertEquals(2, created.get(0).plays);
+    }
+
+    /**
+     * Tests a full pool.
+     * Ensures a higher priority effect steals and disposes a lower priority voice,
+     * and a lower priority effect is dropped.
+     */
+    @Test
+    void testPriorityStealingWhenPoolIsFull() {
+        SoundMixer mixer = createMixer(2);
+        mixer.play(SoundEffect.SHOOTING);
+        mixer.play(SoundEffect.SHOOTING);
+
+        assertTrue(mixer.play(SoundEffect.BOMB));
+        assertTrue(created.get(0).disposed);
+        assertEquals(SoundEffect.BOMB, created.get(2).effect);
+        assertEquals(2, mixer.getVoiceCount());
+
+        mixer.play(SoundEffect.BOMB);
+        assertFalse(mixer.play(SoundEffect.SHOOTING));
+    }
+
+    /**
+     * Tests preloading and disposing the mixer.
+     * Ensures one voice is created per effect and all are disposed.
+     */
+    @Test
+    void testPreloadAndDispose() {
+        SoundMixer mixer = createMixer(8);
+        mixer.preload();
+        assertEquals(SoundEffect.values().length, mixer.getVoiceCount());
+
+        mixer.dispose();
+        assertEquals(0, mixer.getVoiceCount());
+        assertTrue(created.stream().allMatch(voice -> voice.disposed));
+    }
+
+    /**
+     * Tests an effect that cannot be loaded.
+     * Ensures it is dropped without retrying the load on every play.
+     */
+    @Test
+    void testUnavailableEffectIsDropped() {
+        int[] attempts = {0};
+        SoundMixer mixer = new SoundMixer(8, effect -> {
+            attempts[0]++;
+            return null;
+        });
+
+        assertFalse(mixer.play(SoundEffect.BOMB));
+        assertFalse(mixer.play(SoundEffect.BOMB));
+        assertEquals(1, attempts[0]);
+    }
+
+    /**
+     * Tests getting the shared mixer from several threads at once.
+     * Ensures every thread gets the same mixer.
+     */
+    @Test
+    void testGetInstanceIsSharedAcrossThreads() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<SoundMixer>> mixers = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                mixers.add(executor.submit(SoundMixer::getInstance));
+            }
+            for (Future<SoundMixer> mixer : mixers) {
+                assertSame(SoundMixer.getInstance(), mixer.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
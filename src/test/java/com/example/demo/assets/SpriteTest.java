@@ -0,0 +1,42 @@
+package com.example.demo.assets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import org.junit.jupiter.api.Test;
+
+
+public class SpriteTest {
+
+    /**
+     * Tests the sizes read from the PNG headers, without the FX toolkit.
+     * Ensures each width keeps the aspect ratio of its image at the drawn height.
+     */
+    @Test
+    void testWidthsKeepImageAspectRatio() {
+        //userplane.png is 800x600, enemyFire.png is 335x169 and fireball.png is 800x318
+        assertEquals(200, Sprite.USER_PLANE.getWidth(), 0.001);
+        assertEquals(150, Sprite.USER_PLANE.getHeight(), 0.001);
+        assertEquals(50.0 * 335 / 169, Sprite.ENEMY_PROJECTILE.getWidth(), 0.001);
+        assertEquals(75.0 * 800 / 318, Sprite.BOSS_PROJECTILE.getWidth(), 0.001);
+    }
+
+    /**
+     * Tests a sprite stretched to a fixed size.
+     * Ensures its size is not taken from the image.
+     */
+    @Test
+    void testFixedSize() {
+        assertEquals(150, Sprite.BOMB.getWidth(), 0.001);
+        assertEquals(150, Sprite.BOMB.getHeight(), 0.001);
+    }
+
+    /**
+     * Tests that every sprite image is packaged.
+     */
+    @Test
+    void testEveryPathResolves() {
+        for (Sprite sprite : Sprite.values()) {
+            assertNotNull(Sprite.class.getResource(sprite.getPath()), sprite.getPath());
+        }
+    }
+}
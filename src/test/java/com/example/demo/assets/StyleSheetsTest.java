@@ -0,0 +1,50 @@
+package com.example.demo.assets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import javafx.application.Platform;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+
+
+public class StyleSheetsTest {
+
+    /**
+     * Sets up the JavaFX environment needed for testing.
+     * Runs before all tests to start the JavaFX application thread.
+     */
+    @BeforeAll
+    static void setupJavaFX() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Platform.startup(latch::countDown);
+        latch.await(1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Tests that the packaged stylesheet can be found.
+     */
+    @Test
+    void testStylesheetExists() {
+        assertNotNull(StyleSheets.getUrl());
+        assertTrue(StyleSheets.getUrl().endsWith("game.css"));
+    }
+
+    /**
+     * Tests applying the stylesheet to a scene more than once.
+     * Ensures the scene holds a single copy.
+     */
+    @Test
+    void testApplyAddsStylesheetOnce() {
+        Scene scene = new Scene(new Group());
+        StyleSheets.apply(scene);
+        StyleSheets.apply(scene);
+
+        assertEquals(1, scene.getStylesheets().size());
+        assertEquals(StyleSheets.getUrl(), scene.getStylesheets().get(0));
+    }
+}
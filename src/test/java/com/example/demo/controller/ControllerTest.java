@@ -3,12 +3,27 @@ package com.example.demo.controller;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import java.lang.ref.WeakReference;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.example.demo.GameState.GameSaver;
+import com.example.demo.GameState.GameState;
+import com.example.demo.GameState.SaveData;
+import com.example.demo.levels.LevelParent;
 import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Parent;
 import javafx.scene.media.MediaPlayer;
 import javafx.stage.Stage;
 
@@ -119,4 +134,129 @@ public class ControllerTest {
         latch.await(1, TimeUnit.SECONDS);
     }
 
+    /**
+     * Tests going from the menu to a level and back many times.
+     * Ensures every level is disposed and collected, and the heap and node counts stay flat.
+     */
+    @Test
+    void testMenuLevelCycleDoesNotLeak() throws InterruptedException {
+        int cycles = 30;
+        int warmupCycles = 5;
+        List<WeakReference<LevelParent>> levels = new ArrayList<>();
+        List<Integer> menuNodeCounts = new ArrayList<>();
+        AtomicLong warmHeap = new AtomicLong();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        Platform.runLater(() -> {
+            try {
+                Stage stage = new Stage();
+                stage.setWidth(1300);
+                stage.setHeight(750);
+                Controller controller = new Controller(stage);
+                for (int i = 0; i < cycles; i++) {
+                    controller.launchGame();
+                    LevelParent level = controller.getCurrentLevel();
+                    levels.add(new WeakReference<>(level));
+
+                    controller.showMainMenu();
+                    assertTrue(level.isDisposed());
+                    assertNull(controller.getCurrentLevel());
+                    menuNodeCounts.add(countNodes(stage.getScene().getRoot()));
+                    if (i == warmupCycles) {
+                        warmHeap.set(usedHeapAfterGc());
+                    }
+                }
+            } catch (Throwable t) {
+                failure.set(t);
+            } finally {
+                latch.countDown();
+            }
+        });
+        assertTrue(latch.await(60, TimeUnit.SECONDS));
+        assertNull(failure.get());
+
+        long finalHeap = usedHeapAfterGc();
+        int retained = 0;
+        for (WeakReference<LevelParent> level : levels) {
+            if (level.get() != null) {
+                retained++;
+            }
+        }
+        //Allow the most recent level to linger in toolkit caches
+        assertTrue(retained <= 1, "Levels still reachable: " + retained);
+        assertEquals(menuNodeCounts.get(0), menuNodeCounts.get(cycles - 1));
+        assertTrue(finalHeap - warmHeap.get() < 32L * 1024 * 1024,
+                "Heap grew by " + (finalHeap - warmHeap.get()) + " bytes");
+    }
+
+    /**
+     * Tests starting a new game after loading a save that holds an achievement.
+     * Ensures the achievement is kept in the game state and still in the save file afterwards.
+     */
+    @Test
+    void testSavedAchievementSurvivesLaunchGame(@TempDir Path directory) throws Exception {
+        GameState gameState = GameState.getInstance();
+        GameSaver saver = new GameSaver(directory.resolve("save.dat"));
+        saver.save(new SaveData(3, 4, 1, false, List.of("Saved Achievement")));
+        gameState.restore(saver.load());
+        gameState.addListener(saver);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        Platform.runLater(() -> {
+            try {
+                Stage stage = new Stage();
+                Controller controller = new Controller(stage);
+                controller.launchGame();
+                controller.showMainMenu();
+            } catch (Throwable t) {
+                failure.set(t);
+            } finally {
+                latch.countDown();
+            }
+        });
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        gameState.removeListener(saver);
+        saver.close();
+        assertNull(failure.get());
+
+        assertTrue(gameState.hasAchievement("Saved Achievement"));
+        SaveData saved = saver.load();
+        assertEquals(List.of("Saved Achievement"), saved.getAchievements());
+        assertEquals(GameState.DEFAULT_HEARTS, saved.getLevel1Hearts());
+        gameState.resetAll();
+    }
+
+    /**
+     * Counts the nodes in a scene graph.
+     *
+     * @param root The root of the graph.
+     * @return The number of nodes, including the root.
+     */
+    private static int countNodes(Parent root) {
+        int count = 1;
+        for (Node child : root.getChildrenUnmodifiable()) {
+            count += child instanceof Parent ? countNodes((Parent) child) : 1;
+        }
+        return count;
+    }
+
+    /**
+     * Runs the garbage collector a few times and measures the heap in use.
+     *
+     * @return The used heap in bytes.
+     */
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
 }
@@ -0,0 +1,101 @@
+package com.example.demo.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+
+public class EntityStoreTest {
+
+    private static final byte TYPE = 1;
+
+    /**
+     * Tests moving entities by their velocity.
+     * Ensures every live entity moves and released ones do not.
+     */
+    @Test
+    void testIntegrateMovesLiveEntities() {
+        EntityStore store = new EntityStore(4);
+        int moving = store.create(TYPE, 10, 20, 5, 5, -6, 2, 1);
+        int released = store.create(TYPE, 0, 0, 5, 5, 100, 0, 1);
+        store.release(released);
+
+        store.integrate();
+
+        assertEquals(4, store.getX(moving), 0.001);
+        assertEquals(22, store.getY(moving), 0.001);
+        assertEquals(0, store.getX(released), 0.001);
+        assertEquals(1, store.size());
+    }
+
+    /**
+     * Tests saving positions at the start of a tick.
+     * Ensures a new entity starts from where it was created, and the saved position stays put as it moves.
+     */
+    @Test
+    void testSavePositionsKeepsTickStart() {
+        EntityStore store = new EntityStore(4);
+        int id = store.create(TYPE, 10, 20, 5, 5, 3, -1, 1);
+        assertEquals(10, store.getPreviousX(id), 0.001);
+
+        store.savePositions();
+        store.integrate();
+
+        assertEquals(10, store.getPreviousX(id), 0.001);
+        assertEquals(20, store.getPreviousY(id), 0.001);
+        assertEquals(13, store.getX(id), 0.001);
+        assertEquals(19, store.getY(id), 0.001);
+    }
+
+    /**
+     * Tests reusing a released slot.
+     * Ensures the slot is only handed out again after recycle.
+     */
+    @Test
+    void testReleasedSlotReusedAfterRecycle() {
+        EntityStore store = new EntityStore(4);
+        int first = store.create(TYPE, 0, 0, 1, 1, 0, 0, 1);
+        store.release(first);
+
+        assertNotEquals(first, store.create(TYPE, 0, 0, 1, 1, 0, 0, 1));
+        store.recycle();
+        assertEquals(first, store.create(TYPE, 0, 0, 1, 1, 0, 0, 1));
+    }
+
+    /**
+     * Tests culling entities outside the playfield.
+     * Ensures only flagged entities outside the area are destroyed.
+     */
+    @Test
+    void testDestroyOutsideOnlyCullsFlaggedEntities() {
+        EntityStore store = new EntityStore(4);
+        int offscreenProjectile = store.create(TYPE, -500, 0, 10, 10, 0, 0, 1);
+        store.setFlag(offscreenProjectile, EntityStore.FLAG_CULL_OFFSCREEN);
+        int onscreenProjectile = store.create(TYPE, 100, 100, 10, 10, 0, 0, 1);
+        store.setFlag(onscreenProjectile, EntityStore.FLAG_CULL_OFFSCREEN);
+        int offscreenPlane = store.create(TYPE, -500, 0, 10, 10, 0, 0, 1);
+
+        assertEquals(1, store.destroyOutside(-200, -200, 1500, 950));
+        assertTrue(store.hasFlag(offscreenProjectile, EntityStore.FLAG_DESTROYED));
+        assertFalse(store.hasFlag(onscreenProjectile, EntityStore.FLAG_DESTROYED));
+        assertFalse(store.hasFlag(offscreenPlane, EntityStore.FLAG_DESTROYED));
+    }
+
+    /**
+     * Tests creating more entities than the initial capacity.
+     * Ensures the arrays grow and keep earlier values.
+     */
+    @Test
+    void testGrowsPastInitialCapacity() {
+        EntityStore store = new EntityStore(2);
+        for (int i = 0; i < 100; i++) {
+            store.create(TYPE, i, 0, 1, 1, 0, 0, i);
+        }
+
+        assertEquals(100, store.size());
+        assertEquals(42, store.getHealth(42));
+        assertEquals(99, store.getX(99), 0.001);
+    }
+}
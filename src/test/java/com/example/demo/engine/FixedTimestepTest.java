@@ -0,0 +1,70 @@
+package com.example.demo.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+
+public class FixedTimestepTest {
+
+    private static final long STEP = 1_000_000_000L / 60;
+
+    /**
+     * Tests that elapsed time is converted into whole ticks.
+     * Ensures the leftover time is kept for the next frame.
+     */
+    @Test
+    void testAdvanceRunsWholeTicks() {
+        FixedTimestep timestep = new FixedTimestep(60, 5);
+
+        assertEquals(0, timestep.advance(STEP / 2));
+        assertEquals(1, timestep.advance(STEP / 2 + 1));
+        assertEquals(2, timestep.advance(STEP * 2));
+    }
+
+    /**
+     * Tests the interpolation factor.
+     * Ensures alpha matches the fraction of a tick left over.
+     */
+    @Test
+    void testAlphaIsFractionOfTick() {
+        FixedTimestep timestep = new FixedTimestep(60, 5);
+
+        timestep.advance(STEP + STEP / 4);
+        assertEquals(0.25, timestep.getAlpha(), 0.001);
+    }
+
+    /**
+     * Tests the catch-up cap after a long hitch.
+     * Ensures no more than the maximum ticks run and the rest are dropped.
+     */
+    @Test
+    void testCatchUpIsCapped() {
+        FixedTimestep timestep = new FixedTimestep(60, 5);
+
+        assertEquals(5, timestep.advance(STEP * 20));
+        assertEquals(15, timestep.getDroppedSteps());
+        assertEquals(0, timestep.advance(0));
+    }
+
+    /**
+     * Tests the time left until the next tick.
+     * Ensures it counts down from a whole tick as time is added.
+     */
+    @Test
+    void testNanosUntilNextStep() {
+        FixedTimestep timestep = new FixedTimestep(60, 5);
+        assertEquals(STEP, timestep.getNanosUntilNextStep());
+
+        timestep.advance(STEP + STEP / 4);
+        assertEquals(STEP - STEP / 4, timestep.getNanosUntilNextStep());
+    }
+
+    /**
+     * Tests that invalid tick rates are rejected.
+     */
+    @Test
+    void testInvalidTickRate() {
+        assertThrows(IllegalArgumentException.class, () -> new FixedTimestep(0, 5));
+    }
+}
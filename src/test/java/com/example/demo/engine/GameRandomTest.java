@@ -0,0 +1,76 @@
+package com.example.demo.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+
+public class GameRandomTest {
+
+    /**
+     * Tests two sources made from the same seed.
+     * Ensures they produce the same values.
+     */
+    @Test
+    void testSameSeedSameSequence() {
+        GameRandom first = new GameRandom(99);
+        GameRandom second = new GameRandom(99);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.nextDouble(), second.nextDouble());
+            assertEquals(first.nextInt(10), second.nextInt(10));
+        }
+        assertEquals(99, first.getSeed());
+    }
+
+    /**
+     * Tests splitting sources made from the same seed.
+     * Ensures the children match each other but not their parent.
+     */
+    @Test
+    void testSplitIsReproducible() {
+        GameRandom first = new GameRandom(7).split();
+        GameRandom second = new GameRandom(7).split();
+
+        assertEquals(first.getSeed(), second.getSeed());
+        assertEquals(first.nextDouble(), second.nextDouble());
+        assertNotEquals(7, first.getSeed());
+    }
+
+    /**
+     * Tests shuffling a list.
+     * Ensures the same seed gives the same order and no element is lost.
+     */
+    @Test
+    void testShuffle() {
+        List<Integer> first = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            first.add(i);
+        }
+        List<Integer> second = new ArrayList<>(first);
+        new GameRandom(5).shuffle(first);
+        new GameRandom(5).shuffle(second);
+
+        assertEquals(first, second);
+        assertEquals(20, first.size());
+        for (int i = 0; i < 20; i++) {
+            assertTrue(first.contains(i));
+        }
+    }
+
+    /**
+     * Tests chance at its limits.
+     * Ensures a probability of 0 never happens and 1 always does.
+     */
+    @Test
+    void testChanceLimits() {
+        GameRandom random = new GameRandom(3);
+        for (int i = 0; i < 100; i++) {
+            assertFalse(random.chance(0));
+            assertTrue(random.chance(1));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.demo.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+
+public class HistogramTest {
+
+    /**
+     * Tests small values, which get a bucket each.
+     * Ensures their percentiles are exact.
+     */
+    @Test
+    void testSmallValuesAreExact() {
+        Histogram histogram = new Histogram();
+        for (int i = 1; i <= 10; i++) {
+            histogram.record(i);
+        }
+
+        assertEquals(5, histogram.getPercentile(50));
+        assertEquals(10, histogram.getPercentile(100));
+        assertEquals(5.5, histogram.getMean(), 0.001);
+        assertEquals(10, histogram.getCount());
+    }
+
+    /**
+     * Tests percentiles of large values.
+     * Ensures they are within the bucket precision and never above the maximum.
+     */
+    @Test
+    void testLargeValuesWithinPrecision() {
+        Histogram histogram = new Histogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        long p50 = histogram.getPercentile(50);
+        assertTrue(p50 >= 500_000 && p50 <= 500_000 * 1.125, "p50 was " + p50);
+        assertEquals(1_000_000, histogram.getPercentile(99));
+        assertEquals(1_000_000, histogram.getMax());
+    }
+
+    /**
+     * Tests every bucket boundary.
+     * Ensures each value falls in a bucket whose upper edge is not below it.
+     */
+    @Test
+    void testBucketsCoverValues() {
+        long[] values = {0, 15, 16, 17, 31, 32, 1_000, 123_456_789, Long.MAX_VALUE};
+        for (long value : values) {
+            int index = Histogram.bucketIndex(value);
+            assertTrue(Histogram.bucketUpperBound(index) >= value);
+            if (index > 0) {
+                assertTrue(Histogram.bucketUpperBound(index - 1) < value);
+            }
+        }
+    }
+
+    /**
+     * Tests resetting the histogram.
+     */
+    @Test
+    void testReset() {
+        Histogram histogram = new Histogram();
+        histogram.record(42);
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getPercentile(99));
+    }
+}
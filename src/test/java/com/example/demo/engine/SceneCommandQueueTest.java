@@ -0,0 +1,48 @@
+package com.example.demo.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+
+public class SceneCommandQueueTest {
+
+    /**
+     * Tests running the changes of the ticks that have been drawn.
+     * Ensures they run in the order they were made and later ticks wait.
+     */
+    @Test
+    void testRunsChangesUpToTickInOrder() {
+        SceneCommandQueue queue = new SceneCommandQueue();
+        List<String> run = new ArrayList<>();
+        queue.post(1, () -> run.add("add"));
+        queue.post(1, () -> run.add("move"));
+        queue.post(2, () -> run.add("remove"));
+
+        assertEquals(2, queue.runUntil(1));
+        assertEquals(List.of("add", "move"), run);
+        assertFalse(queue.isEmpty());
+
+        assertEquals(1, queue.runUntil(5));
+        assertEquals(List.of("add", "move", "remove"), run);
+        assertTrue(queue.isEmpty());
+    }
+
+    /**
+     * Tests clearing the queue.
+     * Ensures dropped changes never run.
+     */
+    @Test
+    void testClearDropsChanges() {
+        SceneCommandQueue queue = new SceneCommandQueue();
+        List<String> run = new ArrayList<>();
+        queue.post(0, () -> run.add("add"));
+        queue.clear();
+
+        assertEquals(0, queue.runUntil(10));
+        assertTrue(run.isEmpty());
+    }
+}
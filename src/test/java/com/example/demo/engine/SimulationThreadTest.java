@@ -0,0 +1,136 @@
+package com.example.demo.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+
+public class SimulationThreadTest {
+
+    private static final int TICK_RATE = 200;
+
+    /**
+     * Tests that ticks run on their own thread.
+     * Ensures the tick sees itself on the simulation thread and the caller does not.
+     */
+    @Test
+    void testTicksRunOnOwnThread() throws InterruptedException {
+        AtomicReference<Thread> tickThread = new AtomicReference<>();
+        CountDownLatch ticked = new CountDownLatch(1);
+        SimulationThread[] loop = new SimulationThread[1];
+        loop[0] = new SimulationThread("Simulation-test", TICK_RATE, () -> {
+            if (loop[0].isCurrentThread()) {
+                tickThread.set(Thread.currentThread());
+            }
+            ticked.countDown();
+        });
+
+        loop[0].start();
+        assertTrue(ticked.await(2, TimeUnit.SECONDS));
+        loop[0].stop();
+
+        assertNotSame(Thread.currentThread(), tickThread.get());
+        assertEquals("Simulation-test", tickThread.get().getName());
+        assertFalse(loop[0].isCurrentThread());
+    }
+
+    /**
+     * Tests stopping from another thread.
+     * Ensures no tick runs once stop has returned.
+     */
+    @Test
+    void testStopWaitsForTick() throws InterruptedException {
+        AtomicInteger ticks = new AtomicInteger();
+        CountDownLatch ticked = new CountDownLatch(3);
+        SimulationThread loop = new SimulationThread("Simulation-test", TICK_RATE, () -> {
+            ticks.incrementAndGet();
+            ticked.countDown();
+        });
+
+        loop.start();
+        assertTrue(ticked.await(2, TimeUnit.SECONDS));
+        loop.stop();
+        int stoppedAt = ticks.get();
+        Thread.sleep(50);
+
+        assertFalse(loop.isRunning());
+        assertEquals(stoppedAt, ticks.get());
+    }
+
+    /**
+     * Tests a tick that stops the loop, as winning a level does, and starting it again.
+     * Ensures the loop ends after that tick and restarts with a single thread.
+     */
+    @Test
+    void testStopFromTickAndRestart() throws InterruptedException {
+        AtomicInteger ticks = new AtomicInteger();
+        CountDownLatch restarted = new CountDownLatch(2);
+        SimulationThread[] loop = new SimulationThread[1];
+        loop[0] = new SimulationThread("Simulation-test", TICK_RATE, () -> {
+            ticks.incrementAndGet();
+            restarted.countDown();
+            loop[0].stop();
+        });
+
+        loop[0].start();
+        Thread.sleep(50);
+        assertEquals(1, ticks.get());
+        assertFalse(loop[0].isRunning());
+
+        loop[0].start();
+        assertTrue(restarted.await(2, TimeUnit.SECONDS));
+        loop[0].stop();
+        assertEquals(2, ticks.get());
+    }
+
+    /**
+     * Tests a tick that throws.
+     * Ensures the loop stops instead of ticking on or dying silently.
+     */
+    @Test
+    void testFailingTickStopsLoop() throws InterruptedException {
+        AtomicInteger ticks = new AtomicInteger();
+        SimulationThread loop = new SimulationThread("Simulation-test", TICK_RATE, () -> {
+            ticks.incrementAndGet();
+            throw new IllegalStateException("Broken tick");
+        });
+
+        loop.start();
+        Thread.sleep(50);
+
+        assertFalse(loop.isRunning());
+        assertEquals(1, ticks.get());
+        loop.stop();
+    }
+
+    /**
+     * Tests that a loop stopped by its own tick is seen as ended once its thread finishes.
+     * Ensures a loop that is still ticking, or was never started, is told apart.
+     */
+    @Test
+    void testHasEndedAfterTickStopsLoop() throws InterruptedException {
+        CountDownLatch ticked = new CountDownLatch(1);
+        SimulationThread[] loop = new SimulationThread[1];
+        loop[0] = new SimulationThread("Simulation-test", TICK_RATE, () -> {
+            ticked.countDown();
+            loop[0].stop();
+        });
+        assertTrue(loop[0].hasEnded());
+
+        loop[0].start();
+        assertTrue(ticked.await(2, TimeUnit.SECONDS));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (!loop[0].hasEnded() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+
+        assertTrue(loop[0].hasEnded());
+        assertFalse(loop[0].isRunning());
+    }
+}
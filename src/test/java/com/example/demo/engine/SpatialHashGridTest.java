@@ -0,0 +1,112 @@
+package com.example.demo.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+
+public class SpatialHashGridTest {
+
+    /**
+     * Tests a query against items in different cells.
+     * Ensures only the overlapping items are returned.
+     */
+    @Test
+    void testQueryReturnsOverlappingItems() {
+        SpatialHashGrid<String> grid = new SpatialHashGrid<>(100);
+        grid.insert("near", 10, 10, 50, 50);
+        grid.insert("far", 500, 500, 550, 550);
+
+        List<String> result = grid.query(40, 40, 60, 60, new ArrayList<>());
+
+        assertEquals(List.of("near"), result);
+    }
+
+    /**
+     * Tests the candidate count of a query.
+     * Ensures items sharing a cell are counted even when they do not overlap, and far items are not.
+     */
+    @Test
+    void testLastCandidateCount() {
+        SpatialHashGrid<String> grid = new SpatialHashGrid<>(100);
+        grid.insert("near", 10, 10, 20, 20);
+        grid.insert("same cell", 80, 80, 90, 90);
+        grid.insert("far", 500, 500, 550, 550);
+
+        List<String> result = grid.query(0, 0, 30, 30, new ArrayList<>());
+
+        assertEquals(1, result.size());
+        assertEquals(2, grid.getLastCandidateCount());
+    }
+
+    /**
+     * Tests an item spanning several cells.
+     * Ensures it is reported once per query.
+     */
+    @Test
+    void testLargeItemReportedOnce() {
+        SpatialHashGrid<String> grid = new SpatialHashGrid<>(50);
+        grid.insert("boss", 0, 0, 400, 300);
+
+        List<String> result = grid.query(-10, -10, 500, 500, new ArrayList<>());
+
+        assertEquals(1, result.size());
+    }
+
+    /**
+     * Tests items in the same cell that do not touch.
+     * Ensures the exact bounds are checked, not just the cell.
+     */
+    @Test
+    void testSameCellWithoutOverlap() {
+        SpatialHashGrid<String> grid = new SpatialHashGrid<>(200);
+        grid.insert("a", 0, 0, 10, 10);
+
+        assertTrue(grid.query(20, 20, 30, 30, new ArrayList<>()).isEmpty());
+        assertEquals(1, grid.query(10, 10, 30, 30, new ArrayList<>()).size());
+    }
+
+    /**
+     * Tests negative coordinates and clearing the grid.
+     * Ensures items off the top left are found and cleared items are gone.
+     */
+    @Test
+    void testNegativeCoordinatesAndClear() {
+        SpatialHashGrid<String> grid = new SpatialHashGrid<>(100);
+        grid.insert("offscreen", -250, -120, -180, -90);
+        assertEquals(1, grid.query(-200, -100, -190, -95, new ArrayList<>()).size());
+
+        grid.clear();
+        assertEquals(0, grid.size());
+        assertTrue(grid.query(-200, -100, -190, -95, new ArrayList<>()).isEmpty());
+    }
+
+    /**
+     * Tests many items so the storage has to grow.
+     * Ensures every item is still found afterwards.
+     */
+    @Test
+    void testGrowsWithManyItems() {
+        SpatialHashGrid<Integer> grid = new SpatialHashGrid<>(10);
+        for (int i = 0; i < 1000; i++) {
+            grid.insert(i, i * 20, 0, i * 20 + 5, 5);
+        }
+
+        assertEquals(1000, grid.query(0, 0, 20000, 5, new ArrayList<>()).size());
+        assertEquals(List.of(500), grid.query(10000, 0, 10001, 1, new ArrayList<>()));
+    }
+
+    /**
+     * Tests an invalid cell size.
+     * Ensures it is rejected.
+     */
+    @Test
+    void testInvalidCellSize() {
+        assertThrows(IllegalArgumentException.class, () -> new SpatialHashGrid<String>(0));
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.demo.engine;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import com.example.demo.assets.ImageCache;
+import javafx.application.Platform;
+import javafx.scene.image.ImageView;
+
+
+public class SpriteBatchRendererTest {
+
+    private static final String SPRITE_IMAGE = "/com/example/demo/images/enemyplane.png";
+
+    /**
+     * Sets up the JavaFX environment needed for testing.
+     * Runs before all tests to start the JavaFX application thread.
+     */
+    @BeforeAll
+    static void setupJavaFX() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Platform.startup(latch::countDown);
+        latch.await(1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Tests adding and removing sprites.
+     * Ensures sprites are tracked by the renderer and never attached to a scene.
+     */
+    @Test
+    void testAddAndRemoveSprites() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        Platform.runLater(() -> {
+            try {
+                SpriteBatchRenderer renderer = new SpriteBatchRenderer(1300, 750);
+                ImageView first = new ImageView(ImageCache.get(SPRITE_IMAGE));
+                ImageView second = new ImageView(ImageCache.get(SPRITE_IMAGE));
+                ImageView third = new ImageView(ImageCache.get(SPRITE_IMAGE));
+                renderer.add(first);
+                renderer.add(second);
+                renderer.add(third);
+
+                renderer.remove(first);
+                renderer.removeAll(List.of(third));
+
+                assertEquals(1, renderer.getSpriteCount());
+                assertTrue(renderer.contains(second));
+                assertFalse(renderer.contains(first));
+                assertNull(second.getParent());
+
+                renderer.clear();
+                assertEquals(0, renderer.getSpriteCount());
+            } finally {
+                latch.countDown();
+            }
+        });
+        latch.await(1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Tests drawing a frame.
+     * Ensures visible, hidden and image-less sprites can all be rendered.
+     */
+    @Test
+    void testRender() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        Platform.runLater(() -> {
+            try {
+                SpriteBatchRenderer renderer = new SpriteBatchRenderer(1300, 750);
+                ImageView visible = new ImageView(ImageCache.get(SPRITE_IMAGE));
+                visible.setLayoutX(100);
+                visible.setTranslateX(20);
+                ImageView hidden = new ImageView(ImageCache.get(SPRITE_IMAGE));
+                hidden.setVisible(false);
+                renderer.add(visible);
+                renderer.add(hidden);
+                renderer.add(new ImageView());
+
+                assertDoesNotThrow(renderer::render);
+            } finally {
+                latch.countDown();
+            }
+        });
+        latch.await(1, TimeUnit.SECONDS);
+    }
+}
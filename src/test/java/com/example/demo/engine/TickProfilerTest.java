@@ -0,0 +1,89 @@
+package com.example.demo.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import com.example.demo.engine.TickProfiler.EntityGroup;
+
+
+public class TickProfilerTest {
+
+    private long now;
+
+    /**
+     * Tests timing the phases of a tick with a fake clock.
+     * Ensures each phase records the time since the previous mark.
+     */
+    @Test
+    void testPhasesRecordTimeSincePreviousMark() {
+        TickProfiler profiler = new TickProfiler(() -> now);
+
+        profiler.beginTick();
+        now += 10;
+        profiler.mark(TickPhase.SPAWN_ENEMIES);
+        now += 250;
+        profiler.mark(TickPhase.UPDATE_ACTORS);
+        now += 5;
+        profiler.endTick();
+
+        assertEquals(10, profiler.getPhaseTimes(TickPhase.SPAWN_ENEMIES).getMax());
+        assertEquals(250, profiler.getPhaseTimes(TickPhase.UPDATE_ACTORS).getMax());
+        assertEquals(0, profiler.getPhaseTimes(TickPhase.ENEMY_FIRE).getCount());
+        assertEquals(265, profiler.getTickTimes().getMax());
+        assertEquals(1, profiler.getTickCount());
+    }
+
+    /**
+     * Tests recording entity counts.
+     * Ensures counts are kept per group and ignored outside a tick.
+     */
+    @Test
+    void testEntityCounts() {
+        TickProfiler profiler = new TickProfiler(() -> now);
+
+        profiler.recordEntityCount(EntityGroup.ENEMY_UNITS, 99);
+        profiler.beginTick();
+        profiler.recordEntityCount(EntityGroup.ENEMY_UNITS, 5);
+        profiler.endTick();
+
+        assertEquals(1, profiler.getEntityCounts(EntityGroup.ENEMY_UNITS).getCount());
+        assertEquals(5, profiler.getEntityCounts(EntityGroup.ENEMY_UNITS).getMax());
+    }
+
+    /**
+     * Tests a disabled profiler.
+     * Ensures nothing is recorded.
+     */
+    @Test
+    void testDisabledRecordsNothing() {
+        TickProfiler profiler = new TickProfiler(() -> now);
+        profiler.setEnabled(false);
+
+        profiler.beginTick();
+        profiler.mark(TickPhase.SPAWN_ENEMIES);
+        profiler.endTick();
+
+        assertEquals(0, profiler.getTickCount());
+        assertEquals(0, profiler.getPhaseTimes(TickPhase.SPAWN_ENEMIES).getCount());
+    }
+
+    /**
+     * Tests the report.
+     * Ensures every phase and entity group is listed.
+     */
+    @Test
+    void testReportListsEveryRow() {
+        TickProfiler profiler = new TickProfiler(() -> now);
+        profiler.beginTick();
+        profiler.endTick();
+
+        String report = profiler.report("LevelOne");
+        assertTrue(report.contains("LevelOne (1 ticks)"));
+        for (TickPhase phase : TickPhase.values()) {
+            assertTrue(report.contains(phase.getLabel()));
+        }
+        for (EntityGroup group : EntityGroup.values()) {
+            assertTrue(report.contains(group.getLabel()));
+        }
+    }
+}
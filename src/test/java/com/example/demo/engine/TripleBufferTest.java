@@ -0,0 +1,115 @@
+package com.example.demo.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+
+public class TripleBufferTest {
+
+    private static final int STATES = 200_000;
+
+    /**
+     * State with two values the producer always sets together.
+     */
+    private static class Pair {
+        private long first;
+        private long second;
+    }
+
+    /**
+     * Tests reading before anything is published.
+     * Ensures no state is returned.
+     */
+    @Test
+    void testNothingPublished() {
+        TripleBuffer<Pair> buffer = new TripleBuffer<>(Pair::new);
+
+        assertNull(buffer.acquireLatest());
+    }
+
+    /**
+     * Tests publishing a state and reading it.
+     * Ensures the consumer gets the written state, and keeps it until something newer is published.
+     */
+    @Test
+    void testPublishedStateIsAcquired() {
+        TripleBuffer<Pair> buffer = new TripleBuffer<>(Pair::new);
+        Pair written = buffer.getWriteBuffer();
+        written.first = 1;
+        buffer.publish();
+
+        Pair read = buffer.acquireLatest();
+        assertSame(written, read);
+        assertSame(read, buffer.acquireLatest());
+        assertNotSame(read, buffer.getWriteBuffer());
+    }
+
+    /**
+     * Tests publishing several states before the consumer reads.
+     * Ensures only the newest one is returned.
+     */
+    @Test
+    void testOlderStatesAreSkipped() {
+        TripleBuffer<Pair> buffer = new TripleBuffer<>(Pair::new);
+        for (int i = 1; i <= 5; i++) {
+            buffer.getWriteBuffer().first = i;
+            buffer.publish();
+        }
+
+        assertEquals(5, buffer.acquireLatest().first);
+    }
+
+    /**
+     * Tests that the producer never writes the buffer the consumer holds.
+     * Ensures the held state stays unchanged however much is published after it.
+     */
+    @Test
+    void testHeldStateIsNeverWritten() {
+        TripleBuffer<Pair> buffer = new TripleBuffer<>(Pair::new);
+        buffer.getWriteBuffer().first = 1;
+        buffer.publish();
+        Pair held = buffer.acquireLatest();
+
+        for (int i = 2; i < 10; i++) {
+            assertNotSame(held, buffer.getWriteBuffer());
+            buffer.getWriteBuffer().first = i;
+            buffer.publish();
+        }
+        assertEquals(1, held.first);
+    }
+
+    /**
+     * Tests a producer and a consumer on different threads.
+     * Ensures the consumer never sees a half-written state or a state older than one it already saw.
+     */
+    @Test
+    void testConcurrentHandOver() throws InterruptedException {
+        TripleBuffer<Pair> buffer = new TripleBuffer<>(Pair::new);
+        Thread producer = new Thread(() -> {
+            for (long i = 1; i <= STATES; i++) {
+                Pair pair = buffer.getWriteBuffer();
+                pair.first = i;
+                pair.second = i;
+                buffer.publish();
+            }
+        });
+        producer.start();
+
+        long last = 0;
+        while (last < STATES) {
+            Pair pair = buffer.acquireLatest();
+            if (pair == null) {
+                continue;
+            }
+            assertEquals(pair.first, pair.second);
+            assertTrue(pair.first >= last);
+            last = pair.first;
+        }
+        producer.join();
+        assertEquals(STATES, last);
+    }
+}
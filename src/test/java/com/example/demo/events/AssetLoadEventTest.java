@@ -0,0 +1,59 @@
+package com.example.demo.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+
+public class AssetLoadEventTest {
+
+    private static final String EVENT_NAME = "com.example.demo.AssetLoad";
+
+    /**
+     * Tests recording an asset load while the event is enabled.
+     * Ensures the event reaches the recording with its fields set.
+     */
+    @Test
+    void testCommittedWhenEnabled() throws Exception {
+        Path file = Files.createTempFile("asset-load", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(EVENT_NAME);
+            recording.start();
+            AssetLoadEvent event = new AssetLoadEvent();
+            event.begin();
+            AssetLoadEvent.commitIfEnabled(event, "/com/example/demo/images/bomb.png", "image", true);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(recorded -> recorded.getEventType().getName().equals(EVENT_NAME))
+                .collect(Collectors.toList());
+        Files.deleteIfExists(file);
+
+        assertEquals(1, events.size());
+        assertEquals("/com/example/demo/images/bomb.png", events.get(0).getString("path"));
+        assertEquals("image", events.get(0).getString("kind"));
+        assertTrue(events.get(0).getBoolean("succeeded"));
+    }
+
+    /**
+     * Tests an asset load with no recording running.
+     * Ensures the event reports it should not be committed.
+     */
+    @Test
+    void testNotCommittedWhenDisabled() {
+        AssetLoadEvent event = new AssetLoadEvent();
+        event.begin();
+
+        assertFalse(event.shouldCommit());
+    }
+}
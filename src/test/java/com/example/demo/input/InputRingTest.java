@@ -0,0 +1,97 @@
+package com.example.demo.input;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+
+public class InputRingTest {
+
+    private static final int VALUES = 500_000;
+
+    /**
+     * Tests creating a ring with a capacity that is not a power of two.
+     * Ensures the capacity is rejected.
+     */
+    @Test
+    void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new InputRing(0));
+        assertThrows(IllegalArgumentException.class, () -> new InputRing(12));
+    }
+
+    /**
+     * Tests offering values and draining them.
+     * Ensures they come out in the order they went in and the ring is empty afterwards.
+     */
+    @Test
+    void testDrainKeepsOrder() {
+        InputRing ring = new InputRing(8);
+        ring.offer(3);
+        ring.offer(1);
+        ring.offer(2);
+        assertEquals(3, ring.size());
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(3, ring.drain(drained::add));
+        assertEquals(List.of(3, 1, 2), drained);
+        assertEquals(0, ring.size());
+        assertEquals(0, ring.drain(drained::add));
+    }
+
+    /**
+     * Tests offering to a full ring.
+     * Ensures the new value is dropped and counted, and the ring accepts values again once drained.
+     */
+    @Test
+    void testFullRingDropsValues() {
+        InputRing ring = new InputRing(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(ring.offer(i));
+        }
+
+        assertFalse(ring.offer(4));
+        assertEquals(1, ring.getDroppedCount());
+
+        ring.drain(value -> { });
+        assertTrue(ring.offer(5));
+    }
+
+    /**
+     * Tests one thread offering while another drains.
+     * Ensures every value arrives exactly once and in order, as the ring wraps many times.
+     */
+    @Test
+    void testConcurrentProducerAndConsumer() throws InterruptedException {
+        InputRing ring = new InputRing(64);
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < VALUES; i++) {
+                while (!ring.offer(i)) {
+                    Thread.onSpinWait();
+                }
+            }
+        });
+        producer.start();
+
+        int[] next = {0};
+        boolean[] inOrder = {true};
+        while (next[0] < VALUES) {
+            ring.drain(value -> {
+                if (value != next[0]) {
+                    inOrder[0] = false;
+                }
+                next[0]++;
+            });
+        }
+        producer.join();
+
+        assertTrue(inOrder[0]);
+        assertEquals(VALUES, next[0]);
+        assertEquals(0, ring.size());
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.demo.input;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+
+public class InputStateTest {
+
+    /**
+     * Tests pressing and releasing a key.
+     * Ensures the key is held only between the two.
+     */
+    @Test
+    void testPressAndRelease() {
+        InputState state = new InputState();
+
+        state.apply(InputState.press(GameKey.UP));
+        assertTrue(state.isHeld(GameKey.UP));
+        assertEquals(-1, state.getVertical());
+
+        state.apply(InputState.release(GameKey.UP));
+        assertFalse(state.isHeld(GameKey.UP));
+        assertEquals(0, state.getVertical());
+    }
+
+    /**
+     * Tests a tap shorter than a tick.
+     * Ensures the press is still seen until the presses are cleared.
+     */
+    @Test
+    void testTapIsRemembered() {
+        InputState state = new InputState();
+        state.apply(InputState.press(GameKey.FIRE));
+        state.apply(InputState.release(GameKey.FIRE));
+
+        assertFalse(state.isHeld(GameKey.FIRE));
+        assertTrue(state.wasPressed(GameKey.FIRE));
+
+        state.clearPresses();
+        assertFalse(state.wasPressed(GameKey.FIRE));
+    }
+
+    /**
+     * Tests holding both keys of an axis.
+     * Ensures the key pressed last wins, and releasing it falls back to the other.
+     */
+    @Test
+    void testOppositeKeys() {
+        InputState state = new InputState();
+        state.apply(InputState.press(GameKey.LEFT));
+        state.apply(InputState.press(GameKey.RIGHT));
+        assertEquals(1, state.getHorizontal());
+
+        state.apply(InputState.release(GameKey.RIGHT));
+        assertEquals(-1, state.getHorizontal());
+    }
+
+    /**
+     * Tests resetting the state.
+     * Ensures no key is held or pressed afterwards.
+     */
+    @Test
+    void testReset() {
+        InputState state = new InputState();
+        state.apply(InputState.press(GameKey.DOWN));
+        state.apply(InputState.press(GameKey.RIGHT));
+
+        state.reset();
+
+        assertFalse(state.isHeld(GameKey.DOWN));
+        assertFalse(state.wasPressed(GameKey.RIGHT));
+        assertEquals(0, state.getVertical());
+        assertEquals(0, state.getHorizontal());
+    }
+}
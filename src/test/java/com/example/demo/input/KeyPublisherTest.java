@@ -0,0 +1,121 @@
+package com.example.demo.input;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+
+public class KeyPublisherTest {
+
+    /**
+     * Tests auto-repeat presses of a held movement key.
+     * Ensures only the first press is sent, and the key can be pressed again once released.
+     */
+    @Test
+    void testMovementRepeatPressesAreNotSent() {
+        InputRing ring = new InputRing(16);
+        KeyPublisher publisher = new KeyPublisher(ring);
+
+        assertTrue(publisher.press(GameKey.UP));
+        for (int i = 0; i < 100; i++) {
+            assertFalse(publisher.press(GameKey.UP));
+        }
+        assertEquals(1, ring.size());
+
+        assertTrue(publisher.release(GameKey.UP));
+        assertTrue(publisher.press(GameKey.UP));
+        assertEquals(3, ring.size());
+    }
+
+    /**
+     * Tests auto-repeat presses of a held fire key.
+     * Ensures every repeat is sent, so holding fire keeps shooting, until only the reserve for releases is left.
+     */
+    @Test
+    void testFireRepeatPressesAreSent() {
+        InputRing ring = new InputRing(16);
+        KeyPublisher publisher = new KeyPublisher(ring);
+
+        assertTrue(publisher.press(GameKey.FIRE));
+        assertTrue(publisher.press(GameKey.FIRE));
+        assertEquals(2, ring.size());
+        for (int i = 0; i < 100; i++) {
+            publisher.press(GameKey.FIRE);
+        }
+        assertEquals(16 - GameKey.values().length, ring.size());
+
+        assertTrue(publisher.release(GameKey.FIRE));
+        assertFalse(publisher.isHeld(GameKey.FIRE));
+        assertEquals(0, ring.getDroppedCount());
+    }
+
+    /**
+     * Tests releasing a key whose press was never sent.
+     * Ensures nothing is sent.
+     */
+    @Test
+    void testReleaseWithoutPress() {
+        InputRing ring = new InputRing(16);
+        KeyPublisher publisher = new KeyPublisher(ring);
+
+        assertFalse(publisher.release(GameKey.FIRE));
+        assertEquals(0, ring.size());
+    }
+
+    /**
+     * Tests holding every key while the ring is never drained, such as while the game is paused.
+     * Ensures presses stop once only the reserve is left, every release still gets in,
+     * and no key is held once the ring is polled.
+     */
+    @Test
+    void testReleasesFitWhenRingIsFull() {
+        InputRing ring = new InputRing(16);
+        KeyPublisher publisher = new KeyPublisher(ring);
+        for (int i = 0; i < 100; i++) {
+            for (GameKey key : GameKey.values()) {
+                publisher.press(key);
+            }
+            publisher.release(GameKey.values()[i % GameKey.values().length]);
+        }
+        for (GameKey key : GameKey.values()) {
+            publisher.release(key);
+        }
+
+        assertEquals(0, ring.getDroppedCount());
+        InputState state = new InputState();
+        ring.drain(state::apply);
+        for (GameKey key : GameKey.values()) {
+            assertFalse(state.isHeld(key));
+            assertFalse(publisher.isHeld(key));
+        }
+    }
+
+    /**
+     * Tests forgetting the held keys, as when the game is paused.
+     * Ensures the next press of a key still held down is sent again.
+     */
+    @Test
+    void testResetSendsNextPress() {
+        InputRing ring = new InputRing(16);
+        KeyPublisher publisher = new KeyPublisher(ring);
+        publisher.press(GameKey.LEFT);
+        ring.drain(transition -> { });
+
+        publisher.reset();
+
+        assertFalse(publisher.isHeld(GameKey.LEFT));
+        assertTrue(publisher.press(GameKey.LEFT));
+    }
+
+    /**
+     * Tests a ring too small to keep room for every release.
+     * Ensures it is rejected.
+     */
+    @Test
+    void testRingTooSmall() {
+        assertThrows(IllegalArgumentException.class, () -> new KeyPublisher(new InputRing(4)));
+    }
+}
@@ -2,11 +2,19 @@ package com.example.demo.levels;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import com.example.demo.engine.RenderMode;
+import com.example.demo.view.SpriteView;
 import javafx.application.Platform;
+import javafx.scene.canvas.Canvas;
 import javafx.stage.Stage;
 
 
@@ -70,7 +78,64 @@ public class LevelOneTest {
         latch.await(1, TimeUnit.SECONDS);
     }
 
+    /**
+     * Tests LevelOne in canvas render mode.
+     * Ensures the user plane is drawn on a canvas instead of being added to the root,
+     * and that the mode cannot change once the scene exists.
+     */
+    @Test
+    void testCanvasRenderMode() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        Platform.runLater(() -> {
+            try {
+                Stage stage = new Stage();
+                LevelOne levelOne = new LevelOne(750, 1300, stage);
+                levelOne.setRenderMode(RenderMode.CANVAS);
+                levelOne.initializeScene();
 
+                assertFalse(levelOne.getRoot().getChildren().stream().anyMatch(node -> node instanceof SpriteView));
+                assertTrue(levelOne.getRoot().getChildren().stream().anyMatch(node -> node instanceof Canvas));
+                assertThrows(IllegalStateException.class, () -> levelOne.setRenderMode(RenderMode.NODES));
+            } finally {
+                latch.countDown();
+            }
+        });
+        latch.await(1, TimeUnit.SECONDS);
+    }
 
+    /**
+     * Tests disposing a running level.
+     * Ensures the scene graph, observers and input handlers are released and the level cannot start again.
+     */
+    @Test
+    void testDispose() throws InterruptedException {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(1);
 
+        Platform.runLater(() -> {
+            try {
+                Stage stage = new Stage();
+                LevelOne levelOne = new LevelOne(750, 1300, stage);
+                levelOne.addObserver((observable, arg) -> { });
+                levelOne.initializeScene();
+                levelOne.startGame();
+
+                levelOne.dispose();
+                levelOne.dispose();
+
+                assertTrue(levelOne.isDisposed());
+                assertEquals(0, levelOne.getRoot().getChildren().size());
+                assertEquals(0, levelOne.countObservers());
+                assertEquals(0, levelOne.getCurrentNumberOfEnemies());
+                assertThrows(IllegalStateException.class, () -> levelOne.startGame());
+            } catch (Throwable t) {
+                failure.set(t);
+            } finally {
+                latch.countDown();
+            }
+        });
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertNull(failure.get());
+    }
 }
@@ -0,0 +1,146 @@
+package com.example.demo.levels;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.example.demo.engine.GameRandom;
+import com.example.demo.replay.InputAction;
+import com.example.demo.replay.Replay;
+import com.example.demo.replay.ReplayRecorder;
+import javafx.application.Platform;
+import javafx.stage.Stage;
+
+
+public class LevelReplayTest {
+
+    private static final long SEED = 20241225L;
+    private static final InputAction[] SCRIPT = {
+        InputAction.MOVE_UP, InputAction.FIRE, InputAction.STOP_VERTICAL, InputAction.MOVE_RIGHT,
+        InputAction.FIRE, InputAction.MOVE_DOWN, InputAction.FIRE, InputAction.STOP_HORIZONTAL,
+        InputAction.FIRE, InputAction.STOP_VERTICAL
+    };
+
+    /**
+     * Sets up the JavaFX environment needed for testing.
+     * Runs before all tests to start the JavaFX application thread.
+     */
+    @BeforeAll
+    static void setupJavaFX() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Platform.startup(latch::countDown);
+        latch.await(1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Tests recording a level played in real time, saving and loading the replay,
+     * and playing it on a new level built from the same seed.
+     * Ensures both levels end on the same tick with the same score, health, kills, enemies and user position.
+     */
+    @Test
+    void testReplayReproducesRecordedRun(@TempDir Path directory) throws Exception {
+        AtomicReference<LevelOne> recorded = new AtomicReference<>();
+        AtomicReference<String> recordedState = new AtomicReference<>();
+        AtomicReference<String> replayedState = new AtomicReference<>();
+        Path file = directory.resolve("LevelOne.sbr");
+
+        runOnFxThread(() -> {
+            LevelOne level = new LevelOne(750, 1300, new Stage(), new GameRandom(SEED));
+            level.startRecording();
+            level.initializeScene();
+            level.startGame();
+            recorded.set(level);
+        });
+        //Inputs go in between ticks on the FX thread, as the key polling does
+        for (InputAction action : SCRIPT) {
+            Thread.sleep(80);
+            runOnFxThread(() -> recorded.get().applyInput(action));
+        }
+        Thread.sleep(80);
+        runOnFxThread(() -> {
+            LevelOne level = recorded.get();
+            level.stopGame();
+            Replay replay = level.stopRecording();
+            recordedState.set(describe(level));
+            replay.save(file);
+            level.dispose();
+        });
+
+        Replay loaded = Replay.load(file);
+        runOnFxThread(() -> {
+            LevelOne level = new LevelOne(750, 1300, new Stage(), new GameRandom(loaded.getSeed()));
+            level.playReplay(loaded);
+            level.initializeScene();
+            level.runReplayUncapped();
+            replayedState.set(describe(level));
+            level.dispose();
+        });
+
+        assertTrue(loaded.getInputCount() >= SCRIPT.length);
+        assertEquals(recordedState.get(), replayedState.get());
+    }
+
+    /**
+     * Tests playing a replay recorded at another tick rate.
+     * Ensures it is rejected, since every speed in the level is tuned per tick.
+     */
+    @Test
+    void testReplayAtOtherTickRateIsRejected() throws Exception {
+        Replay replay = new ReplayRecorder(LevelOne.class.getName(), SEED, 5, LevelParent.TICK_RATE * 2).toReplay(0);
+        runOnFxThread(() -> {
+            LevelOne level = new LevelOne(750, 1300, new Stage(), new GameRandom(SEED));
+            assertThrows(IllegalArgumentException.class, () -> level.playReplay(replay));
+            level.dispose();
+        });
+    }
+
+    /**
+     * Describes everything a replay must reproduce about a level.
+     *
+     * @param level The level.
+     * @return The tick, score, health, kills, enemy count and user position.
+     */
+    private static String describe(LevelParent level) {
+        return "tick=" + level.getTickCount()
+                + " score=" + level.getPlayerScore()
+                + " health=" + level.getUser().getHealth()
+                + " kills=" + level.getUser().getNumberOfKills()
+                + " enemies=" + level.getCurrentNumberOfEnemies()
+                + " user=" + level.getUser().getMinX() + "," + level.getUser().getMinY();
+    }
+
+    /**
+     * An action run on the FX thread that may throw.
+     */
+    private interface FxAction {
+        void run() throws Exception;
+    }
+
+    /**
+     * Runs an action on the FX thread and waits for it, rethrowing anything it throws.
+     *
+     * @param action The action.
+     */
+    private static void runOnFxThread(FxAction action) throws InterruptedException {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            try {
+                action.run();
+            } catch (Throwable t) {
+                failure.set(t);
+            } finally {
+                latch.countDown();
+            }
+        });
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertNull(failure.get());
+    }
+}
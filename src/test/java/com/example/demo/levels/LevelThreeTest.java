@@ -1,14 +1,15 @@
 package com.example.demo.levels;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
-import static org.mockito.Mockito.mock;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import com.example.demo.actors.Boss;
-import com.example.demo.assets.ShieldImage;
+import com.example.demo.engine.EntityStore;
 import javafx.application.Platform;
 import javafx.stage.Stage;
 
@@ -59,12 +60,11 @@ public class LevelThreeTest {
 
         Platform.runLater(() -> {
             try {
-                ShieldImage shieldImage = mock(ShieldImage.class);
-                Boss boss = new Boss(shieldImage, "LevelThree");
-                assertDoesNotThrow(() -> {
-                    boss.activateShield();
-                    boss.deactivateShield();
-                });
+                Boss boss = new Boss(new EntityStore(8), "LevelThree");
+                boss.activateShield();
+                assertTrue(boss.isShielded());
+                boss.deactivateShield();
+                assertFalse(boss.isShielded());
             } finally {
                 latch.countDown();
             }
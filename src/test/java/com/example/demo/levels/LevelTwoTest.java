@@ -2,17 +2,12 @@ package com.example.demo.levels;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
 
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
-import com.example.demo.assets.ShieldImage;
-
 import javafx.application.Platform;
 import javafx.stage.Stage;
 
@@ -67,8 +62,7 @@ public class LevelTwoTest {
                 LevelTwo levelTwo = new LevelTwo(750, 1300, stage);
 
                 levelTwo.activateShield();
-                ShieldImage shieldImage = mock(ShieldImage.class);
-                verify(shieldImage, times(1)).showShield(); 
+                assertTrue(levelTwo.getBoss().isShielded());
             } finally {
                 latch.countDown();
             }
@@ -89,7 +83,7 @@ public class LevelTwoTest {
                 Stage stage = new Stage();
                 LevelTwo levelTwo = new LevelTwo(750, 1300, stage);
 
-                levelTwo.spawnEnemyUnits(); 
+                levelTwo.updateScene(); 
                 assertFalse(levelTwo.getBoss().isDestroyed());
 
                 levelTwo.getBoss().takeDamage();
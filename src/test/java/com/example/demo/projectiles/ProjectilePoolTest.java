@@ -0,0 +1,80 @@
+package com.example.demo.projectiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+import com.example.demo.engine.EntityStore;
+import org.junit.jupiter.api.Test;
+
+public class ProjectilePoolTest {
+
+    /**
+     * Tests that a released projectile is reused.
+     * Ensures the pool hands back the same instance instead of creating a new one.
+     */
+    @Test
+    void testReleasedProjectileIsReused() {
+        ProjectilePool<EnemyProjectile> pool = new ProjectilePool<>(EnemyProjectile::new);
+        EnemyProjectile first = pool.acquire();
+        pool.release(first);
+        EnemyProjectile second = pool.acquire();
+
+        assertSame(first, second);
+        assertEquals(1, pool.getCreatedCount());
+        assertFalse(second.isPooled());
+    }
+
+    /**
+     * Tests releasing the same projectile twice.
+     * Ensures it is only added to the pool once.
+     */
+    @Test
+    void testDoubleReleaseIgnored() {
+        ProjectilePool<EnemyProjectile> pool = new ProjectilePool<>(EnemyProjectile::new);
+        EnemyProjectile projectile = pool.acquire();
+        pool.release(projectile);
+        pool.release(projectile);
+
+        assertEquals(1, pool.getAvailableCount());
+    }
+
+    /**
+     * Tests reusing a destroyed user projectile.
+     * Ensures position, fired state and destroyed state are reset, and the old entity is given back.
+     */
+    @Test
+    void testAcquireResetsUserProjectile() {
+        EntityStore entities = new EntityStore(8);
+        ProjectilePools pools = new ProjectilePools();
+        UserProjectile projectile = UserProjectile.acquire(pools, entities, 100, 200);
+        projectile.fire();
+        entities.integrate();
+        projectile.takeDamage();
+        projectile.release();
+        assertEquals(0, entities.size());
+
+        UserProjectile reused = UserProjectile.acquire(pools, entities, 10, 20);
+        assertSame(projectile, reused);
+        assertFalse(reused.isDestroyed());
+        assertFalse(reused.isFired);
+        assertEquals(10, reused.getMinX(), 0.001);
+        assertEquals(20, reused.getMinY(), 0.001);
+        assertEquals(1, entities.size());
+    }
+
+    /**
+     * Tests releasing a projectile taken from one game's pools.
+     * Ensures it goes back to that game's pool only, so games never share projectiles.
+     */
+    @Test
+    void testReleaseReturnsToOwnPools() {
+        EntityStore entities = new EntityStore(8);
+        ProjectilePools first = new ProjectilePools();
+        ProjectilePools second = new ProjectilePools();
+        EnemyProjectile projectile = EnemyProjectile.acquire(first, entities, 100, 200);
+        projectile.release();
+
+        assertEquals(1, first.getEnemyProjectiles().getAvailableCount());
+        assertEquals(0, second.getEnemyProjectiles().getAvailableCount());
+        assertNotSame(projectile, EnemyProjectile.acquire(second, entities, 0, 0));
+        assertSame(projectile, EnemyProjectile.acquire(first, entities, 0, 0));
+    }
+}
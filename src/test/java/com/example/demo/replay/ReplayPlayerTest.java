@@ -0,0 +1,39 @@
+package com.example.demo.replay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+
+public class ReplayPlayerTest {
+
+    /**
+     * Tests asking for the inputs tick by tick.
+     * Ensures each input is applied once, on the tick it was recorded on.
+     */
+    @Test
+    void testAppliesInputsOnTheirTick() {
+        ReplayRecorder recorder = new ReplayRecorder("Level", 1, 5, 20);
+        recorder.record(0, InputAction.MOVE_UP);
+        recorder.record(2, InputAction.FIRE);
+        recorder.record(2, InputAction.STOP_VERTICAL);
+        ReplayPlayer player = new ReplayPlayer(recorder.toReplay(4));
+
+        List<InputAction> applied = new ArrayList<>();
+        player.applyInputs(0, applied::add);
+        assertEquals(List.of(InputAction.MOVE_UP), applied);
+
+        applied.clear();
+        player.applyInputs(1, applied::add);
+        assertTrue(applied.isEmpty());
+
+        player.applyInputs(2, applied::add);
+        assertEquals(List.of(InputAction.FIRE, InputAction.STOP_VERTICAL), applied);
+
+        assertFalse(player.isFinished(3));
+        assertTrue(player.isFinished(4));
+    }
+}
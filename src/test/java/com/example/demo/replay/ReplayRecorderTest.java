@@ -0,0 +1,39 @@
+package com.example.demo.replay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+
+public class ReplayRecorderTest {
+
+    /**
+     * Tests recording more inputs than the initial capacity.
+     * Ensures every input is kept in order.
+     */
+    @Test
+    void testGrowsPastInitialCapacity() {
+        ReplayRecorder recorder = new ReplayRecorder("Level", 1, 5, 20);
+        for (int i = 0; i < 1000; i++) {
+            recorder.record(i / 2, i % 2 == 0 ? InputAction.MOVE_UP : InputAction.STOP_VERTICAL);
+        }
+        Replay replay = recorder.toReplay(500);
+
+        assertEquals(1000, recorder.getInputCount());
+        assertEquals(1000, replay.getInputCount());
+        assertEquals(499, replay.getTick(999));
+        assertEquals(InputAction.STOP_VERTICAL, replay.getAction(999));
+    }
+
+    /**
+     * Tests recording an input before the previous one.
+     * Ensures an IllegalArgumentException is thrown.
+     */
+    @Test
+    void testRejectsInputsOutOfOrder() {
+        ReplayRecorder recorder = new ReplayRecorder("Level", 1, 5, 20);
+        recorder.record(10, InputAction.FIRE);
+
+        assertThrows(IllegalArgumentException.class, () -> recorder.record(9, InputAction.FIRE));
+    }
+}
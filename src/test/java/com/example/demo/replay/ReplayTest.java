@@ -0,0 +1,120 @@
+package com.example.demo.replay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+
+public class ReplayTest {
+
+    /**
+     * Builds a replay with a few inputs spread over a level.
+     *
+     * @return The replay.
+     */
+    private Replay sampleReplay() {
+        ReplayRecorder recorder = new ReplayRecorder("com.example.demo.levels.LevelOne", -1234567890123L, 5, 20);
+        recorder.record(0, InputAction.MOVE_UP);
+        recorder.record(0, InputAction.FIRE);
+        recorder.record(3, InputAction.STOP_VERTICAL);
+        recorder.record(500, InputAction.MOVE_RIGHT);
+        recorder.record(100_000, InputAction.STOP_HORIZONTAL);
+        return recorder.toReplay(100_020);
+    }
+
+    /**
+     * Writes the replay to bytes.
+     *
+     * @param replay The replay to write.
+     * @return The encoded replay.
+     */
+    private byte[] encode(Replay replay) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        replay.write(out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Tests writing a replay and reading it back.
+     * Ensures the header and every input survive.
+     */
+    @Test
+    void testRoundTrip() throws IOException {
+        Replay replay = sampleReplay();
+        Replay read = Replay.read(new ByteArrayInputStream(encode(replay)));
+
+        assertEquals(replay.getLevelClassName(), read.getLevelClassName());
+        assertEquals(replay.getSeed(), read.getSeed());
+        assertEquals(5, read.getPlayerInitialHealth());
+        assertEquals(20, read.getTickRate());
+        assertEquals(100_020, read.getEndTick());
+        assertEquals(replay.getInputCount(), read.getInputCount());
+        for (int i = 0; i < replay.getInputCount(); i++) {
+            assertEquals(replay.getTick(i), read.getTick(i));
+            assertEquals(replay.getAction(i), read.getAction(i));
+        }
+    }
+
+    /**
+     * Tests the size of inputs close together.
+     * Ensures each one takes a single byte.
+     */
+    @Test
+    void testInputsAreCompact() throws IOException {
+        ReplayRecorder empty = new ReplayRecorder("Level", 1, 5, 20);
+        ReplayRecorder busy = new ReplayRecorder("Level", 1, 5, 20);
+        for (int i = 0; i < 1000; i++) {
+            busy.record(i, InputAction.FIRE);
+        }
+
+        int inputBytes = encode(busy.toReplay(1000)).length - encode(empty.toReplay(1000)).length;
+        //The input count itself grows from one byte to two
+        assertEquals(1000 + 1, inputBytes);
+    }
+
+    /**
+     * Tests reading something that is not a replay.
+     * Ensures an IOException is thrown.
+     */
+    @Test
+    void testRejectsOtherFiles() {
+        byte[] notReplay = "hello world, this is not a replay".getBytes();
+
+        assertThrows(IOException.class, () -> Replay.read(new ByteArrayInputStream(notReplay)));
+    }
+
+    /**
+     * Tests reading a replay that was cut short.
+     * Ensures an EOFException is thrown.
+     */
+    @Test
+    void testRejectsTruncatedFiles() throws IOException {
+        byte[] bytes = encode(sampleReplay());
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 2);
+
+        IOException e = assertThrows(IOException.class, () -> Replay.read(new ByteArrayInputStream(truncated)));
+        assertTrue(e instanceof EOFException);
+    }
+
+    /**
+     * Tests reading a replay whose input count is far more than the inputs in it.
+     * Ensures an EOFException is thrown instead of room being made for every input counted.
+     */
+    @Test
+    void testRejectsImpossibleInputCount() throws IOException {
+        byte[] bytes = encode(new ReplayRecorder("com.example.demo.levels.LevelOne", 1, 5, 20).toReplay(10));
+        //Replace the count of zero, the last byte, with Integer.MAX_VALUE
+        byte[] corrupt = Arrays.copyOf(bytes, bytes.length + 4);
+        byte[] count = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+        System.arraycopy(count, 0, corrupt, bytes.length - 1, count.length);
+
+        IOException e = assertThrows(IOException.class, () -> Replay.read(new ByteArrayInputStream(corrupt)));
+        assertTrue(e instanceof EOFException);
+    }
+}
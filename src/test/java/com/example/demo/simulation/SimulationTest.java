@@ -0,0 +1,275 @@
+package com.example.demo.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import com.example.demo.actors.ActiveActor;
+import com.example.demo.actors.EnemyPlane;
+import com.example.demo.actors.UserPlane;
+import com.example.demo.assets.SoundEffect;
+import com.example.demo.assets.Sprite;
+import com.example.demo.engine.GameRandom;
+
+
+public class SimulationTest {
+
+    private static final double SCREEN_HEIGHT = 750;
+    private static final double SCREEN_WIDTH = 1300;
+
+    /**
+     * Tests that every level can be played to the end without the FX toolkit.
+     * Ensures each game finishes within the tick limit.
+     */
+    @Test
+    void testLevelsRunHeadless() {
+        Simulation[] simulations = {
+            new SimulationLevelOne(SCREEN_HEIGHT, SCREEN_WIDTH),
+            new SimulationLevelTwo(SCREEN_HEIGHT, SCREEN_WIDTH),
+            new SimulationLevelThree(SCREEN_HEIGHT, SCREEN_WIDTH)
+        };
+        for (Simulation simulation : simulations) {
+            Simulation.Outcome outcome = HeadlessRunner.play(simulation, 100_000);
+            assertNotEquals(Simulation.Outcome.RUNNING, outcome);
+        }
+    }
+
+    /**
+     * Tests an enemy leaving the screen.
+     * Ensures the user loses all hearts and the game is lost.
+     */
+    @Test
+    void testEnemyPenetrationLosesGame() {
+        Simulation simulation = new SimulationLevelOne(SCREEN_HEIGHT, SCREEN_WIDTH);
+        simulation.addEnemyUnit(new EnemyPlane(simulation.getEntities(), -Sprite.ENEMY_PLANE.getWidth() - 10, 0, simulation.getRandom()));
+        simulation.step();
+
+        assertEquals(0, simulation.getUser().getHealth());
+        assertEquals(Simulation.Outcome.LOST, simulation.getOutcome());
+    }
+
+    /**
+     * Tests destroyed enemies past the right and bottom edges of the screen.
+     * Ensures only enemies still alive can get past the user.
+     */
+    @Test
+    void testDestroyedEnemyOffscreenDoesNotLoseGame() {
+        Simulation simulation = new SimulationLevelOne(SCREEN_HEIGHT, SCREEN_WIDTH);
+        EnemyPlane pastRight = new EnemyPlane(simulation.getEntities(), SCREEN_WIDTH + 100, 0, simulation.getRandom());
+        EnemyPlane pastBottom = new EnemyPlane(simulation.getEntities(), 500, SCREEN_HEIGHT + 100, simulation.getRandom());
+        pastRight.destroy();
+        pastBottom.destroy();
+        simulation.addEnemyUnit(pastRight);
+        simulation.addEnemyUnit(pastBottom);
+        int health = simulation.getUser().getHealth();
+        simulation.step();
+
+        assertEquals(health, simulation.getUser().getHealth());
+        assertEquals(Simulation.Outcome.RUNNING, simulation.getOutcome());
+    }
+
+    /**
+     * Tests a user projectile hitting an enemy.
+     * Ensures the enemy is removed, the kill is counted and score is added.
+     */
+    @Test
+    void testProjectileDestroysEnemy() {
+        Simulation simulation = new SimulationLevelTwo(SCREEN_HEIGHT, SCREEN_WIDTH);
+        UserPlane user = simulation.getUser();
+        EnemyPlane enemy = new EnemyPlane(simulation.getEntities(), user.getMaxX() + 20, user.getMinY(),
+            simulation.getRandom());
+        simulation.addEnemyUnit(enemy);
+        simulation.fireProjectile();
+        simulation.step();
+
+        assertTrue(enemy.isDestroyed());
+        assertEquals(60, simulation.getPlayerScore());
+        assertEquals(1, user.getNumberOfKills());
+    }
+
+    /**
+     * Tests that stepping stops once the game is over.
+     */
+    @Test
+    void testStepAfterGameOverDoesNothing() {
+        Simulation simulation = new SimulationLevelOne(SCREEN_HEIGHT, SCREEN_WIDTH);
+        simulation.loseGame();
+        simulation.step();
+
+        assertTrue(simulation.isFinished());
+        assertEquals(0, simulation.getTick());
+        assertFalse(simulation.getOutcome() == Simulation.Outcome.WON);
+    }
+
+    /**
+     * Tests a long boss fight where the user never fires.
+     * Ensures missed boss projectiles are culled so the actor count stays bounded.
+     */
+    @Test
+    void testMissedProjectilesAreCulled() {
+        Simulation simulation = new SimulationLevelTwo(SCREEN_HEIGHT, SCREEN_WIDTH, Integer.MAX_VALUE);
+        int maxActors = 0;
+        for (int i = 0; i < 10_000; i++) {
+            simulation.step();
+            maxActors = Math.max(maxActors, simulation.getActorCount());
+        }
+
+        assertEquals(Simulation.Outcome.RUNNING, simulation.getOutcome());
+        assertTrue(maxActors < 50, "Actor count grew to " + maxActors);
+    }
+
+    /**
+     * Tests playing the same level twice from one seed.
+     * Ensures both games end the same way on the same tick with the same score.
+     */
+    @Test
+    void testSameSeedPlaysSameGame() {
+        Simulation first = new SimulationLevelThree(SCREEN_HEIGHT, SCREEN_WIDTH, new GameRandom(1234));
+        Simulation second = new SimulationLevelThree(SCREEN_HEIGHT, SCREEN_WIDTH, new GameRandom(1234));
+        HeadlessRunner.play(first, 100_000);
+        HeadlessRunner.play(second, 100_000);
+
+        assertEquals(first.getOutcome(), second.getOutcome());
+        assertEquals(first.getTick(), second.getTick());
+        assertEquals(first.getPlayerScore(), second.getPlayerScore());
+        assertEquals(first.getUser().getHealth(), second.getUser().getHealth());
+    }
+
+    /**
+     * Tests removing a destroyed enemy.
+     * Ensures it leaves the enemy list and the listener is told before its entity is given back.
+     */
+    @Test
+    void testDestroyedEnemyIsRemoved() {
+        Simulation simulation = new SimulationLevelOne(SCREEN_HEIGHT, SCREEN_WIDTH);
+        RecordingListener listener = new RecordingListener();
+        simulation.setListener(listener);
+        EnemyPlane enemy = new EnemyPlane(simulation.getEntities(), 500, 0, simulation.getRandom());
+        simulation.addEnemyUnit(enemy);
+        enemy.destroy();
+        simulation.removeAllDestroyedActors();
+
+        assertEquals(0, simulation.getCurrentNumberOfEnemies());
+        assertTrue(listener.removed.contains(enemy));
+        assertTrue(enemy.isReleased());
+    }
+
+    /**
+     * Tests enemies ramming the user over and over.
+     * Ensures each rammed enemy gives its entity back, so the live entity count stays flat.
+     */
+    @Test
+    void testRammedEnemiesReleaseTheirEntities() {
+        Simulation simulation = new Simulation(SCREEN_HEIGHT, SCREEN_WIDTH, Integer.MAX_VALUE, new GameRandom(1)) {
+            @Override
+            protected void spawnEnemyUnits() {
+
+            }
+
+            @Override
+            protected void checkIfGameOver() {
+
+            }
+
+            @Override
+            protected int getPointsPerKill() {
+                return 1;
+            }
+        };
+        UserPlane user = simulation.getUser();
+        for (int i = 0; i < 100; i++) {
+            EnemyPlane enemy = new EnemyPlane(simulation.getEntities(), user.getMinX(), user.getMinY(),
+                simulation.getRandom());
+            simulation.addEnemyUnit(enemy);
+            simulation.step();
+
+            assertTrue(enemy.isReleased());
+            assertEquals(simulation.getActorCount(), simulation.getEntities().size());
+        }
+        assertEquals(Integer.MAX_VALUE - 100, user.getHealth());
+    }
+
+    /**
+     * Tests the user firing.
+     * Ensures the listener is told about the new projectile and the shooting sound.
+     */
+    @Test
+    void testFiringIsReported() {
+        Simulation simulation = new SimulationLevelOne(SCREEN_HEIGHT, SCREEN_WIDTH);
+        RecordingListener listener = new RecordingListener();
+        simulation.setListener(listener);
+        simulation.fireProjectile();
+
+        assertEquals(1, listener.added.size());
+        assertEquals(Sprite.USER_PROJECTILE, listener.added.get(0).getSprite());
+        assertEquals(List.of(SoundEffect.SHOOTING), listener.effects);
+    }
+
+    /**
+     * Tests destroying the boss of level three without touching a bomb.
+     * Ensures the game is won with both of the level's achievements.
+     */
+    @Test
+    void testBossDefeatUnlocksAchievements() {
+        SimulationLevelThree simulation = new SimulationLevelThree(SCREEN_HEIGHT, SCREEN_WIDTH, new GameRandom(1));
+        RecordingListener listener = new RecordingListener();
+        simulation.setListener(listener);
+        simulation.step();
+        simulation.getBoss().destroy();
+        simulation.resetBombCollision();
+        simulation.step();
+
+        assertEquals(Simulation.Outcome.WON, simulation.getOutcome());
+        assertTrue(listener.achievements.contains("Achievement: Boss Defeated in Level Three"));
+        assertTrue(listener.achievements.contains("Achievement: Bomb Dodger in Level Three"));
+    }
+
+    /**
+     * Tests losing level two.
+     * Ensures no achievement is unlocked.
+     */
+    @Test
+    void testLossUnlocksNothing() {
+        Simulation simulation = new SimulationLevelTwo(SCREEN_HEIGHT, SCREEN_WIDTH);
+        RecordingListener listener = new RecordingListener();
+        simulation.setListener(listener);
+        simulation.loseGame();
+        simulation.step();
+
+        assertTrue(listener.achievements.isEmpty());
+    }
+
+    /**
+     * Keeps everything a simulation reports.
+     */
+    private static class RecordingListener implements SimulationListener {
+
+        private final List<ActiveActor> added = new ArrayList<>();
+        private final List<ActiveActor> removed = new ArrayList<>();
+        private final List<SoundEffect> effects = new ArrayList<>();
+        private final List<String> achievements = new ArrayList<>();
+
+        @Override
+        public void actorAdded(ActiveActor actor) {
+            added.add(actor);
+        }
+
+        @Override
+        public void actorRemoved(ActiveActor actor) {
+            removed.add(actor);
+        }
+
+        @Override
+        public void effectPlayed(SoundEffect effect) {
+            effects.add(effect);
+        }
+
+        @Override
+        public void achievementUnlocked(String achievement) {
+            achievements.add(achievement);
+        }
+    }
+}